@@ -0,0 +1,428 @@
+package fiji.plugin.trackmate.lacss;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import fiji.plugin.trackmate.lacss.LacssMsg.DType;
+
+/**
+ * The folder where the plugin keeps what the python engines may reuse from
+ * one session to the next, in the user cache folder:
+ * <ul>
+ * <li>the model files, extracted from the jar once and named after the
+ * SHA-256 of their content, so that all sessions share them;</li>
+ * <li>the JAX compilation cache, so that a new engine does not compile the
+ * model again for shapes an earlier one has seen;</li>
+ * <li>for each model, the manifest of the frame shapes it was run on, so
+ * that a new engine can be warmed up for them as soon as it starts.</li>
+ * </ul>
+ * The cache is best effort: when the folder cannot be written, engines just
+ * start cold.
+ */
+public final class LacssCache
+{
+
+	/** Above this size, the oldest compiled programs are deleted. */
+	private static final long MAX_XLA_CACHE_BYTES = 2L << 30;
+
+	/** Only the last shapes of a manifest are warmed up. */
+	private static final int MAX_WARM_UP_SHAPES = 8;
+
+	/** Shapes already in the manifests, by model. */
+	private static final Map< String, Set< Shape > > manifests = new HashMap<>();
+
+	/**
+	 * Returns the cache folder of the plugin, following the conventions of
+	 * the OS.
+	 */
+	public static File getDirectory()
+	{
+		final String os = System.getProperty( "os.name", "" ).toLowerCase();
+		final String home = System.getProperty( "user.home" );
+		final File base;
+		if ( os.startsWith( "windows" ) && System.getenv( "LOCALAPPDATA" ) != null )
+			base = new File( System.getenv( "LOCALAPPDATA" ) );
+		else if ( os.startsWith( "mac" ) )
+			base = new File( home, "Library/Caches" );
+		else if ( System.getenv( "XDG_CACHE_HOME" ) != null )
+			base = new File( System.getenv( "XDG_CACHE_HOME" ) );
+		else
+			base = new File( home, ".cache" );
+		return new File( base, "TrackMate-Lacss" );
+	}
+
+	/**
+	 * Returns the cached copy of a model shipped as a resource, extracting it
+	 * first if there is none yet. Copies are named after the hash of their
+	 * content and verified against it, so a truncated or stale file is
+	 * replaced. Several processes may extract the same model at once: each
+	 * writes a file of its own, and the first one moved in place wins.
+	 *
+	 * @param resourceName
+	 *            the path of the resource in the jar.
+	 * @return the model file.
+	 * @throws IOException
+	 *             if the resource cannot be read or the cache written.
+	 */
+	public static File getModel( final String resourceName ) throws IOException
+	{
+		final String hash;
+		final long length;
+		try (InputStream stream = open( resourceName ))
+		{
+			final MessageDigest digest = sha256();
+			length = consume( new DigestInputStream( stream, digest ) );
+			hash = toHex( digest.digest() );
+		}
+
+		final File dir = new File( getDirectory(), "models" );
+		if ( !dir.isDirectory() && !dir.mkdirs() )
+			throw new IOException( "Cannot create the model cache " + dir );
+		final String name = new File( resourceName ).getName();
+		final String extension = name.contains( "." ) ? name.substring( name.lastIndexOf( '.' ) ) : "";
+		final File model = new File( dir, hash + extension );
+		if ( isValid( model, hash, length ) )
+			return model;
+
+		final Path tmp = Files.createTempFile( dir.toPath(), hash, ".part" );
+		try
+		{
+			try (InputStream stream = open( resourceName ); OutputStream out = Files.newOutputStream( tmp ))
+			{
+				final byte[] buffer = new byte[ 1 << 16 ];
+				int n;
+				while ( ( n = stream.read( buffer ) ) >= 0 )
+					out.write( buffer, 0, n );
+			}
+			try
+			{
+				Files.move( tmp, model.toPath(), StandardCopyOption.ATOMIC_MOVE );
+			}
+			catch ( final FileAlreadyExistsException | AtomicMoveNotSupportedException e )
+			{
+				// Another process got there first, or a corrupt copy is in the way.
+				if ( !isValid( model, hash, length ) )
+					Files.move( tmp, model.toPath(), StandardCopyOption.REPLACE_EXISTING );
+			}
+		}
+		finally
+		{
+			Files.deleteIfExists( tmp );
+		}
+		return model;
+	}
+
+	/**
+	 * Returns the key a model file is known by in the cache: its content
+	 * hash.
+	 */
+	public static String getModelKey( final File model )
+	{
+		final String name = model.getName();
+		return name.contains( "." ) ? name.substring( 0, name.lastIndexOf( '.' ) ) : name;
+	}
+
+	/**
+	 * Returns the SHA-256 of the content of a file, in hexadecimal.
+	 *
+	 * @throws IOException
+	 *             if the file cannot be read.
+	 */
+	public static String hash( final File file ) throws IOException
+	{
+		final MessageDigest digest = sha256();
+		try (InputStream stream = new DigestInputStream( Files.newInputStream( file.toPath() ), digest ))
+		{
+			consume( stream );
+		}
+		return toHex( digest.digest() );
+	}
+
+	private static boolean isValid( final File file, final String hash, final long length ) throws IOException
+	{
+		return file.isFile() && file.length() == length && hash.equals( hash( file ) );
+	}
+
+	private static InputStream open( final String resourceName ) throws IOException
+	{
+		final InputStream stream = LacssCache.class.getResourceAsStream( resourceName );
+		if ( stream == null )
+			throw new IOException( "Cannot find resource needed: " + resourceName );
+		return stream;
+	}
+
+	private static long consume( final InputStream stream ) throws IOException
+	{
+		final byte[] buffer = new byte[ 1 << 16 ];
+		long length = 0;
+		int n;
+		while ( ( n = stream.read( buffer ) ) >= 0 )
+			length += n;
+		return length;
+	}
+
+	private static MessageDigest sha256()
+	{
+		try
+		{
+			return MessageDigest.getInstance( "SHA-256" );
+		}
+		catch ( final NoSuchAlgorithmException e )
+		{
+			// Every JVM has it.
+			throw new RuntimeException( e );
+		}
+	}
+
+	private static String toHex( final byte[] bytes )
+	{
+		final StringBuilder str = new StringBuilder( 2 * bytes.length );
+		for ( final byte b : bytes )
+			str.append( String.format( "%02x", b ) );
+		return str.toString();
+	}
+
+	/**
+	 * Points the JAX compilation cache of an engine to be started to the
+	 * cache folder, and trims the folder if it grew too large.
+	 *
+	 * @param pb
+	 *            the process builder of the engine.
+	 */
+	public static void configure( final ProcessBuilder pb )
+	{
+		final File dir = new File( getDirectory(), "xla" );
+		if ( !dir.isDirectory() && !dir.mkdirs() )
+			return;
+		prune( dir );
+
+		final Map< String, String > env = pb.environment();
+		env.put( "JAX_COMPILATION_CACHE_DIR", dir.getAbsolutePath() );
+		// Cache every program: even the fast ones cost an engine start.
+		env.put( "JAX_PERSISTENT_CACHE_MIN_COMPILE_TIME_SECS", "0" );
+		env.put( "JAX_PERSISTENT_CACHE_MIN_ENTRY_SIZE_BYTES", "0" );
+	}
+
+	/**
+	 * Deletes the least recently modified files of a folder until it fits in
+	 * {@link #MAX_XLA_CACHE_BYTES}.
+	 */
+	private static void prune( final File dir )
+	{
+		final File[] files = dir.listFiles( File::isFile );
+		if ( files == null )
+			return;
+
+		long total = 0;
+		for ( final File file : files )
+			total += file.length();
+		if ( total <= MAX_XLA_CACHE_BYTES )
+			return;
+
+		Arrays.sort( files, Comparator.comparingLong( File::lastModified ) );
+		for ( final File file : files )
+		{
+			if ( total <= MAX_XLA_CACHE_BYTES )
+				break;
+			final long length = file.length();
+			if ( file.delete() )
+				total -= length;
+		}
+	}
+
+	/**
+	 * Adds a frame shape to the manifest of a model, if it is not there yet.
+	 * The manifest only keeps the last {@link #MAX_WARM_UP_SHAPES} shapes.
+	 *
+	 * @param model
+	 *            a key that identifies the model, usable in a file name.
+	 * @param shape
+	 *            the shape of the frame sent to the engine.
+	 */
+	public static void recordShape( final String model, final Shape shape )
+	{
+		synchronized ( manifests )
+		{
+			final Set< Shape > shapes = manifest( model );
+			if ( !shapes.add( shape ) )
+				return;
+			trim( shapes );
+			try
+			{
+				final File file = manifestFile( model );
+				file.getParentFile().mkdirs();
+				final List< String > lines = new ArrayList<>();
+				for ( final Shape s : shapes )
+					lines.add( s.toString() );
+				// Rewritten whole, so that readers never see half a file.
+				final Path tmp = Files.createTempFile( file.getParentFile().toPath(), model, ".part" );
+				try
+				{
+					Files.write( tmp, lines, StandardCharsets.UTF_8 );
+					Files.move( tmp, file.toPath(), StandardCopyOption.REPLACE_EXISTING );
+				}
+				finally
+				{
+					Files.deleteIfExists( tmp );
+				}
+			}
+			catch ( final IOException e )
+			{
+				// Best effort.
+			}
+		}
+	}
+
+	/**
+	 * Returns the last frame shapes a model was run on, in the order they
+	 * were first seen.
+	 *
+	 * @param model
+	 *            a key that identifies the model, usable in a file name.
+	 */
+	public static List< Shape > getShapes( final String model )
+	{
+		synchronized ( manifests )
+		{
+			return new ArrayList<>( manifest( model ) );
+		}
+	}
+
+	private static Set< Shape > manifest( final String model )
+	{
+		Set< Shape > shapes = manifests.get( model );
+		if ( shapes != null )
+			return shapes;
+
+		shapes = new LinkedHashSet<>();
+		final File file = manifestFile( model );
+		if ( file.isFile() )
+		{
+			try
+			{
+				for ( final String line : Files.readAllLines( file.toPath(), StandardCharsets.UTF_8 ) )
+				{
+					final Shape shape = Shape.parse( line );
+					if ( shape != null )
+						shapes.add( shape );
+				}
+			}
+			catch ( final IOException e )
+			{
+				// Start a new manifest.
+			}
+		}
+		// Manifests of older versions were only ever appended to.
+		trim( shapes );
+		manifests.put( model, shapes );
+		return shapes;
+	}
+
+	/**
+	 * Drops the oldest shapes beyond {@link #MAX_WARM_UP_SHAPES}.
+	 */
+	private static void trim( final Set< Shape > shapes )
+	{
+		final Iterator< Shape > it = shapes.iterator();
+		while ( shapes.size() > MAX_WARM_UP_SHAPES )
+		{
+			it.next();
+			it.remove();
+		}
+	}
+
+	private static File manifestFile( final String model )
+	{
+		return new File( new File( getDirectory(), "shapes" ), model + ".txt" );
+	}
+
+	/**
+	 * The shape and dtype of a frame as sent to an engine.
+	 */
+	public static final class Shape
+	{
+
+		public final long width;
+
+		public final long height;
+
+		public final long channels;
+
+		public final DType dtype;
+
+		public Shape( final long width, final long height, final long channels, final DType dtype )
+		{
+			this.width = width;
+			this.height = height;
+			this.channels = channels;
+			this.dtype = dtype;
+		}
+
+		/**
+		 * Parses a line of a manifest, returns <code>null</code> if it is
+		 * malformed.
+		 */
+		static Shape parse( final String line )
+		{
+			final String[] tokens = line.trim().split( "\\s+" );
+			if ( tokens.length != 4 )
+				return null;
+			try
+			{
+				return new Shape(
+						Long.parseLong( tokens[ 0 ] ),
+						Long.parseLong( tokens[ 1 ] ),
+						Long.parseLong( tokens[ 2 ] ),
+						DType.valueOf( tokens[ 3 ] ) );
+			}
+			catch ( final IllegalArgumentException e )
+			{
+				return null;
+			}
+		}
+
+		@Override
+		public boolean equals( final Object obj )
+		{
+			if ( !( obj instanceof Shape ) )
+				return false;
+			final Shape o = ( Shape ) obj;
+			return width == o.width && height == o.height && channels == o.channels && dtype == o.dtype;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return Arrays.hashCode( new long[] { width, height, channels, dtype.ordinal() } );
+		}
+
+		@Override
+		public String toString()
+		{
+			return width + " " + height + " " + channels + " " + dtype.name();
+		}
+	}
+
+	private LacssCache()
+	{}
+}
@@ -0,0 +1,767 @@
+package fiji.plugin.trackmate.lacss;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.type.numeric.RealType;
+
+/**
+ * A client for one Lacss server process that can keep several frames in
+ * flight on the same process stream.
+ * <p>
+ * Frames are encoded and sent by a dedicated writer thread, and results are
+ * read by a dedicated reader thread that matches them back to their request
+ * by the <code>request_id</code> the server echoes. The caller can thus
+ * prepare and submit the next frames while the server is still busy with the
+ * previous ones, and post-process a result while the server works on the
+ * next frame. Servers that do not echo request ids are assumed to answer in
+ * order.
+ * <p>
+ * A session starts with a <code>Hello</code> handshake in which the server
+ * reports its protocol version and capabilities; faster transport options
+ * are only used if the server supports them. Detection settings are
+ * registered once per session with a <code>Configure</code> message, and
+ * frames then refer to them by id.
+ * <p>
+ * A session runs either over the pipes of the server process or over a
+ * loopback TCP connection, if the server accepts them. Sockets let several
+ * clients share one server process, each with its own stream, and are immune
+ * to stray prints on the server standard output.
+ */
+public class LacssClient
+{
+
+	/** Size of the socket stream buffers. */
+	private static final int SOCKET_BUFFER_SIZE = 1 << 16;
+
+	/** How long to wait for a loopback connection, in milliseconds. */
+	private static final int CONNECT_TIMEOUT = 5000;
+
+	/**
+	 * How long the server may take to answer the <code>Hello</code> of a
+	 * session, in milliseconds. Results are waited for without limit.
+	 */
+	private static final int HANDSHAKE_TIMEOUT = 30000;
+
+	private final Process process;
+
+	/**
+	 * The connection of the session, <code>null</code> if it runs over the
+	 * process pipes.
+	 */
+	private final Socket socket;
+
+	private final DataOutputStream out;
+
+	private final DataInputStream in;
+
+	private final LacssServerInfo serverInfo;
+
+	/** The token the server was started with, <code>null</code> if none. */
+	private final String token;
+
+	private final LacssInputWriter inputWriter;
+
+	private final LacssResultReader resultReader = new LacssResultReader();
+
+	private final ExecutorService writer;
+
+	/** Requests sent and not answered yet, in submission order. */
+	private final Map< Long, Request > pending = new LinkedHashMap<>();
+
+	/** Shared memory slots not used by any request. */
+	private final Queue< LacssSharedMemory > freeSharedMemories = new ConcurrentLinkedQueue<>();
+
+	private final List< LacssSharedMemory > sharedMemories = new ArrayList<>();
+
+	private final AtomicLong nextId = new AtomicLong( 1 );
+
+	/** Settings registered with the server. Only used by the writer thread. */
+	private final Map< LacssMsg.Settings, Integer > settingsIds = new HashMap<>();
+
+	private IOException failure;
+
+	/** Completed with the failure that ended the session. */
+	private final CompletableFuture< IOException > failed = new CompletableFuture<>();
+
+	/**
+	 * Opens a session with the server, preferably over a socket.
+	 * <p>
+	 * The handshake goes through the process pipes. If the server then
+	 * advertises a port, the session is opened on a socket instead and the
+	 * process standard output is only echoed from then on.
+	 *
+	 * @param process
+	 *            the server process.
+	 * @param handshake
+	 *            if <code>false</code>, the server is assumed to predate the
+	 *            handshake and none is attempted.
+	 * @param token
+	 *            the token the server was started with, <code>null</code> if
+	 *            none.
+	 * @return a new client.
+	 * @throws IOException
+	 *             if the server died, closed its streams or did not answer
+	 *             in time during the handshake.
+	 */
+	public static LacssClient open( final Process process, final boolean handshake, final String token ) throws IOException
+	{
+		final DataOutputStream out = new DataOutputStream( process.getOutputStream() );
+		final DataInputStream in = new DataInputStream( process.getInputStream() );
+		final LacssServerInfo serverInfo = handshake ? pipeHandshake( process, in, out, false, token ) : LacssServerInfo.LEGACY;
+		if ( serverInfo.getPort() > 0 )
+		{
+			try
+			{
+				final LacssClient client = connect( process, serverInfo.getPort(), token );
+				echo( process.getInputStream() );
+				return client;
+			}
+			catch ( final IOException e )
+			{
+				// Keep to the pipes, they are still in sync.
+			}
+		}
+		return new LacssClient( process, null, in, out, serverInfo, token );
+	}
+
+	/**
+	 * Turns a server that was just started into a daemon shared with other
+	 * clients, and opens a session with it over a socket. The daemon outlives
+	 * its pipes, and exits when its last socket session closes.
+	 *
+	 * @param process
+	 *            the server process.
+	 * @param token
+	 *            the token the server was started with.
+	 * @return a new client.
+	 * @throws IOException
+	 *             if the handshake failed or the server does not accept
+	 *             socket connections.
+	 */
+	public static LacssClient openDaemon( final Process process, final String token ) throws IOException
+	{
+		final DataOutputStream out = new DataOutputStream( process.getOutputStream() );
+		final DataInputStream in = new DataInputStream( process.getInputStream() );
+		final LacssServerInfo serverInfo = pipeHandshake( process, in, out, true, token );
+		if ( serverInfo.getPort() <= 0 )
+			throw new IOException( "The Lacss server accepts no socket connection and cannot be shared." );
+		final LacssClient client = connect( process, serverInfo.getPort(), token );
+		echo( process.getInputStream() );
+		return client;
+	}
+
+	/**
+	 * Opens one more session with a server that accepts socket connections.
+	 * Sessions are independent: each has its own stream, settings and
+	 * requests.
+	 *
+	 * @param process
+	 *            the server process, or <code>null</code> if it was started
+	 *            by another program, such as a shared daemon.
+	 * @param port
+	 *            the loopback port the server advertised.
+	 * @param token
+	 *            the token the server was started with, so that it knows the
+	 *            connection comes from a client it trusts.
+	 * @return a new client.
+	 * @throws IOException
+	 *             if the connection or the handshake failed or timed out.
+	 */
+	public static LacssClient connect( final Process process, final int port, final String token ) throws IOException
+	{
+		final Socket socket = new Socket();
+		try
+		{
+			socket.connect( new InetSocketAddress( InetAddress.getLoopbackAddress(), port ), CONNECT_TIMEOUT );
+			socket.setTcpNoDelay( true );
+			socket.setSoTimeout( HANDSHAKE_TIMEOUT );
+			final DataOutputStream out = new DataOutputStream( new BufferedOutputStream( socket.getOutputStream(), SOCKET_BUFFER_SIZE ) );
+			final DataInputStream in = new DataInputStream( new BufferedInputStream( socket.getInputStream(), SOCKET_BUFFER_SIZE ) );
+			final LacssServerInfo serverInfo = handshake( in, out, false, token );
+			socket.setSoTimeout( 0 );
+			return new LacssClient( process, socket, in, out, serverInfo, token );
+		}
+		catch ( final IOException e )
+		{
+			socket.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Creates a client and opens a session with the server over the process
+	 * pipes.
+	 *
+	 * @param process
+	 *            the server process.
+	 * @param handshake
+	 *            if <code>false</code>, the server is assumed to predate the
+	 *            handshake and none is attempted.
+	 * @throws IOException
+	 *             if the server died, closed its streams or did not answer
+	 *             in time during the handshake.
+	 */
+	public LacssClient( final Process process, final boolean handshake ) throws IOException
+	{
+		this( process, new DataInputStream( process.getInputStream() ), new DataOutputStream( process.getOutputStream() ), handshake );
+	}
+
+	private LacssClient( final Process process, final DataInputStream in, final DataOutputStream out, final boolean handshake ) throws IOException
+	{
+		this( process, null, in, out, handshake ? pipeHandshake( process, in, out, false, null ) : LacssServerInfo.LEGACY, null );
+	}
+
+	private LacssClient( final Process process, final Socket socket, final DataInputStream in, final DataOutputStream out, final LacssServerInfo serverInfo, final String token )
+	{
+		this.process = process;
+		this.socket = socket;
+		this.out = out;
+		this.in = in;
+		this.serverInfo = serverInfo;
+		this.token = token;
+		this.inputWriter = new LacssInputWriter( serverInfo );
+		this.writer = Executors.newSingleThreadExecutor( r -> {
+			final Thread t = new Thread( r, "Lacss client writer" );
+			t.setDaemon( true );
+			return t;
+		} );
+		final Thread reader = new Thread( this::readLoop, "Lacss client reader" );
+		reader.setDaemon( true );
+		reader.start();
+	}
+
+	private static LacssServerInfo handshake( final DataInputStream in, final DataOutputStream out, final boolean daemon, final String token ) throws IOException
+	{
+		LacssInputWriter.writeHello( out, daemon, token );
+		final LacssResultReader.Result answer = new LacssResultReader().read( in );
+		// A server that does not know Hello may still answer something.
+		return ( answer.serverInfo != null ) ? answer.serverInfo : LacssServerInfo.LEGACY;
+	}
+
+	/**
+	 * Runs the handshake over the process pipes, which cannot time out, on
+	 * another thread. A server that does not answer in time is destroyed,
+	 * which also ends that thread.
+	 */
+	private static LacssServerInfo pipeHandshake( final Process process, final DataInputStream in, final DataOutputStream out, final boolean daemon, final String token ) throws IOException
+	{
+		final CompletableFuture< LacssServerInfo > answer = new CompletableFuture<>();
+		final Thread t = new Thread( () -> {
+			try
+			{
+				answer.complete( handshake( in, out, daemon, token ) );
+			}
+			catch ( final IOException | RuntimeException e )
+			{
+				answer.completeExceptionally( e );
+			}
+		}, "Lacss handshake" );
+		t.setDaemon( true );
+		t.start();
+		try
+		{
+			return answer.get( HANDSHAKE_TIMEOUT, TimeUnit.MILLISECONDS );
+		}
+		catch ( final TimeoutException e )
+		{
+			process.destroy();
+			throw new IOException( "The Lacss server did not answer the handshake within " + HANDSHAKE_TIMEOUT / 1000 + " s." );
+		}
+		catch ( final InterruptedException e )
+		{
+			process.destroy();
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException( "Interrupted during the Lacss handshake." );
+		}
+		catch ( final ExecutionException e )
+		{
+			if ( e.getCause() instanceof IOException )
+				throw ( IOException ) e.getCause();
+			throw new IOException( e.getCause() );
+		}
+	}
+
+	/**
+	 * Returns what the server reported in the handshake.
+	 */
+	public LacssServerInfo getServerInfo()
+	{
+		return serverInfo;
+	}
+
+	/**
+	 * Returns the token the server was started with, to open more sessions
+	 * with {@link #connect(Process, int, String)}. <code>null</code> if none.
+	 */
+	public String getToken()
+	{
+		return token;
+	}
+
+	/**
+	 * Returns <code>true</code> if the server process is running and its
+	 * streams are usable.
+	 */
+	public boolean isAlive()
+	{
+		synchronized ( pending )
+		{
+			return failure == null && ( process == null || process.isAlive() );
+		}
+	}
+
+	/**
+	 * Returns the server process, <code>null</code> if the session is
+	 * attached to a server started by another program.
+	 */
+	public Process getProcess()
+	{
+		return process;
+	}
+
+	/**
+	 * Returns a future completed when the session breaks, because the server
+	 * died, closed its streams or sent something that could not be read.
+	 */
+	public CompletableFuture< IOException > whenFailed()
+	{
+		return failed;
+	}
+
+	/**
+	 * Returns <code>true</code> if the session runs over a socket.
+	 */
+	public boolean isSocket()
+	{
+		return socket != null;
+	}
+
+	/**
+	 * Copies what the server prints on its standard output, once the pipe is
+	 * not used for the protocol anymore, so that the server never blocks on a
+	 * full pipe.
+	 */
+	private static void echo( final InputStream stdout )
+	{
+		final Thread t = new Thread( () -> {
+			final byte[] buffer = new byte[ 4096 ];
+			try
+			{
+				int n;
+				while ( ( n = stdout.read( buffer ) ) >= 0 )
+					System.out.write( buffer, 0, n );
+			}
+			catch ( final IOException e )
+			{
+				// The server is gone.
+			}
+		}, "Lacss server output" );
+		t.setDaemon( true );
+		t.start();
+	}
+
+	/**
+	 * Queues a frame for detection. Returns immediately; the frame is encoded
+	 * and sent by the writer thread.
+	 *
+	 * @param crop
+	 *            the pixels to send, in flat iteration order.
+	 * @param height
+	 *            the image height.
+	 * @param width
+	 *            the image width.
+	 * @param channels
+	 *            the number of channels.
+	 * @param settings
+	 *            the detection settings.
+	 * @param useSharedMemory
+	 *            whether to exchange the frame through shared memory, if the
+	 *            server supports it.
+	 * @param scoreMode
+	 *            how the server returns scores, one of the
+	 *            <code>*_VALUE</code> constants of {@link LacssMsg.ScoreMode}.
+	 * @param deflateLevel
+	 *            the level, 1 to 9, to deflate the frame with if the session
+	 *            runs over a socket and the server accepts it, 0 not to.
+	 * @return the pending request.
+	 */
+	public < T extends RealType< T > > Request submit(
+			final RandomAccessibleInterval< T > crop,
+			final long height,
+			final long width,
+			final long channels,
+			final LacssMsg.Settings settings,
+			final boolean useSharedMemory,
+			final int scoreMode,
+			final int deflateLevel )
+	{
+		final Request request = new Request( nextId.getAndIncrement() );
+		synchronized ( pending )
+		{
+			if ( failure != null )
+			{
+				request.future.completeExceptionally( failure );
+				return request;
+			}
+			pending.put( request.id, request );
+		}
+
+		// Not worth it over the process pipes.
+		final int deflate = isSocket() ? deflateLevel : 0;
+		writer.execute( () -> {
+			if ( request.future.isDone() )
+			{
+				// Cancelled while queued: never sent, never answered.
+				synchronized ( pending )
+				{
+					pending.remove( request.id );
+				}
+				request.settled.complete( null );
+				return;
+			}
+			request.sentAt = System.nanoTime();
+			request.sent = true;
+			try
+			{
+				if ( useSharedMemory && serverInfo.supportsSharedMemory() )
+					request.sharedMemory = acquireSharedMemory();
+
+				if ( serverInfo.hasSessions() )
+				{
+					final int settingsId = registerSettings( settings );
+					inputWriter.write( out, crop, height, width, channels, null, settingsId, request.sharedMemory, request.id, scoreMode, deflate );
+				}
+				else
+				{
+					inputWriter.write( out, crop, height, width, channels, settings, 0, request.sharedMemory, request.id, scoreMode, deflate );
+				}
+			}
+			catch ( final IOException e )
+			{
+				// The stream is out of sync now, nothing else can go through.
+				fail( e );
+			}
+			catch ( final RuntimeException e )
+			{
+				fail( new IOException( e ) );
+			}
+		} );
+		return request;
+	}
+
+	private int registerSettings( final LacssMsg.Settings settings ) throws IOException
+	{
+		Integer id = settingsIds.get( settings );
+		if ( id == null )
+		{
+			id = Integer.valueOf( settingsIds.size() + 1 );
+			inputWriter.writeConfigure( out, id, settings );
+			settingsIds.put( settings, id );
+		}
+		return id;
+	}
+
+	private LacssSharedMemory acquireSharedMemory() throws IOException
+	{
+		final LacssSharedMemory shm = freeSharedMemories.poll();
+		if ( shm != null )
+			return shm;
+
+		final LacssSharedMemory created = new LacssSharedMemory();
+		synchronized ( sharedMemories )
+		{
+			sharedMemories.add( created );
+		}
+		return created;
+	}
+
+	private void readLoop()
+	{
+		try
+		{
+			while ( true )
+			{
+				final LacssResultReader.Result result = resultReader.read( in );
+				final Request request;
+				synchronized ( pending )
+				{
+					request = ( result.requestId != 0 )
+							? pending.remove( result.requestId )
+							: removeOldest();
+				}
+				if ( request == null || !request.future.complete( result ) )
+					result.release();
+				if ( request != null )
+					request.settled.complete( null );
+			}
+		}
+		catch ( final IOException e )
+		{
+			fail( e );
+		}
+	}
+
+	private Request removeOldest()
+	{
+		final Iterator< Request > it = pending.values().iterator();
+		if ( !it.hasNext() )
+			return null;
+		final Request oldest = it.next();
+		it.remove();
+		return oldest;
+	}
+
+	private void fail( final IOException e )
+	{
+		final List< Request > lost;
+		synchronized ( pending )
+		{
+			failure = e;
+			lost = new ArrayList<>( pending.values() );
+			pending.clear();
+		}
+		// The supervisor first, so that the pool has retired this server and
+		// is replacing it before the lost frames are leased again.
+		failed.complete( e );
+		for ( final Request request : lost )
+			request.future.completeExceptionally( e );
+	}
+
+	/**
+	 * Stops the writer thread, closes the socket if any and deletes the shared
+	 * memory files. Does not stop the server process.
+	 */
+	public void close()
+	{
+		writer.shutdownNow();
+		if ( socket != null )
+		{
+			try
+			{
+				socket.close();
+			}
+			catch ( final IOException e )
+			{
+				// Closing anyway.
+			}
+		}
+		synchronized ( sharedMemories )
+		{
+			for ( final LacssSharedMemory shm : sharedMemories )
+				shm.close();
+			sharedMemories.clear();
+		}
+		freeSharedMemories.clear();
+	}
+
+	/**
+	 * A frame submitted to the server.
+	 */
+	public final class Request
+	{
+
+		private final long id;
+
+		private final CompletableFuture< LacssResultReader.Result > future = new CompletableFuture<>();
+
+		private final AtomicBoolean released = new AtomicBoolean( false );
+
+		/**
+		 * Completed when the server is done with the frame: it answered, or
+		 * acknowledged its cancellation, or the frame was never sent. Until
+		 * then the server may still read or write its shared memory.
+		 */
+		private final CompletableFuture< Void > settled = new CompletableFuture<>();
+
+		private volatile LacssSharedMemory sharedMemory;
+
+		/** Whether the writer thread started sending the frame. */
+		private volatile boolean sent = false;
+
+		/**
+		 * When the writer thread started sending the frame, in
+		 * {@link System#nanoTime()} time.
+		 */
+		private volatile long sentAt;
+
+		private Request( final long id )
+		{
+			this.id = id;
+		}
+
+		public long getId()
+		{
+			return id;
+		}
+
+		/**
+		 * Returns <code>true</code> if the writer thread started sending the
+		 * frame: it is not merely queued behind other frames anymore.
+		 */
+		public boolean isSent()
+		{
+			return sent;
+		}
+
+		/**
+		 * Returns when the writer thread started sending the frame, in
+		 * {@link System#nanoTime()} time. Only meaningful if
+		 * {@link #isSent()}.
+		 */
+		public long getSentAt()
+		{
+			return sentAt;
+		}
+
+		/**
+		 * Waits for the result of this request.
+		 *
+		 * @return the result.
+		 * @throws IOException
+		 *             if the frame could not be sent or the result could not
+		 *             be read.
+		 * @throws InterruptedException
+		 *             if the calling thread is interrupted while waiting.
+		 * @throws CancellationException
+		 *             if the request was cancelled.
+		 */
+		public LacssResultReader.Result get() throws IOException, InterruptedException
+		{
+			try
+			{
+				return future.get();
+			}
+			catch ( final ExecutionException e )
+			{
+				throw unwrap( e );
+			}
+		}
+
+		/**
+		 * Waits at most the specified time for the result of this request.
+		 *
+		 * @param timeout
+		 *            the maximal time to wait.
+		 * @param unit
+		 *            the unit of the timeout.
+		 * @return the result.
+		 * @throws IOException
+		 *             if the frame could not be sent or the result could not
+		 *             be read.
+		 * @throws InterruptedException
+		 *             if the calling thread is interrupted while waiting.
+		 * @throws TimeoutException
+		 *             if the result did not arrive in time.
+		 * @throws CancellationException
+		 *             if the request was cancelled.
+		 */
+		public LacssResultReader.Result get( final long timeout, final TimeUnit unit ) throws IOException, InterruptedException, TimeoutException
+		{
+			try
+			{
+				return future.get( timeout, unit );
+			}
+			catch ( final ExecutionException e )
+			{
+				throw unwrap( e );
+			}
+		}
+
+		/**
+		 * Aborts this request. Waiting for its result throws a
+		 * {@link CancellationException} from now on. A frame still queued is
+		 * not sent, and a frame already sent is cancelled on the server if it
+		 * supports it. Does nothing if the result already arrived.
+		 * <p>
+		 * The request stays pending until the server answers it, with its
+		 * result or an acknowledgement, which is then dropped: only then is
+		 * its shared memory reused.
+		 */
+		public void cancel()
+		{
+			if ( !future.completeExceptionally( new CancellationException( "The Lacss request was cancelled." ) ) )
+				return;
+
+			if ( !serverInfo.supportsCancel() )
+				return;
+			try
+			{
+				writer.execute( () -> {
+					if ( !sent )
+						return;
+					try
+					{
+						inputWriter.writeCancel( out, id );
+					}
+					catch ( final IOException e )
+					{
+						fail( e );
+					}
+				} );
+			}
+			catch ( final RejectedExecutionException e )
+			{
+				// The session is closed.
+			}
+		}
+
+		private IOException unwrap( final ExecutionException e )
+		{
+			final Throwable cause = e.getCause();
+			if ( cause instanceof IOException )
+				return ( IOException ) cause;
+			return new IOException( cause );
+		}
+
+		/**
+		 * Signals that the result of this request is not used anymore, so that
+		 * its shared memory and message buffer can be reused. The images of
+		 * the result must not be accessed afterwards. If the server is not
+		 * done with the frame yet, the memory is recycled when it is; if the
+		 * session breaks first, it is never recycled.
+		 */
+		public void release()
+		{
+			if ( !released.compareAndSet( false, true ) )
+				return;
+
+			future.whenComplete( ( result, error ) -> {
+				if ( result != null )
+					result.release();
+			} );
+			settled.thenRun( () -> {
+				final LacssSharedMemory shm = sharedMemory;
+				if ( shm != null )
+					freeSharedMemories.add( shm );
+			} );
+		}
+	}
+}
@@ -0,0 +1,139 @@
+package fiji.plugin.trackmate.lacss;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Finds or starts the Lacss server shared by all the JVMs of the user on this
+ * machine, for a given model.
+ * <p>
+ * The daemon of a model is advertised by a port file in the cache folder,
+ * that also holds the token its sessions must present. Only the user can
+ * read it. A lock file next to it makes sure that JVMs looking for the
+ * daemon at the same time start at most one; connections to a daemon that
+ * does not answer time out, so that the lock is not held forever. The
+ * daemon counts its socket sessions and exits when the last one closes, so
+ * that it is shared as long as some JVM uses it, and a JVM that crashes
+ * does not keep it alive.
+ */
+public final class LacssDaemon
+{
+
+	/**
+	 * Opens a session with the daemon of a model, starting it if there is
+	 * none.
+	 *
+	 * @param modelPath
+	 *            the path to the model file.
+	 * @param modelKey
+	 *            a key that identifies the model, usable in a file name.
+	 * @return a client on a socket session of the daemon.
+	 * @throws IOException
+	 *             if no daemon could be attached to nor started, for
+	 *             instance because the server does not accept sockets.
+	 */
+	public static LacssClient attach( final String modelPath, final String modelKey ) throws IOException
+	{
+		final File dir = new File( LacssCache.getDirectory(), "daemons" );
+		if ( !dir.isDirectory() && !dir.mkdirs() )
+			throw new IOException( "Cannot create the daemon folder " + dir );
+		final Path portFile = new File( dir, modelKey + ".port" ).toPath();
+		final Path lockFile = new File( dir, modelKey + ".lock" ).toPath();
+
+		try (FileChannel channel = FileChannel.open( lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE );
+				FileLock lock = channel.lock())
+		{
+			final List< String > advert = readPortFile( portFile );
+			final int port = parsePort( advert );
+			if ( port > 0 )
+			{
+				try
+				{
+					return LacssClient.connect( null, port, ( advert.size() > 1 ) ? advert.get( 1 ).trim() : null );
+				}
+				catch ( final IOException e )
+				{
+					// The daemon is gone, the port file is stale.
+					Files.deleteIfExists( portFile );
+				}
+			}
+
+			final String token = LacssProtocol.newToken();
+			final Process process = LacssServerPool.startServer( modelPath, null, token );
+			try
+			{
+				final LacssClient client = LacssClient.openDaemon( process, token );
+				writePortFile( portFile, client.getServerInfo().getPort(), token );
+				return client;
+			}
+			catch ( final IOException e )
+			{
+				process.destroy();
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Returns the lines of the port file: the port, then the token. Empty if
+	 * there is no daemon.
+	 */
+	private static List< String > readPortFile( final Path portFile )
+	{
+		try
+		{
+			return Files.readAllLines( portFile, StandardCharsets.UTF_8 );
+		}
+		catch ( final IOException e )
+		{
+			return Collections.emptyList();
+		}
+	}
+
+	private static int parsePort( final List< String > advert )
+	{
+		try
+		{
+			return advert.isEmpty() ? 0 : Integer.parseInt( advert.get( 0 ).trim() );
+		}
+		catch ( final NumberFormatException e )
+		{
+			return 0;
+		}
+	}
+
+	private static void writePortFile( final Path portFile, final int port, final String token ) throws IOException
+	{
+		// Readable by the user only, from its creation on: it holds the token.
+		final Path tmp = FileSystems.getDefault().supportedFileAttributeViews().contains( "posix" )
+				? Files.createTempFile( portFile.getParent(), "port", ".part", PosixFilePermissions.asFileAttribute( PosixFilePermissions.fromString( "rw-------" ) ) )
+				: Files.createTempFile( portFile.getParent(), "port", ".part" );
+		try
+		{
+			final File file = tmp.toFile();
+			file.setReadable( false, false );
+			file.setReadable( true, true );
+			Files.write( tmp, Arrays.asList( Integer.toString( port ), token ), StandardCharsets.UTF_8 );
+			Files.move( tmp, portFile, StandardCopyOption.REPLACE_EXISTING );
+		}
+		finally
+		{
+			Files.deleteIfExists( tmp );
+		}
+	}
+
+	private LacssDaemon()
+	{}
+}
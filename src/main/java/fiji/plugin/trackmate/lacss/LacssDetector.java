@@ -1,41 +1,48 @@
 package fiji.plugin.trackmate.lacss;
 
-import java.io.DataInputStream;
-import java.io.DataOutputStream;
 import java.io.IOException;
-import java.nio.ByteBuffer;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
-import com.google.protobuf.ByteString;
+import org.scijava.Cancelable;
 
 import fiji.plugin.trackmate.Logger;
 import fiji.plugin.trackmate.Spot;
+import fiji.plugin.trackmate.SpotRoi;
 import fiji.plugin.trackmate.detection.MaskUtils;
 import fiji.plugin.trackmate.detection.SpotDetector;
+import fiji.plugin.trackmate.lacss.LacssMsg.DType;
 import fiji.plugin.trackmate.util.TMUtils;
 import net.imagej.ImgPlus;
 import net.imagej.axis.Axes;
+import net.imglib2.FinalInterval;
 import net.imglib2.Interval;
 import net.imglib2.RandomAccessibleInterval;
-import net.imglib2.converter.RealTypeConverters;
+import net.imglib2.converter.Converter;
+import net.imglib2.converter.Converters;
 import net.imglib2.img.Img;
-import net.imglib2.img.array.ArrayImg;
-import net.imglib2.img.array.ArrayImgs;
-import net.imglib2.img.basictypeaccess.array.ShortArray;
-import net.imglib2.loops.LoopBuilder;
 import net.imglib2.roi.labeling.ImgLabeling;
 import net.imglib2.type.NativeType;
+import net.imglib2.type.numeric.IntegerType;
 import net.imglib2.type.numeric.RealType;
-import net.imglib2.type.numeric.integer.ShortType;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
 import net.imglib2.type.numeric.real.FloatType;
+import net.imglib2.util.Intervals;
 import net.imglib2.view.Views;
 
-public class LacssDetector<T extends RealType<T> & NativeType<T>> implements SpotDetector<T> {
+public class LacssDetector<T extends RealType<T> & NativeType<T>> implements SpotDetector<T>, Cancelable {
 	private final static String BASE_ERROR_MESSAGE = "LacssDetector: ";
 
+	/** How many times a frame is sent before giving up, if the server dies on it. */
+	private final static int MAX_ATTEMPTS = 3;
+
 	protected final ImgPlus<T> img;
 
 	protected final Interval interval;
@@ -43,7 +50,9 @@ public class LacssDetector<T extends RealType<T> & NativeType<T>> implements Spo
 	// private final LacssSettings lacssSettings;
 	protected final Map< String, Object > settings;
 
-	private final Process pyServer;
+	private LacssServerPool.Worker worker;
+
+	private LacssClient client;
 
 	private final Logger logger;
 
@@ -55,26 +64,43 @@ public class LacssDetector<T extends RealType<T> & NativeType<T>> implements Spo
 
 	protected List<Spot> spots;
 
-	// private String cancelReason;
+	private LacssClient.Request request;
+
+	private boolean leased = true;
+
+	private String cancelReason;
+
+	private volatile boolean isCanceled;
 
-	// private boolean isCanceled;
+	/** Called on cancel, to drop the frames queued after this one. */
+	private Runnable onCancel;
+
+	/** Called once the frame is processed or dropped, and the worker returned. */
+	private Runnable onDone;
 
 	public LacssDetector(
 			final ImgPlus<T> img,
 			final Interval interval,
 			final Map< String, Object > settings,
 			final Logger logger,
-			final Process pyServer) {
+			final LacssServerPool.Worker worker) {
 		this.img = img;
 		this.interval = interval;
 		this.settings = settings;
 		this.logger = (logger == null) ? Logger.VOID_LOGGER : logger;
 		this.baseErrorMessage = BASE_ERROR_MESSAGE;
-		this.pyServer = pyServer;
+		this.worker = worker;
+		this.client = worker.getClient();
+	}
+
+	/**
+	 * Returns what the server this detector was given reported about itself.
+	 */
+	public synchronized LacssServerInfo getServerInfo() {
+		return client.getServerInfo();
 	}
 
-	private void writeInput(DataOutputStream st, RandomAccessibleInterval<T> crop, LacssMsg.Settings settings)
-			throws IOException {
+	private LacssClient.Request writeInput(RandomAccessibleInterval<T> crop, LacssMsg.Settings settings) {
 		long[] dims = crop.dimensionsAsLongArray();
 		long n_ch = 1;
 		if (img.dimensionIndex(Axes.CHANNEL) != -1) {
@@ -86,69 +112,219 @@ public class LacssDetector<T extends RealType<T> & NativeType<T>> implements Spo
 		final long height = dims[img.dimensionIndex(Axes.Y)];
 		final long width = dims[img.dimensionIndex(Axes.X)];
 
-		ByteBuffer data = ByteBuffer.allocate((int) (width * height * n_ch * Float.BYTES));
-		RandomAccessibleInterval<FloatType> floatImg = RealTypeConverters.convert(crop, new FloatType());
-		LoopBuilder.setImages(floatImg).flatIterationOrder().forEachPixel(p -> data.putFloat((Float) p.get()));
-
-		LacssMsg.Image encoded_img = LacssMsg.Image.newBuilder()
-				.setWidth(width)
-				.setHeight(height)
-				.setChannel(n_ch)
-				.setData(ByteString.copyFrom(data.array()))
-				.build();
+		// So that servers of later sessions are warmed up for this shape.
+		final DType dtype = client.getServerInfo().dtypeFor(LacssProtocol.nativeDType(img.firstElement()));
+		worker.recordShape(new LacssCache.Shape(width, height, n_ch, dtype));
 
-		LacssMsg.Input msg = LacssMsg.Input.newBuilder()
-				.setImage(encoded_img)
-				.setSettings(settings)
-				.build();
-
-		st.writeInt(msg.getSerializedSize());
-		msg.writeTo(st);
+		final boolean useSharedMemory = Boolean.TRUE.equals(this.settings.get(LacssDetectorFactory.KEY_SHARED_MEMORY))
+				&& LacssSharedMemory.isAvailable();
+		final Object deflateLevel = this.settings.get(LacssDetectorFactory.KEY_DEFLATE_LEVEL);
+		return client.submit(crop, height, width, n_ch, settings, useSharedMemory, getScoreMode(),
+				(deflateLevel instanceof Integer) ? (Integer) deflateLevel : 0);
 	}
 
-	protected Img<ShortType> getImgFromMsg(LacssMsg.Label msg)
-	{
-		long height = msg.getHeight();
-		long width = msg.getWidth();
-
-		long[] dims = new long[] { height, width };
-		short[] data = new short[(int) (height * width)];
-
-		msg.getData().asReadOnlyByteBuffer().asShortBuffer().get(data);
-
-		ArrayImg<ShortType, ShortArray> label = ArrayImgs.shorts(data, dims);
-
-		return label;
+	private int getScoreMode() {
+		final Object mode = this.settings.get(LacssDetectorFactory.KEY_SCORE_MODE);
+		if (LacssDetectorFactory.SCORE_MODE_PER_LABEL.equals(mode))
+			return LacssMsg.ScoreMode.SCORE_PER_LABEL_VALUE;
+		if (LacssDetectorFactory.SCORE_MODE_NONE.equals(mode))
+			return LacssMsg.ScoreMode.SCORE_NONE_VALUE;
+		return LacssMsg.ScoreMode.SCORE_IMAGE_VALUE;
 	}
 
-	protected List<Spot> readResult(DataInputStream st) throws IOException {
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	protected List<Spot> readResult(LacssResultReader.Result msg) {
 		final double[] calibration = TMUtils.getSpatialCalibration(img);
 
-		int msg_size = st.readInt();
+		if (msg.isSparse())
+			return readInstances(msg.instances, calibration);
+
+		// Labels are 16- or 32-bit, the score image 16-bit if any.
+		RandomAccessibleInterval label = msg.label;
+		RandomAccessibleInterval score = msg.score;
+		if (getShapeBucket(settings) > 1) {
+			// Drop the padding, labels are {width, height} like the interval.
+			final long[] max = new long[] {
+					interval.dimension(img.dimensionIndex(Axes.X)) - 1,
+					interval.dimension(img.dimensionIndex(Axes.Y)) - 1 };
+			label = Views.interval(label, new long[2], max);
+			if (score != null)
+				score = Views.interval(score, new long[2], max);
+		}
+		return readLabels(label, score, msg.labelScores, calibration);
+	}
+
+	private <I extends IntegerType<I>, R extends RealType<R>> List<Spot> readLabels(
+			RandomAccessibleInterval<I> label_img,
+			RandomAccessibleInterval<R> score_img,
+			float[] labelScores,
+			double[] calibration) {
+		// Plain cursor loop, no per-pixel lambda or boxing.
+		long max = 0;
+		for (I p : Views.iterable(label_img)) {
+			final long val = p.getIntegerLong();
+			if (val > max)
+				max = val;
+		}
+		final List<Integer> indices = labelRange((int) max);
+
+		final ImgLabeling<Integer, I> labeling = ImgLabeling.fromImageAndLabels(label_img, indices);
+		if (labelScores != null) {
+			// Paint each label with its score, lazily.
+			final Converter<I, FloatType> toScore = (l, s) -> {
+				final long val = l.getIntegerLong();
+				s.set((val > 0 && val <= labelScores.length) ? labelScores[(int) val - 1] : 0f);
+			};
+			final RandomAccessibleInterval<FloatType> quality = Converters.convert(label_img, toScore, new FloatType());
+			spots = MaskUtils.fromLabelingWithROI(labeling, interval, calibration, false, quality);
+		} else {
+			// Without score image, MaskUtils uses the spot area as quality.
+			spots = MaskUtils.fromLabelingWithROI(labeling, interval, calibration, false, score_img);
+		}
 
-		byte[] msg_buf = new byte[msg_size];
+		return spots;
+	}
 
-		st.readFully(msg_buf);
+	/**
+	 * Returns the labels 1 to n, without storing them.
+	 */
+	private static List<Integer> labelRange(final int n) {
+		return new AbstractList<Integer>() {
+			@Override
+			public Integer get(int index) {
+				return Integer.valueOf(index + 1);
+			}
+
+			@Override
+			public int size() {
+				return n;
+			}
+		};
+	}
 
-		LacssMsg.Result msg = LacssMsg.Result.parseFrom(msg_buf);
+	/**
+	 * Builds one spot per instance of a sparse result, from its contour if the
+	 * server sent one, or else from its mask within its bounding box only, so
+	 * that no full-frame labeling is needed.
+	 */
+	protected List<Spot> readInstances(List<LacssInstance> instances, double[] calibration) {
+		final List<Integer> indices = Collections.singletonList(Integer.valueOf(1));
+		spots = new ArrayList<>(instances.size());
+		final long width = interval.dimension(img.dimensionIndex(Axes.X));
+		final long height = interval.dimension(img.dimensionIndex(Axes.Y));
+		for (LacssInstance instance : instances) {
+			// Found in the padding of a bucketed frame.
+			if (instance.x0 >= width || instance.y0 >= height)
+				continue;
+			if (instance.hasPolygon()) {
+				final Spot spot = createSpot(instance, width, height, calibration);
+				if (spot != null)
+					spots.add(spot);
+				continue;
+			}
+			// Clipped to the frame if it straddles the padding.
+			final long w = Math.min(instance.x1, width) - instance.x0;
+			final long h = Math.min(instance.y1, height) - instance.y0;
+			if (w <= 0 || h <= 0)
+				continue;
+
+			RandomAccessibleInterval<UnsignedByteType> mask = instance.getMask();
+			if (w < instance.width() || h < instance.height())
+				mask = Views.interval(mask, new long[2], new long[] { w - 1, h - 1 });
+			final ImgLabeling<Integer, UnsignedByteType> labeling = ImgLabeling.fromImageAndLabels(mask, indices);
+			final Interval box = FinalInterval.createMinSize(
+					interval.min(0) + instance.x0, interval.min(1) + instance.y0, w, h);
+			for (Spot spot : MaskUtils.fromLabelingWithROI(labeling, box, calibration, false, mask)) {
+				spot.putFeature(Spot.QUALITY, Double.valueOf(instance.score));
+				spots.add(spot);
+			}
+		}
+		return spots;
+	}
 
-		Img<ShortType> label_img = getImgFromMsg(msg.getLabel());
-		Img<ShortType> score_img = getImgFromMsg(msg.getScore());
+	/**
+	 * Returns the spot of a contour, clipped to the frame, or <code>null</code>
+	 * if less than a triangle is left.
+	 */
+	private Spot createSpot(LacssInstance instance, long width, long height, double[] calibration) {
+		final int n = instance.nVertices();
+		double[][] polygon = new double[2][n];
+		for (int i = 0; i < n; i++) {
+			polygon[0][i] = instance.getVertexX(i);
+			polygon[1][i] = instance.getVertexY(i);
+		}
+		if (instance.x1 > width || instance.y1 > height) {
+			polygon = clipPolygon(polygon, 0, width, false);
+			polygon = clipPolygon(polygon, 1, height, false);
+		}
+		final double[] x = polygon[0];
+		final double[] y = polygon[1];
+		if (x.length < 3)
+			return null;
+
+		// Vertices are on pixel boundaries, TrackMate puts pixel centers on integers.
+		for (int i = 0; i < x.length; i++) {
+			x[i] = calibration[0] * (interval.min(0) + x[i] - 0.5);
+			y[i] = calibration[1] * (interval.min(1) + y[i] - 0.5);
+		}
+		return SpotRoi.createSpot(x, y, instance.score);
+	}
 
-		final AtomicInteger max = new AtomicInteger(0);
-		Views.iterable(label_img).forEach(p -> {
-			final int val = p.getInteger();
-			if (val != 0 && val > max.get())
-				max.set(val);
-		});
-		final List<Integer> indices = new ArrayList<>(max.get());
-		for (int i = 0; i < max.get(); i++)
-			indices.add(Integer.valueOf(i + 1));
+	/**
+	 * Clips a closed polygon, given as {x, y} vertex arrays, to one side of
+	 * a line: <code>d &lt;= bound</code>, or <code>d &gt;= bound</code> if
+	 * <code>lower</code>, where <code>d</code> is dimension 0 or 1. One step
+	 * of the Sutherland-Hodgman algorithm.
+	 */
+	static double[][] clipPolygon(double[][] polygon, int d, double bound, boolean lower) {
+		final double[] px = polygon[0];
+		final double[] py = polygon[1];
+		final int n = px.length;
+		final double[] qx = new double[2 * n];
+		final double[] qy = new double[2 * n];
+		int m = 0;
+		for (int i = 0; i < n; i++) {
+			final int j = (i + 1) % n;
+			final double a = polygon[d][i];
+			final double b = polygon[d][j];
+			final boolean inA = lower ? a >= bound : a <= bound;
+			final boolean inB = lower ? b >= bound : b <= bound;
+			if (inA) {
+				qx[m] = px[i];
+				qy[m++] = py[i];
+			}
+			if (inA != inB) {
+				final double t = (bound - a) / (b - a);
+				qx[m] = px[i] + t * (px[j] - px[i]);
+				qy[m++] = py[i] + t * (py[j] - py[i]);
+			}
+		}
+		return new double[][] { Arrays.copyOf(qx, m), Arrays.copyOf(qy, m) };
+	}
 
-		final ImgLabeling<Integer, ShortType> labeling = ImgLabeling.fromImageAndLabels(label_img, indices);
-		spots = MaskUtils.fromLabelingWithROI(labeling, interval, calibration, false, score_img);
+	/**
+	 * Returns the multiple frames are padded to, or 0 if they are sent as is.
+	 */
+	static int getShapeBucket(Map<String, Object> settings) {
+		final Object bucket = settings.get(LacssDetectorFactory.KEY_SHAPE_BUCKET);
+		return (bucket instanceof Integer) ? (Integer) bucket : 0;
+	}
 
-		return spots;
+	/**
+	 * Returns the interval actually sent to the server for the specified one:
+	 * X and Y are rounded up to the next multiple of the shape bucket, so that
+	 * the model is compiled for a few shapes only.
+	 */
+	static Interval bucketInterval(Interval interval, ImgPlus<?> img, int bucket) {
+		if (bucket <= 1)
+			return interval;
+		final long[] min = interval.minAsLongArray();
+		final long[] max = interval.maxAsLongArray();
+		for (int d : new int[] { img.dimensionIndex(Axes.X), img.dimensionIndex(Axes.Y) }) {
+			final long size = (interval.dimension(d) + bucket - 1) / bucket * bucket;
+			max[d] = min[d] + size - 1;
+		}
+		return new FinalInterval(min, max);
 	}
 
 	private float getFloat(String key)
@@ -157,8 +333,14 @@ public class LacssDetector<T extends RealType<T> & NativeType<T>> implements Spo
 		return v.floatValue();
 	}
 
-	protected void processFrame(RandomAccessibleInterval<T> frame, DataInputStream p_in,
-			DataOutputStream p_out) throws IOException {
+	/**
+	 * Sends the frame to the server without waiting for the result. Called by
+	 * {@link #process()} if it was not called before, so that a factory can
+	 * submit upcoming frames ahead of time.
+	 */
+	public synchronized void submit() {
+		if (request != null)
+			return;
 
 		LacssMsg.Settings settingMsg = LacssMsg.Settings.newBuilder()
 			.setDetectionThreshold(getFloat(LacssDetectorFactory.KEY_DETECTION_THRESHOLD))
@@ -169,27 +351,174 @@ public class LacssDetector<T extends RealType<T> & NativeType<T>> implements Spo
 			.setRemoveOutOfBound((boolean)settings.get(LacssDetectorFactory.KEY_REMOVE_OUT_OF_BOUNDS))
 			.build();
 
-		writeInput(p_out, frame, settingMsg);
-		spots = readResult(p_in); // blocking
+		final int bucket = getShapeBucket(settings);
+		if (bucket > 1) // Pixels past the image border are sent as 0.
+			request = writeInput(Views.interval(Views.extendZero(img), bucketInterval(interval, img, bucket)), settingMsg);
+		else
+			request = writeInput(Views.interval(img, interval), settingMsg);
 	}
 
-	@Override
-	public boolean process() {
-		final long start = System.currentTimeMillis();
+	/**
+	 * Drops a frame submitted ahead of time that will not be processed. The
+	 * server does not process it either, if it supports cancellation.
+	 */
+	public void discard() {
+		synchronized (this) {
+			if (request != null) {
+				request.cancel();
+				request.release();
+			}
+			releaseWorker();
+		}
+		done();
+	}
+
+	/**
+	 * Sets what to do when this detector is cancelled, besides aborting its
+	 * own frame.
+	 */
+	void setOnCancel(Runnable onCancel) {
+		this.onCancel = onCancel;
+	}
+
+	/**
+	 * Sets what to do once this detector has returned its worker, processed
+	 * or not. Run once, outside of the detector lock.
+	 */
+	synchronized void setOnDone(Runnable onDone) {
+		this.onDone = onDone;
+	}
+
+	private void done() {
+		final Runnable hook;
+		synchronized (this) {
+			hook = onDone;
+			onDone = null;
+		}
+		if (hook != null)
+			hook.run();
+	}
 
-		// isCanceled = false;
-		// cancelReason = null;
+	private synchronized void releaseWorker() {
+		if (leased)
+			worker.release();
+		leased = false;
+	}
+
+	/**
+	 * Sends the frame again to another server of the pool, after the one it
+	 * was sent to died.
+	 */
+	private synchronized void resubmit() {
+		final LacssServerPool.Worker next = worker.getPool().lease(logger);
+		request.release();
+		releaseWorker();
+		request = null;
+		worker = next;
+		client = worker.getClient();
+		leased = true;
+		submit();
+	}
+
+	/**
+	 * Returns how long to wait for the result of this frame, in milliseconds,
+	 * or 0 to wait forever. The timeout setting is for one megapixel, larger
+	 * frames get proportionally more time.
+	 */
+	private long getDeadline() {
+		final Object timeout = settings.get(LacssDetectorFactory.KEY_FRAME_TIMEOUT);
+		final double seconds = (timeout instanceof Double) ? (Double) timeout : LacssDetectorFactory.DEFAULT_FRAME_TIMEOUT;
+		if (seconds <= 0)
+			return 0;
+		final double megapixels = Intervals.numElements(bucketInterval(interval, img, getShapeBucket(settings))) / 1e6;
+		return (long) (1000 * seconds * Math.max(1, megapixels));
+	}
+
+	/**
+	 * Waits for the result, at most <code>deadline</code> ms after the frame
+	 * was sent: frames read ahead may have been sent long before, and frames
+	 * still queued behind others only start the clock when they go out.
+	 */
+	private LacssResultReader.Result await(long deadline) throws IOException, InterruptedException, TimeoutException {
+		if (deadline <= 0)
+			return request.get();
+		final long timeout = TimeUnit.MILLISECONDS.toNanos(deadline);
+		final long waitStart = System.nanoTime();
+		while (true) {
+			final boolean sent = request.isSent();
+			final long left = (sent ? request.getSentAt() : waitStart) + timeout - System.nanoTime();
+			try {
+				return request.get(Math.max(0, left), TimeUnit.NANOSECONDS);
+			} catch (TimeoutException e) {
+				// Sent while we waited for it to be: the clock starts then.
+				if (sent || !request.isSent())
+					throw e;
+			}
+		}
+	}
 
-		DataOutputStream p_out = new DataOutputStream(pyServer.getOutputStream());
-		DataInputStream p_in = new DataInputStream(pyServer.getInputStream());
+	protected void processFrame() throws IOException, InterruptedException {
+		if (isCanceled) {
+			discard();
+			spots = Collections.emptyList();
+			return;
+		}
+		submit();
+		final long deadline = getDeadline();
+		try {
+			for (int attempt = 1;; attempt++) {
+				try {
+					spots = readResult(await(deadline)); // blocking
+					return;
+				} catch (CancellationException e) {
+					// Spots are kept if the result made it before the cancel.
+					if (spots == null)
+						spots = Collections.emptyList();
+					return;
+				} catch (TimeoutException e) {
+					// Not replayed: a frame that hangs the server would hang
+					// the next one too.
+					final String message = baseErrorMessage + "No result from the Lacss server after "
+							+ (deadline / 1000) + " s, the server was killed and will be restarted.";
+					logger.error(message + "\n");
+					worker.kill();
+					throw new IOException(message, e);
+				} catch (IOException e) {
+					// The session is still fine: the server could not process this frame.
+					if (client.isAlive())
+						throw e;
+					// Circuit breaker: this frame may be what kills the server.
+					if (attempt >= MAX_ATTEMPTS)
+						throw new IOException(baseErrorMessage + "The Lacss server died " + attempt
+								+ " times on this frame, giving up. Last error: " + e.getMessage(), e);
+					logger.log("The Lacss server died, sending the frame again.\n");
+					try {
+						resubmit();
+					} catch (RuntimeException re) {
+						throw new IOException(baseErrorMessage + "Could not restart the Lacss server: " + re.getMessage(), e);
+					}
+				}
+			}
+		} finally {
+			request.release();
+			releaseWorker();
+			done();
+		}
+	}
 
-		final RandomAccessibleInterval<T> rai = Views.interval(img, interval);
+	@Override
+	public boolean process() {
+		final long start = System.currentTimeMillis();
 
 		try {
-			processFrame(rai, p_in, p_out);
+			processFrame();
 		} catch (IOException e) {
 			errorMessage = e.getLocalizedMessage();
 			return false;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			errorMessage = baseErrorMessage + "Interrupted while waiting for the Lacss server.";
+			return false;
 		}
 
 		/*
@@ -232,19 +561,30 @@ public class LacssDetector<T extends RealType<T> & NativeType<T>> implements Spo
 
 	// --- org.scijava.Cancelable methods ---
 
-	// @Override
-	// public boolean isCanceled() {
-	// 	return isCanceled;
-	// }
-
-	// @Override
-	// public void cancel(final String reason) {
-	// 	isCanceled = true;
-	// 	cancelReason = reason;
-	// }
-
-	// @Override
-	// public String getCancelReason() {
-	// 	return cancelReason;
-	// }
+	@Override
+	public boolean isCanceled() {
+		return isCanceled;
+	}
+
+	/**
+	 * Aborts the frame of this detector, on the server as well if it
+	 * supports it, and the frames queued after it.
+	 */
+	@Override
+	public void cancel(final String reason) {
+		isCanceled = true;
+		cancelReason = reason;
+		final Runnable hook = onCancel;
+		if (hook != null)
+			hook.run();
+		synchronized (this) {
+			if (request != null)
+				request.cancel();
+		}
+	}
+
+	@Override
+	public String getCancelReason() {
+		return cancelReason;
+	}
 }
@@ -11,6 +11,7 @@ import static fiji.plugin.trackmate.lacss.LacssDetectorFactory.KEY_NMS_IOU;
 import static fiji.plugin.trackmate.lacss.LacssDetectorFactory.KEY_REMOVE_OUT_OF_BOUNDS;
 import static fiji.plugin.trackmate.lacss.LacssDetectorFactory.KEY_SCALING;
 import static fiji.plugin.trackmate.lacss.LacssDetectorFactory.KEY_SEGMENTATION_THRESHOLD;
+import static fiji.plugin.trackmate.lacss.LacssDetectorFactory.KEY_SHARED_MEMORY;
 
 import java.awt.Color;
 import java.awt.Cursor;
@@ -38,8 +39,10 @@ import javax.swing.JCheckBox;
 import javax.swing.JComboBox;
 import javax.swing.JFormattedTextField;
 import javax.swing.JLabel;
+import javax.swing.JProgressBar;
 import javax.swing.JTextField;
 import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
 
 import fiji.plugin.trackmate.Logger;
 import fiji.plugin.trackmate.Model;
@@ -49,6 +52,8 @@ import fiji.plugin.trackmate.util.DetectionPreview;
 import fiji.plugin.trackmate.util.FileChooser;
 import fiji.plugin.trackmate.util.FileChooser.DialogType;
 import fiji.plugin.trackmate.util.FileChooser.SelectionMode;
+import fiji.plugin.trackmate.util.TMUtils;
+import net.imagej.ImgPlus;
 
 public class LacssDetectorConfigurationPanel extends ConfigurationPanel
 {
@@ -85,6 +90,8 @@ public class LacssDetectorConfigurationPanel extends ConfigurationPanel
 
 	private final JCheckBox chckbxBounds;
 
+	private final JCheckBox chckbxSharedMemory;
+
 	private final Logger logger;
 
 	// private final JCheckBox chckbx_return_label;
@@ -93,6 +100,9 @@ public class LacssDetectorConfigurationPanel extends ConfigurationPanel
 
 	private final JButton btnBrowseCustomModel;
 
+	/** Settings without a widget in this panel, passed through unchanged. */
+	private final Map< String, Object > otherSettings = new HashMap<>();
+
 	public LacssDetectorConfigurationPanel( final Settings settings, final Model model )
 	{
 		this.logger = model.getLogger();
@@ -353,6 +363,31 @@ public class LacssDetectorConfigurationPanel extends ConfigurationPanel
 		gbcFtfsegmentation_threshold.gridy = 12;
 		add( ftfsegmentation_threshold, gbcFtfsegmentation_threshold );
 
+		/*
+		 * Server status.
+		 */
+
+		final JLabel lblServerStatus = new JLabel( "Starting the Lacss server..." );
+		lblServerStatus.setFont( SMALL_FONT );
+		final GridBagConstraints gbcLblServerStatus = new GridBagConstraints();
+		gbcLblServerStatus.anchor = GridBagConstraints.EAST;
+		gbcLblServerStatus.insets = new Insets( 5, 5, 5, 5 );
+		gbcLblServerStatus.gridx = 0;
+		gbcLblServerStatus.gridy = 15;
+		add( lblServerStatus, gbcLblServerStatus );
+
+		final JProgressBar progressServer = new JProgressBar();
+		progressServer.setIndeterminate( true );
+		final GridBagConstraints gbcProgressServer = new GridBagConstraints();
+		gbcProgressServer.gridwidth = 2;
+		gbcProgressServer.fill = GridBagConstraints.HORIZONTAL;
+		gbcProgressServer.insets = new Insets( 5, 5, 5, 5 );
+		gbcProgressServer.gridx = 1;
+		gbcProgressServer.gridy = 15;
+		add( progressServer, gbcProgressServer );
+
+		warmUp( settings, lblServerStatus, progressServer );
+
 		/*
 		 * Preview.
 		 */
@@ -406,6 +441,20 @@ public class LacssDetectorConfigurationPanel extends ConfigurationPanel
 		gbcChckbxBounds.gridy = 13;
 		add( chckbxBounds, gbcChckbxBounds );
 
+		//* Shared Memory Check Box Button */
+
+		chckbxSharedMemory = new JCheckBox( "Exchange frames via shared memory:" );
+		chckbxSharedMemory.setHorizontalTextPosition( SwingConstants.LEFT );
+		chckbxSharedMemory.setFont( SMALL_FONT );
+		chckbxSharedMemory.setEnabled( LacssSharedMemory.isAvailable() );
+		final GridBagConstraints gbcChckbxSharedMemory = new GridBagConstraints();
+		gbcChckbxSharedMemory.anchor = GridBagConstraints.EAST;
+		gbcChckbxSharedMemory.gridwidth = 2;
+		gbcChckbxSharedMemory.insets = new Insets( 0, 5, 0, 0 );
+		gbcChckbxSharedMemory.gridx = 1;
+		gbcChckbxSharedMemory.gridy = 14;
+		add( chckbxSharedMemory, gbcChckbxSharedMemory );
+
 		/*
 		 * Listeners and specificities.
 		 */
@@ -424,6 +473,30 @@ public class LacssDetectorConfigurationPanel extends ConfigurationPanel
 		btnBrowseCustomModel.addActionListener( l -> browseCustomModelPath() );
 	}
 
+	/**
+	 * Starts the server in the background on the image of the settings, so
+	 * that it is ready when the user clicks on preview or next.
+	 */
+	@SuppressWarnings( { "rawtypes", "unchecked" } )
+	private void warmUp( final Settings settings, final JLabel lblStatus, final JProgressBar progress )
+	{
+		if ( settings.imp == null )
+		{
+			lblStatus.setText( "Lacss server not started." );
+			progress.setVisible( false );
+			return;
+		}
+
+		final Map< String, Object > detectorSettings = ( settings.detectorFactory instanceof LacssDetectorFactory && settings.detectorSettings != null )
+				? settings.detectorSettings
+				: new HashMap<>();
+		LacssDetectorFactory.warmUp( ( ImgPlus ) TMUtils.rawWraps( settings.imp ), detectorSettings, logger )
+				.whenComplete( ( info, error ) -> SwingUtilities.invokeLater( () -> {
+					lblStatus.setText( ( error == null ) ? "Lacss server ready." : "Lacss server failed to start." );
+					progress.setVisible( false );
+				} ) );
+	}
+
 	protected void browseCustomModelPath()
 	{
 		btnBrowseCustomModel.setEnabled( false );
@@ -459,6 +532,8 @@ public class LacssDetectorConfigurationPanel extends ConfigurationPanel
 	@Override
 	public void setSettings( final Map< String, Object > settings )
 	{
+		otherSettings.clear();
+		otherSettings.putAll( settings );
 		// tfLacssExecutable.setText( ( String ) settings.get( KEY_LACSS_PYTHON_FILEPATH ) );
 		tfCustomPath.setText( ( String ) settings.get( KEY_LACSS_CUSTOM_MODEL_FILEPATH ) );
 		cmbboxPretrainedModel.setSelectedItem( settings.get( KEY_LACSS_MODEL ) );
@@ -468,12 +543,13 @@ public class LacssDetectorConfigurationPanel extends ConfigurationPanel
 		ftfmin_scaling.setValue( settings.get( KEY_SCALING));
 		ftfnms_iou.setValue(settings.get(KEY_NMS_IOU));
 		ftfsegmentation_threshold.setValue(settings.get(KEY_SEGMENTATION_THRESHOLD));
+		chckbxSharedMemory.setSelected( Boolean.TRUE.equals( settings.get( KEY_SHARED_MEMORY ) ) );
 	}
 
 	@Override
 	public Map< String, Object > getSettings()
 	{
-		final HashMap< String, Object > settings = new HashMap<>( 9 );
+		final HashMap< String, Object > settings = new HashMap<>( otherSettings );
 
 		// settings.put( KEY_LACSS_PYTHON_FILEPATH, tfLacssExecutable.getText() );
 		settings.put( KEY_LACSS_CUSTOM_MODEL_FILEPATH, tfCustomPath.getText() );
@@ -490,6 +566,7 @@ public class LacssDetectorConfigurationPanel extends ConfigurationPanel
 		settings.put (KEY_NMS_IOU, nms_iou);
 		final double segmentation_threshold = ((Number) ftfsegmentation_threshold.getValue()).doubleValue();
 		settings.put (KEY_SEGMENTATION_THRESHOLD, segmentation_threshold);
+		settings.put( KEY_SHARED_MEMORY, chckbxSharedMemory.isSelected() );
 
 		settings.put( KEY_LOGGER, logger );
 
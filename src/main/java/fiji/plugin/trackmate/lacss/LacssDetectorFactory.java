@@ -12,8 +12,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import javax.swing.ImageIcon;
 
@@ -31,10 +38,12 @@ import fiji.plugin.trackmate.gui.components.ConfigurationPanel;
 import fiji.plugin.trackmate.lacss.LacssDetectorConfigurationPanel.PretrainedModel;
 import net.imagej.ImgPlus;
 import net.imagej.axis.Axes;
+import net.imglib2.FinalInterval;
 import net.imglib2.Interval;
 import net.imglib2.img.display.imagej.ImgPlusViews;
 import net.imglib2.type.NativeType;
 import net.imglib2.type.numeric.RealType;
+import net.imglib2.util.Intervals;
 
 @Plugin( type = SpotDetectorFactory.class )
 public class LacssDetectorFactory< T extends RealType< T > & NativeType< T > > implements SpotDetectorFactory< T > 
@@ -62,6 +71,121 @@ public class LacssDetectorFactory< T extends RealType< T > & NativeType< T > > i
 	public static final String KEY_RETURN_LABEL = "RETURN_LABEL";
 	public static final boolean DEFAULT_RETURN_LABEL = Boolean.valueOf(false);
 
+	/**
+	 * The key to the parameter that stores whether frames and results are
+	 * exchanged with the server through memory-mapped files in
+	 * <code>/dev/shm</code> rather than through the process pipes. Ignored
+	 * where shared memory is not available or the server does not support it.
+	 */
+	public static final String KEY_SHARED_MEMORY = "SHARED_MEMORY";
+	public static final Boolean DEFAULT_SHARED_MEMORY = Boolean.valueOf( true );
+
+	/**
+	 * The key to the parameter that stores how many frames may be sent to the
+	 * server before the result of the first one is read. Values larger than 1
+	 * let the server work on the next frames while TrackMate post-processes
+	 * the current one, at the cost of memory for the frames in flight.
+	 */
+	public static final String KEY_FRAMES_IN_FLIGHT = "FRAMES_IN_FLIGHT";
+	public static final Integer DEFAULT_FRAMES_IN_FLIGHT = Integer.valueOf( 2 );
+
+	/**
+	 * The key to the parameter that stores how the server returns the spot
+	 * quality: as a full score image ({@link #SCORE_MODE_IMAGE}), as one score
+	 * per cell ({@link #SCORE_MODE_PER_LABEL}), or not at all
+	 * ({@link #SCORE_MODE_NONE}), in which case the quality is the spot area.
+	 * The last two make the server response about half as large.
+	 */
+	public static final String KEY_SCORE_MODE = "SCORE_MODE";
+	public static final String SCORE_MODE_IMAGE = "IMAGE";
+	public static final String SCORE_MODE_PER_LABEL = "PER_LABEL";
+	public static final String SCORE_MODE_NONE = "NONE";
+	public static final String DEFAULT_SCORE_MODE = SCORE_MODE_IMAGE;
+
+	/**
+	 * The key to the parameter that stores the deflate level, 1 to 9, with
+	 * which frames are compressed before they are sent to the server over a
+	 * socket, or 0 to send them uncompressed. Only worth it when the server
+	 * runs on another machine.
+	 */
+	public static final String KEY_DEFLATE_LEVEL = "DEFLATE_LEVEL";
+	public static final Integer DEFAULT_DEFLATE_LEVEL = Integer.valueOf( 0 );
+
+	/**
+	 * The key to the parameter that stores how many python engines may run
+	 * concurrently, each with its own copy of the model. Frames are spread
+	 * over them, and TrackMate may then process several frames at once.
+	 */
+	public static final String KEY_SERVER_POOL_SIZE = "SERVER_POOL_SIZE";
+	public static final Integer DEFAULT_SERVER_POOL_SIZE = Integer.valueOf( 1 );
+
+	/**
+	 * The key to the parameter that stores how much memory, in MB, the python
+	 * engines of all models may use together. Engines of models that are not
+	 * in use anymore are kept running, so that switching back is fast, until
+	 * this budget is exceeded.
+	 */
+	public static final String KEY_SERVER_MEMORY_BUDGET = "SERVER_MEMORY_BUDGET";
+	public static final Integer DEFAULT_SERVER_MEMORY_BUDGET = Integer.valueOf( 8192 );
+
+	private static final long MEGABYTE = 1L << 20;
+
+	/**
+	 * The key to the parameter that stores how long, in seconds, to wait for
+	 * the result of a frame of one megapixel before the server is deemed hung.
+	 * Larger frames get proportionally more time. A hung server is killed and
+	 * restarted, and the frame fails. Use 0 to wait forever.
+	 */
+	public static final String KEY_FRAME_TIMEOUT = "FRAME_TIMEOUT";
+	public static final Double DEFAULT_FRAME_TIMEOUT = Double.valueOf( 300. );
+
+	/**
+	 * The key to the parameter that stores whether to use the python engine
+	 * shared by all Fiji instances and jobs of the user on this machine,
+	 * starting it if none runs yet, rather than a private one. The shared
+	 * engine holds one copy of the model and stops when the last client
+	 * detaches.
+	 */
+	public static final String KEY_SHARED_DAEMON = "SHARED_DAEMON";
+	public static final Boolean DEFAULT_SHARED_DAEMON = Boolean.valueOf( false );
+
+	/**
+	 * The key to the parameter that stores after how many seconds without
+	 * frame a python engine is stopped, to give its memory back. It is
+	 * started again when needed. Use 0 to keep engines running.
+	 */
+	public static final String KEY_SERVER_IDLE_TIMEOUT = "SERVER_IDLE_TIMEOUT";
+	public static final Integer DEFAULT_SERVER_IDLE_TIMEOUT = Integer.valueOf( 900 );
+
+	/**
+	 * The key to the parameter that stores the resident memory, in MB, past
+	 * which a python engine is restarted between two frames. Only enforced on
+	 * Linux. Use 0 for no limit.
+	 */
+	public static final String KEY_SERVER_MAX_RSS = "SERVER_MAX_RSS";
+	public static final Integer DEFAULT_SERVER_MAX_RSS = Integer.valueOf( 0 );
+
+	/**
+	 * The key to the parameter that stores whether to split the CPU cores
+	 * between the python engines and TrackMate, rather than let each engine
+	 * start a thread per core. Engines get an equal share of the cores not
+	 * reserved for TrackMate and, on Linux, are pinned to them. The shared
+	 * engine is not budgeted.
+	 */
+	public static final String KEY_THREAD_BUDGET = "THREAD_BUDGET";
+	public static final Boolean DEFAULT_THREAD_BUDGET = Boolean.valueOf( true );
+
+	/**
+	 * The key to the parameter that stores the multiple, in pixels, to which
+	 * the width and height of frames are padded before they are sent to the
+	 * server, or 0 to send them as is. The model is compiled anew for each
+	 * frame shape it sees, which takes seconds: with a bucket of e.g. 256,
+	 * previews on ROIs of various sizes reuse a few compiled shapes. The
+	 * padding is filled with 0 and cropped out of the results.
+	 */
+	public static final String KEY_SHAPE_BUCKET = "SHAPE_BUCKET";
+	public static final Integer DEFAULT_SHAPE_BUCKET = Integer.valueOf( 0 );
+
 	// detector parameter keys
 	public static final String NAME = "Lacss detector";
 
@@ -133,12 +257,66 @@ public class LacssDetectorFactory< T extends RealType< T > & NativeType< T > > i
 
 	protected String errorMessage;
 
-	protected static Process pyServer = null; // the py process that does the computation
+	protected static LacssServerRegistry registry = null; // the py processes that do the computation, by model
+
+	private static boolean shutdownHookAdded = false;
+
+	/** Warm-ups started so far, by model and frame shape. */
+	private static final Map< String, CompletableFuture< LacssServerInfo > > warmUps = new HashMap<>();
+
+	/** Detectors whose frame was submitted ahead of time, by frame. */
+	private final Map< Integer, LacssDetector< T > > readahead = new HashMap<>();
+
+	/** Detectors handed out to TrackMate that still hold their worker. */
+	private final Set< LacssDetector< T > > running = new HashSet<>();
+
+	/**
+	 * How long frames read ahead are kept once no detector runs, in
+	 * milliseconds, in case TrackMate is just between two frames.
+	 */
+	private static final long READAHEAD_GRACE = 2000;
+
+	private static final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor( r -> {
+		final Thread t = new Thread( r, "Lacss readahead sweeper" );
+		t.setDaemon( true );
+		return t;
+	} );
+
+	/**
+	 * Drops the frames read ahead if detection is over, <code>null</code> if
+	 * none is planned.
+	 */
+	private ScheduledFuture< ? > idleDiscard = null;
+
+	/**
+	 * The TrackMate settings, to read ahead only the frames detection runs
+	 * on. <code>null</code> if the configuration panel was not created, as in
+	 * scripts: frames are then read ahead up to the last one of the image.
+	 */
+	private Settings trackmateSettings = null;
+
+	/**
+	 * Why detection was cancelled, <code>null</code> if it was not. Frames
+	 * asked for after a cancel are not sent to the servers.
+	 */
+	private String cancelReason = null;
+
+	private int lastFrame = -2;
+
+	private Interval lastInterval = null;
 
 	// protected static String pyFilePath;
 
 	protected static String modelPath;
 
+	private static String modelKey;
+
+	/** Content hashes of custom models, by path, size and modification time. */
+	private static final Map< String, String > customModelKeys = new HashMap<>();
+
+	/** Whether the model was exported to a temporary file, out of the cache. */
+	private static boolean temporaryModel = false;
+
 	/*
 	 * METHODS
 	 */
@@ -157,56 +335,297 @@ public class LacssDetectorFactory< T extends RealType< T > & NativeType< T > > i
 
 	private static void addOnShutdownHook()
 	{
+		if ( shutdownHookAdded )
+			return;
+		shutdownHookAdded = true;
+
 		Runtime.getRuntime().addShutdownHook( new Thread( new Runnable()
 		{
 			@Override
 			public void run()
 			{
 				// new File(pyFilePath).delete();
-				new File(modelPath).delete();
+				if (temporaryModel)
+					new File(modelPath).delete();
 
-				if (pyServer.isAlive()) {
-					pyServer.destroy();
+				if (registry != null) {
+					registry.close();
 				}
 			}
 		}));
 	}
 
-	public static Process getPyServer()
+	private static synchronized LacssServerRegistry getRegistry()
 	{
-		if (pyServer == null) { // the server has not been started
-			try {
+		if ( registry == null )
+		{
+			try
+			{
 				// pyFilePath = exportResource(PY_SCRIPT_PATH);
-				modelPath = exportResource(MODEL_PATH);
-				// String modelPath = new File(LacssDetectorFactory.class.getResource(MODEL_PATH).getFile()).getAbsolutePath();
+				final File model = LacssCache.getModel( MODEL_PATH );
+				modelPath = model.getAbsolutePath();
+				modelKey = LacssCache.getModelKey( model );
+			}
+			catch ( final IOException e )
+			{
+				// No writable cache folder: one copy for this session.
+				try
+				{
+					modelPath = exportResource( MODEL_PATH );
+					modelKey = LacssCache.getModelKey( new File( MODEL_PATH ) );
+					temporaryModel = true;
+				}
+				catch ( final IOException e2 )
+				{
+					throw new RuntimeException( "Failed to start the python engine.\n" + e2.getLocalizedMessage() );
+				}
+			}
+			registry = new LacssServerRegistry( DEFAULT_SERVER_MEMORY_BUDGET * MEGABYTE );
+			addOnShutdownHook();
+		}
+		return registry;
+	}
 
-				ProcessBuilder pb = new ProcessBuilder("python", "-m", "lacss.deploy.server", modelPath);
-				pb.redirectError( ProcessBuilder.Redirect.INHERIT );
+	/**
+	 * Returns the pool of python engines of the bundled model, creating it if
+	 * needed. Engines are only started when frames are leased.
+	 */
+	public static synchronized LacssServerPool getPool()
+	{
+		return getRegistry().get( modelPath, modelKey );
+	}
 
-				pyServer = pb.start();
+	/**
+	 * Returns the pool of python engines of the model selected in the
+	 * specified settings, the bundled one or a custom one. The engines of
+	 * other models are kept running within the memory budget of the
+	 * settings.
+	 */
+	public static synchronized LacssServerPool getPool( final Map< String, Object > settings )
+	{
+		final LacssServerRegistry registry = getRegistry();
+		final Object budget = settings.get( KEY_SERVER_MEMORY_BUDGET );
+		registry.setMemoryBudget( ( ( budget instanceof Integer ) ? ( Integer ) budget : DEFAULT_SERVER_MEMORY_BUDGET ) * MEGABYTE );
+		final LacssServerPool pool = getModelPool( registry, settings );
+		pool.setShared( Boolean.TRUE.equals( settings.get( KEY_SHARED_DAEMON ) ) );
+		final Object idleTimeout = settings.get( KEY_SERVER_IDLE_TIMEOUT );
+		pool.setIdleTimeout( 1000L * ( ( idleTimeout instanceof Integer ) ? ( Integer ) idleTimeout : DEFAULT_SERVER_IDLE_TIMEOUT ) );
+		final Object maxRss = settings.get( KEY_SERVER_MAX_RSS );
+		pool.setMaxRss( MEGABYTE * ( ( maxRss instanceof Integer ) ? ( Integer ) maxRss : DEFAULT_SERVER_MAX_RSS ) );
+		pool.setThreadBudget( !Boolean.FALSE.equals( settings.get( KEY_THREAD_BUDGET ) ) );
+		return pool;
+	}
 
-				//System.err.println(pyFilePath);
+	private static LacssServerPool getModelPool( final LacssServerRegistry registry, final Map< String, Object > settings )
+	{
+		final Object customPath = settings.get( KEY_LACSS_CUSTOM_MODEL_FILEPATH );
+		if ( settings.get( KEY_LACSS_MODEL ) != PretrainedModel.CUSTOM || !( customPath instanceof String ) || ( ( String ) customPath ).isEmpty() )
+			return registry.get( modelPath, modelKey );
 
-				addOnShutdownHook();
+		final File model = new File( ( String ) customPath ).getAbsoluteFile();
+		if ( !model.isFile() )
+			throw new RuntimeException( "Cannot find the custom Lacss model " + model + "." );
+		final String id = model + ":" + model.length() + ":" + model.lastModified();
+		String key = customModelKeys.get( id );
+		if ( key == null )
+		{
+			try
+			{
+				key = LacssCache.hash( model );
 			}
-			catch (IOException | NullPointerException e) {
-				throw(new RuntimeException("Failed to start the python engine.\n" + e.getLocalizedMessage()));
+			catch ( final IOException e )
+			{
+				throw new RuntimeException( "Cannot read the custom Lacss model " + model + ".\n" + e.getLocalizedMessage() );
 			}
-		} 
-		else if (! pyServer.isAlive()) { // server died for some reason
+			customModelKeys.put( id, key );
+		}
+		return registry.get( model.getPath(), key );
+	}
 
-			throw(new RuntimeException("The python engine died unexpectedly."));
+	/**
+	 * Opens a new session with one of the python engines on its own socket,
+	 * for callers that need to run detections outside of TrackMate. The caller
+	 * must close it.
+	 *
+	 * @return a new client, or <code>null</code> if the engine only talks
+	 *         through its process pipes.
+	 */
+	public static LacssClient openConnection()
+	{
+		final LacssServerPool.Worker worker = getPool().lease( Logger.DEFAULT_LOGGER );
+		try
+		{
+			final LacssClient shared = worker.getClient();
+			final int port = shared.getServerInfo().getPort();
+			if ( port <= 0 )
+				return null;
+			return LacssClient.connect( shared.getProcess(), port, shared.getToken() );
 		}
+		catch ( final IOException e )
+		{
+			throw new RuntimeException( "Failed to connect to the python engine.\n" + e.getLocalizedMessage() );
+		}
+		finally
+		{
+			worker.release();
+		}
+	}
+
+	/**
+	 * Starts a python engine in the background and runs one frame of the
+	 * specified image through it, so that the model is loaded and compiled
+	 * for frames of this shape by the time the detection is run. Does nothing
+	 * if a warm-up for this shape, or for this shape bucket if frames are
+	 * padded, is already running, or done and its servers still run.
+	 * <p>
+	 * Progress is reported on the logger status.
+	 *
+	 * @param img
+	 *            the image to detect in. Its first time point is used.
+	 * @param settings
+	 *            the detector settings. Missing keys take their default
+	 *            value.
+	 * @param logger
+	 *            where to report progress.
+	 * @return a future that completes with what the engine reported about
+	 *         itself once it is warm.
+	 */
+	public static < T extends RealType< T > & NativeType< T > > CompletableFuture< LacssServerInfo > warmUp( final ImgPlus< T > img, final Map< String, Object > settings, final Logger logger )
+	{
+		final ImgPlus< T > frame = ( img.dimensionIndex( Axes.TIME ) < 0 )
+				? img
+				: ImgPlusViews.hyperSlice( img, img.dimensionIndex( Axes.TIME ), 0 );
+		final Map< String, Object > warmUpSettings = new LacssDetectorFactory<>().getDefaultSettings();
+		warmUpSettings.putAll( settings );
+		warmUpSettings.put( KEY_LOGGER, logger );
 
-		return pyServer;
+		// Frames padded to the same bucket share the compiled model.
+		final Interval sent = LacssDetector.bucketInterval( new FinalInterval( frame ), frame, LacssDetector.getShapeBucket( warmUpSettings ) );
+		final String shape = warmUpSettings.get( KEY_LACSS_MODEL ) + ":" + warmUpSettings.get( KEY_LACSS_CUSTOM_MODEL_FILEPATH )
+				+ ":" + Arrays.toString( sent.dimensionsAsLongArray() );
+
+		final LacssServerPool pool;
+		try
+		{
+			pool = getPool( warmUpSettings );
+		}
+		catch ( final RuntimeException e )
+		{
+			logger.error( "Lacss server warm-up failed: " + e.getMessage() + "\n" );
+			final CompletableFuture< LacssServerInfo > failed = new CompletableFuture<>();
+			failed.completeExceptionally( e );
+			return failed;
+		}
+		final CompletableFuture< LacssServerInfo > future;
+		synchronized ( warmUps )
+		{
+			// A warm-up is stale once the servers it warmed have stopped.
+			final CompletableFuture< LacssServerInfo > running = warmUps.get( shape );
+			if ( running != null && !running.isCompletedExceptionally() && ( !running.isDone() || pool.getWorkerCount() > 0 ) )
+				return running;
+			future = new CompletableFuture<>();
+			warmUps.put( shape, future );
+		}
+
+		final Thread thread = new Thread( () -> {
+			try
+			{
+				logger.setStatus( "Starting the Lacss server..." );
+				logger.setProgress( 0. );
+				final LacssDetector< T > detector = new LacssDetector<>( frame, new FinalInterval( frame ), warmUpSettings, logger, pool.lease( logger ) );
+
+				logger.setStatus( "Warming up the Lacss server..." );
+				logger.setProgress( 0.5 );
+				if ( !detector.checkInput() )
+				{
+					// Cannot run a frame of this image, the server is started still.
+					detector.discard();
+				}
+				else if ( !detector.process() )
+				{
+					throw new RuntimeException( detector.getErrorMessage() );
+				}
+				future.complete( detector.getServerInfo() );
+			}
+			catch ( final RuntimeException e )
+			{
+				logger.error( "Lacss server warm-up failed: " + e.getMessage() + "\n" );
+				future.completeExceptionally( e );
+			}
+			finally
+			{
+				logger.setProgress( 1. );
+				logger.setStatus( "" );
+			}
+		}, "Lacss server warm-up" );
+		thread.setDaemon( true );
+		thread.start();
+		return future;
 	}
 
 	@Override
-	public SpotDetector< T > getDetector( final Interval interval, final int frame )
+	public synchronized SpotDetector< T > getDetector( final Interval interval, final int frame )
 	{
-		// final boolean simplifyContours = false; //( Boolean ) settings.get( KEY_SIMPLIFY_CONTOURS );
-		// final double[] calibration = TMUtils.getSpatialCalibration( img );
+		final LacssServerPool pool = getPool( settings );
+		pool.setSize( getServerPoolSize( settings ) );
+
+		if ( lastInterval == null || !Intervals.equals( interval, lastInterval ) )
+			discardReadahead();
 
+		if ( idleDiscard != null )
+		{
+			idleDiscard.cancel( false );
+			idleDiscard = null;
+		}
+
+		LacssDetector< T > detector = readahead.remove( frame );
+		if ( detector == null )
+			detector = createDetector( interval, frame, pool );
+		running.add( detector );
+		if ( cancelReason != null )
+		{
+			detector.cancel( cancelReason );
+			return detector;
+		}
+		if ( !detector.checkInput() )
+		{
+			// TrackMate will not process it: return its worker now.
+			detector.discard();
+			return detector;
+		}
+
+		/*
+		 * Frames are being processed in order: send the next ones now so that
+		 * the server does not sit idle while we prepare and post-process.
+		 */
+		if ( frame == lastFrame + 1 )
+		{
+			detector.submit();
+			// Enough frames to keep every engine of the pool busy.
+			final int depth = Math.max( getFramesInFlight( settings ), detector.getServerInfo().getMaxBatchSize() ) * pool.getSize();
+			final int last = getLastFrame();
+			for ( int f = frame + 1; f < frame + depth && f <= last; f++ )
+			{
+				if ( readahead.containsKey( f ) )
+					continue;
+				final LacssDetector< T > next = createDetector( interval, f, pool );
+				if ( !next.checkInput() )
+				{
+					next.discard();
+					break;
+				}
+				next.submit();
+				readahead.put( f, next );
+			}
+		}
+		lastFrame = frame;
+		lastInterval = interval;
+
+		return detector;
+	}
+
+	private LacssDetector< T > createDetector( final Interval interval, final int frame, final LacssServerPool pool )
+	{
 		final ImgPlus< T > singleTimePoint;
 
 		if ( img.dimensionIndex( Axes.TIME ) < 0 )
@@ -219,24 +638,115 @@ public class LacssDetectorFactory< T extends RealType< T > & NativeType< T > > i
 				interval,
 				settings,
 				( Logger ) settings.get( KEY_LOGGER ),
-				getPyServer()
+				pool.lease( ( Logger ) settings.get( KEY_LOGGER ) )
 		);
-
+		detector.setOnCancel( () -> cancel( detector.getCancelReason() ) );
+		detector.setOnDone( () -> done( detector ) );
 		return detector;
 	}
 
+	/**
+	 * Returns the last frame detection runs on: the end of the TrackMate
+	 * settings if known, the last frame of the image otherwise.
+	 */
+	private int getLastFrame()
+	{
+		final int nFrames = ( img.dimensionIndex( Axes.TIME ) < 0 )
+				? 1
+				: ( int ) img.dimension( img.dimensionIndex( Axes.TIME ) );
+		if ( trackmateSettings != null && trackmateSettings.tend >= 0 )
+			return Math.min( trackmateSettings.tend, nFrames - 1 );
+		return nFrames - 1;
+	}
+
+	/**
+	 * Called when a detector has returned its worker. Once no detector runs,
+	 * detection may be over: the frames read ahead are dropped unless a
+	 * detector is asked for shortly, so that their leases do not keep the
+	 * servers busy for good.
+	 */
+	private synchronized void done( final LacssDetector< T > detector )
+	{
+		if ( !running.remove( detector ) || !running.isEmpty() || readahead.isEmpty() )
+			return;
+		if ( idleDiscard != null )
+			idleDiscard.cancel( false );
+		idleDiscard = sweeper.schedule( this::discardIdleReadahead, READAHEAD_GRACE, TimeUnit.MILLISECONDS );
+	}
+
+	private synchronized void discardIdleReadahead()
+	{
+		idleDiscard = null;
+		if ( running.isEmpty() )
+			discardReadahead();
+	}
+
+	/**
+	 * Drops the frames submitted ahead of time, and keeps the next ones from
+	 * being sent, when one of the detectors is cancelled.
+	 */
+	private synchronized void cancel( final String reason )
+	{
+		cancelReason = ( reason == null ) ? "Canceled" : reason;
+		discardReadahead();
+	}
+
+	private void discardReadahead()
+	{
+		for ( final LacssDetector< T > detector : readahead.values() )
+			detector.discard();
+		readahead.clear();
+		lastFrame = -2;
+	}
+
+	private static int getFramesInFlight( final Map< String, Object > settings )
+	{
+		final Object depth = settings.get( KEY_FRAMES_IN_FLIGHT );
+		return ( depth instanceof Integer ) ? Math.max( 1, ( Integer ) depth ) : DEFAULT_FRAMES_IN_FLIGHT;
+	}
+
+	private static int getServerPoolSize( final Map< String, Object > settings )
+	{
+		final Object size = settings.get( KEY_SERVER_POOL_SIZE );
+		return ( size instanceof Integer ) ? Math.max( 1, ( Integer ) size ) : DEFAULT_SERVER_POOL_SIZE;
+	}
+
+	/**
+	 * Frames can be processed concurrently if they are spread over several
+	 * engines. A single engine processes one frame at a time anyway.
+	 */
 	@Override
 	public boolean forbidMultithreading()
 	{
-		return true;
+		return settings == null || getServerPoolSize( settings ) <= 1;
 	}
 
 	@Override
-	public boolean setTarget( final ImgPlus< T > img, final Map< String, Object > settings )
+	public synchronized boolean setTarget( final ImgPlus< T > img, final Map< String, Object > settings )
 	{
+		discardReadahead();
+		lastInterval = null;
+		cancelReason = null;
 		this.img = img;
 		this.settings = settings;
-		return checkSettings( settings );
+		if ( !checkSettings( settings ) )
+			return false;
+
+		// Detectors are created next: only start the servers, the first frame
+		// warms them up.
+		final Object logger = settings.get( KEY_LOGGER );
+		try
+		{
+			final LacssServerPool pool = getPool( settings );
+			pool.setSize( getServerPoolSize( settings ) );
+			pool.prestart( ( logger == null ) ? Logger.VOID_LOGGER : ( Logger ) logger );
+		}
+		catch ( final RuntimeException e )
+		{
+			errorMessage = e.getMessage();
+			return false;
+		}
+		return true;
 	}
 
 	@Override
@@ -251,6 +761,7 @@ public class LacssDetectorFactory< T extends RealType< T > & NativeType< T > > i
 		final StringBuilder errorHolder = new StringBuilder();
 		boolean ok = true; // writeTargetChannel( settings, element, errorHolder );
 		// ok = ok && writeAttribute( settings, element, KEY_LACSS_PYTHON_FILEPATH, String.class, errorHolder );
+		ok = ok && writeModel( settings, element, errorHolder );
 		ok = ok && writeAttribute( settings, element, KEY_LACSS_CUSTOM_MODEL_FILEPATH, String.class, errorHolder );
 		ok = ok && writeAttribute( settings, element, KEY_MIN_CELL_AREA, Double.class, errorHolder );
 		// ok = ok && writeAttribute( settings, element, KEY_RETURN_LABEL, Boolean.class, errorHolder );
@@ -259,6 +770,18 @@ public class LacssDetectorFactory< T extends RealType< T > & NativeType< T > > i
 		ok = ok && writeAttribute( settings, element, KEY_NMS_IOU, Double.class, errorHolder );
 		ok = ok && writeAttribute( settings, element, KEY_SEGMENTATION_THRESHOLD, Double.class, errorHolder );
 		ok = ok && writeAttribute( settings, element, KEY_DETECTION_THRESHOLD, Double.class, errorHolder );
+		ok = ok && writeOptionalAttribute( settings, element, KEY_SHARED_MEMORY, Boolean.class, errorHolder );
+		ok = ok && writeOptionalAttribute( settings, element, KEY_FRAMES_IN_FLIGHT, Integer.class, errorHolder );
+		ok = ok && writeOptionalAttribute( settings, element, KEY_SCORE_MODE, String.class, errorHolder );
+		ok = ok && writeOptionalAttribute( settings, element, KEY_DEFLATE_LEVEL, Integer.class, errorHolder );
+		ok = ok && writeOptionalAttribute( settings, element, KEY_SERVER_POOL_SIZE, Integer.class, errorHolder );
+		ok = ok && writeOptionalAttribute( settings, element, KEY_SHAPE_BUCKET, Integer.class, errorHolder );
+		ok = ok && writeOptionalAttribute( settings, element, KEY_SERVER_MEMORY_BUDGET, Integer.class, errorHolder );
+		ok = ok && writeOptionalAttribute( settings, element, KEY_FRAME_TIMEOUT, Double.class, errorHolder );
+		ok = ok && writeOptionalAttribute( settings, element, KEY_SHARED_DAEMON, Boolean.class, errorHolder );
+		ok = ok && writeOptionalAttribute( settings, element, KEY_SERVER_IDLE_TIMEOUT, Integer.class, errorHolder );
+		ok = ok && writeOptionalAttribute( settings, element, KEY_SERVER_MAX_RSS, Integer.class, errorHolder );
+		ok = ok && writeOptionalAttribute( settings, element, KEY_THREAD_BUDGET, Boolean.class, errorHolder );
 
 		if ( !ok )
 			errorMessage = errorHolder.toString();
@@ -281,6 +804,18 @@ public class LacssDetectorFactory< T extends RealType< T > & NativeType< T > > i
 		ok = ok && readDoubleAttribute( element, settings, KEY_NMS_IOU, errorHolder );
 		ok = ok && readDoubleAttribute( element, settings, KEY_SEGMENTATION_THRESHOLD, errorHolder );
 		ok = ok && readDoubleAttribute( element, settings, KEY_DETECTION_THRESHOLD, errorHolder );
+		readOptionalBooleanAttribute( element, settings, KEY_SHARED_MEMORY, DEFAULT_SHARED_MEMORY );
+		readOptionalIntegerAttribute( element, settings, KEY_FRAMES_IN_FLIGHT, DEFAULT_FRAMES_IN_FLIGHT );
+		readOptionalStringAttribute( element, settings, KEY_SCORE_MODE, DEFAULT_SCORE_MODE );
+		readOptionalIntegerAttribute( element, settings, KEY_DEFLATE_LEVEL, DEFAULT_DEFLATE_LEVEL );
+		readOptionalIntegerAttribute( element, settings, KEY_SERVER_POOL_SIZE, DEFAULT_SERVER_POOL_SIZE );
+		readOptionalIntegerAttribute( element, settings, KEY_SHAPE_BUCKET, DEFAULT_SHAPE_BUCKET );
+		readOptionalIntegerAttribute( element, settings, KEY_SERVER_MEMORY_BUDGET, DEFAULT_SERVER_MEMORY_BUDGET );
+		readOptionalDoubleAttribute( element, settings, KEY_FRAME_TIMEOUT, DEFAULT_FRAME_TIMEOUT );
+		readOptionalBooleanAttribute( element, settings, KEY_SHARED_DAEMON, DEFAULT_SHARED_DAEMON );
+		readOptionalIntegerAttribute( element, settings, KEY_SERVER_IDLE_TIMEOUT, DEFAULT_SERVER_IDLE_TIMEOUT );
+		readOptionalIntegerAttribute( element, settings, KEY_SERVER_MAX_RSS, DEFAULT_SERVER_MAX_RSS );
+		readOptionalBooleanAttribute( element, settings, KEY_THREAD_BUDGET, DEFAULT_THREAD_BUDGET );
 
 		// Read model.
 		final String str = element.getAttributeValue( KEY_LACSS_MODEL );
@@ -289,12 +824,125 @@ public class LacssDetectorFactory< T extends RealType< T > & NativeType< T > > i
 			errorHolder.append( "Attribute " + KEY_LACSS_MODEL + " could not be found in XML element.\n" );
 			ok = false;
 		}
+		else
+		{
+			try
+			{
+				settings.put( KEY_LACSS_MODEL, PretrainedModel.valueOf( str ) );
+			}
+			catch ( final IllegalArgumentException e )
+			{
+				errorHolder.append( "Unknown " + KEY_LACSS_MODEL + " in XML element: " + str + ".\n" );
+				ok = false;
+			}
+		}
 		return checkSettings( settings );
 	}
 
+	/**
+	 * Writes the model by its enum name: {@link PretrainedModel#toString()}
+	 * is its display name, which cannot be read back.
+	 */
+	private static boolean writeModel( final Map< String, Object > settings, final Element element, final StringBuilder errorHolder )
+	{
+		final Object model = settings.get( KEY_LACSS_MODEL );
+		if ( !( model instanceof PretrainedModel ) )
+		{
+			errorHolder.append( "Parameter " + KEY_LACSS_MODEL + " is not a Lacss model: " + model + ".\n" );
+			return false;
+		}
+		element.setAttribute( KEY_LACSS_MODEL, ( ( PretrainedModel ) model ).name() );
+		return true;
+	}
+
+	/**
+	 * Reads a boolean attribute that older files may not have, falling back to
+	 * the specified default value.
+	 */
+	private static void readOptionalBooleanAttribute( final Element element, final Map< String, Object > settings, final String key, final Boolean defaultValue )
+	{
+		final String str = element.getAttributeValue( key );
+		settings.put( key, ( null == str ) ? defaultValue : Boolean.valueOf( str ) );
+	}
+
+	/**
+	 * Reads an integer attribute that older files may not have, falling back to
+	 * the specified default value.
+	 */
+	private static void readOptionalIntegerAttribute( final Element element, final Map< String, Object > settings, final String key, final Integer defaultValue )
+	{
+		final String str = element.getAttributeValue( key );
+		Integer val = defaultValue;
+		if ( null != str )
+		{
+			try
+			{
+				val = Integer.valueOf( str );
+			}
+			catch ( final NumberFormatException e )
+			{
+				// Keep the default.
+			}
+		}
+		settings.put( key, val );
+	}
+
+	/**
+	 * Reads a double attribute that older files may not have, falling back to
+	 * the specified default value.
+	 */
+	private static void readOptionalDoubleAttribute( final Element element, final Map< String, Object > settings, final String key, final Double defaultValue )
+	{
+		final String str = element.getAttributeValue( key );
+		Double val = defaultValue;
+		if ( null != str )
+		{
+			try
+			{
+				val = Double.valueOf( str );
+			}
+			catch ( final NumberFormatException e )
+			{
+				// Keep the default.
+			}
+		}
+		settings.put( key, val );
+	}
+
+	/**
+	 * Reads a string attribute that older files may not have, falling back to
+	 * the specified default value.
+	 */
+	private static void readOptionalStringAttribute( final Element element, final Map< String, Object > settings, final String key, final String defaultValue )
+	{
+		final String str = element.getAttributeValue( key );
+		settings.put( key, ( null == str ) ? defaultValue : str );
+	}
+
+	/**
+	 * Writes a parameter that may be absent from the settings.
+	 */
+	private static boolean writeOptionalAttribute( final Map< String, Object > settings, final Element element, final String key, final Class< ? > expectedClass, final StringBuilder errorHolder )
+	{
+		if ( !settings.containsKey( key ) )
+			return true;
+		return writeAttribute( settings, element, key, expectedClass, errorHolder );
+	}
+
+	/**
+	 * Checks the class of a parameter that may be absent from the settings.
+	 */
+	private static boolean checkOptionalParameter( final Map< String, Object > settings, final String key, final Class< ? > expectedClass, final StringBuilder errorHolder )
+	{
+		if ( !settings.containsKey( key ) )
+			return true;
+		return checkParameter( settings, key, expectedClass, errorHolder );
+	}
+
 	@Override
 	public ConfigurationPanel getDetectorConfigurationPanel( final Settings settings, final Model model )
 	{
+		this.trackmateSettings = settings;
 		return new LacssDetectorConfigurationPanel( settings, model );
 	}
 
@@ -315,6 +963,18 @@ public class LacssDetectorFactory< T extends RealType< T > & NativeType< T > > i
 		settings.put ( KEY_DETECTION_THRESHOLD, DEFAULT_DETECTION_THRESHOLD);
 		settings.put( KEY_LOGGER, Logger.DEFAULT_LOGGER );
 		settings.put( KEY_LACSS_CUSTOM_MODEL_FILEPATH, DEFAULT_LACSS_CUSTOM_MODEL_FILEPATH );
+		settings.put( KEY_SHARED_MEMORY, DEFAULT_SHARED_MEMORY );
+		settings.put( KEY_FRAMES_IN_FLIGHT, DEFAULT_FRAMES_IN_FLIGHT );
+		settings.put( KEY_SCORE_MODE, DEFAULT_SCORE_MODE );
+		settings.put( KEY_DEFLATE_LEVEL, DEFAULT_DEFLATE_LEVEL );
+		settings.put( KEY_SERVER_POOL_SIZE, DEFAULT_SERVER_POOL_SIZE );
+		settings.put( KEY_SHAPE_BUCKET, DEFAULT_SHAPE_BUCKET );
+		settings.put( KEY_SERVER_MEMORY_BUDGET, DEFAULT_SERVER_MEMORY_BUDGET );
+		settings.put( KEY_FRAME_TIMEOUT, DEFAULT_FRAME_TIMEOUT );
+		settings.put( KEY_SHARED_DAEMON, DEFAULT_SHARED_DAEMON );
+		settings.put( KEY_SERVER_IDLE_TIMEOUT, DEFAULT_SERVER_IDLE_TIMEOUT );
+		settings.put( KEY_SERVER_MAX_RSS, DEFAULT_SERVER_MAX_RSS );
+		settings.put( KEY_THREAD_BUDGET, DEFAULT_THREAD_BUDGET );
 		return settings;
 	}
 
@@ -333,7 +993,36 @@ public class LacssDetectorFactory< T extends RealType< T > & NativeType< T > > i
 		ok = ok & checkParameter( settings, KEY_NMS_IOU, Double.class, errorHolder );
 		ok = ok & checkParameter( settings, KEY_SEGMENTATION_THRESHOLD, Double.class, errorHolder );
 		ok = ok & checkParameter( settings, KEY_DETECTION_THRESHOLD, Double.class, errorHolder );		
-
+		ok = ok & checkOptionalParameter( settings, KEY_SHARED_MEMORY, Boolean.class, errorHolder );
+		ok = ok & checkOptionalParameter( settings, KEY_FRAMES_IN_FLIGHT, Integer.class, errorHolder );
+		ok = ok & checkOptionalParameter( settings, KEY_SCORE_MODE, String.class, errorHolder );
+		final Object scoreMode = settings.get( KEY_SCORE_MODE );
+		if ( scoreMode != null && !Arrays.asList( SCORE_MODE_IMAGE, SCORE_MODE_PER_LABEL, SCORE_MODE_NONE ).contains( scoreMode ) )
+		{
+			errorHolder.append( "Unknown value for parameter " + KEY_SCORE_MODE + ": " + scoreMode + ".\n" );
+			ok = false;
+		}
+		ok = ok & checkOptionalParameter( settings, KEY_DEFLATE_LEVEL, Integer.class, errorHolder );
+		final Object deflateLevel = settings.get( KEY_DEFLATE_LEVEL );
+		if ( deflateLevel instanceof Integer && ( ( Integer ) deflateLevel < 0 || ( Integer ) deflateLevel > 9 ) )
+		{
+			errorHolder.append( "Parameter " + KEY_DEFLATE_LEVEL + " must be between 0 and 9, got " + deflateLevel + ".\n" );
+			ok = false;
+		}
+		ok = ok & checkOptionalParameter( settings, KEY_SERVER_POOL_SIZE, Integer.class, errorHolder );
+		ok = ok & checkOptionalParameter( settings, KEY_SHAPE_BUCKET, Integer.class, errorHolder );
+		final Object shapeBucket = settings.get( KEY_SHAPE_BUCKET );
+		if ( shapeBucket instanceof Integer && ( Integer ) shapeBucket < 0 )
+		{
+			errorHolder.append( "Parameter " + KEY_SHAPE_BUCKET + " must not be negative, got " + shapeBucket + ".\n" );
+			ok = false;
+		}
+		ok = ok & checkOptionalParameter( settings, KEY_SERVER_MEMORY_BUDGET, Integer.class, errorHolder );
+		ok = ok & checkOptionalParameter( settings, KEY_FRAME_TIMEOUT, Double.class, errorHolder );
+		ok = ok & checkOptionalParameter( settings, KEY_SHARED_DAEMON, Boolean.class, errorHolder );
+		ok = ok & checkOptionalParameter( settings, KEY_SERVER_IDLE_TIMEOUT, Integer.class, errorHolder );
+		ok = ok & checkOptionalParameter( settings, KEY_SERVER_MAX_RSS, Integer.class, errorHolder );
+		ok = ok & checkOptionalParameter( settings, KEY_THREAD_BUDGET, Boolean.class, errorHolder );
 		// If we have a logger, test it is of the right class.
 		final Object loggerObj = settings.get( KEY_LOGGER );
 		if ( loggerObj != null && !Logger.class.isInstance( loggerObj ) )
@@ -355,6 +1044,18 @@ public class LacssDetectorFactory< T extends RealType< T > & NativeType< T > > i
 				KEY_DETECTION_THRESHOLD);
 		final List< String > optionalKeys = Arrays.asList(
 				KEY_LACSS_CUSTOM_MODEL_FILEPATH,
+				KEY_SHARED_MEMORY,
+				KEY_FRAMES_IN_FLIGHT,
+				KEY_SCORE_MODE,
+				KEY_DEFLATE_LEVEL,
+				KEY_SERVER_POOL_SIZE,
+				KEY_SHAPE_BUCKET,
+				KEY_SERVER_MEMORY_BUDGET,
+				KEY_FRAME_TIMEOUT,
+				KEY_SHARED_DAEMON,
+				KEY_SERVER_IDLE_TIMEOUT,
+				KEY_SERVER_MAX_RSS,
+				KEY_THREAD_BUDGET,
 				KEY_LOGGER );
 		ok = ok & checkMapKeys( settings, mandatoryKeys, optionalKeys, errorHolder );
 		if ( !ok )
@@ -396,6 +1097,8 @@ public class LacssDetectorFactory< T extends RealType< T > & NativeType< T > > i
 	@Override
 	public SpotDetectorFactoryBase< T > copy()
 	{
-		return new LacssDetectorFactory<>();
+		final LacssDetectorFactory< T > copy = new LacssDetectorFactory<>();
+		copy.trackmateSettings = trackmateSettings;
+		return copy;
 	}    
 }
@@ -0,0 +1,519 @@
+package fiji.plugin.trackmate.lacss;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import fiji.plugin.trackmate.lacss.LacssMsg.DType;
+import net.imglib2.Cursor;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.util.Util;
+import net.imglib2.view.Views;
+
+/**
+ * Streams {@link LacssMsg.Input} messages to the Lacss server.
+ * <p>
+ * The message is never materialized: the header fields are written directly
+ * with a {@link CodedOutputStream} and the pixel payload is pushed through a
+ * small chunk buffer that is reused from one frame to the next. Encoding a
+ * frame therefore costs no per-pixel allocation and no full-frame copy. The
+ * bytes on the wire are those of a regular serialized <code>Input</code>
+ * message, fields in field-number order.
+ * <p>
+ * Pixels are sent in their native dtype when the server accepts it (8- and
+ * 16-bit unsigned integers), and as float32 otherwise. Multi-byte samples are
+ * written little-endian, which is what the server's numpy arrays use
+ * natively, and the {@code little_endian} flag of the image is set
+ * accordingly. Servers that predate the handshake get big-endian float32, as
+ * they always did. Servers that can are asked for per-instance results,
+ * preferably as contours.
+ * <p>
+ * Frames larger than {@link #MAX_MESSAGE_DATA} are sent as a header message
+ * followed by a sequence of bounded <code>Chunk</code> messages, if the
+ * server supports it, so that no message exceeds the protobuf size limit and
+ * no frame-sized buffer is needed on either side.
+ * <p>
+ * Frames can also be deflated before they are sent, for servers that accept
+ * it. This only pays off when the transfer, not the inference, is the
+ * bottleneck, e.g. for a server on another machine. Frames that do not
+ * shrink are sent as they are.
+ * <p>
+ * When a {@link LacssSharedMemory} is given, the pixels are written straight
+ * into its mapped input file and the message only carries the file path; the
+ * server is asked to return its results through the shared result file too.
+ * <p>
+ * Instances are not thread-safe; use one writer per server stream.
+ */
+public class LacssInputWriter
+{
+
+	/** Size of the reusable pixel buffer. Must be a multiple of 8. */
+	private static final int CHUNK_SIZE = 1 << 16;
+
+	/**
+	 * Frames with more pixel data than this are sent in chunks. Well below the
+	 * 2 GB protobuf limit.
+	 */
+	public static final long MAX_MESSAGE_DATA = 1L << 30;
+
+	/**
+	 * Pixel data per <code>Chunk</code> message. Must be a multiple of
+	 * {@link #CHUNK_SIZE}.
+	 */
+	private static final int CHUNK_MESSAGE_DATA = 1 << 24;
+
+	/**
+	 * Largest deflate buffer kept between frames, so that one large frame
+	 * does not pin its size in memory for the rest of the session.
+	 */
+	private static final int MAX_KEPT_COMPRESSED = 1 << 24;
+
+	private final byte[] chunk = new byte[ CHUNK_SIZE ];
+
+	private final ByteBuffer chunkBuffer = ByteBuffer.wrap( chunk );
+
+	private final LacssServerInfo server;
+
+	private final Deflater deflater = new Deflater();
+
+	/** Reusable buffer for deflated frames, grown as needed. */
+	private byte[] compressed = new byte[ CHUNK_SIZE ];
+
+	/**
+	 * Creates a writer for the specified server.
+	 *
+	 * @param server
+	 *            what the server reported in the handshake.
+	 */
+	public LacssInputWriter( final LacssServerInfo server )
+	{
+		this.server = server;
+		chunkBuffer.order( server.supportsLittleEndian() ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN );
+	}
+
+	/**
+	 * Writes the <code>Hello</code> message that opens a session. It also
+	 * tells the server that 32-bit, chunked and run-length encoded label
+	 * images can be read.
+	 *
+	 * @param out
+	 *            the server input stream.
+	 * @param daemon
+	 *            whether to ask the server to outlive its pipes and serve
+	 *            other clients on its socket.
+	 * @param token
+	 *            the token the server was started with, <code>null</code> if
+	 *            none.
+	 * @throws IOException
+	 *             if the message cannot be written.
+	 */
+	public static void writeHello( final DataOutputStream out, final boolean daemon, final String token ) throws IOException
+	{
+		final boolean hasToken = token != null && !token.isEmpty();
+		final int helloSize = CodedOutputStream.computeUInt32Size( LacssMsg.Hello.PROTOCOL_VERSION_FIELD_NUMBER, LacssProtocol.PROTOCOL_VERSION )
+				+ CodedOutputStream.computeBoolSize( LacssMsg.Hello.UINT32_LABELS_FIELD_NUMBER, true )
+				+ CodedOutputStream.computeBoolSize( LacssMsg.Hello.CHUNKED_RESULTS_FIELD_NUMBER, true )
+				+ CodedOutputStream.computeBoolSize( LacssMsg.Hello.RLE_LABELS_FIELD_NUMBER, true )
+				+ ( daemon ? CodedOutputStream.computeBoolSize( LacssMsg.Hello.DAEMON_FIELD_NUMBER, true ) : 0 )
+				+ ( hasToken ? CodedOutputStream.computeStringSize( LacssMsg.Hello.TOKEN_FIELD_NUMBER, token ) : 0 );
+		final int inputSize = CodedOutputStream.computeTagSize( LacssMsg.Input.HELLO_FIELD_NUMBER )
+				+ CodedOutputStream.computeUInt32SizeNoTag( helloSize )
+				+ helloSize;
+
+		out.writeInt( inputSize );
+		final CodedOutputStream cos = CodedOutputStream.newInstance( out );
+		cos.writeTag( LacssMsg.Input.HELLO_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED );
+		cos.writeUInt32NoTag( helloSize );
+		cos.writeUInt32( LacssMsg.Hello.PROTOCOL_VERSION_FIELD_NUMBER, LacssProtocol.PROTOCOL_VERSION );
+		cos.writeBool( LacssMsg.Hello.UINT32_LABELS_FIELD_NUMBER, true );
+		cos.writeBool( LacssMsg.Hello.CHUNKED_RESULTS_FIELD_NUMBER, true );
+		cos.writeBool( LacssMsg.Hello.RLE_LABELS_FIELD_NUMBER, true );
+		if ( daemon )
+			cos.writeBool( LacssMsg.Hello.DAEMON_FIELD_NUMBER, true );
+		if ( hasToken )
+			cos.writeString( LacssMsg.Hello.TOKEN_FIELD_NUMBER, token );
+		cos.flush();
+		out.flush();
+	}
+
+	/**
+	 * Writes a <code>Configure</code> message that registers settings under an
+	 * id. The server does not answer it.
+	 *
+	 * @param out
+	 *            the server input stream.
+	 * @param settingsId
+	 *            the id later frames will refer to.
+	 * @param settings
+	 *            the detection settings.
+	 * @throws IOException
+	 *             if the message cannot be written.
+	 */
+	public void writeConfigure( final DataOutputStream out, final int settingsId, final LacssMsg.Settings settings ) throws IOException
+	{
+		final int configureSize = CodedOutputStream.computeUInt32Size( LacssMsg.Configure.SETTINGS_ID_FIELD_NUMBER, settingsId )
+				+ CodedOutputStream.computeMessageSize( LacssMsg.Configure.SETTINGS_FIELD_NUMBER, settings );
+		final int inputSize = CodedOutputStream.computeTagSize( LacssMsg.Input.CONFIGURE_FIELD_NUMBER )
+				+ CodedOutputStream.computeUInt32SizeNoTag( configureSize )
+				+ configureSize;
+
+		out.writeInt( inputSize );
+		final CodedOutputStream cos = CodedOutputStream.newInstance( out );
+		cos.writeTag( LacssMsg.Input.CONFIGURE_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED );
+		cos.writeUInt32NoTag( configureSize );
+		cos.writeUInt32( LacssMsg.Configure.SETTINGS_ID_FIELD_NUMBER, settingsId );
+		cos.writeMessage( LacssMsg.Configure.SETTINGS_FIELD_NUMBER, settings );
+		cos.flush();
+		out.flush();
+	}
+
+	/**
+	 * Writes a <code>Cancel</code> message that aborts a frame sent earlier.
+	 *
+	 * @param out
+	 *            the server input stream.
+	 * @param requestId
+	 *            the id of the frame to abort.
+	 * @throws IOException
+	 *             if the message cannot be written.
+	 */
+	public void writeCancel( final DataOutputStream out, final long requestId ) throws IOException
+	{
+		final int cancelSize = CodedOutputStream.computeUInt64Size( LacssMsg.Cancel.REQUEST_ID_FIELD_NUMBER, requestId );
+		final int inputSize = CodedOutputStream.computeTagSize( LacssMsg.Input.CANCEL_FIELD_NUMBER )
+				+ CodedOutputStream.computeUInt32SizeNoTag( cancelSize )
+				+ cancelSize;
+
+		out.writeInt( inputSize );
+		final CodedOutputStream cos = CodedOutputStream.newInstance( out );
+		cos.writeTag( LacssMsg.Input.CANCEL_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED );
+		cos.writeUInt32NoTag( cancelSize );
+		cos.writeUInt64( LacssMsg.Cancel.REQUEST_ID_FIELD_NUMBER, requestId );
+		cos.flush();
+		out.flush();
+	}
+
+	/**
+	 * Writes one length-prefixed {@link LacssMsg.Input} message.
+	 *
+	 * @param out
+	 *            the server input stream.
+	 * @param crop
+	 *            the pixels to send, in flat iteration order.
+	 * @param height
+	 *            the image height.
+	 * @param width
+	 *            the image width.
+	 * @param channels
+	 *            the number of channels.
+	 * @param settings
+	 *            the detection settings, or <code>null</code> to refer to
+	 *            settings registered with {@link #writeConfigure}.
+	 * @param settingsId
+	 *            the id of the registered settings, if <code>settings</code>
+	 *            is <code>null</code>.
+	 * @param sharedMemory
+	 *            the shared memory to exchange pixels through, or
+	 *            <code>null</code> to send them in the message.
+	 * @param requestId
+	 *            the id the server will echo in its result.
+	 * @param scoreMode
+	 *            how the server returns scores, one of the
+	 *            <code>*_VALUE</code> constants of {@link LacssMsg.ScoreMode}.
+	 * @param deflateLevel
+	 *            the deflate level, 1 to 9, to compress the pixels with, or 0
+	 *            to send them as they are. Ignored if the server does not
+	 *            accept deflated images, and for frames sent through shared
+	 *            memory or in chunks.
+	 * @throws IOException
+	 *             if the frame cannot be written.
+	 */
+	public < T extends RealType< T > > void write(
+			final DataOutputStream out,
+			final RandomAccessibleInterval< T > crop,
+			final long height,
+			final long width,
+			final long channels,
+			final LacssMsg.Settings settings,
+			final int settingsId,
+			final LacssSharedMemory sharedMemory,
+			final long requestId,
+			final int scoreMode,
+			final int deflateLevel ) throws IOException
+	{
+		final DType dtype = server.dtypeFor( LacssProtocol.nativeDType( Util.getTypeFromInterval( crop ) ) );
+		final boolean littleEndian = server.supportsLittleEndian();
+		final int resultFormat = server.supportsPolygonResults()
+				? LacssMsg.ResultFormat.POLYGON_VALUE
+				: server.supportsSparseResults()
+						? LacssMsg.ResultFormat.SPARSE_VALUE
+						: LacssMsg.ResultFormat.DENSE_VALUE;
+		final long dataSize = height * width * channels * LacssProtocol.getBytes( dtype );
+		final boolean chunked = dataSize > MAX_MESSAGE_DATA && server.supportsChunkedFrames();
+		if ( !chunked && dataSize > ( sharedMemory == null ? MAX_MESSAGE_DATA : Integer.MAX_VALUE ) )
+			throw new IOException( "Frame is too large to be sent in one message: " + dataSize + " bytes." );
+
+		final String shmPath;
+		final String resultShmPath;
+		final long payloadSize;
+		int compression = LacssMsg.Compression.NONE_VALUE;
+		if ( chunked )
+		{
+			// Mapped buffers cannot span more than 2 GB either.
+			shmPath = "";
+			resultShmPath = "";
+			payloadSize = 0;
+		}
+		else if ( sharedMemory != null )
+		{
+			final ByteBuffer buffer = sharedMemory.mapInput( dataSize ).order( chunkBuffer.order() );
+			final Cursor< T > cursor = Views.flatIterable( crop ).cursor();
+			while ( cursor.hasNext() )
+				putPixel( buffer, cursor.next(), dtype );
+
+			shmPath = sharedMemory.getInputPath();
+			resultShmPath = sharedMemory.getResultPath();
+			payloadSize = 0;
+		}
+		else
+		{
+			shmPath = "";
+			resultShmPath = "";
+			final long deflated = ( deflateLevel > 0 && server.supportsDeflateImages() )
+					? deflate( Views.flatIterable( crop ).cursor(), dtype, dataSize, deflateLevel )
+					: dataSize;
+			// Incompressible frames are sent as they are.
+			if ( deflated < dataSize )
+				compression = LacssMsg.Compression.DEFLATE_VALUE;
+			payloadSize = Math.min( deflated, dataSize );
+		}
+
+		// Sizes as longs: near 2 GB an int would silently wrap around.
+		final long imageSize = computeImageHeaderSize( height, width, channels, dtype, payloadSize, littleEndian, shmPath, chunked, compression ) + payloadSize;
+		final long inputSize = ( settings == null ? 0 : CodedOutputStream.computeMessageSize( LacssMsg.Input.SETTINGS_FIELD_NUMBER, settings ) )
+				+ CodedOutputStream.computeTagSize( LacssMsg.Input.IMAGE_FIELD_NUMBER )
+				+ CodedOutputStream.computeUInt64SizeNoTag( imageSize )
+				+ imageSize
+				+ computeStringSize( LacssMsg.Input.RESULT_SHM_PATH_FIELD_NUMBER, resultShmPath )
+				+ computeUInt64Size( LacssMsg.Input.REQUEST_ID_FIELD_NUMBER, requestId )
+				+ ( settings == null ? computeUInt64Size( LacssMsg.Input.SETTINGS_ID_FIELD_NUMBER, settingsId ) : 0 )
+				+ computeEnumSize( LacssMsg.Input.RESULT_FORMAT_FIELD_NUMBER, resultFormat )
+				+ computeEnumSize( LacssMsg.Input.SCORE_MODE_FIELD_NUMBER, scoreMode );
+		if ( inputSize > MAX_MESSAGE_DATA + CHUNK_SIZE ) // Pixels plus headers.
+			throw new IOException( "Frame is too large to be sent in one message: " + inputSize + " bytes." );
+
+		out.writeInt( ( int ) inputSize );
+
+		final Cursor< T > cursor = Views.flatIterable( crop ).cursor();
+		final CodedOutputStream cos = CodedOutputStream.newInstance( out, CHUNK_SIZE );
+		if ( settings != null )
+			cos.writeMessage( LacssMsg.Input.SETTINGS_FIELD_NUMBER, settings );
+		cos.writeTag( LacssMsg.Input.IMAGE_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED );
+		cos.writeUInt32NoTag( ( int ) imageSize );
+		writeUInt64( cos, LacssMsg.Image.HEIGHT_FIELD_NUMBER, height );
+		writeUInt64( cos, LacssMsg.Image.WIDTH_FIELD_NUMBER, width );
+		writeUInt64( cos, LacssMsg.Image.CHANNEL_FIELD_NUMBER, channels );
+		writeEnum( cos, LacssMsg.Image.DTYPE_FIELD_NUMBER, dtype.getNumber() );
+		if ( payloadSize > 0 )
+		{
+			cos.writeTag( LacssMsg.Image.DATA_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED );
+			cos.writeUInt32NoTag( ( int ) payloadSize );
+			if ( compression == LacssMsg.Compression.DEFLATE_VALUE )
+				cos.writeRawBytes( compressed, 0, ( int ) payloadSize );
+			else
+				writePixels( cos, cursor, dtype, payloadSize );
+		}
+		if ( littleEndian )
+			cos.writeBool( LacssMsg.Image.LITTLE_ENDIAN_FIELD_NUMBER, true );
+		writeString( cos, LacssMsg.Image.SHM_PATH_FIELD_NUMBER, shmPath );
+		if ( chunked )
+			cos.writeBool( LacssMsg.Image.CHUNKED_FIELD_NUMBER, true );
+		writeEnum( cos, LacssMsg.Image.COMPRESSION_FIELD_NUMBER, compression );
+		writeString( cos, LacssMsg.Input.RESULT_SHM_PATH_FIELD_NUMBER, resultShmPath );
+		writeUInt64( cos, LacssMsg.Input.REQUEST_ID_FIELD_NUMBER, requestId );
+		if ( settings == null )
+			writeUInt64( cos, LacssMsg.Input.SETTINGS_ID_FIELD_NUMBER, settingsId );
+		writeEnum( cos, LacssMsg.Input.RESULT_FORMAT_FIELD_NUMBER, resultFormat );
+		writeEnum( cos, LacssMsg.Input.SCORE_MODE_FIELD_NUMBER, scoreMode );
+		cos.flush();
+
+		if ( chunked )
+			writeChunks( out, cursor, dtype, dataSize, requestId );
+		out.flush();
+
+		if ( compressed.length > MAX_KEPT_COMPRESSED )
+			compressed = new byte[ CHUNK_SIZE ];
+	}
+
+	/**
+	 * Writes the pixels of a chunked frame, each chunk in its own
+	 * length-prefixed <code>Input</code> message.
+	 */
+	private < T extends RealType< T > > void writeChunks( final DataOutputStream out, final Cursor< T > cursor, final DType dtype, final long dataSize, final long requestId ) throws IOException
+	{
+		for ( long offset = 0; offset < dataSize; offset += CHUNK_MESSAGE_DATA )
+		{
+			final int length = ( int ) Math.min( CHUNK_MESSAGE_DATA, dataSize - offset );
+			final int chunkSize = computeUInt64Size( LacssMsg.Chunk.OFFSET_FIELD_NUMBER, offset )
+					+ CodedOutputStream.computeTagSize( LacssMsg.Chunk.DATA_FIELD_NUMBER )
+					+ CodedOutputStream.computeUInt32SizeNoTag( length )
+					+ length;
+			final int inputSize = computeUInt64Size( LacssMsg.Input.REQUEST_ID_FIELD_NUMBER, requestId )
+					+ CodedOutputStream.computeTagSize( LacssMsg.Input.CHUNK_FIELD_NUMBER )
+					+ CodedOutputStream.computeUInt32SizeNoTag( chunkSize )
+					+ chunkSize;
+
+			out.writeInt( inputSize );
+			final CodedOutputStream cos = CodedOutputStream.newInstance( out, CHUNK_SIZE );
+			writeUInt64( cos, LacssMsg.Input.REQUEST_ID_FIELD_NUMBER, requestId );
+			cos.writeTag( LacssMsg.Input.CHUNK_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED );
+			cos.writeUInt32NoTag( chunkSize );
+			writeUInt64( cos, LacssMsg.Chunk.OFFSET_FIELD_NUMBER, offset );
+			cos.writeTag( LacssMsg.Chunk.DATA_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED );
+			cos.writeUInt32NoTag( length );
+			writePixels( cos, cursor, dtype, length );
+			cos.flush();
+		}
+	}
+
+	/**
+	 * Deflates the pixels into {@link #compressed}.
+	 *
+	 * @return the number of compressed bytes.
+	 */
+	private < T extends RealType< T > > int deflate( final Cursor< T > cursor, final DType dtype, final long nBytes, final int level ) throws IOException
+	{
+		deflater.reset();
+		deflater.setLevel( Math.min( level, Deflater.BEST_COMPRESSION ) );
+		int size = 0;
+		chunkBuffer.clear();
+		for ( long written = 0; written < nBytes; written += LacssProtocol.getBytes( dtype ) )
+		{
+			putPixel( chunkBuffer, cursor.next(), dtype );
+			if ( !chunkBuffer.hasRemaining() )
+			{
+				deflater.setInput( chunk, 0, chunkBuffer.position() );
+				size = drainDeflater( size, false );
+				chunkBuffer.clear();
+			}
+		}
+		deflater.setInput( chunk, 0, chunkBuffer.position() );
+		deflater.finish();
+		return drainDeflater( size, true );
+	}
+
+	/**
+	 * Deflates the pending input into {@link #compressed}, after
+	 * <code>size</code> bytes, until the deflater needs more input or, if
+	 * <code>finishing</code>, until the stream is complete.
+	 */
+	private int drainDeflater( int size, final boolean finishing ) throws IOException
+	{
+		while ( finishing ? !deflater.finished() : !deflater.needsInput() )
+		{
+			if ( size == compressed.length )
+			{
+				if ( size == Integer.MAX_VALUE )
+					throw new IOException( "Deflated frame is too large to be sent in one message." );
+				compressed = Arrays.copyOf( compressed, ( int ) Math.min( Integer.MAX_VALUE, 2L * size ) );
+			}
+			size += deflater.deflate( compressed, size, compressed.length - size );
+		}
+		return size;
+	}
+
+	/**
+	 * Writes the next <code>nBytes</code> bytes of pixels from the cursor.
+	 */
+	private < T extends RealType< T > > void writePixels( final CodedOutputStream cos, final Cursor< T > cursor, final DType dtype, final long nBytes ) throws IOException
+	{
+		chunkBuffer.clear();
+		for ( long written = 0; written < nBytes; written += LacssProtocol.getBytes( dtype ) )
+		{
+			putPixel( chunkBuffer, cursor.next(), dtype );
+			if ( !chunkBuffer.hasRemaining() )
+			{
+				cos.writeRawBytes( chunk, 0, chunkBuffer.position() );
+				chunkBuffer.clear();
+			}
+		}
+		if ( chunkBuffer.position() > 0 )
+			cos.writeRawBytes( chunk, 0, chunkBuffer.position() );
+	}
+
+	private static < T extends RealType< T > > void putPixel( final ByteBuffer buffer, final T p, final DType dtype )
+	{
+		switch ( dtype )
+		{
+		case UINT8:
+			buffer.put( ( byte ) ( int ) p.getRealDouble() );
+			break;
+		case UINT16:
+			buffer.putShort( ( short ) ( int ) p.getRealDouble() );
+			break;
+		case FLOAT32:
+			buffer.putFloat( p.getRealFloat() );
+			break;
+		default:
+			throw new IllegalArgumentException( "Unsupported dtype: " + dtype );
+		}
+	}
+
+	private static int computeImageHeaderSize( final long height, final long width, final long channels, final DType dtype, final long dataSize, final boolean littleEndian, final String shmPath, final boolean chunked, final int compression )
+	{
+		return computeUInt64Size( LacssMsg.Image.HEIGHT_FIELD_NUMBER, height )
+				+ computeUInt64Size( LacssMsg.Image.WIDTH_FIELD_NUMBER, width )
+				+ computeUInt64Size( LacssMsg.Image.CHANNEL_FIELD_NUMBER, channels )
+				+ computeEnumSize( LacssMsg.Image.DTYPE_FIELD_NUMBER, dtype.getNumber() )
+				+ ( dataSize == 0 ? 0 : CodedOutputStream.computeTagSize( LacssMsg.Image.DATA_FIELD_NUMBER )
+						+ CodedOutputStream.computeUInt64SizeNoTag( dataSize ) )
+				+ ( littleEndian ? CodedOutputStream.computeBoolSize( LacssMsg.Image.LITTLE_ENDIAN_FIELD_NUMBER, true ) : 0 )
+				+ computeStringSize( LacssMsg.Image.SHM_PATH_FIELD_NUMBER, shmPath )
+				+ ( chunked ? CodedOutputStream.computeBoolSize( LacssMsg.Image.CHUNKED_FIELD_NUMBER, true ) : 0 )
+				+ computeEnumSize( LacssMsg.Image.COMPRESSION_FIELD_NUMBER, compression );
+	}
+
+	/*
+	 * proto3 does not serialize scalar fields that hold their default value.
+	 */
+
+	private static int computeUInt64Size( final int field, final long value )
+	{
+		return value == 0 ? 0 : CodedOutputStream.computeUInt64Size( field, value );
+	}
+
+	private static int computeEnumSize( final int field, final int value )
+	{
+		return value == 0 ? 0 : CodedOutputStream.computeEnumSize( field, value );
+	}
+
+	private static int computeStringSize( final int field, final String value )
+	{
+		return value.isEmpty() ? 0 : CodedOutputStream.computeStringSize( field, value );
+	}
+
+	private static void writeUInt64( final CodedOutputStream cos, final int field, final long value ) throws IOException
+	{
+		if ( value != 0 )
+			cos.writeUInt64( field, value );
+	}
+
+	private static void writeEnum( final CodedOutputStream cos, final int field, final int value ) throws IOException
+	{
+		if ( value != 0 )
+			cos.writeEnum( field, value );
+	}
+
+	private static void writeString( final CodedOutputStream cos, final int field, final String value ) throws IOException
+	{
+		if ( !value.isEmpty() )
+			cos.writeString( field, value );
+	}
+}
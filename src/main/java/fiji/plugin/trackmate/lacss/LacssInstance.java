@@ -0,0 +1,104 @@
+package fiji.plugin.trackmate.lacss;
+
+import java.util.Arrays;
+
+import net.imglib2.img.array.ArrayImg;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.img.basictypeaccess.array.ByteArray;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
+
+/**
+ * One detected cell of a sparse <code>Result</code>: its bounding box, its
+ * run-length encoded mask within the box or its contour, and its score.
+ * Coordinates are in pixels of the image sent to the server.
+ */
+public class LacssInstance
+{
+
+	public final int label;
+
+	/** Bounding box, min inclusive. */
+	public final int x0, y0;
+
+	/** Bounding box, max exclusive. */
+	public final int x1, y1;
+
+	/**
+	 * Alternating run lengths of background and foreground pixels, row by
+	 * row, starting with background.
+	 */
+	private final int[] maskRle;
+
+	/**
+	 * Contour vertices as packed x, y pairs on pixel boundaries, or
+	 * <code>null</code> if the server sent the mask instead.
+	 */
+	private final float[] polygon;
+
+	public final float score;
+
+	public LacssInstance( final int label, final int x0, final int y0, final int x1, final int y1, final int[] maskRle, final float[] polygon, final float score )
+	{
+		this.label = label;
+		this.x0 = x0;
+		this.y0 = y0;
+		this.x1 = x1;
+		this.y1 = y1;
+		this.maskRle = maskRle;
+		this.polygon = polygon;
+		this.score = score;
+	}
+
+	public int width()
+	{
+		return x1 - x0;
+	}
+
+	public int height()
+	{
+		return y1 - y0;
+	}
+
+	public boolean hasPolygon()
+	{
+		return polygon != null;
+	}
+
+	/**
+	 * Returns the number of contour vertices, 0 if there is no contour.
+	 */
+	public int nVertices()
+	{
+		return ( polygon == null ) ? 0 : polygon.length / 2;
+	}
+
+	public double getVertexX( final int i )
+	{
+		return polygon[ 2 * i ];
+	}
+
+	public double getVertexY( final int i )
+	{
+		return polygon[ 2 * i + 1 ];
+	}
+
+	/**
+	 * Decodes the mask into an image the size of the bounding box, with 1 for
+	 * the pixels of the cell and 0 elsewhere.
+	 */
+	public ArrayImg< UnsignedByteType, ByteArray > getMask()
+	{
+		final byte[] data = new byte[ width() * height() ];
+		int pos = 0;
+		boolean foreground = false;
+		for ( final int run : maskRle )
+		{
+			final int end = Math.min( pos + run, data.length );
+			if ( foreground )
+				Arrays.fill( data, pos, end, ( byte ) 1 );
+			pos = end;
+			foreground = !foreground;
+		}
+		return ArrayImgs.unsignedBytes( data, width(), height() );
+	}
+}
@@ -20,24 +20,40 @@ public final class LacssMsg {
   public enum DType
       implements com.google.protobuf.ProtocolMessageEnum {
     /**
-     * <pre>
-     * enforce float32 for now
-     * </pre>
-     *
      * <code>FLOAT32 = 0;</code>
      */
     FLOAT32(0),
+    /**
+     * <code>UINT8 = 1;</code>
+     */
+    UINT8(1),
+    /**
+     * <code>UINT16 = 2;</code>
+     */
+    UINT16(2),
+    /**
+     * <code>FLOAT16 = 3;</code>
+     */
+    FLOAT16(3),
     UNRECOGNIZED(-1),
     ;
 
     /**
-     * <pre>
-     * enforce float32 for now
-     * </pre>
-     *
      * <code>FLOAT32 = 0;</code>
      */
     public static final int FLOAT32_VALUE = 0;
+    /**
+     * <code>UINT8 = 1;</code>
+     */
+    public static final int UINT8_VALUE = 1;
+    /**
+     * <code>UINT16 = 2;</code>
+     */
+    public static final int UINT16_VALUE = 2;
+    /**
+     * <code>FLOAT16 = 3;</code>
+     */
+    public static final int FLOAT16_VALUE = 3;
 
 
     public final int getNumber() {
@@ -65,6 +81,9 @@ public final class LacssMsg {
     public static DType forNumber(int value) {
       switch (value) {
         case 0: return FLOAT32;
+        case 1: return UINT8;
+        case 2: return UINT16;
+        case 3: return FLOAT16;
         default: return null;
       }
     }
@@ -121,502 +140,9909 @@ public final class LacssMsg {
     // @@protoc_insertion_point(enum_scope:trackmate.lacss.DType)
   }
 
-  public interface ImageOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:trackmate.lacss.Image)
-      com.google.protobuf.MessageOrBuilder {
-
+  /**
+   * <pre>
+   * What the server returns for each frame.
+   * </pre>
+   *
+   * Protobuf enum {@code trackmate.lacss.ResultFormat}
+   */
+  public enum ResultFormat
+      implements com.google.protobuf.ProtocolMessageEnum {
     /**
-     * <code>uint64 height = 1;</code>
-     * @return The height.
+     * <pre>
+     * full-frame label and score images
+     * </pre>
+     *
+     * <code>DENSE = 0;</code>
      */
-    long getHeight();
-
+    DENSE(0),
     /**
-     * <code>uint64 width = 2;</code>
-     * @return The width.
+     * <pre>
+     * one Instance per detected cell
+     * </pre>
+     *
+     * <code>SPARSE = 1;</code>
      */
-    long getWidth();
-
+    SPARSE(1),
     /**
-     * <code>uint64 channel = 3;</code>
-     * @return The channel.
+     * <pre>
+     * one Instance per detected cell, with its contour only
+     * </pre>
+     *
+     * <code>POLYGON = 2;</code>
      */
-    long getChannel();
+    POLYGON(2),
+    UNRECOGNIZED(-1),
+    ;
 
     /**
-     * <code>.trackmate.lacss.DType dtype = 4;</code>
-     * @return The enum numeric value on the wire for dtype.
+     * <pre>
+     * full-frame label and score images
+     * </pre>
+     *
+     * <code>DENSE = 0;</code>
      */
-    int getDtypeValue();
+    public static final int DENSE_VALUE = 0;
     /**
-     * <code>.trackmate.lacss.DType dtype = 4;</code>
-     * @return The dtype.
+     * <pre>
+     * one Instance per detected cell
+     * </pre>
+     *
+     * <code>SPARSE = 1;</code>
      */
-    fiji.plugin.trackmate.lacss.LacssMsg.DType getDtype();
-
+    public static final int SPARSE_VALUE = 1;
     /**
-     * <code>bytes data = 5;</code>
-     * @return The data.
+     * <pre>
+     * one Instance per detected cell, with its contour only
+     * </pre>
+     *
+     * <code>POLYGON = 2;</code>
      */
-    com.google.protobuf.ByteString getData();
-  }
-  /**
-   * Protobuf type {@code trackmate.lacss.Image}
-   */
-  public static final class Image extends
-      com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:trackmate.lacss.Image)
-      ImageOrBuilder {
-  private static final long serialVersionUID = 0L;
-    // Use Image.newBuilder() to construct.
-    private Image(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
-      super(builder);
-    }
-    private Image() {
-      dtype_ = 0;
-      data_ = com.google.protobuf.ByteString.EMPTY;
-    }
+    public static final int POLYGON_VALUE = 2;
 
-    @java.lang.Override
-    @SuppressWarnings({"unused"})
-    protected java.lang.Object newInstance(
-        UnusedPrivateParameter unused) {
-      return new Image();
-    }
 
-    @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private Image(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      if (extensionRegistry == null) {
-        throw new java.lang.NullPointerException();
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
       }
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            case 8: {
-
-              height_ = input.readUInt64();
-              break;
-            }
-            case 16: {
+      return value;
+    }
 
-              width_ = input.readUInt64();
-              break;
-            }
-            case 24: {
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static ResultFormat valueOf(int value) {
+      return forNumber(value);
+    }
 
-              channel_ = input.readUInt64();
-              break;
-            }
-            case 32: {
-              int rawValue = input.readEnum();
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static ResultFormat forNumber(int value) {
+      switch (value) {
+        case 0: return DENSE;
+        case 1: return SPARSE;
+        case 2: return POLYGON;
+        default: return null;
+      }
+    }
 
-              dtype_ = rawValue;
-              break;
+    public static com.google.protobuf.Internal.EnumLiteMap<ResultFormat>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        ResultFormat> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ResultFormat>() {
+            public ResultFormat findValueByNumber(int number) {
+              return ResultFormat.forNumber(number);
             }
-            case 42: {
+          };
 
-              data_ = input.readBytes();
-              break;
-            }
-            default: {
-              if (!parseUnknownField(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
       }
+      return getDescriptor().getValues().get(ordinal());
     }
-    public static final com.google.protobuf.Descriptors.Descriptor
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
         getDescriptor() {
-      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Image_descriptor;
+      return fiji.plugin.trackmate.lacss.LacssMsg.getDescriptor().getEnumTypes().get(1);
     }
 
-    @java.lang.Override
-    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Image_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              fiji.plugin.trackmate.lacss.LacssMsg.Image.class, fiji.plugin.trackmate.lacss.LacssMsg.Image.Builder.class);
+    private static final ResultFormat[] VALUES = values();
+
+    public static ResultFormat valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
     }
 
-    public static final int HEIGHT_FIELD_NUMBER = 1;
-    private long height_;
-    /**
-     * <code>uint64 height = 1;</code>
-     * @return The height.
-     */
-    @java.lang.Override
-    public long getHeight() {
-      return height_;
+    private final int value;
+
+    private ResultFormat(int value) {
+      this.value = value;
     }
 
-    public static final int WIDTH_FIELD_NUMBER = 2;
-    private long width_;
+    // @@protoc_insertion_point(enum_scope:trackmate.lacss.ResultFormat)
+  }
+
+  /**
+   * Protobuf enum {@code trackmate.lacss.LabelType}
+   */
+  public enum LabelType
+      implements com.google.protobuf.ProtocolMessageEnum {
     /**
-     * <code>uint64 width = 2;</code>
-     * @return The width.
+     * <code>INT16 = 0;</code>
      */
-    @java.lang.Override
-    public long getWidth() {
-      return width_;
-    }
-
-    public static final int CHANNEL_FIELD_NUMBER = 3;
-    private long channel_;
+    INT16(0),
     /**
-     * <code>uint64 channel = 3;</code>
-     * @return The channel.
+     * <pre>
+     * only sent to clients that accept it in their Hello
+     * </pre>
+     *
+     * <code>UINT32 = 1;</code>
      */
-    @java.lang.Override
-    public long getChannel() {
-      return channel_;
-    }
+    UINT32(1),
+    UNRECOGNIZED(-1),
+    ;
 
-    public static final int DTYPE_FIELD_NUMBER = 4;
-    private int dtype_;
     /**
-     * <code>.trackmate.lacss.DType dtype = 4;</code>
-     * @return The enum numeric value on the wire for dtype.
+     * <code>INT16 = 0;</code>
      */
-    @java.lang.Override public int getDtypeValue() {
-      return dtype_;
-    }
+    public static final int INT16_VALUE = 0;
     /**
-     * <code>.trackmate.lacss.DType dtype = 4;</code>
-     * @return The dtype.
+     * <pre>
+     * only sent to clients that accept it in their Hello
+     * </pre>
+     *
+     * <code>UINT32 = 1;</code>
      */
-    @java.lang.Override public fiji.plugin.trackmate.lacss.LacssMsg.DType getDtype() {
-      @SuppressWarnings("deprecation")
-      fiji.plugin.trackmate.lacss.LacssMsg.DType result = fiji.plugin.trackmate.lacss.LacssMsg.DType.valueOf(dtype_);
-      return result == null ? fiji.plugin.trackmate.lacss.LacssMsg.DType.UNRECOGNIZED : result;
+    public static final int UINT32_VALUE = 1;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
     }
 
-    public static final int DATA_FIELD_NUMBER = 5;
-    private com.google.protobuf.ByteString data_;
     /**
-     * <code>bytes data = 5;</code>
-     * @return The data.
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @java.lang.Override
-    public com.google.protobuf.ByteString getData() {
-      return data_;
+    @java.lang.Deprecated
+    public static LabelType valueOf(int value) {
+      return forNumber(value);
     }
 
-    private byte memoizedIsInitialized = -1;
-    @java.lang.Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static LabelType forNumber(int value) {
+      switch (value) {
+        case 0: return INT16;
+        case 1: return UINT32;
+        default: return null;
+      }
+    }
 
-      memoizedIsInitialized = 1;
-      return true;
+    public static com.google.protobuf.Internal.EnumLiteMap<LabelType>
+        internalGetValueMap() {
+      return internalValueMap;
     }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        LabelType> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<LabelType>() {
+            public LabelType findValueByNumber(int number) {
+              return LabelType.forNumber(number);
+            }
+          };
 
-    @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (height_ != 0L) {
-        output.writeUInt64(1, height_);
-      }
-      if (width_ != 0L) {
-        output.writeUInt64(2, width_);
-      }
-      if (channel_ != 0L) {
-        output.writeUInt64(3, channel_);
-      }
-      if (dtype_ != fiji.plugin.trackmate.lacss.LacssMsg.DType.FLOAT32.getNumber()) {
-        output.writeEnum(4, dtype_);
-      }
-      if (!data_.isEmpty()) {
-        output.writeBytes(5, data_);
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
       }
-      unknownFields.writeTo(output);
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return fiji.plugin.trackmate.lacss.LacssMsg.getDescriptor().getEnumTypes().get(2);
     }
 
-    @java.lang.Override
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
+    private static final LabelType[] VALUES = values();
 
-      size = 0;
-      if (height_ != 0L) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeUInt64Size(1, height_);
-      }
-      if (width_ != 0L) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeUInt64Size(2, width_);
-      }
-      if (channel_ != 0L) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeUInt64Size(3, channel_);
-      }
-      if (dtype_ != fiji.plugin.trackmate.lacss.LacssMsg.DType.FLOAT32.getNumber()) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeEnumSize(4, dtype_);
+    public static LabelType valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
-      if (!data_.isEmpty()) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(5, data_);
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
       }
-      size += unknownFields.getSerializedSize();
-      memoizedSize = size;
-      return size;
+      return VALUES[desc.getIndex()];
     }
 
-    @java.lang.Override
-    public boolean equals(final java.lang.Object obj) {
-      if (obj == this) {
-       return true;
-      }
-      if (!(obj instanceof fiji.plugin.trackmate.lacss.LacssMsg.Image)) {
-        return super.equals(obj);
-      }
-      fiji.plugin.trackmate.lacss.LacssMsg.Image other = (fiji.plugin.trackmate.lacss.LacssMsg.Image) obj;
+    private final int value;
 
-      if (getHeight()
-          != other.getHeight()) return false;
-      if (getWidth()
-          != other.getWidth()) return false;
-      if (getChannel()
-          != other.getChannel()) return false;
-      if (dtype_ != other.dtype_) return false;
-      if (!getData()
-          .equals(other.getData())) return false;
-      if (!unknownFields.equals(other.unknownFields)) return false;
-      return true;
+    private LabelType(int value) {
+      this.value = value;
     }
 
-    @java.lang.Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
+    // @@protoc_insertion_point(enum_scope:trackmate.lacss.LabelType)
+  }
+
+  /**
+   * Protobuf enum {@code trackmate.lacss.Compression}
+   */
+  public enum Compression
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>NONE = 0;</code>
+     */
+    NONE(0),
+    /**
+     * <pre>
+     * zlib stream of the raw bytes, Images only
+     * </pre>
+     *
+     * <code>DEFLATE = 1;</code>
+     */
+    DEFLATE(1),
+    /**
+     * <pre>
+     * varint (run length, value) pairs in flat order, Labels only
+     * </pre>
+     *
+     * <code>RLE = 2;</code>
+     */
+    RLE(2),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <code>NONE = 0;</code>
+     */
+    public static final int NONE_VALUE = 0;
+    /**
+     * <pre>
+     * zlib stream of the raw bytes, Images only
+     * </pre>
+     *
+     * <code>DEFLATE = 1;</code>
+     */
+    public static final int DEFLATE_VALUE = 1;
+    /**
+     * <pre>
+     * varint (run length, value) pairs in flat order, Labels only
+     * </pre>
+     *
+     * <code>RLE = 2;</code>
+     */
+    public static final int RLE_VALUE = 2;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
       }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + HEIGHT_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          getHeight());
-      hash = (37 * hash) + WIDTH_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          getWidth());
-      hash = (37 * hash) + CHANNEL_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          getChannel());
-      hash = (37 * hash) + DTYPE_FIELD_NUMBER;
-      hash = (53 * hash) + dtype_;
-      hash = (37 * hash) + DATA_FIELD_NUMBER;
-      hash = (53 * hash) + getData().hashCode();
-      hash = (29 * hash) + unknownFields.hashCode();
-      memoizedHashCode = hash;
-      return hash;
+      return value;
     }
 
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Image parseFrom(
-        java.nio.ByteBuffer data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static Compression valueOf(int value) {
+      return forNumber(value);
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Image parseFrom(
-        java.nio.ByteBuffer data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static Compression forNumber(int value) {
+      switch (value) {
+        case 0: return NONE;
+        case 1: return DEFLATE;
+        case 2: return RLE;
+        default: return null;
+      }
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Image parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
+
+    public static com.google.protobuf.Internal.EnumLiteMap<Compression>
+        internalGetValueMap() {
+      return internalValueMap;
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Image parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        Compression> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<Compression>() {
+            public Compression findValueByNumber(int number) {
+              return Compression.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Image parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Image parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Image parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Image parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Image parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input);
-    }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Image parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Image parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Image parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return fiji.plugin.trackmate.lacss.LacssMsg.getDescriptor().getEnumTypes().get(3);
     }
 
-    @java.lang.Override
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
+    private static final Compression[] VALUES = values();
+
+    public static Compression valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
     }
-    public static Builder newBuilder(fiji.plugin.trackmate.lacss.LacssMsg.Image prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+
+    private final int value;
+
+    private Compression(int value) {
+      this.value = value;
     }
-    @java.lang.Override
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
+
+    // @@protoc_insertion_point(enum_scope:trackmate.lacss.Compression)
+  }
+
+  /**
+   * Protobuf enum {@code trackmate.lacss.ScoreMode}
+   */
+  public enum ScoreMode
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <pre>
+     * full-frame score image
+     * </pre>
+     *
+     * <code>SCORE_IMAGE = 0;</code>
+     */
+    SCORE_IMAGE(0),
+    /**
+     * <pre>
+     * one score per label, in Result.label_scores
+     * </pre>
+     *
+     * <code>SCORE_PER_LABEL = 1;</code>
+     */
+    SCORE_PER_LABEL(1),
+    /**
+     * <pre>
+     * no score at all
+     * </pre>
+     *
+     * <code>SCORE_NONE = 2;</code>
+     */
+    SCORE_NONE(2),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <pre>
+     * full-frame score image
+     * </pre>
+     *
+     * <code>SCORE_IMAGE = 0;</code>
+     */
+    public static final int SCORE_IMAGE_VALUE = 0;
+    /**
+     * <pre>
+     * one score per label, in Result.label_scores
+     * </pre>
+     *
+     * <code>SCORE_PER_LABEL = 1;</code>
+     */
+    public static final int SCORE_PER_LABEL_VALUE = 1;
+    /**
+     * <pre>
+     * no score at all
+     * </pre>
+     *
+     * <code>SCORE_NONE = 2;</code>
+     */
+    public static final int SCORE_NONE_VALUE = 2;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
     }
 
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static ScoreMode valueOf(int value) {
+      return forNumber(value);
     }
+
     /**
-     * Protobuf type {@code trackmate.lacss.Image}
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
      */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:trackmate.lacss.Image)
-        fiji.plugin.trackmate.lacss.LacssMsg.ImageOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Image_descriptor;
+    public static ScoreMode forNumber(int value) {
+      switch (value) {
+        case 0: return SCORE_IMAGE;
+        case 1: return SCORE_PER_LABEL;
+        case 2: return SCORE_NONE;
+        default: return null;
       }
+    }
 
-      @java.lang.Override
-      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Image_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                fiji.plugin.trackmate.lacss.LacssMsg.Image.class, fiji.plugin.trackmate.lacss.LacssMsg.Image.Builder.class);
-      }
+    public static com.google.protobuf.Internal.EnumLiteMap<ScoreMode>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        ScoreMode> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ScoreMode>() {
+            public ScoreMode findValueByNumber(int number) {
+              return ScoreMode.forNumber(number);
+            }
+          };
 
-      // Construct using fiji.plugin.trackmate.lacss.LacssMsg.Image.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
       }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return fiji.plugin.trackmate.lacss.LacssMsg.getDescriptor().getEnumTypes().get(4);
+    }
 
-      private Builder(
-          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
+    private static final ScoreMode[] VALUES = values();
+
+    public static ScoreMode valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-        }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
       }
-      @java.lang.Override
-      public Builder clear() {
-        super.clear();
-        height_ = 0L;
+      return VALUES[desc.getIndex()];
+    }
 
-        width_ = 0L;
+    private final int value;
 
-        channel_ = 0L;
+    private ScoreMode(int value) {
+      this.value = value;
+    }
 
-        dtype_ = 0;
+    // @@protoc_insertion_point(enum_scope:trackmate.lacss.ScoreMode)
+  }
 
-        data_ = com.google.protobuf.ByteString.EMPTY;
+  public interface ImageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:trackmate.lacss.Image)
+      com.google.protobuf.MessageOrBuilder {
 
-        return this;
-      }
+    /**
+     * <code>uint64 height = 1;</code>
+     * @return The height.
+     */
+    long getHeight();
 
-      @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Image_descriptor;
-      }
+    /**
+     * <code>uint64 width = 2;</code>
+     * @return The width.
+     */
+    long getWidth();
 
-      @java.lang.Override
-      public fiji.plugin.trackmate.lacss.LacssMsg.Image getDefaultInstanceForType() {
-        return fiji.plugin.trackmate.lacss.LacssMsg.Image.getDefaultInstance();
-      }
+    /**
+     * <code>uint64 channel = 3;</code>
+     * @return The channel.
+     */
+    long getChannel();
 
-      @java.lang.Override
-      public fiji.plugin.trackmate.lacss.LacssMsg.Image build() {
-        fiji.plugin.trackmate.lacss.LacssMsg.Image result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
+    /**
+     * <code>.trackmate.lacss.DType dtype = 4;</code>
+     * @return The enum numeric value on the wire for dtype.
+     */
+    int getDtypeValue();
+    /**
+     * <code>.trackmate.lacss.DType dtype = 4;</code>
+     * @return The dtype.
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.DType getDtype();
 
-      @java.lang.Override
-      public fiji.plugin.trackmate.lacss.LacssMsg.Image buildPartial() {
-        fiji.plugin.trackmate.lacss.LacssMsg.Image result = new fiji.plugin.trackmate.lacss.LacssMsg.Image(this);
-        result.height_ = height_;
-        result.width_ = width_;
-        result.channel_ = channel_;
-        result.dtype_ = dtype_;
-        result.data_ = data_;
-        onBuilt();
-        return result;
-      }
+    /**
+     * <code>bytes data = 5;</code>
+     * @return The data.
+     */
+    com.google.protobuf.ByteString getData();
+
+    /**
+     * <pre>
+     * byte order of multi-byte dtypes, big-endian if false
+     * </pre>
+     *
+     * <code>bool little_endian = 6;</code>
+     * @return The littleEndian.
+     */
+    boolean getLittleEndian();
+
+    /**
+     * <pre>
+     * shared-memory transport: if set, data is empty and the pixels are
+     * stored in this memory-mapped file, starting at shm_offset
+     * </pre>
+     *
+     * <code>string shm_path = 7;</code>
+     * @return The shmPath.
+     */
+    java.lang.String getShmPath();
+    /**
+     * <pre>
+     * shared-memory transport: if set, data is empty and the pixels are
+     * stored in this memory-mapped file, starting at shm_offset
+     * </pre>
+     *
+     * <code>string shm_path = 7;</code>
+     * @return The bytes for shmPath.
+     */
+    com.google.protobuf.ByteString
+        getShmPathBytes();
+
+    /**
+     * <code>uint64 shm_offset = 8;</code>
+     * @return The shmOffset.
+     */
+    long getShmOffset();
+
+    /**
+     * <pre>
+     * if set, data is empty and the pixels follow in Chunk messages, for
+     * images too large for one message
+     * </pre>
+     *
+     * <code>bool chunked = 9;</code>
+     * @return The chunked.
+     */
+    boolean getChunked();
+
+    /**
+     * <pre>
+     * of data; only DEFLATE, for servers that accept it
+     * </pre>
+     *
+     * <code>.trackmate.lacss.Compression compression = 10;</code>
+     * @return The enum numeric value on the wire for compression.
+     */
+    int getCompressionValue();
+    /**
+     * <pre>
+     * of data; only DEFLATE, for servers that accept it
+     * </pre>
+     *
+     * <code>.trackmate.lacss.Compression compression = 10;</code>
+     * @return The compression.
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.Compression getCompression();
+  }
+  /**
+   * Protobuf type {@code trackmate.lacss.Image}
+   */
+  public static final class Image extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:trackmate.lacss.Image)
+      ImageOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Image.newBuilder() to construct.
+    private Image(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Image() {
+      dtype_ = 0;
+      data_ = com.google.protobuf.ByteString.EMPTY;
+      shmPath_ = "";
+      compression_ = 0;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Image();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Image(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              height_ = input.readUInt64();
+              break;
+            }
+            case 16: {
+
+              width_ = input.readUInt64();
+              break;
+            }
+            case 24: {
+
+              channel_ = input.readUInt64();
+              break;
+            }
+            case 32: {
+              int rawValue = input.readEnum();
+
+              dtype_ = rawValue;
+              break;
+            }
+            case 42: {
+
+              data_ = input.readBytes();
+              break;
+            }
+            case 48: {
+
+              littleEndian_ = input.readBool();
+              break;
+            }
+            case 58: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              shmPath_ = s;
+              break;
+            }
+            case 64: {
+
+              shmOffset_ = input.readUInt64();
+              break;
+            }
+            case 72: {
+
+              chunked_ = input.readBool();
+              break;
+            }
+            case 80: {
+              int rawValue = input.readEnum();
+
+              compression_ = rawValue;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Image_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Image_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fiji.plugin.trackmate.lacss.LacssMsg.Image.class, fiji.plugin.trackmate.lacss.LacssMsg.Image.Builder.class);
+    }
+
+    public static final int HEIGHT_FIELD_NUMBER = 1;
+    private long height_;
+    /**
+     * <code>uint64 height = 1;</code>
+     * @return The height.
+     */
+    @java.lang.Override
+    public long getHeight() {
+      return height_;
+    }
+
+    public static final int WIDTH_FIELD_NUMBER = 2;
+    private long width_;
+    /**
+     * <code>uint64 width = 2;</code>
+     * @return The width.
+     */
+    @java.lang.Override
+    public long getWidth() {
+      return width_;
+    }
+
+    public static final int CHANNEL_FIELD_NUMBER = 3;
+    private long channel_;
+    /**
+     * <code>uint64 channel = 3;</code>
+     * @return The channel.
+     */
+    @java.lang.Override
+    public long getChannel() {
+      return channel_;
+    }
+
+    public static final int DTYPE_FIELD_NUMBER = 4;
+    private int dtype_;
+    /**
+     * <code>.trackmate.lacss.DType dtype = 4;</code>
+     * @return The enum numeric value on the wire for dtype.
+     */
+    @java.lang.Override public int getDtypeValue() {
+      return dtype_;
+    }
+    /**
+     * <code>.trackmate.lacss.DType dtype = 4;</code>
+     * @return The dtype.
+     */
+    @java.lang.Override public fiji.plugin.trackmate.lacss.LacssMsg.DType getDtype() {
+      @SuppressWarnings("deprecation")
+      fiji.plugin.trackmate.lacss.LacssMsg.DType result = fiji.plugin.trackmate.lacss.LacssMsg.DType.valueOf(dtype_);
+      return result == null ? fiji.plugin.trackmate.lacss.LacssMsg.DType.UNRECOGNIZED : result;
+    }
+
+    public static final int DATA_FIELD_NUMBER = 5;
+    private com.google.protobuf.ByteString data_;
+    /**
+     * <code>bytes data = 5;</code>
+     * @return The data.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getData() {
+      return data_;
+    }
+
+    public static final int LITTLE_ENDIAN_FIELD_NUMBER = 6;
+    private boolean littleEndian_;
+    /**
+     * <pre>
+     * byte order of multi-byte dtypes, big-endian if false
+     * </pre>
+     *
+     * <code>bool little_endian = 6;</code>
+     * @return The littleEndian.
+     */
+    @java.lang.Override
+    public boolean getLittleEndian() {
+      return littleEndian_;
+    }
+
+    public static final int SHM_PATH_FIELD_NUMBER = 7;
+    private volatile java.lang.Object shmPath_;
+    /**
+     * <pre>
+     * shared-memory transport: if set, data is empty and the pixels are
+     * stored in this memory-mapped file, starting at shm_offset
+     * </pre>
+     *
+     * <code>string shm_path = 7;</code>
+     * @return The shmPath.
+     */
+    @java.lang.Override
+    public java.lang.String getShmPath() {
+      java.lang.Object ref = shmPath_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        shmPath_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * shared-memory transport: if set, data is empty and the pixels are
+     * stored in this memory-mapped file, starting at shm_offset
+     * </pre>
+     *
+     * <code>string shm_path = 7;</code>
+     * @return The bytes for shmPath.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getShmPathBytes() {
+      java.lang.Object ref = shmPath_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        shmPath_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SHM_OFFSET_FIELD_NUMBER = 8;
+    private long shmOffset_;
+    /**
+     * <code>uint64 shm_offset = 8;</code>
+     * @return The shmOffset.
+     */
+    @java.lang.Override
+    public long getShmOffset() {
+      return shmOffset_;
+    }
+
+    public static final int CHUNKED_FIELD_NUMBER = 9;
+    private boolean chunked_;
+    /**
+     * <pre>
+     * if set, data is empty and the pixels follow in Chunk messages, for
+     * images too large for one message
+     * </pre>
+     *
+     * <code>bool chunked = 9;</code>
+     * @return The chunked.
+     */
+    @java.lang.Override
+    public boolean getChunked() {
+      return chunked_;
+    }
+
+    public static final int COMPRESSION_FIELD_NUMBER = 10;
+    private int compression_;
+    /**
+     * <pre>
+     * of data; only DEFLATE, for servers that accept it
+     * </pre>
+     *
+     * <code>.trackmate.lacss.Compression compression = 10;</code>
+     * @return The enum numeric value on the wire for compression.
+     */
+    @java.lang.Override public int getCompressionValue() {
+      return compression_;
+    }
+    /**
+     * <pre>
+     * of data; only DEFLATE, for servers that accept it
+     * </pre>
+     *
+     * <code>.trackmate.lacss.Compression compression = 10;</code>
+     * @return The compression.
+     */
+    @java.lang.Override public fiji.plugin.trackmate.lacss.LacssMsg.Compression getCompression() {
+      @SuppressWarnings("deprecation")
+      fiji.plugin.trackmate.lacss.LacssMsg.Compression result = fiji.plugin.trackmate.lacss.LacssMsg.Compression.valueOf(compression_);
+      return result == null ? fiji.plugin.trackmate.lacss.LacssMsg.Compression.UNRECOGNIZED : result;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (height_ != 0L) {
+        output.writeUInt64(1, height_);
+      }
+      if (width_ != 0L) {
+        output.writeUInt64(2, width_);
+      }
+      if (channel_ != 0L) {
+        output.writeUInt64(3, channel_);
+      }
+      if (dtype_ != fiji.plugin.trackmate.lacss.LacssMsg.DType.FLOAT32.getNumber()) {
+        output.writeEnum(4, dtype_);
+      }
+      if (!data_.isEmpty()) {
+        output.writeBytes(5, data_);
+      }
+      if (littleEndian_ != false) {
+        output.writeBool(6, littleEndian_);
+      }
+      if (!getShmPathBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 7, shmPath_);
+      }
+      if (shmOffset_ != 0L) {
+        output.writeUInt64(8, shmOffset_);
+      }
+      if (chunked_ != false) {
+        output.writeBool(9, chunked_);
+      }
+      if (compression_ != fiji.plugin.trackmate.lacss.LacssMsg.Compression.NONE.getNumber()) {
+        output.writeEnum(10, compression_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (height_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, height_);
+      }
+      if (width_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, width_);
+      }
+      if (channel_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(3, channel_);
+      }
+      if (dtype_ != fiji.plugin.trackmate.lacss.LacssMsg.DType.FLOAT32.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(4, dtype_);
+      }
+      if (!data_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, data_);
+      }
+      if (littleEndian_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(6, littleEndian_);
+      }
+      if (!getShmPathBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(7, shmPath_);
+      }
+      if (shmOffset_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(8, shmOffset_);
+      }
+      if (chunked_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(9, chunked_);
+      }
+      if (compression_ != fiji.plugin.trackmate.lacss.LacssMsg.Compression.NONE.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(10, compression_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof fiji.plugin.trackmate.lacss.LacssMsg.Image)) {
+        return super.equals(obj);
+      }
+      fiji.plugin.trackmate.lacss.LacssMsg.Image other = (fiji.plugin.trackmate.lacss.LacssMsg.Image) obj;
+
+      if (getHeight()
+          != other.getHeight()) return false;
+      if (getWidth()
+          != other.getWidth()) return false;
+      if (getChannel()
+          != other.getChannel()) return false;
+      if (dtype_ != other.dtype_) return false;
+      if (!getData()
+          .equals(other.getData())) return false;
+      if (getLittleEndian()
+          != other.getLittleEndian()) return false;
+      if (!getShmPath()
+          .equals(other.getShmPath())) return false;
+      if (getShmOffset()
+          != other.getShmOffset()) return false;
+      if (getChunked()
+          != other.getChunked()) return false;
+      if (compression_ != other.compression_) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + HEIGHT_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getHeight());
+      hash = (37 * hash) + WIDTH_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getWidth());
+      hash = (37 * hash) + CHANNEL_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getChannel());
+      hash = (37 * hash) + DTYPE_FIELD_NUMBER;
+      hash = (53 * hash) + dtype_;
+      hash = (37 * hash) + DATA_FIELD_NUMBER;
+      hash = (53 * hash) + getData().hashCode();
+      hash = (37 * hash) + LITTLE_ENDIAN_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getLittleEndian());
+      hash = (37 * hash) + SHM_PATH_FIELD_NUMBER;
+      hash = (53 * hash) + getShmPath().hashCode();
+      hash = (37 * hash) + SHM_OFFSET_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getShmOffset());
+      hash = (37 * hash) + CHUNKED_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getChunked());
+      hash = (37 * hash) + COMPRESSION_FIELD_NUMBER;
+      hash = (53 * hash) + compression_;
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Image parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Image parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Image parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Image parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Image parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Image parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Image parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Image parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Image parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Image parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Image parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Image parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fiji.plugin.trackmate.lacss.LacssMsg.Image prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code trackmate.lacss.Image}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:trackmate.lacss.Image)
+        fiji.plugin.trackmate.lacss.LacssMsg.ImageOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Image_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Image_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fiji.plugin.trackmate.lacss.LacssMsg.Image.class, fiji.plugin.trackmate.lacss.LacssMsg.Image.Builder.class);
+      }
+
+      // Construct using fiji.plugin.trackmate.lacss.LacssMsg.Image.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        height_ = 0L;
+
+        width_ = 0L;
+
+        channel_ = 0L;
+
+        dtype_ = 0;
+
+        data_ = com.google.protobuf.ByteString.EMPTY;
+
+        littleEndian_ = false;
+
+        shmPath_ = "";
+
+        shmOffset_ = 0L;
+
+        chunked_ = false;
+
+        compression_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Image_descriptor;
+      }
+
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.Image getDefaultInstanceForType() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.Image.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.Image build() {
+        fiji.plugin.trackmate.lacss.LacssMsg.Image result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.Image buildPartial() {
+        fiji.plugin.trackmate.lacss.LacssMsg.Image result = new fiji.plugin.trackmate.lacss.LacssMsg.Image(this);
+        result.height_ = height_;
+        result.width_ = width_;
+        result.channel_ = channel_;
+        result.dtype_ = dtype_;
+        result.data_ = data_;
+        result.littleEndian_ = littleEndian_;
+        result.shmPath_ = shmPath_;
+        result.shmOffset_ = shmOffset_;
+        result.chunked_ = chunked_;
+        result.compression_ = compression_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof fiji.plugin.trackmate.lacss.LacssMsg.Image) {
+          return mergeFrom((fiji.plugin.trackmate.lacss.LacssMsg.Image)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(fiji.plugin.trackmate.lacss.LacssMsg.Image other) {
+        if (other == fiji.plugin.trackmate.lacss.LacssMsg.Image.getDefaultInstance()) return this;
+        if (other.getHeight() != 0L) {
+          setHeight(other.getHeight());
+        }
+        if (other.getWidth() != 0L) {
+          setWidth(other.getWidth());
+        }
+        if (other.getChannel() != 0L) {
+          setChannel(other.getChannel());
+        }
+        if (other.dtype_ != 0) {
+          setDtypeValue(other.getDtypeValue());
+        }
+        if (other.getData() != com.google.protobuf.ByteString.EMPTY) {
+          setData(other.getData());
+        }
+        if (other.getLittleEndian() != false) {
+          setLittleEndian(other.getLittleEndian());
+        }
+        if (!other.getShmPath().isEmpty()) {
+          shmPath_ = other.shmPath_;
+          onChanged();
+        }
+        if (other.getShmOffset() != 0L) {
+          setShmOffset(other.getShmOffset());
+        }
+        if (other.getChunked() != false) {
+          setChunked(other.getChunked());
+        }
+        if (other.compression_ != 0) {
+          setCompressionValue(other.getCompressionValue());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fiji.plugin.trackmate.lacss.LacssMsg.Image parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fiji.plugin.trackmate.lacss.LacssMsg.Image) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private long height_ ;
+      /**
+       * <code>uint64 height = 1;</code>
+       * @return The height.
+       */
+      @java.lang.Override
+      public long getHeight() {
+        return height_;
+      }
+      /**
+       * <code>uint64 height = 1;</code>
+       * @param value The height to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHeight(long value) {
+        
+        height_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 height = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearHeight() {
+        
+        height_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long width_ ;
+      /**
+       * <code>uint64 width = 2;</code>
+       * @return The width.
+       */
+      @java.lang.Override
+      public long getWidth() {
+        return width_;
+      }
+      /**
+       * <code>uint64 width = 2;</code>
+       * @param value The width to set.
+       * @return This builder for chaining.
+       */
+      public Builder setWidth(long value) {
+        
+        width_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 width = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearWidth() {
+        
+        width_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long channel_ ;
+      /**
+       * <code>uint64 channel = 3;</code>
+       * @return The channel.
+       */
+      @java.lang.Override
+      public long getChannel() {
+        return channel_;
+      }
+      /**
+       * <code>uint64 channel = 3;</code>
+       * @param value The channel to set.
+       * @return This builder for chaining.
+       */
+      public Builder setChannel(long value) {
+        
+        channel_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 channel = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearChannel() {
+        
+        channel_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int dtype_ = 0;
+      /**
+       * <code>.trackmate.lacss.DType dtype = 4;</code>
+       * @return The enum numeric value on the wire for dtype.
+       */
+      @java.lang.Override public int getDtypeValue() {
+        return dtype_;
+      }
+      /**
+       * <code>.trackmate.lacss.DType dtype = 4;</code>
+       * @param value The enum numeric value on the wire for dtype to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDtypeValue(int value) {
+        
+        dtype_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.DType dtype = 4;</code>
+       * @return The dtype.
+       */
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.DType getDtype() {
+        @SuppressWarnings("deprecation")
+        fiji.plugin.trackmate.lacss.LacssMsg.DType result = fiji.plugin.trackmate.lacss.LacssMsg.DType.valueOf(dtype_);
+        return result == null ? fiji.plugin.trackmate.lacss.LacssMsg.DType.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.trackmate.lacss.DType dtype = 4;</code>
+       * @param value The dtype to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDtype(fiji.plugin.trackmate.lacss.LacssMsg.DType value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        dtype_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.DType dtype = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDtype() {
+        
+        dtype_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes data = 5;</code>
+       * @return The data.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getData() {
+        return data_;
+      }
+      /**
+       * <code>bytes data = 5;</code>
+       * @param value The data to set.
+       * @return This builder for chaining.
+       */
+      public Builder setData(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        data_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes data = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearData() {
+        
+        data_ = getDefaultInstance().getData();
+        onChanged();
+        return this;
+      }
+
+      private boolean littleEndian_ ;
+      /**
+       * <pre>
+       * byte order of multi-byte dtypes, big-endian if false
+       * </pre>
+       *
+       * <code>bool little_endian = 6;</code>
+       * @return The littleEndian.
+       */
+      @java.lang.Override
+      public boolean getLittleEndian() {
+        return littleEndian_;
+      }
+      /**
+       * <pre>
+       * byte order of multi-byte dtypes, big-endian if false
+       * </pre>
+       *
+       * <code>bool little_endian = 6;</code>
+       * @param value The littleEndian to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLittleEndian(boolean value) {
+        
+        littleEndian_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * byte order of multi-byte dtypes, big-endian if false
+       * </pre>
+       *
+       * <code>bool little_endian = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLittleEndian() {
+        
+        littleEndian_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object shmPath_ = "";
+      /**
+       * <pre>
+       * shared-memory transport: if set, data is empty and the pixels are
+       * stored in this memory-mapped file, starting at shm_offset
+       * </pre>
+       *
+       * <code>string shm_path = 7;</code>
+       * @return The shmPath.
+       */
+      public java.lang.String getShmPath() {
+        java.lang.Object ref = shmPath_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          shmPath_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * shared-memory transport: if set, data is empty and the pixels are
+       * stored in this memory-mapped file, starting at shm_offset
+       * </pre>
+       *
+       * <code>string shm_path = 7;</code>
+       * @return The bytes for shmPath.
+       */
+      public com.google.protobuf.ByteString
+          getShmPathBytes() {
+        java.lang.Object ref = shmPath_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          shmPath_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * shared-memory transport: if set, data is empty and the pixels are
+       * stored in this memory-mapped file, starting at shm_offset
+       * </pre>
+       *
+       * <code>string shm_path = 7;</code>
+       * @param value The shmPath to set.
+       * @return This builder for chaining.
+       */
+      public Builder setShmPath(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        shmPath_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * shared-memory transport: if set, data is empty and the pixels are
+       * stored in this memory-mapped file, starting at shm_offset
+       * </pre>
+       *
+       * <code>string shm_path = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearShmPath() {
+        
+        shmPath_ = getDefaultInstance().getShmPath();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * shared-memory transport: if set, data is empty and the pixels are
+       * stored in this memory-mapped file, starting at shm_offset
+       * </pre>
+       *
+       * <code>string shm_path = 7;</code>
+       * @param value The bytes for shmPath to set.
+       * @return This builder for chaining.
+       */
+      public Builder setShmPathBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        shmPath_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long shmOffset_ ;
+      /**
+       * <code>uint64 shm_offset = 8;</code>
+       * @return The shmOffset.
+       */
+      @java.lang.Override
+      public long getShmOffset() {
+        return shmOffset_;
+      }
+      /**
+       * <code>uint64 shm_offset = 8;</code>
+       * @param value The shmOffset to set.
+       * @return This builder for chaining.
+       */
+      public Builder setShmOffset(long value) {
+        
+        shmOffset_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 shm_offset = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearShmOffset() {
+        
+        shmOffset_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private boolean chunked_ ;
+      /**
+       * <pre>
+       * if set, data is empty and the pixels follow in Chunk messages, for
+       * images too large for one message
+       * </pre>
+       *
+       * <code>bool chunked = 9;</code>
+       * @return The chunked.
+       */
+      @java.lang.Override
+      public boolean getChunked() {
+        return chunked_;
+      }
+      /**
+       * <pre>
+       * if set, data is empty and the pixels follow in Chunk messages, for
+       * images too large for one message
+       * </pre>
+       *
+       * <code>bool chunked = 9;</code>
+       * @param value The chunked to set.
+       * @return This builder for chaining.
+       */
+      public Builder setChunked(boolean value) {
+        
+        chunked_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * if set, data is empty and the pixels follow in Chunk messages, for
+       * images too large for one message
+       * </pre>
+       *
+       * <code>bool chunked = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearChunked() {
+        
+        chunked_ = false;
+        onChanged();
+        return this;
+      }
+
+      private int compression_ = 0;
+      /**
+       * <pre>
+       * of data; only DEFLATE, for servers that accept it
+       * </pre>
+       *
+       * <code>.trackmate.lacss.Compression compression = 10;</code>
+       * @return The enum numeric value on the wire for compression.
+       */
+      @java.lang.Override public int getCompressionValue() {
+        return compression_;
+      }
+      /**
+       * <pre>
+       * of data; only DEFLATE, for servers that accept it
+       * </pre>
+       *
+       * <code>.trackmate.lacss.Compression compression = 10;</code>
+       * @param value The enum numeric value on the wire for compression to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCompressionValue(int value) {
+        
+        compression_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * of data; only DEFLATE, for servers that accept it
+       * </pre>
+       *
+       * <code>.trackmate.lacss.Compression compression = 10;</code>
+       * @return The compression.
+       */
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.Compression getCompression() {
+        @SuppressWarnings("deprecation")
+        fiji.plugin.trackmate.lacss.LacssMsg.Compression result = fiji.plugin.trackmate.lacss.LacssMsg.Compression.valueOf(compression_);
+        return result == null ? fiji.plugin.trackmate.lacss.LacssMsg.Compression.UNRECOGNIZED : result;
+      }
+      /**
+       * <pre>
+       * of data; only DEFLATE, for servers that accept it
+       * </pre>
+       *
+       * <code>.trackmate.lacss.Compression compression = 10;</code>
+       * @param value The compression to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCompression(fiji.plugin.trackmate.lacss.LacssMsg.Compression value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        compression_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * of data; only DEFLATE, for servers that accept it
+       * </pre>
+       *
+       * <code>.trackmate.lacss.Compression compression = 10;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCompression() {
+        
+        compression_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:trackmate.lacss.Image)
+    }
+
+    // @@protoc_insertion_point(class_scope:trackmate.lacss.Image)
+    private static final fiji.plugin.trackmate.lacss.LacssMsg.Image DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new fiji.plugin.trackmate.lacss.LacssMsg.Image();
+    }
+
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Image getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Image>
+        PARSER = new com.google.protobuf.AbstractParser<Image>() {
+      @java.lang.Override
+      public Image parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Image(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Image> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Image> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public fiji.plugin.trackmate.lacss.LacssMsg.Image getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SettingsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:trackmate.lacss.Settings)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>float min_cell_area = 1;</code>
+     * @return The minCellArea.
+     */
+    float getMinCellArea();
+
+    /**
+     * <code>bool remove_out_of_bound = 2;</code>
+     * @return The removeOutOfBound.
+     */
+    boolean getRemoveOutOfBound();
+
+    /**
+     * <code>float scaling = 3;</code>
+     * @return The scaling.
+     */
+    float getScaling();
+
+    /**
+     * <code>float nms_iou = 4;</code>
+     * @return The nmsIou.
+     */
+    float getNmsIou();
+
+    /**
+     * <code>float detection_threshold = 5;</code>
+     * @return The detectionThreshold.
+     */
+    float getDetectionThreshold();
+
+    /**
+     * <code>float segmentation_threshold = 6;</code>
+     * @return The segmentationThreshold.
+     */
+    float getSegmentationThreshold();
+  }
+  /**
+   * Protobuf type {@code trackmate.lacss.Settings}
+   */
+  public static final class Settings extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:trackmate.lacss.Settings)
+      SettingsOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Settings.newBuilder() to construct.
+    private Settings(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Settings() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Settings();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Settings(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 13: {
+
+              minCellArea_ = input.readFloat();
+              break;
+            }
+            case 16: {
+
+              removeOutOfBound_ = input.readBool();
+              break;
+            }
+            case 29: {
+
+              scaling_ = input.readFloat();
+              break;
+            }
+            case 37: {
+
+              nmsIou_ = input.readFloat();
+              break;
+            }
+            case 45: {
+
+              detectionThreshold_ = input.readFloat();
+              break;
+            }
+            case 53: {
+
+              segmentationThreshold_ = input.readFloat();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Settings_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Settings_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fiji.plugin.trackmate.lacss.LacssMsg.Settings.class, fiji.plugin.trackmate.lacss.LacssMsg.Settings.Builder.class);
+    }
+
+    public static final int MIN_CELL_AREA_FIELD_NUMBER = 1;
+    private float minCellArea_;
+    /**
+     * <code>float min_cell_area = 1;</code>
+     * @return The minCellArea.
+     */
+    @java.lang.Override
+    public float getMinCellArea() {
+      return minCellArea_;
+    }
+
+    public static final int REMOVE_OUT_OF_BOUND_FIELD_NUMBER = 2;
+    private boolean removeOutOfBound_;
+    /**
+     * <code>bool remove_out_of_bound = 2;</code>
+     * @return The removeOutOfBound.
+     */
+    @java.lang.Override
+    public boolean getRemoveOutOfBound() {
+      return removeOutOfBound_;
+    }
+
+    public static final int SCALING_FIELD_NUMBER = 3;
+    private float scaling_;
+    /**
+     * <code>float scaling = 3;</code>
+     * @return The scaling.
+     */
+    @java.lang.Override
+    public float getScaling() {
+      return scaling_;
+    }
+
+    public static final int NMS_IOU_FIELD_NUMBER = 4;
+    private float nmsIou_;
+    /**
+     * <code>float nms_iou = 4;</code>
+     * @return The nmsIou.
+     */
+    @java.lang.Override
+    public float getNmsIou() {
+      return nmsIou_;
+    }
+
+    public static final int DETECTION_THRESHOLD_FIELD_NUMBER = 5;
+    private float detectionThreshold_;
+    /**
+     * <code>float detection_threshold = 5;</code>
+     * @return The detectionThreshold.
+     */
+    @java.lang.Override
+    public float getDetectionThreshold() {
+      return detectionThreshold_;
+    }
+
+    public static final int SEGMENTATION_THRESHOLD_FIELD_NUMBER = 6;
+    private float segmentationThreshold_;
+    /**
+     * <code>float segmentation_threshold = 6;</code>
+     * @return The segmentationThreshold.
+     */
+    @java.lang.Override
+    public float getSegmentationThreshold() {
+      return segmentationThreshold_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (minCellArea_ != 0F) {
+        output.writeFloat(1, minCellArea_);
+      }
+      if (removeOutOfBound_ != false) {
+        output.writeBool(2, removeOutOfBound_);
+      }
+      if (scaling_ != 0F) {
+        output.writeFloat(3, scaling_);
+      }
+      if (nmsIou_ != 0F) {
+        output.writeFloat(4, nmsIou_);
+      }
+      if (detectionThreshold_ != 0F) {
+        output.writeFloat(5, detectionThreshold_);
+      }
+      if (segmentationThreshold_ != 0F) {
+        output.writeFloat(6, segmentationThreshold_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (minCellArea_ != 0F) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFloatSize(1, minCellArea_);
+      }
+      if (removeOutOfBound_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, removeOutOfBound_);
+      }
+      if (scaling_ != 0F) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFloatSize(3, scaling_);
+      }
+      if (nmsIou_ != 0F) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFloatSize(4, nmsIou_);
+      }
+      if (detectionThreshold_ != 0F) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFloatSize(5, detectionThreshold_);
+      }
+      if (segmentationThreshold_ != 0F) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFloatSize(6, segmentationThreshold_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof fiji.plugin.trackmate.lacss.LacssMsg.Settings)) {
+        return super.equals(obj);
+      }
+      fiji.plugin.trackmate.lacss.LacssMsg.Settings other = (fiji.plugin.trackmate.lacss.LacssMsg.Settings) obj;
+
+      if (java.lang.Float.floatToIntBits(getMinCellArea())
+          != java.lang.Float.floatToIntBits(
+              other.getMinCellArea())) return false;
+      if (getRemoveOutOfBound()
+          != other.getRemoveOutOfBound()) return false;
+      if (java.lang.Float.floatToIntBits(getScaling())
+          != java.lang.Float.floatToIntBits(
+              other.getScaling())) return false;
+      if (java.lang.Float.floatToIntBits(getNmsIou())
+          != java.lang.Float.floatToIntBits(
+              other.getNmsIou())) return false;
+      if (java.lang.Float.floatToIntBits(getDetectionThreshold())
+          != java.lang.Float.floatToIntBits(
+              other.getDetectionThreshold())) return false;
+      if (java.lang.Float.floatToIntBits(getSegmentationThreshold())
+          != java.lang.Float.floatToIntBits(
+              other.getSegmentationThreshold())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + MIN_CELL_AREA_FIELD_NUMBER;
+      hash = (53 * hash) + java.lang.Float.floatToIntBits(
+          getMinCellArea());
+      hash = (37 * hash) + REMOVE_OUT_OF_BOUND_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getRemoveOutOfBound());
+      hash = (37 * hash) + SCALING_FIELD_NUMBER;
+      hash = (53 * hash) + java.lang.Float.floatToIntBits(
+          getScaling());
+      hash = (37 * hash) + NMS_IOU_FIELD_NUMBER;
+      hash = (53 * hash) + java.lang.Float.floatToIntBits(
+          getNmsIou());
+      hash = (37 * hash) + DETECTION_THRESHOLD_FIELD_NUMBER;
+      hash = (53 * hash) + java.lang.Float.floatToIntBits(
+          getDetectionThreshold());
+      hash = (37 * hash) + SEGMENTATION_THRESHOLD_FIELD_NUMBER;
+      hash = (53 * hash) + java.lang.Float.floatToIntBits(
+          getSegmentationThreshold());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Settings parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Settings parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Settings parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Settings parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Settings parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Settings parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Settings parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Settings parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Settings parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Settings parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Settings parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Settings parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fiji.plugin.trackmate.lacss.LacssMsg.Settings prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code trackmate.lacss.Settings}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:trackmate.lacss.Settings)
+        fiji.plugin.trackmate.lacss.LacssMsg.SettingsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Settings_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Settings_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fiji.plugin.trackmate.lacss.LacssMsg.Settings.class, fiji.plugin.trackmate.lacss.LacssMsg.Settings.Builder.class);
+      }
+
+      // Construct using fiji.plugin.trackmate.lacss.LacssMsg.Settings.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        minCellArea_ = 0F;
+
+        removeOutOfBound_ = false;
+
+        scaling_ = 0F;
+
+        nmsIou_ = 0F;
+
+        detectionThreshold_ = 0F;
+
+        segmentationThreshold_ = 0F;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Settings_descriptor;
+      }
+
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.Settings getDefaultInstanceForType() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.Settings.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.Settings build() {
+        fiji.plugin.trackmate.lacss.LacssMsg.Settings result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.Settings buildPartial() {
+        fiji.plugin.trackmate.lacss.LacssMsg.Settings result = new fiji.plugin.trackmate.lacss.LacssMsg.Settings(this);
+        result.minCellArea_ = minCellArea_;
+        result.removeOutOfBound_ = removeOutOfBound_;
+        result.scaling_ = scaling_;
+        result.nmsIou_ = nmsIou_;
+        result.detectionThreshold_ = detectionThreshold_;
+        result.segmentationThreshold_ = segmentationThreshold_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof fiji.plugin.trackmate.lacss.LacssMsg.Settings) {
+          return mergeFrom((fiji.plugin.trackmate.lacss.LacssMsg.Settings)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(fiji.plugin.trackmate.lacss.LacssMsg.Settings other) {
+        if (other == fiji.plugin.trackmate.lacss.LacssMsg.Settings.getDefaultInstance()) return this;
+        if (other.getMinCellArea() != 0F) {
+          setMinCellArea(other.getMinCellArea());
+        }
+        if (other.getRemoveOutOfBound() != false) {
+          setRemoveOutOfBound(other.getRemoveOutOfBound());
+        }
+        if (other.getScaling() != 0F) {
+          setScaling(other.getScaling());
+        }
+        if (other.getNmsIou() != 0F) {
+          setNmsIou(other.getNmsIou());
+        }
+        if (other.getDetectionThreshold() != 0F) {
+          setDetectionThreshold(other.getDetectionThreshold());
+        }
+        if (other.getSegmentationThreshold() != 0F) {
+          setSegmentationThreshold(other.getSegmentationThreshold());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fiji.plugin.trackmate.lacss.LacssMsg.Settings parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fiji.plugin.trackmate.lacss.LacssMsg.Settings) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private float minCellArea_ ;
+      /**
+       * <code>float min_cell_area = 1;</code>
+       * @return The minCellArea.
+       */
+      @java.lang.Override
+      public float getMinCellArea() {
+        return minCellArea_;
+      }
+      /**
+       * <code>float min_cell_area = 1;</code>
+       * @param value The minCellArea to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMinCellArea(float value) {
+        
+        minCellArea_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>float min_cell_area = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMinCellArea() {
+        
+        minCellArea_ = 0F;
+        onChanged();
+        return this;
+      }
+
+      private boolean removeOutOfBound_ ;
+      /**
+       * <code>bool remove_out_of_bound = 2;</code>
+       * @return The removeOutOfBound.
+       */
+      @java.lang.Override
+      public boolean getRemoveOutOfBound() {
+        return removeOutOfBound_;
+      }
+      /**
+       * <code>bool remove_out_of_bound = 2;</code>
+       * @param value The removeOutOfBound to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRemoveOutOfBound(boolean value) {
+        
+        removeOutOfBound_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool remove_out_of_bound = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRemoveOutOfBound() {
+        
+        removeOutOfBound_ = false;
+        onChanged();
+        return this;
+      }
+
+      private float scaling_ ;
+      /**
+       * <code>float scaling = 3;</code>
+       * @return The scaling.
+       */
+      @java.lang.Override
+      public float getScaling() {
+        return scaling_;
+      }
+      /**
+       * <code>float scaling = 3;</code>
+       * @param value The scaling to set.
+       * @return This builder for chaining.
+       */
+      public Builder setScaling(float value) {
+        
+        scaling_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>float scaling = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearScaling() {
+        
+        scaling_ = 0F;
+        onChanged();
+        return this;
+      }
+
+      private float nmsIou_ ;
+      /**
+       * <code>float nms_iou = 4;</code>
+       * @return The nmsIou.
+       */
+      @java.lang.Override
+      public float getNmsIou() {
+        return nmsIou_;
+      }
+      /**
+       * <code>float nms_iou = 4;</code>
+       * @param value The nmsIou to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNmsIou(float value) {
+        
+        nmsIou_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>float nms_iou = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNmsIou() {
+        
+        nmsIou_ = 0F;
+        onChanged();
+        return this;
+      }
+
+      private float detectionThreshold_ ;
+      /**
+       * <code>float detection_threshold = 5;</code>
+       * @return The detectionThreshold.
+       */
+      @java.lang.Override
+      public float getDetectionThreshold() {
+        return detectionThreshold_;
+      }
+      /**
+       * <code>float detection_threshold = 5;</code>
+       * @param value The detectionThreshold to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDetectionThreshold(float value) {
+        
+        detectionThreshold_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>float detection_threshold = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDetectionThreshold() {
+        
+        detectionThreshold_ = 0F;
+        onChanged();
+        return this;
+      }
+
+      private float segmentationThreshold_ ;
+      /**
+       * <code>float segmentation_threshold = 6;</code>
+       * @return The segmentationThreshold.
+       */
+      @java.lang.Override
+      public float getSegmentationThreshold() {
+        return segmentationThreshold_;
+      }
+      /**
+       * <code>float segmentation_threshold = 6;</code>
+       * @param value The segmentationThreshold to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSegmentationThreshold(float value) {
+        
+        segmentationThreshold_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>float segmentation_threshold = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSegmentationThreshold() {
+        
+        segmentationThreshold_ = 0F;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:trackmate.lacss.Settings)
+    }
+
+    // @@protoc_insertion_point(class_scope:trackmate.lacss.Settings)
+    private static final fiji.plugin.trackmate.lacss.LacssMsg.Settings DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new fiji.plugin.trackmate.lacss.LacssMsg.Settings();
+    }
+
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Settings getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Settings>
+        PARSER = new com.google.protobuf.AbstractParser<Settings>() {
+      @java.lang.Override
+      public Settings parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Settings(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Settings> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Settings> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public fiji.plugin.trackmate.lacss.LacssMsg.Settings getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface HelloOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:trackmate.lacss.Hello)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>uint32 protocol_version = 1;</code>
+     * @return The protocolVersion.
+     */
+    int getProtocolVersion();
+
+    /**
+     * <pre>
+     * the client reads UINT32 label images
+     * </pre>
+     *
+     * <code>bool uint32_labels = 2;</code>
+     * @return The uint32Labels.
+     */
+    boolean getUint32Labels();
+
+    /**
+     * <pre>
+     * the client reads chunked Labels
+     * </pre>
+     *
+     * <code>bool chunked_results = 3;</code>
+     * @return The chunkedResults.
+     */
+    boolean getChunkedResults();
+
+    /**
+     * <pre>
+     * the client reads RLE compressed Labels
+     * </pre>
+     *
+     * <code>bool rle_labels = 4;</code>
+     * @return The rleLabels.
+     */
+    boolean getRleLabels();
+
+    /**
+     * <pre>
+     * sent on the pipes by the client that starts a server shared with other
+     * clients: the server keeps running when its pipes close, does not write
+     * to its standard output anymore, and exits when its last socket session
+     * closes. Requires a port.
+     * </pre>
+     *
+     * <code>bool daemon = 5;</code>
+     * @return The daemon.
+     */
+    boolean getDaemon();
+
+    /**
+     * <pre>
+     * the secret the server was started with, in its LACSS_TOKEN environment
+     * variable: a server started with one closes the socket sessions whose
+     * Hello does not carry it
+     * </pre>
+     *
+     * <code>string token = 6;</code>
+     * @return The token.
+     */
+    java.lang.String getToken();
+    /**
+     * <pre>
+     * the secret the server was started with, in its LACSS_TOKEN environment
+     * variable: a server started with one closes the socket sessions whose
+     * Hello does not carry it
+     * </pre>
+     *
+     * <code>string token = 6;</code>
+     * @return The bytes for token.
+     */
+    com.google.protobuf.ByteString
+        getTokenBytes();
+  }
+  /**
+   * <pre>
+   * Opens a session. Sent once, as the only field of the first Input.
+   * </pre>
+   *
+   * Protobuf type {@code trackmate.lacss.Hello}
+   */
+  public static final class Hello extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:trackmate.lacss.Hello)
+      HelloOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Hello.newBuilder() to construct.
+    private Hello(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Hello() {
+      token_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Hello();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Hello(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              protocolVersion_ = input.readUInt32();
+              break;
+            }
+            case 16: {
+
+              uint32Labels_ = input.readBool();
+              break;
+            }
+            case 24: {
+
+              chunkedResults_ = input.readBool();
+              break;
+            }
+            case 32: {
+
+              rleLabels_ = input.readBool();
+              break;
+            }
+            case 40: {
+
+              daemon_ = input.readBool();
+              break;
+            }
+            case 50: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              token_ = s;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Hello_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Hello_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fiji.plugin.trackmate.lacss.LacssMsg.Hello.class, fiji.plugin.trackmate.lacss.LacssMsg.Hello.Builder.class);
+    }
+
+    public static final int PROTOCOL_VERSION_FIELD_NUMBER = 1;
+    private int protocolVersion_;
+    /**
+     * <code>uint32 protocol_version = 1;</code>
+     * @return The protocolVersion.
+     */
+    @java.lang.Override
+    public int getProtocolVersion() {
+      return protocolVersion_;
+    }
+
+    public static final int UINT32_LABELS_FIELD_NUMBER = 2;
+    private boolean uint32Labels_;
+    /**
+     * <pre>
+     * the client reads UINT32 label images
+     * </pre>
+     *
+     * <code>bool uint32_labels = 2;</code>
+     * @return The uint32Labels.
+     */
+    @java.lang.Override
+    public boolean getUint32Labels() {
+      return uint32Labels_;
+    }
+
+    public static final int CHUNKED_RESULTS_FIELD_NUMBER = 3;
+    private boolean chunkedResults_;
+    /**
+     * <pre>
+     * the client reads chunked Labels
+     * </pre>
+     *
+     * <code>bool chunked_results = 3;</code>
+     * @return The chunkedResults.
+     */
+    @java.lang.Override
+    public boolean getChunkedResults() {
+      return chunkedResults_;
+    }
+
+    public static final int RLE_LABELS_FIELD_NUMBER = 4;
+    private boolean rleLabels_;
+    /**
+     * <pre>
+     * the client reads RLE compressed Labels
+     * </pre>
+     *
+     * <code>bool rle_labels = 4;</code>
+     * @return The rleLabels.
+     */
+    @java.lang.Override
+    public boolean getRleLabels() {
+      return rleLabels_;
+    }
+
+    public static final int DAEMON_FIELD_NUMBER = 5;
+    private boolean daemon_;
+    /**
+     * <pre>
+     * sent on the pipes by the client that starts a server shared with other
+     * clients: the server keeps running when its pipes close, does not write
+     * to its standard output anymore, and exits when its last socket session
+     * closes. Requires a port.
+     * </pre>
+     *
+     * <code>bool daemon = 5;</code>
+     * @return The daemon.
+     */
+    @java.lang.Override
+    public boolean getDaemon() {
+      return daemon_;
+    }
+
+    public static final int TOKEN_FIELD_NUMBER = 6;
+    private volatile java.lang.Object token_;
+    /**
+     * <pre>
+     * the secret the server was started with, in its LACSS_TOKEN environment
+     * variable: a server started with one closes the socket sessions whose
+     * Hello does not carry it
+     * </pre>
+     *
+     * <code>string token = 6;</code>
+     * @return The token.
+     */
+    @java.lang.Override
+    public java.lang.String getToken() {
+      java.lang.Object ref = token_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        token_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * the secret the server was started with, in its LACSS_TOKEN environment
+     * variable: a server started with one closes the socket sessions whose
+     * Hello does not carry it
+     * </pre>
+     *
+     * <code>string token = 6;</code>
+     * @return The bytes for token.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTokenBytes() {
+      java.lang.Object ref = token_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        token_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (protocolVersion_ != 0) {
+        output.writeUInt32(1, protocolVersion_);
+      }
+      if (uint32Labels_ != false) {
+        output.writeBool(2, uint32Labels_);
+      }
+      if (chunkedResults_ != false) {
+        output.writeBool(3, chunkedResults_);
+      }
+      if (rleLabels_ != false) {
+        output.writeBool(4, rleLabels_);
+      }
+      if (daemon_ != false) {
+        output.writeBool(5, daemon_);
+      }
+      if (!getTokenBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 6, token_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (protocolVersion_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, protocolVersion_);
+      }
+      if (uint32Labels_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, uint32Labels_);
+      }
+      if (chunkedResults_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, chunkedResults_);
+      }
+      if (rleLabels_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, rleLabels_);
+      }
+      if (daemon_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(5, daemon_);
+      }
+      if (!getTokenBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(6, token_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof fiji.plugin.trackmate.lacss.LacssMsg.Hello)) {
+        return super.equals(obj);
+      }
+      fiji.plugin.trackmate.lacss.LacssMsg.Hello other = (fiji.plugin.trackmate.lacss.LacssMsg.Hello) obj;
+
+      if (getProtocolVersion()
+          != other.getProtocolVersion()) return false;
+      if (getUint32Labels()
+          != other.getUint32Labels()) return false;
+      if (getChunkedResults()
+          != other.getChunkedResults()) return false;
+      if (getRleLabels()
+          != other.getRleLabels()) return false;
+      if (getDaemon()
+          != other.getDaemon()) return false;
+      if (!getToken()
+          .equals(other.getToken())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + PROTOCOL_VERSION_FIELD_NUMBER;
+      hash = (53 * hash) + getProtocolVersion();
+      hash = (37 * hash) + UINT32_LABELS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getUint32Labels());
+      hash = (37 * hash) + CHUNKED_RESULTS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getChunkedResults());
+      hash = (37 * hash) + RLE_LABELS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getRleLabels());
+      hash = (37 * hash) + DAEMON_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getDaemon());
+      hash = (37 * hash) + TOKEN_FIELD_NUMBER;
+      hash = (53 * hash) + getToken().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Hello parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Hello parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Hello parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Hello parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Hello parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Hello parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Hello parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Hello parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Hello parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Hello parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Hello parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Hello parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fiji.plugin.trackmate.lacss.LacssMsg.Hello prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Opens a session. Sent once, as the only field of the first Input.
+     * </pre>
+     *
+     * Protobuf type {@code trackmate.lacss.Hello}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:trackmate.lacss.Hello)
+        fiji.plugin.trackmate.lacss.LacssMsg.HelloOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Hello_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Hello_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fiji.plugin.trackmate.lacss.LacssMsg.Hello.class, fiji.plugin.trackmate.lacss.LacssMsg.Hello.Builder.class);
+      }
+
+      // Construct using fiji.plugin.trackmate.lacss.LacssMsg.Hello.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        protocolVersion_ = 0;
+
+        uint32Labels_ = false;
+
+        chunkedResults_ = false;
+
+        rleLabels_ = false;
+
+        daemon_ = false;
+
+        token_ = "";
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Hello_descriptor;
+      }
+
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.Hello getDefaultInstanceForType() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.Hello.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.Hello build() {
+        fiji.plugin.trackmate.lacss.LacssMsg.Hello result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.Hello buildPartial() {
+        fiji.plugin.trackmate.lacss.LacssMsg.Hello result = new fiji.plugin.trackmate.lacss.LacssMsg.Hello(this);
+        result.protocolVersion_ = protocolVersion_;
+        result.uint32Labels_ = uint32Labels_;
+        result.chunkedResults_ = chunkedResults_;
+        result.rleLabels_ = rleLabels_;
+        result.daemon_ = daemon_;
+        result.token_ = token_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof fiji.plugin.trackmate.lacss.LacssMsg.Hello) {
+          return mergeFrom((fiji.plugin.trackmate.lacss.LacssMsg.Hello)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(fiji.plugin.trackmate.lacss.LacssMsg.Hello other) {
+        if (other == fiji.plugin.trackmate.lacss.LacssMsg.Hello.getDefaultInstance()) return this;
+        if (other.getProtocolVersion() != 0) {
+          setProtocolVersion(other.getProtocolVersion());
+        }
+        if (other.getUint32Labels() != false) {
+          setUint32Labels(other.getUint32Labels());
+        }
+        if (other.getChunkedResults() != false) {
+          setChunkedResults(other.getChunkedResults());
+        }
+        if (other.getRleLabels() != false) {
+          setRleLabels(other.getRleLabels());
+        }
+        if (other.getDaemon() != false) {
+          setDaemon(other.getDaemon());
+        }
+        if (!other.getToken().isEmpty()) {
+          token_ = other.token_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fiji.plugin.trackmate.lacss.LacssMsg.Hello parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fiji.plugin.trackmate.lacss.LacssMsg.Hello) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int protocolVersion_ ;
+      /**
+       * <code>uint32 protocol_version = 1;</code>
+       * @return The protocolVersion.
+       */
+      @java.lang.Override
+      public int getProtocolVersion() {
+        return protocolVersion_;
+      }
+      /**
+       * <code>uint32 protocol_version = 1;</code>
+       * @param value The protocolVersion to set.
+       * @return This builder for chaining.
+       */
+      public Builder setProtocolVersion(int value) {
+        
+        protocolVersion_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 protocol_version = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearProtocolVersion() {
+        
+        protocolVersion_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean uint32Labels_ ;
+      /**
+       * <pre>
+       * the client reads UINT32 label images
+       * </pre>
+       *
+       * <code>bool uint32_labels = 2;</code>
+       * @return The uint32Labels.
+       */
+      @java.lang.Override
+      public boolean getUint32Labels() {
+        return uint32Labels_;
+      }
+      /**
+       * <pre>
+       * the client reads UINT32 label images
+       * </pre>
+       *
+       * <code>bool uint32_labels = 2;</code>
+       * @param value The uint32Labels to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUint32Labels(boolean value) {
+        
+        uint32Labels_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * the client reads UINT32 label images
+       * </pre>
+       *
+       * <code>bool uint32_labels = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUint32Labels() {
+        
+        uint32Labels_ = false;
+        onChanged();
+        return this;
+      }
+
+      private boolean chunkedResults_ ;
+      /**
+       * <pre>
+       * the client reads chunked Labels
+       * </pre>
+       *
+       * <code>bool chunked_results = 3;</code>
+       * @return The chunkedResults.
+       */
+      @java.lang.Override
+      public boolean getChunkedResults() {
+        return chunkedResults_;
+      }
+      /**
+       * <pre>
+       * the client reads chunked Labels
+       * </pre>
+       *
+       * <code>bool chunked_results = 3;</code>
+       * @param value The chunkedResults to set.
+       * @return This builder for chaining.
+       */
+      public Builder setChunkedResults(boolean value) {
+        
+        chunkedResults_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * the client reads chunked Labels
+       * </pre>
+       *
+       * <code>bool chunked_results = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearChunkedResults() {
+        
+        chunkedResults_ = false;
+        onChanged();
+        return this;
+      }
+
+      private boolean rleLabels_ ;
+      /**
+       * <pre>
+       * the client reads RLE compressed Labels
+       * </pre>
+       *
+       * <code>bool rle_labels = 4;</code>
+       * @return The rleLabels.
+       */
+      @java.lang.Override
+      public boolean getRleLabels() {
+        return rleLabels_;
+      }
+      /**
+       * <pre>
+       * the client reads RLE compressed Labels
+       * </pre>
+       *
+       * <code>bool rle_labels = 4;</code>
+       * @param value The rleLabels to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRleLabels(boolean value) {
+        
+        rleLabels_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * the client reads RLE compressed Labels
+       * </pre>
+       *
+       * <code>bool rle_labels = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRleLabels() {
+        
+        rleLabels_ = false;
+        onChanged();
+        return this;
+      }
+
+      private boolean daemon_ ;
+      /**
+       * <pre>
+       * sent on the pipes by the client that starts a server shared with other
+       * clients: the server keeps running when its pipes close, does not write
+       * to its standard output anymore, and exits when its last socket session
+       * closes. Requires a port.
+       * </pre>
+       *
+       * <code>bool daemon = 5;</code>
+       * @return The daemon.
+       */
+      @java.lang.Override
+      public boolean getDaemon() {
+        return daemon_;
+      }
+      /**
+       * <pre>
+       * sent on the pipes by the client that starts a server shared with other
+       * clients: the server keeps running when its pipes close, does not write
+       * to its standard output anymore, and exits when its last socket session
+       * closes. Requires a port.
+       * </pre>
+       *
+       * <code>bool daemon = 5;</code>
+       * @param value The daemon to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDaemon(boolean value) {
+        
+        daemon_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * sent on the pipes by the client that starts a server shared with other
+       * clients: the server keeps running when its pipes close, does not write
+       * to its standard output anymore, and exits when its last socket session
+       * closes. Requires a port.
+       * </pre>
+       *
+       * <code>bool daemon = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDaemon() {
+        
+        daemon_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object token_ = "";
+      /**
+       * <pre>
+       * the secret the server was started with, in its LACSS_TOKEN environment
+       * variable: a server started with one closes the socket sessions whose
+       * Hello does not carry it
+       * </pre>
+       *
+       * <code>string token = 6;</code>
+       * @return The token.
+       */
+      public java.lang.String getToken() {
+        java.lang.Object ref = token_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          token_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * the secret the server was started with, in its LACSS_TOKEN environment
+       * variable: a server started with one closes the socket sessions whose
+       * Hello does not carry it
+       * </pre>
+       *
+       * <code>string token = 6;</code>
+       * @return The bytes for token.
+       */
+      public com.google.protobuf.ByteString
+          getTokenBytes() {
+        java.lang.Object ref = token_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          token_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * the secret the server was started with, in its LACSS_TOKEN environment
+       * variable: a server started with one closes the socket sessions whose
+       * Hello does not carry it
+       * </pre>
+       *
+       * <code>string token = 6;</code>
+       * @param value The token to set.
+       * @return This builder for chaining.
+       */
+      public Builder setToken(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        token_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * the secret the server was started with, in its LACSS_TOKEN environment
+       * variable: a server started with one closes the socket sessions whose
+       * Hello does not carry it
+       * </pre>
+       *
+       * <code>string token = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearToken() {
+        
+        token_ = getDefaultInstance().getToken();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * the secret the server was started with, in its LACSS_TOKEN environment
+       * variable: a server started with one closes the socket sessions whose
+       * Hello does not carry it
+       * </pre>
+       *
+       * <code>string token = 6;</code>
+       * @param value The bytes for token to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTokenBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        token_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:trackmate.lacss.Hello)
+    }
+
+    // @@protoc_insertion_point(class_scope:trackmate.lacss.Hello)
+    private static final fiji.plugin.trackmate.lacss.LacssMsg.Hello DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new fiji.plugin.trackmate.lacss.LacssMsg.Hello();
+    }
+
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Hello getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Hello>
+        PARSER = new com.google.protobuf.AbstractParser<Hello>() {
+      @java.lang.Override
+      public Hello parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Hello(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Hello> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Hello> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public fiji.plugin.trackmate.lacss.LacssMsg.Hello getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ServerHelloOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:trackmate.lacss.ServerHello)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>uint32 protocol_version = 1;</code>
+     * @return The protocolVersion.
+     */
+    int getProtocolVersion();
+
+    /**
+     * <pre>
+     * image dtypes accepted besides FLOAT32
+     * </pre>
+     *
+     * <code>repeated .trackmate.lacss.DType dtypes = 2;</code>
+     * @return A list containing the dtypes.
+     */
+    java.util.List<fiji.plugin.trackmate.lacss.LacssMsg.DType> getDtypesList();
+    /**
+     * <pre>
+     * image dtypes accepted besides FLOAT32
+     * </pre>
+     *
+     * <code>repeated .trackmate.lacss.DType dtypes = 2;</code>
+     * @return The count of dtypes.
+     */
+    int getDtypesCount();
+    /**
+     * <pre>
+     * image dtypes accepted besides FLOAT32
+     * </pre>
+     *
+     * <code>repeated .trackmate.lacss.DType dtypes = 2;</code>
+     * @param index The index of the element to return.
+     * @return The dtypes at the given index.
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.DType getDtypes(int index);
+    /**
+     * <pre>
+     * image dtypes accepted besides FLOAT32
+     * </pre>
+     *
+     * <code>repeated .trackmate.lacss.DType dtypes = 2;</code>
+     * @return A list containing the enum numeric values on the wire for dtypes.
+     */
+    java.util.List<java.lang.Integer>
+    getDtypesValueList();
+    /**
+     * <pre>
+     * image dtypes accepted besides FLOAT32
+     * </pre>
+     *
+     * <code>repeated .trackmate.lacss.DType dtypes = 2;</code>
+     * @param index The index of the value to return.
+     * @return The enum numeric value on the wire of dtypes at the given index.
+     */
+    int getDtypesValue(int index);
+
+    /**
+     * <pre>
+     * honors Image.little_endian
+     * </pre>
+     *
+     * <code>bool little_endian = 3;</code>
+     * @return The littleEndian.
+     */
+    boolean getLittleEndian();
+
+    /**
+     * <pre>
+     * honors the shm_path fields
+     * </pre>
+     *
+     * <code>bool shared_memory = 4;</code>
+     * @return The sharedMemory.
+     */
+    boolean getSharedMemory();
+
+    /**
+     * <pre>
+     * echoes request ids, frames can be pipelined
+     * </pre>
+     *
+     * <code>bool request_ids = 5;</code>
+     * @return The requestIds.
+     */
+    boolean getRequestIds();
+
+    /**
+     * <pre>
+     * frames batched into one inference, 0 if none
+     * </pre>
+     *
+     * <code>uint32 max_batch_size = 6;</code>
+     * @return The maxBatchSize.
+     */
+    int getMaxBatchSize();
+
+    /**
+     * <pre>
+     * can return per-instance results
+     * </pre>
+     *
+     * <code>bool sparse_results = 7;</code>
+     * @return The sparseResults.
+     */
+    boolean getSparseResults();
+
+    /**
+     * <pre>
+     * can return per-instance contours
+     * </pre>
+     *
+     * <code>bool polygon_results = 8;</code>
+     * @return The polygonResults.
+     */
+    boolean getPolygonResults();
+
+    /**
+     * <pre>
+     * reads chunked Images
+     * </pre>
+     *
+     * <code>bool chunked_frames = 9;</code>
+     * @return The chunkedFrames.
+     */
+    boolean getChunkedFrames();
+
+    /**
+     * <pre>
+     * if not 0, the loopback TCP port on which the server accepts more
+     * sessions, each on its own connection and opened with a Hello
+     * </pre>
+     *
+     * <code>uint32 port = 10;</code>
+     * @return The port.
+     */
+    int getPort();
+
+    /**
+     * <pre>
+     * reads DEFLATE compressed Images
+     * </pre>
+     *
+     * <code>bool deflate_images = 11;</code>
+     * @return The deflateImages.
+     */
+    boolean getDeflateImages();
+
+    /**
+     * <pre>
+     * honors Cancel
+     * </pre>
+     *
+     * <code>bool cancel = 12;</code>
+     * @return The cancel.
+     */
+    boolean getCancel();
+  }
+  /**
+   * <pre>
+   * Answer to Hello, sent as the only field of the first Result.
+   * </pre>
+   *
+   * Protobuf type {@code trackmate.lacss.ServerHello}
+   */
+  public static final class ServerHello extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:trackmate.lacss.ServerHello)
+      ServerHelloOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ServerHello.newBuilder() to construct.
+    private ServerHello(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ServerHello() {
+      dtypes_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ServerHello();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ServerHello(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              protocolVersion_ = input.readUInt32();
+              break;
+            }
+            case 16: {
+              int rawValue = input.readEnum();
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                dtypes_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              dtypes_.add(rawValue);
+              break;
+            }
+            case 18: {
+              int length = input.readRawVarint32();
+              int oldLimit = input.pushLimit(length);
+              while(input.getBytesUntilLimit() > 0) {
+                int rawValue = input.readEnum();
+                if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                  dtypes_ = new java.util.ArrayList<java.lang.Integer>();
+                  mutable_bitField0_ |= 0x00000001;
+                }
+                dtypes_.add(rawValue);
+              }
+              input.popLimit(oldLimit);
+              break;
+            }
+            case 24: {
+
+              littleEndian_ = input.readBool();
+              break;
+            }
+            case 32: {
+
+              sharedMemory_ = input.readBool();
+              break;
+            }
+            case 40: {
+
+              requestIds_ = input.readBool();
+              break;
+            }
+            case 48: {
+
+              maxBatchSize_ = input.readUInt32();
+              break;
+            }
+            case 56: {
+
+              sparseResults_ = input.readBool();
+              break;
+            }
+            case 64: {
+
+              polygonResults_ = input.readBool();
+              break;
+            }
+            case 72: {
+
+              chunkedFrames_ = input.readBool();
+              break;
+            }
+            case 80: {
+
+              port_ = input.readUInt32();
+              break;
+            }
+            case 88: {
+
+              deflateImages_ = input.readBool();
+              break;
+            }
+            case 96: {
+
+              cancel_ = input.readBool();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          dtypes_ = java.util.Collections.unmodifiableList(dtypes_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_ServerHello_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_ServerHello_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fiji.plugin.trackmate.lacss.LacssMsg.ServerHello.class, fiji.plugin.trackmate.lacss.LacssMsg.ServerHello.Builder.class);
+    }
+
+    public static final int PROTOCOL_VERSION_FIELD_NUMBER = 1;
+    private int protocolVersion_;
+    /**
+     * <code>uint32 protocol_version = 1;</code>
+     * @return The protocolVersion.
+     */
+    @java.lang.Override
+    public int getProtocolVersion() {
+      return protocolVersion_;
+    }
+
+    public static final int DTYPES_FIELD_NUMBER = 2;
+    private java.util.List<java.lang.Integer> dtypes_;
+    private static final com.google.protobuf.Internal.ListAdapter.Converter<
+        java.lang.Integer, fiji.plugin.trackmate.lacss.LacssMsg.DType> dtypes_converter_ =
+            new com.google.protobuf.Internal.ListAdapter.Converter<
+                java.lang.Integer, fiji.plugin.trackmate.lacss.LacssMsg.DType>() {
+              public fiji.plugin.trackmate.lacss.LacssMsg.DType convert(java.lang.Integer from) {
+                @SuppressWarnings("deprecation")
+                fiji.plugin.trackmate.lacss.LacssMsg.DType result = fiji.plugin.trackmate.lacss.LacssMsg.DType.valueOf(from);
+                return result == null ? fiji.plugin.trackmate.lacss.LacssMsg.DType.UNRECOGNIZED : result;
+              }
+            };
+    /**
+     * <pre>
+     * image dtypes accepted besides FLOAT32
+     * </pre>
+     *
+     * <code>repeated .trackmate.lacss.DType dtypes = 2;</code>
+     * @return A list containing the dtypes.
+     */
+    @java.lang.Override
+    public java.util.List<fiji.plugin.trackmate.lacss.LacssMsg.DType> getDtypesList() {
+      return new com.google.protobuf.Internal.ListAdapter<
+          java.lang.Integer, fiji.plugin.trackmate.lacss.LacssMsg.DType>(dtypes_, dtypes_converter_);
+    }
+    /**
+     * <pre>
+     * image dtypes accepted besides FLOAT32
+     * </pre>
+     *
+     * <code>repeated .trackmate.lacss.DType dtypes = 2;</code>
+     * @return The count of dtypes.
+     */
+    @java.lang.Override
+    public int getDtypesCount() {
+      return dtypes_.size();
+    }
+    /**
+     * <pre>
+     * image dtypes accepted besides FLOAT32
+     * </pre>
+     *
+     * <code>repeated .trackmate.lacss.DType dtypes = 2;</code>
+     * @param index The index of the element to return.
+     * @return The dtypes at the given index.
+     */
+    @java.lang.Override
+    public fiji.plugin.trackmate.lacss.LacssMsg.DType getDtypes(int index) {
+      return dtypes_converter_.convert(dtypes_.get(index));
+    }
+    /**
+     * <pre>
+     * image dtypes accepted besides FLOAT32
+     * </pre>
+     *
+     * <code>repeated .trackmate.lacss.DType dtypes = 2;</code>
+     * @return A list containing the enum numeric values on the wire for dtypes.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+    getDtypesValueList() {
+      return dtypes_;
+    }
+    /**
+     * <pre>
+     * image dtypes accepted besides FLOAT32
+     * </pre>
+     *
+     * <code>repeated .trackmate.lacss.DType dtypes = 2;</code>
+     * @param index The index of the value to return.
+     * @return The enum numeric value on the wire of dtypes at the given index.
+     */
+    @java.lang.Override
+    public int getDtypesValue(int index) {
+      return dtypes_.get(index);
+    }
+    private int dtypesMemoizedSerializedSize;
+
+    public static final int LITTLE_ENDIAN_FIELD_NUMBER = 3;
+    private boolean littleEndian_;
+    /**
+     * <pre>
+     * honors Image.little_endian
+     * </pre>
+     *
+     * <code>bool little_endian = 3;</code>
+     * @return The littleEndian.
+     */
+    @java.lang.Override
+    public boolean getLittleEndian() {
+      return littleEndian_;
+    }
+
+    public static final int SHARED_MEMORY_FIELD_NUMBER = 4;
+    private boolean sharedMemory_;
+    /**
+     * <pre>
+     * honors the shm_path fields
+     * </pre>
+     *
+     * <code>bool shared_memory = 4;</code>
+     * @return The sharedMemory.
+     */
+    @java.lang.Override
+    public boolean getSharedMemory() {
+      return sharedMemory_;
+    }
+
+    public static final int REQUEST_IDS_FIELD_NUMBER = 5;
+    private boolean requestIds_;
+    /**
+     * <pre>
+     * echoes request ids, frames can be pipelined
+     * </pre>
+     *
+     * <code>bool request_ids = 5;</code>
+     * @return The requestIds.
+     */
+    @java.lang.Override
+    public boolean getRequestIds() {
+      return requestIds_;
+    }
+
+    public static final int MAX_BATCH_SIZE_FIELD_NUMBER = 6;
+    private int maxBatchSize_;
+    /**
+     * <pre>
+     * frames batched into one inference, 0 if none
+     * </pre>
+     *
+     * <code>uint32 max_batch_size = 6;</code>
+     * @return The maxBatchSize.
+     */
+    @java.lang.Override
+    public int getMaxBatchSize() {
+      return maxBatchSize_;
+    }
+
+    public static final int SPARSE_RESULTS_FIELD_NUMBER = 7;
+    private boolean sparseResults_;
+    /**
+     * <pre>
+     * can return per-instance results
+     * </pre>
+     *
+     * <code>bool sparse_results = 7;</code>
+     * @return The sparseResults.
+     */
+    @java.lang.Override
+    public boolean getSparseResults() {
+      return sparseResults_;
+    }
+
+    public static final int POLYGON_RESULTS_FIELD_NUMBER = 8;
+    private boolean polygonResults_;
+    /**
+     * <pre>
+     * can return per-instance contours
+     * </pre>
+     *
+     * <code>bool polygon_results = 8;</code>
+     * @return The polygonResults.
+     */
+    @java.lang.Override
+    public boolean getPolygonResults() {
+      return polygonResults_;
+    }
+
+    public static final int CHUNKED_FRAMES_FIELD_NUMBER = 9;
+    private boolean chunkedFrames_;
+    /**
+     * <pre>
+     * reads chunked Images
+     * </pre>
+     *
+     * <code>bool chunked_frames = 9;</code>
+     * @return The chunkedFrames.
+     */
+    @java.lang.Override
+    public boolean getChunkedFrames() {
+      return chunkedFrames_;
+    }
+
+    public static final int PORT_FIELD_NUMBER = 10;
+    private int port_;
+    /**
+     * <pre>
+     * if not 0, the loopback TCP port on which the server accepts more
+     * sessions, each on its own connection and opened with a Hello
+     * </pre>
+     *
+     * <code>uint32 port = 10;</code>
+     * @return The port.
+     */
+    @java.lang.Override
+    public int getPort() {
+      return port_;
+    }
+
+    public static final int DEFLATE_IMAGES_FIELD_NUMBER = 11;
+    private boolean deflateImages_;
+    /**
+     * <pre>
+     * reads DEFLATE compressed Images
+     * </pre>
+     *
+     * <code>bool deflate_images = 11;</code>
+     * @return The deflateImages.
+     */
+    @java.lang.Override
+    public boolean getDeflateImages() {
+      return deflateImages_;
+    }
+
+    public static final int CANCEL_FIELD_NUMBER = 12;
+    private boolean cancel_;
+    /**
+     * <pre>
+     * honors Cancel
+     * </pre>
+     *
+     * <code>bool cancel = 12;</code>
+     * @return The cancel.
+     */
+    @java.lang.Override
+    public boolean getCancel() {
+      return cancel_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (protocolVersion_ != 0) {
+        output.writeUInt32(1, protocolVersion_);
+      }
+      if (getDtypesList().size() > 0) {
+        output.writeUInt32NoTag(18);
+        output.writeUInt32NoTag(dtypesMemoizedSerializedSize);
+      }
+      for (int i = 0; i < dtypes_.size(); i++) {
+        output.writeEnumNoTag(dtypes_.get(i));
+      }
+      if (littleEndian_ != false) {
+        output.writeBool(3, littleEndian_);
+      }
+      if (sharedMemory_ != false) {
+        output.writeBool(4, sharedMemory_);
+      }
+      if (requestIds_ != false) {
+        output.writeBool(5, requestIds_);
+      }
+      if (maxBatchSize_ != 0) {
+        output.writeUInt32(6, maxBatchSize_);
+      }
+      if (sparseResults_ != false) {
+        output.writeBool(7, sparseResults_);
+      }
+      if (polygonResults_ != false) {
+        output.writeBool(8, polygonResults_);
+      }
+      if (chunkedFrames_ != false) {
+        output.writeBool(9, chunkedFrames_);
+      }
+      if (port_ != 0) {
+        output.writeUInt32(10, port_);
+      }
+      if (deflateImages_ != false) {
+        output.writeBool(11, deflateImages_);
+      }
+      if (cancel_ != false) {
+        output.writeBool(12, cancel_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (protocolVersion_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, protocolVersion_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < dtypes_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeEnumSizeNoTag(dtypes_.get(i));
+        }
+        size += dataSize;
+        if (!getDtypesList().isEmpty()) {  size += 1;
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(dataSize);
+        }dtypesMemoizedSerializedSize = dataSize;
+      }
+      if (littleEndian_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, littleEndian_);
+      }
+      if (sharedMemory_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, sharedMemory_);
+      }
+      if (requestIds_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(5, requestIds_);
+      }
+      if (maxBatchSize_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(6, maxBatchSize_);
+      }
+      if (sparseResults_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(7, sparseResults_);
+      }
+      if (polygonResults_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(8, polygonResults_);
+      }
+      if (chunkedFrames_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(9, chunkedFrames_);
+      }
+      if (port_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(10, port_);
+      }
+      if (deflateImages_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(11, deflateImages_);
+      }
+      if (cancel_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(12, cancel_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof fiji.plugin.trackmate.lacss.LacssMsg.ServerHello)) {
+        return super.equals(obj);
+      }
+      fiji.plugin.trackmate.lacss.LacssMsg.ServerHello other = (fiji.plugin.trackmate.lacss.LacssMsg.ServerHello) obj;
+
+      if (getProtocolVersion()
+          != other.getProtocolVersion()) return false;
+      if (!dtypes_.equals(other.dtypes_)) return false;
+      if (getLittleEndian()
+          != other.getLittleEndian()) return false;
+      if (getSharedMemory()
+          != other.getSharedMemory()) return false;
+      if (getRequestIds()
+          != other.getRequestIds()) return false;
+      if (getMaxBatchSize()
+          != other.getMaxBatchSize()) return false;
+      if (getSparseResults()
+          != other.getSparseResults()) return false;
+      if (getPolygonResults()
+          != other.getPolygonResults()) return false;
+      if (getChunkedFrames()
+          != other.getChunkedFrames()) return false;
+      if (getPort()
+          != other.getPort()) return false;
+      if (getDeflateImages()
+          != other.getDeflateImages()) return false;
+      if (getCancel()
+          != other.getCancel()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + PROTOCOL_VERSION_FIELD_NUMBER;
+      hash = (53 * hash) + getProtocolVersion();
+      if (getDtypesCount() > 0) {
+        hash = (37 * hash) + DTYPES_FIELD_NUMBER;
+        hash = (53 * hash) + dtypes_.hashCode();
+      }
+      hash = (37 * hash) + LITTLE_ENDIAN_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getLittleEndian());
+      hash = (37 * hash) + SHARED_MEMORY_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getSharedMemory());
+      hash = (37 * hash) + REQUEST_IDS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getRequestIds());
+      hash = (37 * hash) + MAX_BATCH_SIZE_FIELD_NUMBER;
+      hash = (53 * hash) + getMaxBatchSize();
+      hash = (37 * hash) + SPARSE_RESULTS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getSparseResults());
+      hash = (37 * hash) + POLYGON_RESULTS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getPolygonResults());
+      hash = (37 * hash) + CHUNKED_FRAMES_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getChunkedFrames());
+      hash = (37 * hash) + PORT_FIELD_NUMBER;
+      hash = (53 * hash) + getPort();
+      hash = (37 * hash) + DEFLATE_IMAGES_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getDeflateImages());
+      hash = (37 * hash) + CANCEL_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getCancel());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static fiji.plugin.trackmate.lacss.LacssMsg.ServerHello parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.ServerHello parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.ServerHello parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.ServerHello parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.ServerHello parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.ServerHello parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.ServerHello parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.ServerHello parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.ServerHello parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.ServerHello parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.ServerHello parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.ServerHello parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fiji.plugin.trackmate.lacss.LacssMsg.ServerHello prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Answer to Hello, sent as the only field of the first Result.
+     * </pre>
+     *
+     * Protobuf type {@code trackmate.lacss.ServerHello}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:trackmate.lacss.ServerHello)
+        fiji.plugin.trackmate.lacss.LacssMsg.ServerHelloOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_ServerHello_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_ServerHello_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fiji.plugin.trackmate.lacss.LacssMsg.ServerHello.class, fiji.plugin.trackmate.lacss.LacssMsg.ServerHello.Builder.class);
+      }
+
+      // Construct using fiji.plugin.trackmate.lacss.LacssMsg.ServerHello.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        protocolVersion_ = 0;
+
+        dtypes_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        littleEndian_ = false;
+
+        sharedMemory_ = false;
+
+        requestIds_ = false;
+
+        maxBatchSize_ = 0;
+
+        sparseResults_ = false;
+
+        polygonResults_ = false;
+
+        chunkedFrames_ = false;
+
+        port_ = 0;
+
+        deflateImages_ = false;
+
+        cancel_ = false;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_ServerHello_descriptor;
+      }
+
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.ServerHello getDefaultInstanceForType() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.ServerHello.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.ServerHello build() {
+        fiji.plugin.trackmate.lacss.LacssMsg.ServerHello result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.ServerHello buildPartial() {
+        fiji.plugin.trackmate.lacss.LacssMsg.ServerHello result = new fiji.plugin.trackmate.lacss.LacssMsg.ServerHello(this);
+        int from_bitField0_ = bitField0_;
+        result.protocolVersion_ = protocolVersion_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          dtypes_ = java.util.Collections.unmodifiableList(dtypes_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.dtypes_ = dtypes_;
+        result.littleEndian_ = littleEndian_;
+        result.sharedMemory_ = sharedMemory_;
+        result.requestIds_ = requestIds_;
+        result.maxBatchSize_ = maxBatchSize_;
+        result.sparseResults_ = sparseResults_;
+        result.polygonResults_ = polygonResults_;
+        result.chunkedFrames_ = chunkedFrames_;
+        result.port_ = port_;
+        result.deflateImages_ = deflateImages_;
+        result.cancel_ = cancel_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof fiji.plugin.trackmate.lacss.LacssMsg.ServerHello) {
+          return mergeFrom((fiji.plugin.trackmate.lacss.LacssMsg.ServerHello)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(fiji.plugin.trackmate.lacss.LacssMsg.ServerHello other) {
+        if (other == fiji.plugin.trackmate.lacss.LacssMsg.ServerHello.getDefaultInstance()) return this;
+        if (other.getProtocolVersion() != 0) {
+          setProtocolVersion(other.getProtocolVersion());
+        }
+        if (!other.dtypes_.isEmpty()) {
+          if (dtypes_.isEmpty()) {
+            dtypes_ = other.dtypes_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureDtypesIsMutable();
+            dtypes_.addAll(other.dtypes_);
+          }
+          onChanged();
+        }
+        if (other.getLittleEndian() != false) {
+          setLittleEndian(other.getLittleEndian());
+        }
+        if (other.getSharedMemory() != false) {
+          setSharedMemory(other.getSharedMemory());
+        }
+        if (other.getRequestIds() != false) {
+          setRequestIds(other.getRequestIds());
+        }
+        if (other.getMaxBatchSize() != 0) {
+          setMaxBatchSize(other.getMaxBatchSize());
+        }
+        if (other.getSparseResults() != false) {
+          setSparseResults(other.getSparseResults());
+        }
+        if (other.getPolygonResults() != false) {
+          setPolygonResults(other.getPolygonResults());
+        }
+        if (other.getChunkedFrames() != false) {
+          setChunkedFrames(other.getChunkedFrames());
+        }
+        if (other.getPort() != 0) {
+          setPort(other.getPort());
+        }
+        if (other.getDeflateImages() != false) {
+          setDeflateImages(other.getDeflateImages());
+        }
+        if (other.getCancel() != false) {
+          setCancel(other.getCancel());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fiji.plugin.trackmate.lacss.LacssMsg.ServerHello parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fiji.plugin.trackmate.lacss.LacssMsg.ServerHello) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int protocolVersion_ ;
+      /**
+       * <code>uint32 protocol_version = 1;</code>
+       * @return The protocolVersion.
+       */
+      @java.lang.Override
+      public int getProtocolVersion() {
+        return protocolVersion_;
+      }
+      /**
+       * <code>uint32 protocol_version = 1;</code>
+       * @param value The protocolVersion to set.
+       * @return This builder for chaining.
+       */
+      public Builder setProtocolVersion(int value) {
+        
+        protocolVersion_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 protocol_version = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearProtocolVersion() {
+        
+        protocolVersion_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<java.lang.Integer> dtypes_ =
+        java.util.Collections.emptyList();
+      private void ensureDtypesIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          dtypes_ = new java.util.ArrayList<java.lang.Integer>(dtypes_);
+          bitField0_ |= 0x00000001;
+        }
+      }
+      /**
+       * <pre>
+       * image dtypes accepted besides FLOAT32
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.DType dtypes = 2;</code>
+       * @return A list containing the dtypes.
+       */
+      public java.util.List<fiji.plugin.trackmate.lacss.LacssMsg.DType> getDtypesList() {
+        return new com.google.protobuf.Internal.ListAdapter<
+            java.lang.Integer, fiji.plugin.trackmate.lacss.LacssMsg.DType>(dtypes_, dtypes_converter_);
+      }
+      /**
+       * <pre>
+       * image dtypes accepted besides FLOAT32
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.DType dtypes = 2;</code>
+       * @return The count of dtypes.
+       */
+      public int getDtypesCount() {
+        return dtypes_.size();
+      }
+      /**
+       * <pre>
+       * image dtypes accepted besides FLOAT32
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.DType dtypes = 2;</code>
+       * @param index The index of the element to return.
+       * @return The dtypes at the given index.
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.DType getDtypes(int index) {
+        return dtypes_converter_.convert(dtypes_.get(index));
+      }
+      /**
+       * <pre>
+       * image dtypes accepted besides FLOAT32
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.DType dtypes = 2;</code>
+       * @param index The index to set the value at.
+       * @param value The dtypes to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDtypes(
+          int index, fiji.plugin.trackmate.lacss.LacssMsg.DType value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureDtypesIsMutable();
+        dtypes_.set(index, value.getNumber());
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * image dtypes accepted besides FLOAT32
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.DType dtypes = 2;</code>
+       * @param value The dtypes to add.
+       * @return This builder for chaining.
+       */
+      public Builder addDtypes(fiji.plugin.trackmate.lacss.LacssMsg.DType value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureDtypesIsMutable();
+        dtypes_.add(value.getNumber());
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * image dtypes accepted besides FLOAT32
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.DType dtypes = 2;</code>
+       * @param values The dtypes to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllDtypes(
+          java.lang.Iterable<? extends fiji.plugin.trackmate.lacss.LacssMsg.DType> values) {
+        ensureDtypesIsMutable();
+        for (fiji.plugin.trackmate.lacss.LacssMsg.DType value : values) {
+          dtypes_.add(value.getNumber());
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * image dtypes accepted besides FLOAT32
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.DType dtypes = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDtypes() {
+        dtypes_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * image dtypes accepted besides FLOAT32
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.DType dtypes = 2;</code>
+       * @return A list containing the enum numeric values on the wire for dtypes.
+       */
+      public java.util.List<java.lang.Integer>
+      getDtypesValueList() {
+        return java.util.Collections.unmodifiableList(dtypes_);
+      }
+      /**
+       * <pre>
+       * image dtypes accepted besides FLOAT32
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.DType dtypes = 2;</code>
+       * @param index The index of the value to return.
+       * @return The enum numeric value on the wire of dtypes at the given index.
+       */
+      public int getDtypesValue(int index) {
+        return dtypes_.get(index);
+      }
+      /**
+       * <pre>
+       * image dtypes accepted besides FLOAT32
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.DType dtypes = 2;</code>
+       * @param index The index of the value to return.
+       * @return The enum numeric value on the wire of dtypes at the given index.
+       * @return This builder for chaining.
+       */
+      public Builder setDtypesValue(
+          int index, int value) {
+        ensureDtypesIsMutable();
+        dtypes_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * image dtypes accepted besides FLOAT32
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.DType dtypes = 2;</code>
+       * @param value The enum numeric value on the wire for dtypes to add.
+       * @return This builder for chaining.
+       */
+      public Builder addDtypesValue(int value) {
+        ensureDtypesIsMutable();
+        dtypes_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * image dtypes accepted besides FLOAT32
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.DType dtypes = 2;</code>
+       * @param values The enum numeric values on the wire for dtypes to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllDtypesValue(
+          java.lang.Iterable<java.lang.Integer> values) {
+        ensureDtypesIsMutable();
+        for (int value : values) {
+          dtypes_.add(value);
+        }
+        onChanged();
+        return this;
+      }
+
+      private boolean littleEndian_ ;
+      /**
+       * <pre>
+       * honors Image.little_endian
+       * </pre>
+       *
+       * <code>bool little_endian = 3;</code>
+       * @return The littleEndian.
+       */
+      @java.lang.Override
+      public boolean getLittleEndian() {
+        return littleEndian_;
+      }
+      /**
+       * <pre>
+       * honors Image.little_endian
+       * </pre>
+       *
+       * <code>bool little_endian = 3;</code>
+       * @param value The littleEndian to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLittleEndian(boolean value) {
+        
+        littleEndian_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * honors Image.little_endian
+       * </pre>
+       *
+       * <code>bool little_endian = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLittleEndian() {
+        
+        littleEndian_ = false;
+        onChanged();
+        return this;
+      }
+
+      private boolean sharedMemory_ ;
+      /**
+       * <pre>
+       * honors the shm_path fields
+       * </pre>
+       *
+       * <code>bool shared_memory = 4;</code>
+       * @return The sharedMemory.
+       */
+      @java.lang.Override
+      public boolean getSharedMemory() {
+        return sharedMemory_;
+      }
+      /**
+       * <pre>
+       * honors the shm_path fields
+       * </pre>
+       *
+       * <code>bool shared_memory = 4;</code>
+       * @param value The sharedMemory to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSharedMemory(boolean value) {
+        
+        sharedMemory_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * honors the shm_path fields
+       * </pre>
+       *
+       * <code>bool shared_memory = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSharedMemory() {
+        
+        sharedMemory_ = false;
+        onChanged();
+        return this;
+      }
+
+      private boolean requestIds_ ;
+      /**
+       * <pre>
+       * echoes request ids, frames can be pipelined
+       * </pre>
+       *
+       * <code>bool request_ids = 5;</code>
+       * @return The requestIds.
+       */
+      @java.lang.Override
+      public boolean getRequestIds() {
+        return requestIds_;
+      }
+      /**
+       * <pre>
+       * echoes request ids, frames can be pipelined
+       * </pre>
+       *
+       * <code>bool request_ids = 5;</code>
+       * @param value The requestIds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRequestIds(boolean value) {
+        
+        requestIds_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * echoes request ids, frames can be pipelined
+       * </pre>
+       *
+       * <code>bool request_ids = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRequestIds() {
+        
+        requestIds_ = false;
+        onChanged();
+        return this;
+      }
+
+      private int maxBatchSize_ ;
+      /**
+       * <pre>
+       * frames batched into one inference, 0 if none
+       * </pre>
+       *
+       * <code>uint32 max_batch_size = 6;</code>
+       * @return The maxBatchSize.
+       */
+      @java.lang.Override
+      public int getMaxBatchSize() {
+        return maxBatchSize_;
+      }
+      /**
+       * <pre>
+       * frames batched into one inference, 0 if none
+       * </pre>
+       *
+       * <code>uint32 max_batch_size = 6;</code>
+       * @param value The maxBatchSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMaxBatchSize(int value) {
+        
+        maxBatchSize_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * frames batched into one inference, 0 if none
+       * </pre>
+       *
+       * <code>uint32 max_batch_size = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMaxBatchSize() {
+        
+        maxBatchSize_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean sparseResults_ ;
+      /**
+       * <pre>
+       * can return per-instance results
+       * </pre>
+       *
+       * <code>bool sparse_results = 7;</code>
+       * @return The sparseResults.
+       */
+      @java.lang.Override
+      public boolean getSparseResults() {
+        return sparseResults_;
+      }
+      /**
+       * <pre>
+       * can return per-instance results
+       * </pre>
+       *
+       * <code>bool sparse_results = 7;</code>
+       * @param value The sparseResults to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSparseResults(boolean value) {
+        
+        sparseResults_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * can return per-instance results
+       * </pre>
+       *
+       * <code>bool sparse_results = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSparseResults() {
+        
+        sparseResults_ = false;
+        onChanged();
+        return this;
+      }
+
+      private boolean polygonResults_ ;
+      /**
+       * <pre>
+       * can return per-instance contours
+       * </pre>
+       *
+       * <code>bool polygon_results = 8;</code>
+       * @return The polygonResults.
+       */
+      @java.lang.Override
+      public boolean getPolygonResults() {
+        return polygonResults_;
+      }
+      /**
+       * <pre>
+       * can return per-instance contours
+       * </pre>
+       *
+       * <code>bool polygon_results = 8;</code>
+       * @param value The polygonResults to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPolygonResults(boolean value) {
+        
+        polygonResults_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * can return per-instance contours
+       * </pre>
+       *
+       * <code>bool polygon_results = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPolygonResults() {
+        
+        polygonResults_ = false;
+        onChanged();
+        return this;
+      }
+
+      private boolean chunkedFrames_ ;
+      /**
+       * <pre>
+       * reads chunked Images
+       * </pre>
+       *
+       * <code>bool chunked_frames = 9;</code>
+       * @return The chunkedFrames.
+       */
+      @java.lang.Override
+      public boolean getChunkedFrames() {
+        return chunkedFrames_;
+      }
+      /**
+       * <pre>
+       * reads chunked Images
+       * </pre>
+       *
+       * <code>bool chunked_frames = 9;</code>
+       * @param value The chunkedFrames to set.
+       * @return This builder for chaining.
+       */
+      public Builder setChunkedFrames(boolean value) {
+        
+        chunkedFrames_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * reads chunked Images
+       * </pre>
+       *
+       * <code>bool chunked_frames = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearChunkedFrames() {
+        
+        chunkedFrames_ = false;
+        onChanged();
+        return this;
+      }
+
+      private int port_ ;
+      /**
+       * <pre>
+       * if not 0, the loopback TCP port on which the server accepts more
+       * sessions, each on its own connection and opened with a Hello
+       * </pre>
+       *
+       * <code>uint32 port = 10;</code>
+       * @return The port.
+       */
+      @java.lang.Override
+      public int getPort() {
+        return port_;
+      }
+      /**
+       * <pre>
+       * if not 0, the loopback TCP port on which the server accepts more
+       * sessions, each on its own connection and opened with a Hello
+       * </pre>
+       *
+       * <code>uint32 port = 10;</code>
+       * @param value The port to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPort(int value) {
+        
+        port_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * if not 0, the loopback TCP port on which the server accepts more
+       * sessions, each on its own connection and opened with a Hello
+       * </pre>
+       *
+       * <code>uint32 port = 10;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPort() {
+        
+        port_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean deflateImages_ ;
+      /**
+       * <pre>
+       * reads DEFLATE compressed Images
+       * </pre>
+       *
+       * <code>bool deflate_images = 11;</code>
+       * @return The deflateImages.
+       */
+      @java.lang.Override
+      public boolean getDeflateImages() {
+        return deflateImages_;
+      }
+      /**
+       * <pre>
+       * reads DEFLATE compressed Images
+       * </pre>
+       *
+       * <code>bool deflate_images = 11;</code>
+       * @param value The deflateImages to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDeflateImages(boolean value) {
+        
+        deflateImages_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * reads DEFLATE compressed Images
+       * </pre>
+       *
+       * <code>bool deflate_images = 11;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDeflateImages() {
+        
+        deflateImages_ = false;
+        onChanged();
+        return this;
+      }
+
+      private boolean cancel_ ;
+      /**
+       * <pre>
+       * honors Cancel
+       * </pre>
+       *
+       * <code>bool cancel = 12;</code>
+       * @return The cancel.
+       */
+      @java.lang.Override
+      public boolean getCancel() {
+        return cancel_;
+      }
+      /**
+       * <pre>
+       * honors Cancel
+       * </pre>
+       *
+       * <code>bool cancel = 12;</code>
+       * @param value The cancel to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCancel(boolean value) {
+        
+        cancel_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * honors Cancel
+       * </pre>
+       *
+       * <code>bool cancel = 12;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCancel() {
+        
+        cancel_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:trackmate.lacss.ServerHello)
+    }
+
+    // @@protoc_insertion_point(class_scope:trackmate.lacss.ServerHello)
+    private static final fiji.plugin.trackmate.lacss.LacssMsg.ServerHello DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new fiji.plugin.trackmate.lacss.LacssMsg.ServerHello();
+    }
+
+    public static fiji.plugin.trackmate.lacss.LacssMsg.ServerHello getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ServerHello>
+        PARSER = new com.google.protobuf.AbstractParser<ServerHello>() {
+      @java.lang.Override
+      public ServerHello parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ServerHello(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ServerHello> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ServerHello> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public fiji.plugin.trackmate.lacss.LacssMsg.ServerHello getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ConfigureOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:trackmate.lacss.Configure)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>uint32 settings_id = 1;</code>
+     * @return The settingsId.
+     */
+    int getSettingsId();
+
+    /**
+     * <code>.trackmate.lacss.Settings settings = 2;</code>
+     * @return Whether the settings field is set.
+     */
+    boolean hasSettings();
+    /**
+     * <code>.trackmate.lacss.Settings settings = 2;</code>
+     * @return The settings.
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.Settings getSettings();
+    /**
+     * <code>.trackmate.lacss.Settings settings = 2;</code>
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.SettingsOrBuilder getSettingsOrBuilder();
+  }
+  /**
+   * <pre>
+   * Registers settings under an id that later Inputs refer to instead of
+   * repeating them. Sent as the only field of an Input; not answered.
+   * </pre>
+   *
+   * Protobuf type {@code trackmate.lacss.Configure}
+   */
+  public static final class Configure extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:trackmate.lacss.Configure)
+      ConfigureOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Configure.newBuilder() to construct.
+    private Configure(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Configure() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Configure();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Configure(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              settingsId_ = input.readUInt32();
+              break;
+            }
+            case 18: {
+              fiji.plugin.trackmate.lacss.LacssMsg.Settings.Builder subBuilder = null;
+              if (settings_ != null) {
+                subBuilder = settings_.toBuilder();
+              }
+              settings_ = input.readMessage(fiji.plugin.trackmate.lacss.LacssMsg.Settings.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(settings_);
+                settings_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Configure_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Configure_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fiji.plugin.trackmate.lacss.LacssMsg.Configure.class, fiji.plugin.trackmate.lacss.LacssMsg.Configure.Builder.class);
+    }
+
+    public static final int SETTINGS_ID_FIELD_NUMBER = 1;
+    private int settingsId_;
+    /**
+     * <code>uint32 settings_id = 1;</code>
+     * @return The settingsId.
+     */
+    @java.lang.Override
+    public int getSettingsId() {
+      return settingsId_;
+    }
+
+    public static final int SETTINGS_FIELD_NUMBER = 2;
+    private fiji.plugin.trackmate.lacss.LacssMsg.Settings settings_;
+    /**
+     * <code>.trackmate.lacss.Settings settings = 2;</code>
+     * @return Whether the settings field is set.
+     */
+    @java.lang.Override
+    public boolean hasSettings() {
+      return settings_ != null;
+    }
+    /**
+     * <code>.trackmate.lacss.Settings settings = 2;</code>
+     * @return The settings.
+     */
+    @java.lang.Override
+    public fiji.plugin.trackmate.lacss.LacssMsg.Settings getSettings() {
+      return settings_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.Settings.getDefaultInstance() : settings_;
+    }
+    /**
+     * <code>.trackmate.lacss.Settings settings = 2;</code>
+     */
+    @java.lang.Override
+    public fiji.plugin.trackmate.lacss.LacssMsg.SettingsOrBuilder getSettingsOrBuilder() {
+      return getSettings();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (settingsId_ != 0) {
+        output.writeUInt32(1, settingsId_);
+      }
+      if (settings_ != null) {
+        output.writeMessage(2, getSettings());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (settingsId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, settingsId_);
+      }
+      if (settings_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getSettings());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof fiji.plugin.trackmate.lacss.LacssMsg.Configure)) {
+        return super.equals(obj);
+      }
+      fiji.plugin.trackmate.lacss.LacssMsg.Configure other = (fiji.plugin.trackmate.lacss.LacssMsg.Configure) obj;
+
+      if (getSettingsId()
+          != other.getSettingsId()) return false;
+      if (hasSettings() != other.hasSettings()) return false;
+      if (hasSettings()) {
+        if (!getSettings()
+            .equals(other.getSettings())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SETTINGS_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getSettingsId();
+      if (hasSettings()) {
+        hash = (37 * hash) + SETTINGS_FIELD_NUMBER;
+        hash = (53 * hash) + getSettings().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Configure parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Configure parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Configure parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Configure parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Configure parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Configure parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Configure parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Configure parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Configure parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Configure parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Configure parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Configure parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fiji.plugin.trackmate.lacss.LacssMsg.Configure prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Registers settings under an id that later Inputs refer to instead of
+     * repeating them. Sent as the only field of an Input; not answered.
+     * </pre>
+     *
+     * Protobuf type {@code trackmate.lacss.Configure}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:trackmate.lacss.Configure)
+        fiji.plugin.trackmate.lacss.LacssMsg.ConfigureOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Configure_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Configure_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fiji.plugin.trackmate.lacss.LacssMsg.Configure.class, fiji.plugin.trackmate.lacss.LacssMsg.Configure.Builder.class);
+      }
+
+      // Construct using fiji.plugin.trackmate.lacss.LacssMsg.Configure.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        settingsId_ = 0;
+
+        if (settingsBuilder_ == null) {
+          settings_ = null;
+        } else {
+          settings_ = null;
+          settingsBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Configure_descriptor;
+      }
+
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.Configure getDefaultInstanceForType() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.Configure.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.Configure build() {
+        fiji.plugin.trackmate.lacss.LacssMsg.Configure result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.Configure buildPartial() {
+        fiji.plugin.trackmate.lacss.LacssMsg.Configure result = new fiji.plugin.trackmate.lacss.LacssMsg.Configure(this);
+        result.settingsId_ = settingsId_;
+        if (settingsBuilder_ == null) {
+          result.settings_ = settings_;
+        } else {
+          result.settings_ = settingsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof fiji.plugin.trackmate.lacss.LacssMsg.Configure) {
+          return mergeFrom((fiji.plugin.trackmate.lacss.LacssMsg.Configure)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(fiji.plugin.trackmate.lacss.LacssMsg.Configure other) {
+        if (other == fiji.plugin.trackmate.lacss.LacssMsg.Configure.getDefaultInstance()) return this;
+        if (other.getSettingsId() != 0) {
+          setSettingsId(other.getSettingsId());
+        }
+        if (other.hasSettings()) {
+          mergeSettings(other.getSettings());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fiji.plugin.trackmate.lacss.LacssMsg.Configure parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fiji.plugin.trackmate.lacss.LacssMsg.Configure) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private int settingsId_ ;
+      /**
+       * <code>uint32 settings_id = 1;</code>
+       * @return The settingsId.
+       */
+      @java.lang.Override
+      public int getSettingsId() {
+        return settingsId_;
+      }
+      /**
+       * <code>uint32 settings_id = 1;</code>
+       * @param value The settingsId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSettingsId(int value) {
+        
+        settingsId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 settings_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSettingsId() {
+        
+        settingsId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private fiji.plugin.trackmate.lacss.LacssMsg.Settings settings_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          fiji.plugin.trackmate.lacss.LacssMsg.Settings, fiji.plugin.trackmate.lacss.LacssMsg.Settings.Builder, fiji.plugin.trackmate.lacss.LacssMsg.SettingsOrBuilder> settingsBuilder_;
+      /**
+       * <code>.trackmate.lacss.Settings settings = 2;</code>
+       * @return Whether the settings field is set.
+       */
+      public boolean hasSettings() {
+        return settingsBuilder_ != null || settings_ != null;
+      }
+      /**
+       * <code>.trackmate.lacss.Settings settings = 2;</code>
+       * @return The settings.
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.Settings getSettings() {
+        if (settingsBuilder_ == null) {
+          return settings_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.Settings.getDefaultInstance() : settings_;
+        } else {
+          return settingsBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.trackmate.lacss.Settings settings = 2;</code>
+       */
+      public Builder setSettings(fiji.plugin.trackmate.lacss.LacssMsg.Settings value) {
+        if (settingsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          settings_ = value;
+          onChanged();
+        } else {
+          settingsBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.Settings settings = 2;</code>
+       */
+      public Builder setSettings(
+          fiji.plugin.trackmate.lacss.LacssMsg.Settings.Builder builderForValue) {
+        if (settingsBuilder_ == null) {
+          settings_ = builderForValue.build();
+          onChanged();
+        } else {
+          settingsBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.Settings settings = 2;</code>
+       */
+      public Builder mergeSettings(fiji.plugin.trackmate.lacss.LacssMsg.Settings value) {
+        if (settingsBuilder_ == null) {
+          if (settings_ != null) {
+            settings_ =
+              fiji.plugin.trackmate.lacss.LacssMsg.Settings.newBuilder(settings_).mergeFrom(value).buildPartial();
+          } else {
+            settings_ = value;
+          }
+          onChanged();
+        } else {
+          settingsBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.Settings settings = 2;</code>
+       */
+      public Builder clearSettings() {
+        if (settingsBuilder_ == null) {
+          settings_ = null;
+          onChanged();
+        } else {
+          settings_ = null;
+          settingsBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.Settings settings = 2;</code>
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.Settings.Builder getSettingsBuilder() {
+        
+        onChanged();
+        return getSettingsFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.trackmate.lacss.Settings settings = 2;</code>
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.SettingsOrBuilder getSettingsOrBuilder() {
+        if (settingsBuilder_ != null) {
+          return settingsBuilder_.getMessageOrBuilder();
+        } else {
+          return settings_ == null ?
+              fiji.plugin.trackmate.lacss.LacssMsg.Settings.getDefaultInstance() : settings_;
+        }
+      }
+      /**
+       * <code>.trackmate.lacss.Settings settings = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          fiji.plugin.trackmate.lacss.LacssMsg.Settings, fiji.plugin.trackmate.lacss.LacssMsg.Settings.Builder, fiji.plugin.trackmate.lacss.LacssMsg.SettingsOrBuilder> 
+          getSettingsFieldBuilder() {
+        if (settingsBuilder_ == null) {
+          settingsBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              fiji.plugin.trackmate.lacss.LacssMsg.Settings, fiji.plugin.trackmate.lacss.LacssMsg.Settings.Builder, fiji.plugin.trackmate.lacss.LacssMsg.SettingsOrBuilder>(
+                  getSettings(),
+                  getParentForChildren(),
+                  isClean());
+          settings_ = null;
+        }
+        return settingsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:trackmate.lacss.Configure)
+    }
+
+    // @@protoc_insertion_point(class_scope:trackmate.lacss.Configure)
+    private static final fiji.plugin.trackmate.lacss.LacssMsg.Configure DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new fiji.plugin.trackmate.lacss.LacssMsg.Configure();
+    }
+
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Configure getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Configure>
+        PARSER = new com.google.protobuf.AbstractParser<Configure>() {
+      @java.lang.Override
+      public Configure parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Configure(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Configure> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Configure> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public fiji.plugin.trackmate.lacss.LacssMsg.Configure getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface InputOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:trackmate.lacss.Input)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.trackmate.lacss.Settings settings = 1;</code>
+     * @return Whether the settings field is set.
+     */
+    boolean hasSettings();
+    /**
+     * <code>.trackmate.lacss.Settings settings = 1;</code>
+     * @return The settings.
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.Settings getSettings();
+    /**
+     * <code>.trackmate.lacss.Settings settings = 1;</code>
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.SettingsOrBuilder getSettingsOrBuilder();
+
+    /**
+     * <code>.trackmate.lacss.Image image = 2;</code>
+     * @return Whether the image field is set.
+     */
+    boolean hasImage();
+    /**
+     * <code>.trackmate.lacss.Image image = 2;</code>
+     * @return The image.
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.Image getImage();
+    /**
+     * <code>.trackmate.lacss.Image image = 2;</code>
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.ImageOrBuilder getImageOrBuilder();
+
+    /**
+     * <pre>
+     * if set, the server writes the label and score images to this
+     * memory-mapped file instead of sending them in the Result
+     * </pre>
+     *
+     * <code>string result_shm_path = 3;</code>
+     * @return The resultShmPath.
+     */
+    java.lang.String getResultShmPath();
+    /**
+     * <pre>
+     * if set, the server writes the label and score images to this
+     * memory-mapped file instead of sending them in the Result
+     * </pre>
+     *
+     * <code>string result_shm_path = 3;</code>
+     * @return The bytes for resultShmPath.
+     */
+    com.google.protobuf.ByteString
+        getResultShmPathBytes();
+
+    /**
+     * <pre>
+     * echoed back in the Result, so that several frames can be in flight
+     * </pre>
+     *
+     * <code>uint64 request_id = 4;</code>
+     * @return The requestId.
+     */
+    long getRequestId();
+
+    /**
+     * <pre>
+     * settings registered with Configure, used if settings is not set
+     * </pre>
+     *
+     * <code>uint32 settings_id = 5;</code>
+     * @return The settingsId.
+     */
+    int getSettingsId();
+
+    /**
+     * <pre>
+     * session control messages, see Hello and Configure
+     * </pre>
+     *
+     * <code>.trackmate.lacss.Hello hello = 6;</code>
+     * @return Whether the hello field is set.
+     */
+    boolean hasHello();
+    /**
+     * <pre>
+     * session control messages, see Hello and Configure
+     * </pre>
+     *
+     * <code>.trackmate.lacss.Hello hello = 6;</code>
+     * @return The hello.
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.Hello getHello();
+    /**
+     * <pre>
+     * session control messages, see Hello and Configure
+     * </pre>
+     *
+     * <code>.trackmate.lacss.Hello hello = 6;</code>
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.HelloOrBuilder getHelloOrBuilder();
+
+    /**
+     * <code>.trackmate.lacss.Configure configure = 7;</code>
+     * @return Whether the configure field is set.
+     */
+    boolean hasConfigure();
+    /**
+     * <code>.trackmate.lacss.Configure configure = 7;</code>
+     * @return The configure.
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.Configure getConfigure();
+    /**
+     * <code>.trackmate.lacss.Configure configure = 7;</code>
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.ConfigureOrBuilder getConfigureOrBuilder();
+
+    /**
+     * <code>.trackmate.lacss.ResultFormat result_format = 8;</code>
+     * @return The enum numeric value on the wire for resultFormat.
+     */
+    int getResultFormatValue();
+    /**
+     * <code>.trackmate.lacss.ResultFormat result_format = 8;</code>
+     * @return The resultFormat.
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.ResultFormat getResultFormat();
+
+    /**
+     * <code>.trackmate.lacss.ScoreMode score_mode = 9;</code>
+     * @return The enum numeric value on the wire for scoreMode.
+     */
+    int getScoreModeValue();
+    /**
+     * <code>.trackmate.lacss.ScoreMode score_mode = 9;</code>
+     * @return The scoreMode.
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.ScoreMode getScoreMode();
+
+    /**
+     * <code>.trackmate.lacss.Chunk chunk = 10;</code>
+     * @return Whether the chunk field is set.
+     */
+    boolean hasChunk();
+    /**
+     * <code>.trackmate.lacss.Chunk chunk = 10;</code>
+     * @return The chunk.
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.Chunk getChunk();
+    /**
+     * <code>.trackmate.lacss.Chunk chunk = 10;</code>
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.ChunkOrBuilder getChunkOrBuilder();
+
+    /**
+     * <code>.trackmate.lacss.Cancel cancel = 11;</code>
+     * @return Whether the cancel field is set.
+     */
+    boolean hasCancel();
+    /**
+     * <code>.trackmate.lacss.Cancel cancel = 11;</code>
+     * @return The cancel.
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.Cancel getCancel();
+    /**
+     * <code>.trackmate.lacss.Cancel cancel = 11;</code>
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.CancelOrBuilder getCancelOrBuilder();
+  }
+  /**
+   * Protobuf type {@code trackmate.lacss.Input}
+   */
+  public static final class Input extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:trackmate.lacss.Input)
+      InputOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Input.newBuilder() to construct.
+    private Input(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Input() {
+      resultShmPath_ = "";
+      resultFormat_ = 0;
+      scoreMode_ = 0;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Input();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Input(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              fiji.plugin.trackmate.lacss.LacssMsg.Settings.Builder subBuilder = null;
+              if (settings_ != null) {
+                subBuilder = settings_.toBuilder();
+              }
+              settings_ = input.readMessage(fiji.plugin.trackmate.lacss.LacssMsg.Settings.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(settings_);
+                settings_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 18: {
+              fiji.plugin.trackmate.lacss.LacssMsg.Image.Builder subBuilder = null;
+              if (image_ != null) {
+                subBuilder = image_.toBuilder();
+              }
+              image_ = input.readMessage(fiji.plugin.trackmate.lacss.LacssMsg.Image.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(image_);
+                image_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              resultShmPath_ = s;
+              break;
+            }
+            case 32: {
+
+              requestId_ = input.readUInt64();
+              break;
+            }
+            case 40: {
+
+              settingsId_ = input.readUInt32();
+              break;
+            }
+            case 50: {
+              fiji.plugin.trackmate.lacss.LacssMsg.Hello.Builder subBuilder = null;
+              if (hello_ != null) {
+                subBuilder = hello_.toBuilder();
+              }
+              hello_ = input.readMessage(fiji.plugin.trackmate.lacss.LacssMsg.Hello.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(hello_);
+                hello_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 58: {
+              fiji.plugin.trackmate.lacss.LacssMsg.Configure.Builder subBuilder = null;
+              if (configure_ != null) {
+                subBuilder = configure_.toBuilder();
+              }
+              configure_ = input.readMessage(fiji.plugin.trackmate.lacss.LacssMsg.Configure.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(configure_);
+                configure_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 64: {
+              int rawValue = input.readEnum();
+
+              resultFormat_ = rawValue;
+              break;
+            }
+            case 72: {
+              int rawValue = input.readEnum();
+
+              scoreMode_ = rawValue;
+              break;
+            }
+            case 82: {
+              fiji.plugin.trackmate.lacss.LacssMsg.Chunk.Builder subBuilder = null;
+              if (chunk_ != null) {
+                subBuilder = chunk_.toBuilder();
+              }
+              chunk_ = input.readMessage(fiji.plugin.trackmate.lacss.LacssMsg.Chunk.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(chunk_);
+                chunk_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 90: {
+              fiji.plugin.trackmate.lacss.LacssMsg.Cancel.Builder subBuilder = null;
+              if (cancel_ != null) {
+                subBuilder = cancel_.toBuilder();
+              }
+              cancel_ = input.readMessage(fiji.plugin.trackmate.lacss.LacssMsg.Cancel.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(cancel_);
+                cancel_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Input_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Input_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fiji.plugin.trackmate.lacss.LacssMsg.Input.class, fiji.plugin.trackmate.lacss.LacssMsg.Input.Builder.class);
+    }
+
+    public static final int SETTINGS_FIELD_NUMBER = 1;
+    private fiji.plugin.trackmate.lacss.LacssMsg.Settings settings_;
+    /**
+     * <code>.trackmate.lacss.Settings settings = 1;</code>
+     * @return Whether the settings field is set.
+     */
+    @java.lang.Override
+    public boolean hasSettings() {
+      return settings_ != null;
+    }
+    /**
+     * <code>.trackmate.lacss.Settings settings = 1;</code>
+     * @return The settings.
+     */
+    @java.lang.Override
+    public fiji.plugin.trackmate.lacss.LacssMsg.Settings getSettings() {
+      return settings_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.Settings.getDefaultInstance() : settings_;
+    }
+    /**
+     * <code>.trackmate.lacss.Settings settings = 1;</code>
+     */
+    @java.lang.Override
+    public fiji.plugin.trackmate.lacss.LacssMsg.SettingsOrBuilder getSettingsOrBuilder() {
+      return getSettings();
+    }
+
+    public static final int IMAGE_FIELD_NUMBER = 2;
+    private fiji.plugin.trackmate.lacss.LacssMsg.Image image_;
+    /**
+     * <code>.trackmate.lacss.Image image = 2;</code>
+     * @return Whether the image field is set.
+     */
+    @java.lang.Override
+    public boolean hasImage() {
+      return image_ != null;
+    }
+    /**
+     * <code>.trackmate.lacss.Image image = 2;</code>
+     * @return The image.
+     */
+    @java.lang.Override
+    public fiji.plugin.trackmate.lacss.LacssMsg.Image getImage() {
+      return image_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.Image.getDefaultInstance() : image_;
+    }
+    /**
+     * <code>.trackmate.lacss.Image image = 2;</code>
+     */
+    @java.lang.Override
+    public fiji.plugin.trackmate.lacss.LacssMsg.ImageOrBuilder getImageOrBuilder() {
+      return getImage();
+    }
+
+    public static final int RESULT_SHM_PATH_FIELD_NUMBER = 3;
+    private volatile java.lang.Object resultShmPath_;
+    /**
+     * <pre>
+     * if set, the server writes the label and score images to this
+     * memory-mapped file instead of sending them in the Result
+     * </pre>
+     *
+     * <code>string result_shm_path = 3;</code>
+     * @return The resultShmPath.
+     */
+    @java.lang.Override
+    public java.lang.String getResultShmPath() {
+      java.lang.Object ref = resultShmPath_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        resultShmPath_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * if set, the server writes the label and score images to this
+     * memory-mapped file instead of sending them in the Result
+     * </pre>
+     *
+     * <code>string result_shm_path = 3;</code>
+     * @return The bytes for resultShmPath.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getResultShmPathBytes() {
+      java.lang.Object ref = resultShmPath_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        resultShmPath_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int REQUEST_ID_FIELD_NUMBER = 4;
+    private long requestId_;
+    /**
+     * <pre>
+     * echoed back in the Result, so that several frames can be in flight
+     * </pre>
+     *
+     * <code>uint64 request_id = 4;</code>
+     * @return The requestId.
+     */
+    @java.lang.Override
+    public long getRequestId() {
+      return requestId_;
+    }
+
+    public static final int SETTINGS_ID_FIELD_NUMBER = 5;
+    private int settingsId_;
+    /**
+     * <pre>
+     * settings registered with Configure, used if settings is not set
+     * </pre>
+     *
+     * <code>uint32 settings_id = 5;</code>
+     * @return The settingsId.
+     */
+    @java.lang.Override
+    public int getSettingsId() {
+      return settingsId_;
+    }
+
+    public static final int HELLO_FIELD_NUMBER = 6;
+    private fiji.plugin.trackmate.lacss.LacssMsg.Hello hello_;
+    /**
+     * <pre>
+     * session control messages, see Hello and Configure
+     * </pre>
+     *
+     * <code>.trackmate.lacss.Hello hello = 6;</code>
+     * @return Whether the hello field is set.
+     */
+    @java.lang.Override
+    public boolean hasHello() {
+      return hello_ != null;
+    }
+    /**
+     * <pre>
+     * session control messages, see Hello and Configure
+     * </pre>
+     *
+     * <code>.trackmate.lacss.Hello hello = 6;</code>
+     * @return The hello.
+     */
+    @java.lang.Override
+    public fiji.plugin.trackmate.lacss.LacssMsg.Hello getHello() {
+      return hello_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.Hello.getDefaultInstance() : hello_;
+    }
+    /**
+     * <pre>
+     * session control messages, see Hello and Configure
+     * </pre>
+     *
+     * <code>.trackmate.lacss.Hello hello = 6;</code>
+     */
+    @java.lang.Override
+    public fiji.plugin.trackmate.lacss.LacssMsg.HelloOrBuilder getHelloOrBuilder() {
+      return getHello();
+    }
+
+    public static final int CONFIGURE_FIELD_NUMBER = 7;
+    private fiji.plugin.trackmate.lacss.LacssMsg.Configure configure_;
+    /**
+     * <code>.trackmate.lacss.Configure configure = 7;</code>
+     * @return Whether the configure field is set.
+     */
+    @java.lang.Override
+    public boolean hasConfigure() {
+      return configure_ != null;
+    }
+    /**
+     * <code>.trackmate.lacss.Configure configure = 7;</code>
+     * @return The configure.
+     */
+    @java.lang.Override
+    public fiji.plugin.trackmate.lacss.LacssMsg.Configure getConfigure() {
+      return configure_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.Configure.getDefaultInstance() : configure_;
+    }
+    /**
+     * <code>.trackmate.lacss.Configure configure = 7;</code>
+     */
+    @java.lang.Override
+    public fiji.plugin.trackmate.lacss.LacssMsg.ConfigureOrBuilder getConfigureOrBuilder() {
+      return getConfigure();
+    }
+
+    public static final int RESULT_FORMAT_FIELD_NUMBER = 8;
+    private int resultFormat_;
+    /**
+     * <code>.trackmate.lacss.ResultFormat result_format = 8;</code>
+     * @return The enum numeric value on the wire for resultFormat.
+     */
+    @java.lang.Override public int getResultFormatValue() {
+      return resultFormat_;
+    }
+    /**
+     * <code>.trackmate.lacss.ResultFormat result_format = 8;</code>
+     * @return The resultFormat.
+     */
+    @java.lang.Override public fiji.plugin.trackmate.lacss.LacssMsg.ResultFormat getResultFormat() {
+      @SuppressWarnings("deprecation")
+      fiji.plugin.trackmate.lacss.LacssMsg.ResultFormat result = fiji.plugin.trackmate.lacss.LacssMsg.ResultFormat.valueOf(resultFormat_);
+      return result == null ? fiji.plugin.trackmate.lacss.LacssMsg.ResultFormat.UNRECOGNIZED : result;
+    }
+
+    public static final int SCORE_MODE_FIELD_NUMBER = 9;
+    private int scoreMode_;
+    /**
+     * <code>.trackmate.lacss.ScoreMode score_mode = 9;</code>
+     * @return The enum numeric value on the wire for scoreMode.
+     */
+    @java.lang.Override public int getScoreModeValue() {
+      return scoreMode_;
+    }
+    /**
+     * <code>.trackmate.lacss.ScoreMode score_mode = 9;</code>
+     * @return The scoreMode.
+     */
+    @java.lang.Override public fiji.plugin.trackmate.lacss.LacssMsg.ScoreMode getScoreMode() {
+      @SuppressWarnings("deprecation")
+      fiji.plugin.trackmate.lacss.LacssMsg.ScoreMode result = fiji.plugin.trackmate.lacss.LacssMsg.ScoreMode.valueOf(scoreMode_);
+      return result == null ? fiji.plugin.trackmate.lacss.LacssMsg.ScoreMode.UNRECOGNIZED : result;
+    }
+
+    public static final int CHUNK_FIELD_NUMBER = 10;
+    private fiji.plugin.trackmate.lacss.LacssMsg.Chunk chunk_;
+    /**
+     * <code>.trackmate.lacss.Chunk chunk = 10;</code>
+     * @return Whether the chunk field is set.
+     */
+    @java.lang.Override
+    public boolean hasChunk() {
+      return chunk_ != null;
+    }
+    /**
+     * <code>.trackmate.lacss.Chunk chunk = 10;</code>
+     * @return The chunk.
+     */
+    @java.lang.Override
+    public fiji.plugin.trackmate.lacss.LacssMsg.Chunk getChunk() {
+      return chunk_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.Chunk.getDefaultInstance() : chunk_;
+    }
+    /**
+     * <code>.trackmate.lacss.Chunk chunk = 10;</code>
+     */
+    @java.lang.Override
+    public fiji.plugin.trackmate.lacss.LacssMsg.ChunkOrBuilder getChunkOrBuilder() {
+      return getChunk();
+    }
+
+    public static final int CANCEL_FIELD_NUMBER = 11;
+    private fiji.plugin.trackmate.lacss.LacssMsg.Cancel cancel_;
+    /**
+     * <code>.trackmate.lacss.Cancel cancel = 11;</code>
+     * @return Whether the cancel field is set.
+     */
+    @java.lang.Override
+    public boolean hasCancel() {
+      return cancel_ != null;
+    }
+    /**
+     * <code>.trackmate.lacss.Cancel cancel = 11;</code>
+     * @return The cancel.
+     */
+    @java.lang.Override
+    public fiji.plugin.trackmate.lacss.LacssMsg.Cancel getCancel() {
+      return cancel_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.Cancel.getDefaultInstance() : cancel_;
+    }
+    /**
+     * <code>.trackmate.lacss.Cancel cancel = 11;</code>
+     */
+    @java.lang.Override
+    public fiji.plugin.trackmate.lacss.LacssMsg.CancelOrBuilder getCancelOrBuilder() {
+      return getCancel();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (settings_ != null) {
+        output.writeMessage(1, getSettings());
+      }
+      if (image_ != null) {
+        output.writeMessage(2, getImage());
+      }
+      if (!getResultShmPathBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, resultShmPath_);
+      }
+      if (requestId_ != 0L) {
+        output.writeUInt64(4, requestId_);
+      }
+      if (settingsId_ != 0) {
+        output.writeUInt32(5, settingsId_);
+      }
+      if (hello_ != null) {
+        output.writeMessage(6, getHello());
+      }
+      if (configure_ != null) {
+        output.writeMessage(7, getConfigure());
+      }
+      if (resultFormat_ != fiji.plugin.trackmate.lacss.LacssMsg.ResultFormat.DENSE.getNumber()) {
+        output.writeEnum(8, resultFormat_);
+      }
+      if (scoreMode_ != fiji.plugin.trackmate.lacss.LacssMsg.ScoreMode.SCORE_IMAGE.getNumber()) {
+        output.writeEnum(9, scoreMode_);
+      }
+      if (chunk_ != null) {
+        output.writeMessage(10, getChunk());
+      }
+      if (cancel_ != null) {
+        output.writeMessage(11, getCancel());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (settings_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getSettings());
+      }
+      if (image_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getImage());
+      }
+      if (!getResultShmPathBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, resultShmPath_);
+      }
+      if (requestId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(4, requestId_);
+      }
+      if (settingsId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(5, settingsId_);
+      }
+      if (hello_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, getHello());
+      }
+      if (configure_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, getConfigure());
+      }
+      if (resultFormat_ != fiji.plugin.trackmate.lacss.LacssMsg.ResultFormat.DENSE.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(8, resultFormat_);
+      }
+      if (scoreMode_ != fiji.plugin.trackmate.lacss.LacssMsg.ScoreMode.SCORE_IMAGE.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(9, scoreMode_);
+      }
+      if (chunk_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(10, getChunk());
+      }
+      if (cancel_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(11, getCancel());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof fiji.plugin.trackmate.lacss.LacssMsg.Input)) {
+        return super.equals(obj);
+      }
+      fiji.plugin.trackmate.lacss.LacssMsg.Input other = (fiji.plugin.trackmate.lacss.LacssMsg.Input) obj;
+
+      if (hasSettings() != other.hasSettings()) return false;
+      if (hasSettings()) {
+        if (!getSettings()
+            .equals(other.getSettings())) return false;
+      }
+      if (hasImage() != other.hasImage()) return false;
+      if (hasImage()) {
+        if (!getImage()
+            .equals(other.getImage())) return false;
+      }
+      if (!getResultShmPath()
+          .equals(other.getResultShmPath())) return false;
+      if (getRequestId()
+          != other.getRequestId()) return false;
+      if (getSettingsId()
+          != other.getSettingsId()) return false;
+      if (hasHello() != other.hasHello()) return false;
+      if (hasHello()) {
+        if (!getHello()
+            .equals(other.getHello())) return false;
+      }
+      if (hasConfigure() != other.hasConfigure()) return false;
+      if (hasConfigure()) {
+        if (!getConfigure()
+            .equals(other.getConfigure())) return false;
+      }
+      if (resultFormat_ != other.resultFormat_) return false;
+      if (scoreMode_ != other.scoreMode_) return false;
+      if (hasChunk() != other.hasChunk()) return false;
+      if (hasChunk()) {
+        if (!getChunk()
+            .equals(other.getChunk())) return false;
+      }
+      if (hasCancel() != other.hasCancel()) return false;
+      if (hasCancel()) {
+        if (!getCancel()
+            .equals(other.getCancel())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasSettings()) {
+        hash = (37 * hash) + SETTINGS_FIELD_NUMBER;
+        hash = (53 * hash) + getSettings().hashCode();
+      }
+      if (hasImage()) {
+        hash = (37 * hash) + IMAGE_FIELD_NUMBER;
+        hash = (53 * hash) + getImage().hashCode();
+      }
+      hash = (37 * hash) + RESULT_SHM_PATH_FIELD_NUMBER;
+      hash = (53 * hash) + getResultShmPath().hashCode();
+      hash = (37 * hash) + REQUEST_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRequestId());
+      hash = (37 * hash) + SETTINGS_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getSettingsId();
+      if (hasHello()) {
+        hash = (37 * hash) + HELLO_FIELD_NUMBER;
+        hash = (53 * hash) + getHello().hashCode();
+      }
+      if (hasConfigure()) {
+        hash = (37 * hash) + CONFIGURE_FIELD_NUMBER;
+        hash = (53 * hash) + getConfigure().hashCode();
+      }
+      hash = (37 * hash) + RESULT_FORMAT_FIELD_NUMBER;
+      hash = (53 * hash) + resultFormat_;
+      hash = (37 * hash) + SCORE_MODE_FIELD_NUMBER;
+      hash = (53 * hash) + scoreMode_;
+      if (hasChunk()) {
+        hash = (37 * hash) + CHUNK_FIELD_NUMBER;
+        hash = (53 * hash) + getChunk().hashCode();
+      }
+      if (hasCancel()) {
+        hash = (37 * hash) + CANCEL_FIELD_NUMBER;
+        hash = (53 * hash) + getCancel().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Input parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Input parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Input parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Input parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Input parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Input parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Input parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Input parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Input parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Input parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Input parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Input parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fiji.plugin.trackmate.lacss.LacssMsg.Input prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code trackmate.lacss.Input}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:trackmate.lacss.Input)
+        fiji.plugin.trackmate.lacss.LacssMsg.InputOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Input_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Input_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fiji.plugin.trackmate.lacss.LacssMsg.Input.class, fiji.plugin.trackmate.lacss.LacssMsg.Input.Builder.class);
+      }
+
+      // Construct using fiji.plugin.trackmate.lacss.LacssMsg.Input.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (settingsBuilder_ == null) {
+          settings_ = null;
+        } else {
+          settings_ = null;
+          settingsBuilder_ = null;
+        }
+        if (imageBuilder_ == null) {
+          image_ = null;
+        } else {
+          image_ = null;
+          imageBuilder_ = null;
+        }
+        resultShmPath_ = "";
+
+        requestId_ = 0L;
+
+        settingsId_ = 0;
+
+        if (helloBuilder_ == null) {
+          hello_ = null;
+        } else {
+          hello_ = null;
+          helloBuilder_ = null;
+        }
+        if (configureBuilder_ == null) {
+          configure_ = null;
+        } else {
+          configure_ = null;
+          configureBuilder_ = null;
+        }
+        resultFormat_ = 0;
+
+        scoreMode_ = 0;
+
+        if (chunkBuilder_ == null) {
+          chunk_ = null;
+        } else {
+          chunk_ = null;
+          chunkBuilder_ = null;
+        }
+        if (cancelBuilder_ == null) {
+          cancel_ = null;
+        } else {
+          cancel_ = null;
+          cancelBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Input_descriptor;
+      }
+
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.Input getDefaultInstanceForType() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.Input.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.Input build() {
+        fiji.plugin.trackmate.lacss.LacssMsg.Input result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.Input buildPartial() {
+        fiji.plugin.trackmate.lacss.LacssMsg.Input result = new fiji.plugin.trackmate.lacss.LacssMsg.Input(this);
+        if (settingsBuilder_ == null) {
+          result.settings_ = settings_;
+        } else {
+          result.settings_ = settingsBuilder_.build();
+        }
+        if (imageBuilder_ == null) {
+          result.image_ = image_;
+        } else {
+          result.image_ = imageBuilder_.build();
+        }
+        result.resultShmPath_ = resultShmPath_;
+        result.requestId_ = requestId_;
+        result.settingsId_ = settingsId_;
+        if (helloBuilder_ == null) {
+          result.hello_ = hello_;
+        } else {
+          result.hello_ = helloBuilder_.build();
+        }
+        if (configureBuilder_ == null) {
+          result.configure_ = configure_;
+        } else {
+          result.configure_ = configureBuilder_.build();
+        }
+        result.resultFormat_ = resultFormat_;
+        result.scoreMode_ = scoreMode_;
+        if (chunkBuilder_ == null) {
+          result.chunk_ = chunk_;
+        } else {
+          result.chunk_ = chunkBuilder_.build();
+        }
+        if (cancelBuilder_ == null) {
+          result.cancel_ = cancel_;
+        } else {
+          result.cancel_ = cancelBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof fiji.plugin.trackmate.lacss.LacssMsg.Input) {
+          return mergeFrom((fiji.plugin.trackmate.lacss.LacssMsg.Input)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(fiji.plugin.trackmate.lacss.LacssMsg.Input other) {
+        if (other == fiji.plugin.trackmate.lacss.LacssMsg.Input.getDefaultInstance()) return this;
+        if (other.hasSettings()) {
+          mergeSettings(other.getSettings());
+        }
+        if (other.hasImage()) {
+          mergeImage(other.getImage());
+        }
+        if (!other.getResultShmPath().isEmpty()) {
+          resultShmPath_ = other.resultShmPath_;
+          onChanged();
+        }
+        if (other.getRequestId() != 0L) {
+          setRequestId(other.getRequestId());
+        }
+        if (other.getSettingsId() != 0) {
+          setSettingsId(other.getSettingsId());
+        }
+        if (other.hasHello()) {
+          mergeHello(other.getHello());
+        }
+        if (other.hasConfigure()) {
+          mergeConfigure(other.getConfigure());
+        }
+        if (other.resultFormat_ != 0) {
+          setResultFormatValue(other.getResultFormatValue());
+        }
+        if (other.scoreMode_ != 0) {
+          setScoreModeValue(other.getScoreModeValue());
+        }
+        if (other.hasChunk()) {
+          mergeChunk(other.getChunk());
+        }
+        if (other.hasCancel()) {
+          mergeCancel(other.getCancel());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fiji.plugin.trackmate.lacss.LacssMsg.Input parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fiji.plugin.trackmate.lacss.LacssMsg.Input) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private fiji.plugin.trackmate.lacss.LacssMsg.Settings settings_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          fiji.plugin.trackmate.lacss.LacssMsg.Settings, fiji.plugin.trackmate.lacss.LacssMsg.Settings.Builder, fiji.plugin.trackmate.lacss.LacssMsg.SettingsOrBuilder> settingsBuilder_;
+      /**
+       * <code>.trackmate.lacss.Settings settings = 1;</code>
+       * @return Whether the settings field is set.
+       */
+      public boolean hasSettings() {
+        return settingsBuilder_ != null || settings_ != null;
+      }
+      /**
+       * <code>.trackmate.lacss.Settings settings = 1;</code>
+       * @return The settings.
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.Settings getSettings() {
+        if (settingsBuilder_ == null) {
+          return settings_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.Settings.getDefaultInstance() : settings_;
+        } else {
+          return settingsBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.trackmate.lacss.Settings settings = 1;</code>
+       */
+      public Builder setSettings(fiji.plugin.trackmate.lacss.LacssMsg.Settings value) {
+        if (settingsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          settings_ = value;
+          onChanged();
+        } else {
+          settingsBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.Settings settings = 1;</code>
+       */
+      public Builder setSettings(
+          fiji.plugin.trackmate.lacss.LacssMsg.Settings.Builder builderForValue) {
+        if (settingsBuilder_ == null) {
+          settings_ = builderForValue.build();
+          onChanged();
+        } else {
+          settingsBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.Settings settings = 1;</code>
+       */
+      public Builder mergeSettings(fiji.plugin.trackmate.lacss.LacssMsg.Settings value) {
+        if (settingsBuilder_ == null) {
+          if (settings_ != null) {
+            settings_ =
+              fiji.plugin.trackmate.lacss.LacssMsg.Settings.newBuilder(settings_).mergeFrom(value).buildPartial();
+          } else {
+            settings_ = value;
+          }
+          onChanged();
+        } else {
+          settingsBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.Settings settings = 1;</code>
+       */
+      public Builder clearSettings() {
+        if (settingsBuilder_ == null) {
+          settings_ = null;
+          onChanged();
+        } else {
+          settings_ = null;
+          settingsBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.Settings settings = 1;</code>
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.Settings.Builder getSettingsBuilder() {
+        
+        onChanged();
+        return getSettingsFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.trackmate.lacss.Settings settings = 1;</code>
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.SettingsOrBuilder getSettingsOrBuilder() {
+        if (settingsBuilder_ != null) {
+          return settingsBuilder_.getMessageOrBuilder();
+        } else {
+          return settings_ == null ?
+              fiji.plugin.trackmate.lacss.LacssMsg.Settings.getDefaultInstance() : settings_;
+        }
+      }
+      /**
+       * <code>.trackmate.lacss.Settings settings = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          fiji.plugin.trackmate.lacss.LacssMsg.Settings, fiji.plugin.trackmate.lacss.LacssMsg.Settings.Builder, fiji.plugin.trackmate.lacss.LacssMsg.SettingsOrBuilder> 
+          getSettingsFieldBuilder() {
+        if (settingsBuilder_ == null) {
+          settingsBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              fiji.plugin.trackmate.lacss.LacssMsg.Settings, fiji.plugin.trackmate.lacss.LacssMsg.Settings.Builder, fiji.plugin.trackmate.lacss.LacssMsg.SettingsOrBuilder>(
+                  getSettings(),
+                  getParentForChildren(),
+                  isClean());
+          settings_ = null;
+        }
+        return settingsBuilder_;
+      }
+
+      private fiji.plugin.trackmate.lacss.LacssMsg.Image image_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          fiji.plugin.trackmate.lacss.LacssMsg.Image, fiji.plugin.trackmate.lacss.LacssMsg.Image.Builder, fiji.plugin.trackmate.lacss.LacssMsg.ImageOrBuilder> imageBuilder_;
+      /**
+       * <code>.trackmate.lacss.Image image = 2;</code>
+       * @return Whether the image field is set.
+       */
+      public boolean hasImage() {
+        return imageBuilder_ != null || image_ != null;
+      }
+      /**
+       * <code>.trackmate.lacss.Image image = 2;</code>
+       * @return The image.
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.Image getImage() {
+        if (imageBuilder_ == null) {
+          return image_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.Image.getDefaultInstance() : image_;
+        } else {
+          return imageBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.trackmate.lacss.Image image = 2;</code>
+       */
+      public Builder setImage(fiji.plugin.trackmate.lacss.LacssMsg.Image value) {
+        if (imageBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          image_ = value;
+          onChanged();
+        } else {
+          imageBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.Image image = 2;</code>
+       */
+      public Builder setImage(
+          fiji.plugin.trackmate.lacss.LacssMsg.Image.Builder builderForValue) {
+        if (imageBuilder_ == null) {
+          image_ = builderForValue.build();
+          onChanged();
+        } else {
+          imageBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.Image image = 2;</code>
+       */
+      public Builder mergeImage(fiji.plugin.trackmate.lacss.LacssMsg.Image value) {
+        if (imageBuilder_ == null) {
+          if (image_ != null) {
+            image_ =
+              fiji.plugin.trackmate.lacss.LacssMsg.Image.newBuilder(image_).mergeFrom(value).buildPartial();
+          } else {
+            image_ = value;
+          }
+          onChanged();
+        } else {
+          imageBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.Image image = 2;</code>
+       */
+      public Builder clearImage() {
+        if (imageBuilder_ == null) {
+          image_ = null;
+          onChanged();
+        } else {
+          image_ = null;
+          imageBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.Image image = 2;</code>
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.Image.Builder getImageBuilder() {
+        
+        onChanged();
+        return getImageFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.trackmate.lacss.Image image = 2;</code>
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.ImageOrBuilder getImageOrBuilder() {
+        if (imageBuilder_ != null) {
+          return imageBuilder_.getMessageOrBuilder();
+        } else {
+          return image_ == null ?
+              fiji.plugin.trackmate.lacss.LacssMsg.Image.getDefaultInstance() : image_;
+        }
+      }
+      /**
+       * <code>.trackmate.lacss.Image image = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          fiji.plugin.trackmate.lacss.LacssMsg.Image, fiji.plugin.trackmate.lacss.LacssMsg.Image.Builder, fiji.plugin.trackmate.lacss.LacssMsg.ImageOrBuilder> 
+          getImageFieldBuilder() {
+        if (imageBuilder_ == null) {
+          imageBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              fiji.plugin.trackmate.lacss.LacssMsg.Image, fiji.plugin.trackmate.lacss.LacssMsg.Image.Builder, fiji.plugin.trackmate.lacss.LacssMsg.ImageOrBuilder>(
+                  getImage(),
+                  getParentForChildren(),
+                  isClean());
+          image_ = null;
+        }
+        return imageBuilder_;
+      }
+
+      private java.lang.Object resultShmPath_ = "";
+      /**
+       * <pre>
+       * if set, the server writes the label and score images to this
+       * memory-mapped file instead of sending them in the Result
+       * </pre>
+       *
+       * <code>string result_shm_path = 3;</code>
+       * @return The resultShmPath.
+       */
+      public java.lang.String getResultShmPath() {
+        java.lang.Object ref = resultShmPath_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          resultShmPath_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * if set, the server writes the label and score images to this
+       * memory-mapped file instead of sending them in the Result
+       * </pre>
+       *
+       * <code>string result_shm_path = 3;</code>
+       * @return The bytes for resultShmPath.
+       */
+      public com.google.protobuf.ByteString
+          getResultShmPathBytes() {
+        java.lang.Object ref = resultShmPath_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          resultShmPath_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * if set, the server writes the label and score images to this
+       * memory-mapped file instead of sending them in the Result
+       * </pre>
+       *
+       * <code>string result_shm_path = 3;</code>
+       * @param value The resultShmPath to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResultShmPath(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        resultShmPath_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * if set, the server writes the label and score images to this
+       * memory-mapped file instead of sending them in the Result
+       * </pre>
+       *
+       * <code>string result_shm_path = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearResultShmPath() {
+        
+        resultShmPath_ = getDefaultInstance().getResultShmPath();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * if set, the server writes the label and score images to this
+       * memory-mapped file instead of sending them in the Result
+       * </pre>
+       *
+       * <code>string result_shm_path = 3;</code>
+       * @param value The bytes for resultShmPath to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResultShmPathBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        resultShmPath_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long requestId_ ;
+      /**
+       * <pre>
+       * echoed back in the Result, so that several frames can be in flight
+       * </pre>
+       *
+       * <code>uint64 request_id = 4;</code>
+       * @return The requestId.
+       */
+      @java.lang.Override
+      public long getRequestId() {
+        return requestId_;
+      }
+      /**
+       * <pre>
+       * echoed back in the Result, so that several frames can be in flight
+       * </pre>
+       *
+       * <code>uint64 request_id = 4;</code>
+       * @param value The requestId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRequestId(long value) {
+        
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * echoed back in the Result, so that several frames can be in flight
+       * </pre>
+       *
+       * <code>uint64 request_id = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRequestId() {
+        
+        requestId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int settingsId_ ;
+      /**
+       * <pre>
+       * settings registered with Configure, used if settings is not set
+       * </pre>
+       *
+       * <code>uint32 settings_id = 5;</code>
+       * @return The settingsId.
+       */
+      @java.lang.Override
+      public int getSettingsId() {
+        return settingsId_;
+      }
+      /**
+       * <pre>
+       * settings registered with Configure, used if settings is not set
+       * </pre>
+       *
+       * <code>uint32 settings_id = 5;</code>
+       * @param value The settingsId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSettingsId(int value) {
+        
+        settingsId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * settings registered with Configure, used if settings is not set
+       * </pre>
+       *
+       * <code>uint32 settings_id = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSettingsId() {
+        
+        settingsId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private fiji.plugin.trackmate.lacss.LacssMsg.Hello hello_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          fiji.plugin.trackmate.lacss.LacssMsg.Hello, fiji.plugin.trackmate.lacss.LacssMsg.Hello.Builder, fiji.plugin.trackmate.lacss.LacssMsg.HelloOrBuilder> helloBuilder_;
+      /**
+       * <pre>
+       * session control messages, see Hello and Configure
+       * </pre>
+       *
+       * <code>.trackmate.lacss.Hello hello = 6;</code>
+       * @return Whether the hello field is set.
+       */
+      public boolean hasHello() {
+        return helloBuilder_ != null || hello_ != null;
+      }
+      /**
+       * <pre>
+       * session control messages, see Hello and Configure
+       * </pre>
+       *
+       * <code>.trackmate.lacss.Hello hello = 6;</code>
+       * @return The hello.
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.Hello getHello() {
+        if (helloBuilder_ == null) {
+          return hello_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.Hello.getDefaultInstance() : hello_;
+        } else {
+          return helloBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * session control messages, see Hello and Configure
+       * </pre>
+       *
+       * <code>.trackmate.lacss.Hello hello = 6;</code>
+       */
+      public Builder setHello(fiji.plugin.trackmate.lacss.LacssMsg.Hello value) {
+        if (helloBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          hello_ = value;
+          onChanged();
+        } else {
+          helloBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * session control messages, see Hello and Configure
+       * </pre>
+       *
+       * <code>.trackmate.lacss.Hello hello = 6;</code>
+       */
+      public Builder setHello(
+          fiji.plugin.trackmate.lacss.LacssMsg.Hello.Builder builderForValue) {
+        if (helloBuilder_ == null) {
+          hello_ = builderForValue.build();
+          onChanged();
+        } else {
+          helloBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * session control messages, see Hello and Configure
+       * </pre>
+       *
+       * <code>.trackmate.lacss.Hello hello = 6;</code>
+       */
+      public Builder mergeHello(fiji.plugin.trackmate.lacss.LacssMsg.Hello value) {
+        if (helloBuilder_ == null) {
+          if (hello_ != null) {
+            hello_ =
+              fiji.plugin.trackmate.lacss.LacssMsg.Hello.newBuilder(hello_).mergeFrom(value).buildPartial();
+          } else {
+            hello_ = value;
+          }
+          onChanged();
+        } else {
+          helloBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * session control messages, see Hello and Configure
+       * </pre>
+       *
+       * <code>.trackmate.lacss.Hello hello = 6;</code>
+       */
+      public Builder clearHello() {
+        if (helloBuilder_ == null) {
+          hello_ = null;
+          onChanged();
+        } else {
+          hello_ = null;
+          helloBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * session control messages, see Hello and Configure
+       * </pre>
+       *
+       * <code>.trackmate.lacss.Hello hello = 6;</code>
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.Hello.Builder getHelloBuilder() {
+        
+        onChanged();
+        return getHelloFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * session control messages, see Hello and Configure
+       * </pre>
+       *
+       * <code>.trackmate.lacss.Hello hello = 6;</code>
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.HelloOrBuilder getHelloOrBuilder() {
+        if (helloBuilder_ != null) {
+          return helloBuilder_.getMessageOrBuilder();
+        } else {
+          return hello_ == null ?
+              fiji.plugin.trackmate.lacss.LacssMsg.Hello.getDefaultInstance() : hello_;
+        }
+      }
+      /**
+       * <pre>
+       * session control messages, see Hello and Configure
+       * </pre>
+       *
+       * <code>.trackmate.lacss.Hello hello = 6;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          fiji.plugin.trackmate.lacss.LacssMsg.Hello, fiji.plugin.trackmate.lacss.LacssMsg.Hello.Builder, fiji.plugin.trackmate.lacss.LacssMsg.HelloOrBuilder> 
+          getHelloFieldBuilder() {
+        if (helloBuilder_ == null) {
+          helloBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              fiji.plugin.trackmate.lacss.LacssMsg.Hello, fiji.plugin.trackmate.lacss.LacssMsg.Hello.Builder, fiji.plugin.trackmate.lacss.LacssMsg.HelloOrBuilder>(
+                  getHello(),
+                  getParentForChildren(),
+                  isClean());
+          hello_ = null;
+        }
+        return helloBuilder_;
+      }
+
+      private fiji.plugin.trackmate.lacss.LacssMsg.Configure configure_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          fiji.plugin.trackmate.lacss.LacssMsg.Configure, fiji.plugin.trackmate.lacss.LacssMsg.Configure.Builder, fiji.plugin.trackmate.lacss.LacssMsg.ConfigureOrBuilder> configureBuilder_;
+      /**
+       * <code>.trackmate.lacss.Configure configure = 7;</code>
+       * @return Whether the configure field is set.
+       */
+      public boolean hasConfigure() {
+        return configureBuilder_ != null || configure_ != null;
+      }
+      /**
+       * <code>.trackmate.lacss.Configure configure = 7;</code>
+       * @return The configure.
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.Configure getConfigure() {
+        if (configureBuilder_ == null) {
+          return configure_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.Configure.getDefaultInstance() : configure_;
+        } else {
+          return configureBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.trackmate.lacss.Configure configure = 7;</code>
+       */
+      public Builder setConfigure(fiji.plugin.trackmate.lacss.LacssMsg.Configure value) {
+        if (configureBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          configure_ = value;
+          onChanged();
+        } else {
+          configureBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.Configure configure = 7;</code>
+       */
+      public Builder setConfigure(
+          fiji.plugin.trackmate.lacss.LacssMsg.Configure.Builder builderForValue) {
+        if (configureBuilder_ == null) {
+          configure_ = builderForValue.build();
+          onChanged();
+        } else {
+          configureBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.Configure configure = 7;</code>
+       */
+      public Builder mergeConfigure(fiji.plugin.trackmate.lacss.LacssMsg.Configure value) {
+        if (configureBuilder_ == null) {
+          if (configure_ != null) {
+            configure_ =
+              fiji.plugin.trackmate.lacss.LacssMsg.Configure.newBuilder(configure_).mergeFrom(value).buildPartial();
+          } else {
+            configure_ = value;
+          }
+          onChanged();
+        } else {
+          configureBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.Configure configure = 7;</code>
+       */
+      public Builder clearConfigure() {
+        if (configureBuilder_ == null) {
+          configure_ = null;
+          onChanged();
+        } else {
+          configure_ = null;
+          configureBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.Configure configure = 7;</code>
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.Configure.Builder getConfigureBuilder() {
+        
+        onChanged();
+        return getConfigureFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.trackmate.lacss.Configure configure = 7;</code>
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.ConfigureOrBuilder getConfigureOrBuilder() {
+        if (configureBuilder_ != null) {
+          return configureBuilder_.getMessageOrBuilder();
+        } else {
+          return configure_ == null ?
+              fiji.plugin.trackmate.lacss.LacssMsg.Configure.getDefaultInstance() : configure_;
+        }
+      }
+      /**
+       * <code>.trackmate.lacss.Configure configure = 7;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          fiji.plugin.trackmate.lacss.LacssMsg.Configure, fiji.plugin.trackmate.lacss.LacssMsg.Configure.Builder, fiji.plugin.trackmate.lacss.LacssMsg.ConfigureOrBuilder> 
+          getConfigureFieldBuilder() {
+        if (configureBuilder_ == null) {
+          configureBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              fiji.plugin.trackmate.lacss.LacssMsg.Configure, fiji.plugin.trackmate.lacss.LacssMsg.Configure.Builder, fiji.plugin.trackmate.lacss.LacssMsg.ConfigureOrBuilder>(
+                  getConfigure(),
+                  getParentForChildren(),
+                  isClean());
+          configure_ = null;
+        }
+        return configureBuilder_;
+      }
+
+      private int resultFormat_ = 0;
+      /**
+       * <code>.trackmate.lacss.ResultFormat result_format = 8;</code>
+       * @return The enum numeric value on the wire for resultFormat.
+       */
+      @java.lang.Override public int getResultFormatValue() {
+        return resultFormat_;
+      }
+      /**
+       * <code>.trackmate.lacss.ResultFormat result_format = 8;</code>
+       * @param value The enum numeric value on the wire for resultFormat to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResultFormatValue(int value) {
+        
+        resultFormat_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.ResultFormat result_format = 8;</code>
+       * @return The resultFormat.
+       */
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.ResultFormat getResultFormat() {
+        @SuppressWarnings("deprecation")
+        fiji.plugin.trackmate.lacss.LacssMsg.ResultFormat result = fiji.plugin.trackmate.lacss.LacssMsg.ResultFormat.valueOf(resultFormat_);
+        return result == null ? fiji.plugin.trackmate.lacss.LacssMsg.ResultFormat.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.trackmate.lacss.ResultFormat result_format = 8;</code>
+       * @param value The resultFormat to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResultFormat(fiji.plugin.trackmate.lacss.LacssMsg.ResultFormat value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        resultFormat_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.ResultFormat result_format = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearResultFormat() {
+        
+        resultFormat_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int scoreMode_ = 0;
+      /**
+       * <code>.trackmate.lacss.ScoreMode score_mode = 9;</code>
+       * @return The enum numeric value on the wire for scoreMode.
+       */
+      @java.lang.Override public int getScoreModeValue() {
+        return scoreMode_;
+      }
+      /**
+       * <code>.trackmate.lacss.ScoreMode score_mode = 9;</code>
+       * @param value The enum numeric value on the wire for scoreMode to set.
+       * @return This builder for chaining.
+       */
+      public Builder setScoreModeValue(int value) {
+        
+        scoreMode_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.ScoreMode score_mode = 9;</code>
+       * @return The scoreMode.
+       */
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.ScoreMode getScoreMode() {
+        @SuppressWarnings("deprecation")
+        fiji.plugin.trackmate.lacss.LacssMsg.ScoreMode result = fiji.plugin.trackmate.lacss.LacssMsg.ScoreMode.valueOf(scoreMode_);
+        return result == null ? fiji.plugin.trackmate.lacss.LacssMsg.ScoreMode.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.trackmate.lacss.ScoreMode score_mode = 9;</code>
+       * @param value The scoreMode to set.
+       * @return This builder for chaining.
+       */
+      public Builder setScoreMode(fiji.plugin.trackmate.lacss.LacssMsg.ScoreMode value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        scoreMode_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.ScoreMode score_mode = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearScoreMode() {
+        
+        scoreMode_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private fiji.plugin.trackmate.lacss.LacssMsg.Chunk chunk_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          fiji.plugin.trackmate.lacss.LacssMsg.Chunk, fiji.plugin.trackmate.lacss.LacssMsg.Chunk.Builder, fiji.plugin.trackmate.lacss.LacssMsg.ChunkOrBuilder> chunkBuilder_;
+      /**
+       * <code>.trackmate.lacss.Chunk chunk = 10;</code>
+       * @return Whether the chunk field is set.
+       */
+      public boolean hasChunk() {
+        return chunkBuilder_ != null || chunk_ != null;
+      }
+      /**
+       * <code>.trackmate.lacss.Chunk chunk = 10;</code>
+       * @return The chunk.
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.Chunk getChunk() {
+        if (chunkBuilder_ == null) {
+          return chunk_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.Chunk.getDefaultInstance() : chunk_;
+        } else {
+          return chunkBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.trackmate.lacss.Chunk chunk = 10;</code>
+       */
+      public Builder setChunk(fiji.plugin.trackmate.lacss.LacssMsg.Chunk value) {
+        if (chunkBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          chunk_ = value;
+          onChanged();
+        } else {
+          chunkBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.Chunk chunk = 10;</code>
+       */
+      public Builder setChunk(
+          fiji.plugin.trackmate.lacss.LacssMsg.Chunk.Builder builderForValue) {
+        if (chunkBuilder_ == null) {
+          chunk_ = builderForValue.build();
+          onChanged();
+        } else {
+          chunkBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.Chunk chunk = 10;</code>
+       */
+      public Builder mergeChunk(fiji.plugin.trackmate.lacss.LacssMsg.Chunk value) {
+        if (chunkBuilder_ == null) {
+          if (chunk_ != null) {
+            chunk_ =
+              fiji.plugin.trackmate.lacss.LacssMsg.Chunk.newBuilder(chunk_).mergeFrom(value).buildPartial();
+          } else {
+            chunk_ = value;
+          }
+          onChanged();
+        } else {
+          chunkBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.Chunk chunk = 10;</code>
+       */
+      public Builder clearChunk() {
+        if (chunkBuilder_ == null) {
+          chunk_ = null;
+          onChanged();
+        } else {
+          chunk_ = null;
+          chunkBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.Chunk chunk = 10;</code>
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.Chunk.Builder getChunkBuilder() {
+        
+        onChanged();
+        return getChunkFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.trackmate.lacss.Chunk chunk = 10;</code>
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.ChunkOrBuilder getChunkOrBuilder() {
+        if (chunkBuilder_ != null) {
+          return chunkBuilder_.getMessageOrBuilder();
+        } else {
+          return chunk_ == null ?
+              fiji.plugin.trackmate.lacss.LacssMsg.Chunk.getDefaultInstance() : chunk_;
+        }
+      }
+      /**
+       * <code>.trackmate.lacss.Chunk chunk = 10;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          fiji.plugin.trackmate.lacss.LacssMsg.Chunk, fiji.plugin.trackmate.lacss.LacssMsg.Chunk.Builder, fiji.plugin.trackmate.lacss.LacssMsg.ChunkOrBuilder> 
+          getChunkFieldBuilder() {
+        if (chunkBuilder_ == null) {
+          chunkBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              fiji.plugin.trackmate.lacss.LacssMsg.Chunk, fiji.plugin.trackmate.lacss.LacssMsg.Chunk.Builder, fiji.plugin.trackmate.lacss.LacssMsg.ChunkOrBuilder>(
+                  getChunk(),
+                  getParentForChildren(),
+                  isClean());
+          chunk_ = null;
+        }
+        return chunkBuilder_;
+      }
+
+      private fiji.plugin.trackmate.lacss.LacssMsg.Cancel cancel_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          fiji.plugin.trackmate.lacss.LacssMsg.Cancel, fiji.plugin.trackmate.lacss.LacssMsg.Cancel.Builder, fiji.plugin.trackmate.lacss.LacssMsg.CancelOrBuilder> cancelBuilder_;
+      /**
+       * <code>.trackmate.lacss.Cancel cancel = 11;</code>
+       * @return Whether the cancel field is set.
+       */
+      public boolean hasCancel() {
+        return cancelBuilder_ != null || cancel_ != null;
+      }
+      /**
+       * <code>.trackmate.lacss.Cancel cancel = 11;</code>
+       * @return The cancel.
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.Cancel getCancel() {
+        if (cancelBuilder_ == null) {
+          return cancel_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.Cancel.getDefaultInstance() : cancel_;
+        } else {
+          return cancelBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.trackmate.lacss.Cancel cancel = 11;</code>
+       */
+      public Builder setCancel(fiji.plugin.trackmate.lacss.LacssMsg.Cancel value) {
+        if (cancelBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          cancel_ = value;
+          onChanged();
+        } else {
+          cancelBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.Cancel cancel = 11;</code>
+       */
+      public Builder setCancel(
+          fiji.plugin.trackmate.lacss.LacssMsg.Cancel.Builder builderForValue) {
+        if (cancelBuilder_ == null) {
+          cancel_ = builderForValue.build();
+          onChanged();
+        } else {
+          cancelBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.Cancel cancel = 11;</code>
+       */
+      public Builder mergeCancel(fiji.plugin.trackmate.lacss.LacssMsg.Cancel value) {
+        if (cancelBuilder_ == null) {
+          if (cancel_ != null) {
+            cancel_ =
+              fiji.plugin.trackmate.lacss.LacssMsg.Cancel.newBuilder(cancel_).mergeFrom(value).buildPartial();
+          } else {
+            cancel_ = value;
+          }
+          onChanged();
+        } else {
+          cancelBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.Cancel cancel = 11;</code>
+       */
+      public Builder clearCancel() {
+        if (cancelBuilder_ == null) {
+          cancel_ = null;
+          onChanged();
+        } else {
+          cancel_ = null;
+          cancelBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.Cancel cancel = 11;</code>
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.Cancel.Builder getCancelBuilder() {
+        
+        onChanged();
+        return getCancelFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.trackmate.lacss.Cancel cancel = 11;</code>
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.CancelOrBuilder getCancelOrBuilder() {
+        if (cancelBuilder_ != null) {
+          return cancelBuilder_.getMessageOrBuilder();
+        } else {
+          return cancel_ == null ?
+              fiji.plugin.trackmate.lacss.LacssMsg.Cancel.getDefaultInstance() : cancel_;
+        }
+      }
+      /**
+       * <code>.trackmate.lacss.Cancel cancel = 11;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          fiji.plugin.trackmate.lacss.LacssMsg.Cancel, fiji.plugin.trackmate.lacss.LacssMsg.Cancel.Builder, fiji.plugin.trackmate.lacss.LacssMsg.CancelOrBuilder> 
+          getCancelFieldBuilder() {
+        if (cancelBuilder_ == null) {
+          cancelBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              fiji.plugin.trackmate.lacss.LacssMsg.Cancel, fiji.plugin.trackmate.lacss.LacssMsg.Cancel.Builder, fiji.plugin.trackmate.lacss.LacssMsg.CancelOrBuilder>(
+                  getCancel(),
+                  getParentForChildren(),
+                  isClean());
+          cancel_ = null;
+        }
+        return cancelBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:trackmate.lacss.Input)
+    }
+
+    // @@protoc_insertion_point(class_scope:trackmate.lacss.Input)
+    private static final fiji.plugin.trackmate.lacss.LacssMsg.Input DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new fiji.plugin.trackmate.lacss.LacssMsg.Input();
+    }
+
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Input getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Input>
+        PARSER = new com.google.protobuf.AbstractParser<Input>() {
+      @java.lang.Override
+      public Input parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Input(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Input> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Input> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public fiji.plugin.trackmate.lacss.LacssMsg.Input getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CancelOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:trackmate.lacss.Cancel)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>uint64 request_id = 1;</code>
+     * @return The requestId.
+     */
+    long getRequestId();
+  }
+  /**
+   * <pre>
+   * Sent alone in an Input to abort a frame sent earlier in the session. The
+   * server drops the frame if it has not started it, and may stop it midway
+   * otherwise. Either way it answers the request, with its result or with a
+   * Result that only has request_id and cancelled set, once it no longer
+   * touches the shared memory of the frame: the client reuses that memory for
+   * other frames only then. Servers should look ahead in their input for
+   * Cancel messages before starting a frame, so that queued frames are dropped
+   * quickly.
+   * </pre>
+   *
+   * Protobuf type {@code trackmate.lacss.Cancel}
+   */
+  public static final class Cancel extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:trackmate.lacss.Cancel)
+      CancelOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Cancel.newBuilder() to construct.
+    private Cancel(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Cancel() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Cancel();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Cancel(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              requestId_ = input.readUInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Cancel_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Cancel_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fiji.plugin.trackmate.lacss.LacssMsg.Cancel.class, fiji.plugin.trackmate.lacss.LacssMsg.Cancel.Builder.class);
+    }
+
+    public static final int REQUEST_ID_FIELD_NUMBER = 1;
+    private long requestId_;
+    /**
+     * <code>uint64 request_id = 1;</code>
+     * @return The requestId.
+     */
+    @java.lang.Override
+    public long getRequestId() {
+      return requestId_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (requestId_ != 0L) {
+        output.writeUInt64(1, requestId_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (requestId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, requestId_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof fiji.plugin.trackmate.lacss.LacssMsg.Cancel)) {
+        return super.equals(obj);
+      }
+      fiji.plugin.trackmate.lacss.LacssMsg.Cancel other = (fiji.plugin.trackmate.lacss.LacssMsg.Cancel) obj;
+
+      if (getRequestId()
+          != other.getRequestId()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + REQUEST_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRequestId());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Cancel parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Cancel parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Cancel parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Cancel parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Cancel parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Cancel parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Cancel parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Cancel parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Cancel parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Cancel parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Cancel parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Cancel parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fiji.plugin.trackmate.lacss.LacssMsg.Cancel prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Sent alone in an Input to abort a frame sent earlier in the session. The
+     * server drops the frame if it has not started it, and may stop it midway
+     * otherwise. Either way it answers the request, with its result or with a
+     * Result that only has request_id and cancelled set, once it no longer
+     * touches the shared memory of the frame: the client reuses that memory for
+     * other frames only then. Servers should look ahead in their input for
+     * Cancel messages before starting a frame, so that queued frames are dropped
+     * quickly.
+     * </pre>
+     *
+     * Protobuf type {@code trackmate.lacss.Cancel}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:trackmate.lacss.Cancel)
+        fiji.plugin.trackmate.lacss.LacssMsg.CancelOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Cancel_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Cancel_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fiji.plugin.trackmate.lacss.LacssMsg.Cancel.class, fiji.plugin.trackmate.lacss.LacssMsg.Cancel.Builder.class);
+      }
+
+      // Construct using fiji.plugin.trackmate.lacss.LacssMsg.Cancel.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        requestId_ = 0L;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Cancel_descriptor;
+      }
+
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.Cancel getDefaultInstanceForType() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.Cancel.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.Cancel build() {
+        fiji.plugin.trackmate.lacss.LacssMsg.Cancel result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.Cancel buildPartial() {
+        fiji.plugin.trackmate.lacss.LacssMsg.Cancel result = new fiji.plugin.trackmate.lacss.LacssMsg.Cancel(this);
+        result.requestId_ = requestId_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof fiji.plugin.trackmate.lacss.LacssMsg.Cancel) {
+          return mergeFrom((fiji.plugin.trackmate.lacss.LacssMsg.Cancel)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(fiji.plugin.trackmate.lacss.LacssMsg.Cancel other) {
+        if (other == fiji.plugin.trackmate.lacss.LacssMsg.Cancel.getDefaultInstance()) return this;
+        if (other.getRequestId() != 0L) {
+          setRequestId(other.getRequestId());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fiji.plugin.trackmate.lacss.LacssMsg.Cancel parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fiji.plugin.trackmate.lacss.LacssMsg.Cancel) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private long requestId_ ;
+      /**
+       * <code>uint64 request_id = 1;</code>
+       * @return The requestId.
+       */
+      @java.lang.Override
+      public long getRequestId() {
+        return requestId_;
+      }
+      /**
+       * <code>uint64 request_id = 1;</code>
+       * @param value The requestId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRequestId(long value) {
+        
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 request_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRequestId() {
+        
+        requestId_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:trackmate.lacss.Cancel)
+    }
+
+    // @@protoc_insertion_point(class_scope:trackmate.lacss.Cancel)
+    private static final fiji.plugin.trackmate.lacss.LacssMsg.Cancel DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new fiji.plugin.trackmate.lacss.LacssMsg.Cancel();
+    }
+
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Cancel getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Cancel>
+        PARSER = new com.google.protobuf.AbstractParser<Cancel>() {
+      @java.lang.Override
+      public Cancel parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Cancel(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Cancel> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Cancel> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public fiji.plugin.trackmate.lacss.LacssMsg.Cancel getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface LabelOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:trackmate.lacss.Label)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>uint64 height = 1;</code>
+     * @return The height.
+     */
+    long getHeight();
+
+    /**
+     * <code>uint64 width = 2;</code>
+     * @return The width.
+     */
+    long getWidth();
+
+    /**
+     * <pre>
+     * byte order of data, big-endian if false
+     * </pre>
+     *
+     * <code>bool little_endian = 3;</code>
+     * @return The littleEndian.
+     */
+    boolean getLittleEndian();
+
+    /**
+     * <code>.trackmate.lacss.LabelType type = 4;</code>
+     * @return The enum numeric value on the wire for type.
+     */
+    int getTypeValue();
+    /**
+     * <code>.trackmate.lacss.LabelType type = 4;</code>
+     * @return The type.
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.LabelType getType();
+
+    /**
+     * <code>bytes data = 6;</code>
+     * @return The data.
+     */
+    com.google.protobuf.ByteString getData();
+
+    /**
+     * <pre>
+     * shared-memory transport, see Image
+     * </pre>
+     *
+     * <code>string shm_path = 7;</code>
+     * @return The shmPath.
+     */
+    java.lang.String getShmPath();
+    /**
+     * <pre>
+     * shared-memory transport, see Image
+     * </pre>
+     *
+     * <code>string shm_path = 7;</code>
+     * @return The bytes for shmPath.
+     */
+    com.google.protobuf.ByteString
+        getShmPathBytes();
+
+    /**
+     * <code>uint64 shm_offset = 8;</code>
+     * @return The shmOffset.
+     */
+    long getShmOffset();
+
+    /**
+     * <pre>
+     * see Image.chunked
+     * </pre>
+     *
+     * <code>bool chunked = 9;</code>
+     * @return The chunked.
+     */
+    boolean getChunked();
+
+    /**
+     * <pre>
+     * of data; only RLE, for clients that accept it
+     * </pre>
+     *
+     * <code>.trackmate.lacss.Compression compression = 10;</code>
+     * @return The enum numeric value on the wire for compression.
+     */
+    int getCompressionValue();
+    /**
+     * <pre>
+     * of data; only RLE, for clients that accept it
+     * </pre>
+     *
+     * <code>.trackmate.lacss.Compression compression = 10;</code>
+     * @return The compression.
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.Compression getCompression();
+  }
+  /**
+   * Protobuf type {@code trackmate.lacss.Label}
+   */
+  public static final class Label extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:trackmate.lacss.Label)
+      LabelOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Label.newBuilder() to construct.
+    private Label(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Label() {
+      type_ = 0;
+      data_ = com.google.protobuf.ByteString.EMPTY;
+      shmPath_ = "";
+      compression_ = 0;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Label();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Label(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              height_ = input.readUInt64();
+              break;
+            }
+            case 16: {
+
+              width_ = input.readUInt64();
+              break;
+            }
+            case 24: {
+
+              littleEndian_ = input.readBool();
+              break;
+            }
+            case 32: {
+              int rawValue = input.readEnum();
+
+              type_ = rawValue;
+              break;
+            }
+            case 50: {
+
+              data_ = input.readBytes();
+              break;
+            }
+            case 58: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              shmPath_ = s;
+              break;
+            }
+            case 64: {
+
+              shmOffset_ = input.readUInt64();
+              break;
+            }
+            case 72: {
+
+              chunked_ = input.readBool();
+              break;
+            }
+            case 80: {
+              int rawValue = input.readEnum();
+
+              compression_ = rawValue;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Label_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Label_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fiji.plugin.trackmate.lacss.LacssMsg.Label.class, fiji.plugin.trackmate.lacss.LacssMsg.Label.Builder.class);
+    }
+
+    public static final int HEIGHT_FIELD_NUMBER = 1;
+    private long height_;
+    /**
+     * <code>uint64 height = 1;</code>
+     * @return The height.
+     */
+    @java.lang.Override
+    public long getHeight() {
+      return height_;
+    }
+
+    public static final int WIDTH_FIELD_NUMBER = 2;
+    private long width_;
+    /**
+     * <code>uint64 width = 2;</code>
+     * @return The width.
+     */
+    @java.lang.Override
+    public long getWidth() {
+      return width_;
+    }
+
+    public static final int LITTLE_ENDIAN_FIELD_NUMBER = 3;
+    private boolean littleEndian_;
+    /**
+     * <pre>
+     * byte order of data, big-endian if false
+     * </pre>
+     *
+     * <code>bool little_endian = 3;</code>
+     * @return The littleEndian.
+     */
+    @java.lang.Override
+    public boolean getLittleEndian() {
+      return littleEndian_;
+    }
+
+    public static final int TYPE_FIELD_NUMBER = 4;
+    private int type_;
+    /**
+     * <code>.trackmate.lacss.LabelType type = 4;</code>
+     * @return The enum numeric value on the wire for type.
+     */
+    @java.lang.Override public int getTypeValue() {
+      return type_;
+    }
+    /**
+     * <code>.trackmate.lacss.LabelType type = 4;</code>
+     * @return The type.
+     */
+    @java.lang.Override public fiji.plugin.trackmate.lacss.LacssMsg.LabelType getType() {
+      @SuppressWarnings("deprecation")
+      fiji.plugin.trackmate.lacss.LacssMsg.LabelType result = fiji.plugin.trackmate.lacss.LacssMsg.LabelType.valueOf(type_);
+      return result == null ? fiji.plugin.trackmate.lacss.LacssMsg.LabelType.UNRECOGNIZED : result;
+    }
+
+    public static final int DATA_FIELD_NUMBER = 6;
+    private com.google.protobuf.ByteString data_;
+    /**
+     * <code>bytes data = 6;</code>
+     * @return The data.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getData() {
+      return data_;
+    }
+
+    public static final int SHM_PATH_FIELD_NUMBER = 7;
+    private volatile java.lang.Object shmPath_;
+    /**
+     * <pre>
+     * shared-memory transport, see Image
+     * </pre>
+     *
+     * <code>string shm_path = 7;</code>
+     * @return The shmPath.
+     */
+    @java.lang.Override
+    public java.lang.String getShmPath() {
+      java.lang.Object ref = shmPath_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        shmPath_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * shared-memory transport, see Image
+     * </pre>
+     *
+     * <code>string shm_path = 7;</code>
+     * @return The bytes for shmPath.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getShmPathBytes() {
+      java.lang.Object ref = shmPath_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        shmPath_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SHM_OFFSET_FIELD_NUMBER = 8;
+    private long shmOffset_;
+    /**
+     * <code>uint64 shm_offset = 8;</code>
+     * @return The shmOffset.
+     */
+    @java.lang.Override
+    public long getShmOffset() {
+      return shmOffset_;
+    }
+
+    public static final int CHUNKED_FIELD_NUMBER = 9;
+    private boolean chunked_;
+    /**
+     * <pre>
+     * see Image.chunked
+     * </pre>
+     *
+     * <code>bool chunked = 9;</code>
+     * @return The chunked.
+     */
+    @java.lang.Override
+    public boolean getChunked() {
+      return chunked_;
+    }
+
+    public static final int COMPRESSION_FIELD_NUMBER = 10;
+    private int compression_;
+    /**
+     * <pre>
+     * of data; only RLE, for clients that accept it
+     * </pre>
+     *
+     * <code>.trackmate.lacss.Compression compression = 10;</code>
+     * @return The enum numeric value on the wire for compression.
+     */
+    @java.lang.Override public int getCompressionValue() {
+      return compression_;
+    }
+    /**
+     * <pre>
+     * of data; only RLE, for clients that accept it
+     * </pre>
+     *
+     * <code>.trackmate.lacss.Compression compression = 10;</code>
+     * @return The compression.
+     */
+    @java.lang.Override public fiji.plugin.trackmate.lacss.LacssMsg.Compression getCompression() {
+      @SuppressWarnings("deprecation")
+      fiji.plugin.trackmate.lacss.LacssMsg.Compression result = fiji.plugin.trackmate.lacss.LacssMsg.Compression.valueOf(compression_);
+      return result == null ? fiji.plugin.trackmate.lacss.LacssMsg.Compression.UNRECOGNIZED : result;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (height_ != 0L) {
+        output.writeUInt64(1, height_);
+      }
+      if (width_ != 0L) {
+        output.writeUInt64(2, width_);
+      }
+      if (littleEndian_ != false) {
+        output.writeBool(3, littleEndian_);
+      }
+      if (type_ != fiji.plugin.trackmate.lacss.LacssMsg.LabelType.INT16.getNumber()) {
+        output.writeEnum(4, type_);
+      }
+      if (!data_.isEmpty()) {
+        output.writeBytes(6, data_);
+      }
+      if (!getShmPathBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 7, shmPath_);
+      }
+      if (shmOffset_ != 0L) {
+        output.writeUInt64(8, shmOffset_);
+      }
+      if (chunked_ != false) {
+        output.writeBool(9, chunked_);
+      }
+      if (compression_ != fiji.plugin.trackmate.lacss.LacssMsg.Compression.NONE.getNumber()) {
+        output.writeEnum(10, compression_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (height_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, height_);
+      }
+      if (width_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, width_);
+      }
+      if (littleEndian_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, littleEndian_);
+      }
+      if (type_ != fiji.plugin.trackmate.lacss.LacssMsg.LabelType.INT16.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(4, type_);
+      }
+      if (!data_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(6, data_);
+      }
+      if (!getShmPathBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(7, shmPath_);
+      }
+      if (shmOffset_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(8, shmOffset_);
+      }
+      if (chunked_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(9, chunked_);
+      }
+      if (compression_ != fiji.plugin.trackmate.lacss.LacssMsg.Compression.NONE.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(10, compression_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof fiji.plugin.trackmate.lacss.LacssMsg.Label)) {
+        return super.equals(obj);
+      }
+      fiji.plugin.trackmate.lacss.LacssMsg.Label other = (fiji.plugin.trackmate.lacss.LacssMsg.Label) obj;
+
+      if (getHeight()
+          != other.getHeight()) return false;
+      if (getWidth()
+          != other.getWidth()) return false;
+      if (getLittleEndian()
+          != other.getLittleEndian()) return false;
+      if (type_ != other.type_) return false;
+      if (!getData()
+          .equals(other.getData())) return false;
+      if (!getShmPath()
+          .equals(other.getShmPath())) return false;
+      if (getShmOffset()
+          != other.getShmOffset()) return false;
+      if (getChunked()
+          != other.getChunked()) return false;
+      if (compression_ != other.compression_) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + HEIGHT_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getHeight());
+      hash = (37 * hash) + WIDTH_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getWidth());
+      hash = (37 * hash) + LITTLE_ENDIAN_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getLittleEndian());
+      hash = (37 * hash) + TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + type_;
+      hash = (37 * hash) + DATA_FIELD_NUMBER;
+      hash = (53 * hash) + getData().hashCode();
+      hash = (37 * hash) + SHM_PATH_FIELD_NUMBER;
+      hash = (53 * hash) + getShmPath().hashCode();
+      hash = (37 * hash) + SHM_OFFSET_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getShmOffset());
+      hash = (37 * hash) + CHUNKED_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getChunked());
+      hash = (37 * hash) + COMPRESSION_FIELD_NUMBER;
+      hash = (53 * hash) + compression_;
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Label parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Label parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Label parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Label parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Label parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Label parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Label parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Label parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Label parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Label parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Label parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Label parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fiji.plugin.trackmate.lacss.LacssMsg.Label prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code trackmate.lacss.Label}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:trackmate.lacss.Label)
+        fiji.plugin.trackmate.lacss.LacssMsg.LabelOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Label_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Label_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fiji.plugin.trackmate.lacss.LacssMsg.Label.class, fiji.plugin.trackmate.lacss.LacssMsg.Label.Builder.class);
+      }
+
+      // Construct using fiji.plugin.trackmate.lacss.LacssMsg.Label.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        height_ = 0L;
+
+        width_ = 0L;
+
+        littleEndian_ = false;
+
+        type_ = 0;
+
+        data_ = com.google.protobuf.ByteString.EMPTY;
+
+        shmPath_ = "";
+
+        shmOffset_ = 0L;
+
+        chunked_ = false;
+
+        compression_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Label_descriptor;
+      }
+
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.Label getDefaultInstanceForType() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.Label.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.Label build() {
+        fiji.plugin.trackmate.lacss.LacssMsg.Label result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
 
       @java.lang.Override
-      public Builder clone() {
-        return super.clone();
-      }
-      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.Label buildPartial() {
+        fiji.plugin.trackmate.lacss.LacssMsg.Label result = new fiji.plugin.trackmate.lacss.LacssMsg.Label(this);
+        result.height_ = height_;
+        result.width_ = width_;
+        result.littleEndian_ = littleEndian_;
+        result.type_ = type_;
+        result.data_ = data_;
+        result.shmPath_ = shmPath_;
+        result.shmOffset_ = shmOffset_;
+        result.chunked_ = chunked_;
+        result.compression_ = compression_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
       public Builder setField(
           com.google.protobuf.Descriptors.FieldDescriptor field,
           java.lang.Object value) {
@@ -646,31 +10072,44 @@ public final class LacssMsg {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof fiji.plugin.trackmate.lacss.LacssMsg.Image) {
-          return mergeFrom((fiji.plugin.trackmate.lacss.LacssMsg.Image)other);
+        if (other instanceof fiji.plugin.trackmate.lacss.LacssMsg.Label) {
+          return mergeFrom((fiji.plugin.trackmate.lacss.LacssMsg.Label)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(fiji.plugin.trackmate.lacss.LacssMsg.Image other) {
-        if (other == fiji.plugin.trackmate.lacss.LacssMsg.Image.getDefaultInstance()) return this;
+      public Builder mergeFrom(fiji.plugin.trackmate.lacss.LacssMsg.Label other) {
+        if (other == fiji.plugin.trackmate.lacss.LacssMsg.Label.getDefaultInstance()) return this;
         if (other.getHeight() != 0L) {
           setHeight(other.getHeight());
         }
         if (other.getWidth() != 0L) {
           setWidth(other.getWidth());
         }
-        if (other.getChannel() != 0L) {
-          setChannel(other.getChannel());
+        if (other.getLittleEndian() != false) {
+          setLittleEndian(other.getLittleEndian());
         }
-        if (other.dtype_ != 0) {
-          setDtypeValue(other.getDtypeValue());
+        if (other.type_ != 0) {
+          setTypeValue(other.getTypeValue());
         }
         if (other.getData() != com.google.protobuf.ByteString.EMPTY) {
           setData(other.getData());
         }
+        if (!other.getShmPath().isEmpty()) {
+          shmPath_ = other.shmPath_;
+          onChanged();
+        }
+        if (other.getShmOffset() != 0L) {
+          setShmOffset(other.getShmOffset());
+        }
+        if (other.getChunked() != false) {
+          setChunked(other.getChunked());
+        }
+        if (other.compression_ != 0) {
+          setCompressionValue(other.getCompressionValue());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -686,11 +10125,11 @@ public final class LacssMsg {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        fiji.plugin.trackmate.lacss.LacssMsg.Image parsedMessage = null;
+        fiji.plugin.trackmate.lacss.LacssMsg.Label parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (fiji.plugin.trackmate.lacss.LacssMsg.Image) e.getUnfinishedMessage();
+          parsedMessage = (fiji.plugin.trackmate.lacss.LacssMsg.Label) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -741,142 +10180,398 @@ public final class LacssMsg {
         return width_;
       }
       /**
-       * <code>uint64 width = 2;</code>
-       * @param value The width to set.
+       * <code>uint64 width = 2;</code>
+       * @param value The width to set.
+       * @return This builder for chaining.
+       */
+      public Builder setWidth(long value) {
+        
+        width_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 width = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearWidth() {
+        
+        width_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private boolean littleEndian_ ;
+      /**
+       * <pre>
+       * byte order of data, big-endian if false
+       * </pre>
+       *
+       * <code>bool little_endian = 3;</code>
+       * @return The littleEndian.
+       */
+      @java.lang.Override
+      public boolean getLittleEndian() {
+        return littleEndian_;
+      }
+      /**
+       * <pre>
+       * byte order of data, big-endian if false
+       * </pre>
+       *
+       * <code>bool little_endian = 3;</code>
+       * @param value The littleEndian to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLittleEndian(boolean value) {
+        
+        littleEndian_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * byte order of data, big-endian if false
+       * </pre>
+       *
+       * <code>bool little_endian = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLittleEndian() {
+        
+        littleEndian_ = false;
+        onChanged();
+        return this;
+      }
+
+      private int type_ = 0;
+      /**
+       * <code>.trackmate.lacss.LabelType type = 4;</code>
+       * @return The enum numeric value on the wire for type.
+       */
+      @java.lang.Override public int getTypeValue() {
+        return type_;
+      }
+      /**
+       * <code>.trackmate.lacss.LabelType type = 4;</code>
+       * @param value The enum numeric value on the wire for type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeValue(int value) {
+        
+        type_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.LabelType type = 4;</code>
+       * @return The type.
+       */
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.LabelType getType() {
+        @SuppressWarnings("deprecation")
+        fiji.plugin.trackmate.lacss.LacssMsg.LabelType result = fiji.plugin.trackmate.lacss.LacssMsg.LabelType.valueOf(type_);
+        return result == null ? fiji.plugin.trackmate.lacss.LacssMsg.LabelType.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.trackmate.lacss.LabelType type = 4;</code>
+       * @param value The type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setType(fiji.plugin.trackmate.lacss.LacssMsg.LabelType value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        type_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.LabelType type = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearType() {
+        
+        type_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>bytes data = 6;</code>
+       * @return The data.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getData() {
+        return data_;
+      }
+      /**
+       * <code>bytes data = 6;</code>
+       * @param value The data to set.
+       * @return This builder for chaining.
+       */
+      public Builder setData(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        data_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bytes data = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearData() {
+        
+        data_ = getDefaultInstance().getData();
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object shmPath_ = "";
+      /**
+       * <pre>
+       * shared-memory transport, see Image
+       * </pre>
+       *
+       * <code>string shm_path = 7;</code>
+       * @return The shmPath.
+       */
+      public java.lang.String getShmPath() {
+        java.lang.Object ref = shmPath_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          shmPath_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * shared-memory transport, see Image
+       * </pre>
+       *
+       * <code>string shm_path = 7;</code>
+       * @return The bytes for shmPath.
+       */
+      public com.google.protobuf.ByteString
+          getShmPathBytes() {
+        java.lang.Object ref = shmPath_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          shmPath_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * shared-memory transport, see Image
+       * </pre>
+       *
+       * <code>string shm_path = 7;</code>
+       * @param value The shmPath to set.
+       * @return This builder for chaining.
+       */
+      public Builder setShmPath(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        shmPath_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * shared-memory transport, see Image
+       * </pre>
+       *
+       * <code>string shm_path = 7;</code>
        * @return This builder for chaining.
        */
-      public Builder setWidth(long value) {
+      public Builder clearShmPath() {
         
-        width_ = value;
+        shmPath_ = getDefaultInstance().getShmPath();
         onChanged();
         return this;
       }
       /**
-       * <code>uint64 width = 2;</code>
+       * <pre>
+       * shared-memory transport, see Image
+       * </pre>
+       *
+       * <code>string shm_path = 7;</code>
+       * @param value The bytes for shmPath to set.
        * @return This builder for chaining.
        */
-      public Builder clearWidth() {
+      public Builder setShmPathBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
         
-        width_ = 0L;
+        shmPath_ = value;
         onChanged();
         return this;
       }
 
-      private long channel_ ;
+      private long shmOffset_ ;
       /**
-       * <code>uint64 channel = 3;</code>
-       * @return The channel.
+       * <code>uint64 shm_offset = 8;</code>
+       * @return The shmOffset.
        */
       @java.lang.Override
-      public long getChannel() {
-        return channel_;
+      public long getShmOffset() {
+        return shmOffset_;
       }
       /**
-       * <code>uint64 channel = 3;</code>
-       * @param value The channel to set.
+       * <code>uint64 shm_offset = 8;</code>
+       * @param value The shmOffset to set.
        * @return This builder for chaining.
        */
-      public Builder setChannel(long value) {
+      public Builder setShmOffset(long value) {
         
-        channel_ = value;
+        shmOffset_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>uint64 channel = 3;</code>
+       * <code>uint64 shm_offset = 8;</code>
        * @return This builder for chaining.
        */
-      public Builder clearChannel() {
+      public Builder clearShmOffset() {
         
-        channel_ = 0L;
+        shmOffset_ = 0L;
         onChanged();
         return this;
       }
 
-      private int dtype_ = 0;
+      private boolean chunked_ ;
       /**
-       * <code>.trackmate.lacss.DType dtype = 4;</code>
-       * @return The enum numeric value on the wire for dtype.
+       * <pre>
+       * see Image.chunked
+       * </pre>
+       *
+       * <code>bool chunked = 9;</code>
+       * @return The chunked.
        */
-      @java.lang.Override public int getDtypeValue() {
-        return dtype_;
+      @java.lang.Override
+      public boolean getChunked() {
+        return chunked_;
       }
       /**
-       * <code>.trackmate.lacss.DType dtype = 4;</code>
-       * @param value The enum numeric value on the wire for dtype to set.
+       * <pre>
+       * see Image.chunked
+       * </pre>
+       *
+       * <code>bool chunked = 9;</code>
+       * @param value The chunked to set.
        * @return This builder for chaining.
        */
-      public Builder setDtypeValue(int value) {
+      public Builder setChunked(boolean value) {
         
-        dtype_ = value;
+        chunked_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>.trackmate.lacss.DType dtype = 4;</code>
-       * @return The dtype.
-       */
-      @java.lang.Override
-      public fiji.plugin.trackmate.lacss.LacssMsg.DType getDtype() {
-        @SuppressWarnings("deprecation")
-        fiji.plugin.trackmate.lacss.LacssMsg.DType result = fiji.plugin.trackmate.lacss.LacssMsg.DType.valueOf(dtype_);
-        return result == null ? fiji.plugin.trackmate.lacss.LacssMsg.DType.UNRECOGNIZED : result;
-      }
-      /**
-       * <code>.trackmate.lacss.DType dtype = 4;</code>
-       * @param value The dtype to set.
+       * <pre>
+       * see Image.chunked
+       * </pre>
+       *
+       * <code>bool chunked = 9;</code>
        * @return This builder for chaining.
        */
-      public Builder setDtype(fiji.plugin.trackmate.lacss.LacssMsg.DType value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder clearChunked() {
         
-        dtype_ = value.getNumber();
+        chunked_ = false;
         onChanged();
         return this;
       }
+
+      private int compression_ = 0;
       /**
-       * <code>.trackmate.lacss.DType dtype = 4;</code>
+       * <pre>
+       * of data; only RLE, for clients that accept it
+       * </pre>
+       *
+       * <code>.trackmate.lacss.Compression compression = 10;</code>
+       * @return The enum numeric value on the wire for compression.
+       */
+      @java.lang.Override public int getCompressionValue() {
+        return compression_;
+      }
+      /**
+       * <pre>
+       * of data; only RLE, for clients that accept it
+       * </pre>
+       *
+       * <code>.trackmate.lacss.Compression compression = 10;</code>
+       * @param value The enum numeric value on the wire for compression to set.
        * @return This builder for chaining.
        */
-      public Builder clearDtype() {
+      public Builder setCompressionValue(int value) {
         
-        dtype_ = 0;
+        compression_ = value;
         onChanged();
         return this;
       }
-
-      private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>bytes data = 5;</code>
-       * @return The data.
+       * <pre>
+       * of data; only RLE, for clients that accept it
+       * </pre>
+       *
+       * <code>.trackmate.lacss.Compression compression = 10;</code>
+       * @return The compression.
        */
       @java.lang.Override
-      public com.google.protobuf.ByteString getData() {
-        return data_;
+      public fiji.plugin.trackmate.lacss.LacssMsg.Compression getCompression() {
+        @SuppressWarnings("deprecation")
+        fiji.plugin.trackmate.lacss.LacssMsg.Compression result = fiji.plugin.trackmate.lacss.LacssMsg.Compression.valueOf(compression_);
+        return result == null ? fiji.plugin.trackmate.lacss.LacssMsg.Compression.UNRECOGNIZED : result;
       }
       /**
-       * <code>bytes data = 5;</code>
-       * @param value The data to set.
+       * <pre>
+       * of data; only RLE, for clients that accept it
+       * </pre>
+       *
+       * <code>.trackmate.lacss.Compression compression = 10;</code>
+       * @param value The compression to set.
        * @return This builder for chaining.
        */
-      public Builder setData(com.google.protobuf.ByteString value) {
+      public Builder setCompression(fiji.plugin.trackmate.lacss.LacssMsg.Compression value) {
         if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        data_ = value;
+          throw new NullPointerException();
+        }
+        
+        compression_ = value.getNumber();
         onChanged();
         return this;
       }
       /**
-       * <code>bytes data = 5;</code>
+       * <pre>
+       * of data; only RLE, for clients that accept it
+       * </pre>
+       *
+       * <code>.trackmate.lacss.Compression compression = 10;</code>
        * @return This builder for chaining.
        */
-      public Builder clearData() {
+      public Builder clearCompression() {
         
-        data_ = getDefaultInstance().getData();
+        compression_ = 0;
         onChanged();
         return this;
       }
@@ -893,106 +10588,104 @@ public final class LacssMsg {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:trackmate.lacss.Image)
+      // @@protoc_insertion_point(builder_scope:trackmate.lacss.Label)
     }
 
-    // @@protoc_insertion_point(class_scope:trackmate.lacss.Image)
-    private static final fiji.plugin.trackmate.lacss.LacssMsg.Image DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:trackmate.lacss.Label)
+    private static final fiji.plugin.trackmate.lacss.LacssMsg.Label DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new fiji.plugin.trackmate.lacss.LacssMsg.Image();
+      DEFAULT_INSTANCE = new fiji.plugin.trackmate.lacss.LacssMsg.Label();
     }
 
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Image getDefaultInstance() {
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Label getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<Image>
-        PARSER = new com.google.protobuf.AbstractParser<Image>() {
+    private static final com.google.protobuf.Parser<Label>
+        PARSER = new com.google.protobuf.AbstractParser<Label>() {
       @java.lang.Override
-      public Image parsePartialFrom(
+      public Label parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Image(input, extensionRegistry);
+        return new Label(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<Image> parser() {
+    public static com.google.protobuf.Parser<Label> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Image> getParserForType() {
+    public com.google.protobuf.Parser<Label> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public fiji.plugin.trackmate.lacss.LacssMsg.Image getDefaultInstanceForType() {
+    public fiji.plugin.trackmate.lacss.LacssMsg.Label getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface SettingsOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:trackmate.lacss.Settings)
+  public interface ChunkOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:trackmate.lacss.Chunk)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>float min_cell_area = 1;</code>
-     * @return The minCellArea.
-     */
-    float getMinCellArea();
-
-    /**
-     * <code>bool remove_out_of_bound = 2;</code>
-     * @return The removeOutOfBound.
-     */
-    boolean getRemoveOutOfBound();
-
-    /**
-     * <code>float scaling = 3;</code>
-     * @return The scaling.
-     */
-    float getScaling();
-
-    /**
-     * <code>float nms_iou = 4;</code>
-     * @return The nmsIou.
+     * <pre>
+     * for Results, the Result field the data belongs to
+     * </pre>
+     *
+     * <code>uint32 field = 1;</code>
+     * @return The field.
      */
-    float getNmsIou();
+    int getField();
 
     /**
-     * <code>float detection_threshold = 5;</code>
-     * @return The detectionThreshold.
+     * <pre>
+     * byte offset of data in the whole image
+     * </pre>
+     *
+     * <code>uint64 offset = 2;</code>
+     * @return The offset.
      */
-    float getDetectionThreshold();
+    long getOffset();
 
     /**
-     * <code>float segmentation_threshold = 6;</code>
-     * @return The segmentationThreshold.
+     * <code>bytes data = 3;</code>
+     * @return The data.
      */
-    float getSegmentationThreshold();
+    com.google.protobuf.ByteString getData();
   }
   /**
-   * Protobuf type {@code trackmate.lacss.Settings}
+   * <pre>
+   * Part of the data of an Image or Label too large for a single message.
+   * Chunks are sent right after the message holding the image header, in
+   * order, each in its own Input or Result that only carries it and the
+   * request id.
+   * </pre>
+   *
+   * Protobuf type {@code trackmate.lacss.Chunk}
    */
-  public static final class Settings extends
+  public static final class Chunk extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:trackmate.lacss.Settings)
-      SettingsOrBuilder {
+      // @@protoc_insertion_point(message_implements:trackmate.lacss.Chunk)
+      ChunkOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use Settings.newBuilder() to construct.
-    private Settings(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use Chunk.newBuilder() to construct.
+    private Chunk(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private Settings() {
+    private Chunk() {
+      data_ = com.google.protobuf.ByteString.EMPTY;
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new Settings();
+      return new Chunk();
     }
 
     @java.lang.Override
@@ -1000,7 +10693,7 @@ public final class LacssMsg {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private Settings(
+    private Chunk(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -1018,34 +10711,19 @@ public final class LacssMsg {
             case 0:
               done = true;
               break;
-            case 13: {
+            case 8: {
 
-              minCellArea_ = input.readFloat();
+              field_ = input.readUInt32();
               break;
             }
             case 16: {
 
-              removeOutOfBound_ = input.readBool();
-              break;
-            }
-            case 29: {
-
-              scaling_ = input.readFloat();
-              break;
-            }
-            case 37: {
-
-              nmsIou_ = input.readFloat();
-              break;
-            }
-            case 45: {
-
-              detectionThreshold_ = input.readFloat();
+              offset_ = input.readUInt64();
               break;
             }
-            case 53: {
+            case 26: {
 
-              segmentationThreshold_ = input.readFloat();
+              data_ = input.readBytes();
               break;
             }
             default: {
@@ -1069,81 +10747,56 @@ public final class LacssMsg {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Settings_descriptor;
+      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Chunk_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Settings_fieldAccessorTable
+      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Chunk_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              fiji.plugin.trackmate.lacss.LacssMsg.Settings.class, fiji.plugin.trackmate.lacss.LacssMsg.Settings.Builder.class);
-    }
-
-    public static final int MIN_CELL_AREA_FIELD_NUMBER = 1;
-    private float minCellArea_;
-    /**
-     * <code>float min_cell_area = 1;</code>
-     * @return The minCellArea.
-     */
-    @java.lang.Override
-    public float getMinCellArea() {
-      return minCellArea_;
-    }
-
-    public static final int REMOVE_OUT_OF_BOUND_FIELD_NUMBER = 2;
-    private boolean removeOutOfBound_;
-    /**
-     * <code>bool remove_out_of_bound = 2;</code>
-     * @return The removeOutOfBound.
-     */
-    @java.lang.Override
-    public boolean getRemoveOutOfBound() {
-      return removeOutOfBound_;
-    }
-
-    public static final int SCALING_FIELD_NUMBER = 3;
-    private float scaling_;
-    /**
-     * <code>float scaling = 3;</code>
-     * @return The scaling.
-     */
-    @java.lang.Override
-    public float getScaling() {
-      return scaling_;
+              fiji.plugin.trackmate.lacss.LacssMsg.Chunk.class, fiji.plugin.trackmate.lacss.LacssMsg.Chunk.Builder.class);
     }
 
-    public static final int NMS_IOU_FIELD_NUMBER = 4;
-    private float nmsIou_;
+    public static final int FIELD_FIELD_NUMBER = 1;
+    private int field_;
     /**
-     * <code>float nms_iou = 4;</code>
-     * @return The nmsIou.
+     * <pre>
+     * for Results, the Result field the data belongs to
+     * </pre>
+     *
+     * <code>uint32 field = 1;</code>
+     * @return The field.
      */
     @java.lang.Override
-    public float getNmsIou() {
-      return nmsIou_;
+    public int getField() {
+      return field_;
     }
 
-    public static final int DETECTION_THRESHOLD_FIELD_NUMBER = 5;
-    private float detectionThreshold_;
+    public static final int OFFSET_FIELD_NUMBER = 2;
+    private long offset_;
     /**
-     * <code>float detection_threshold = 5;</code>
-     * @return The detectionThreshold.
+     * <pre>
+     * byte offset of data in the whole image
+     * </pre>
+     *
+     * <code>uint64 offset = 2;</code>
+     * @return The offset.
      */
     @java.lang.Override
-    public float getDetectionThreshold() {
-      return detectionThreshold_;
+    public long getOffset() {
+      return offset_;
     }
 
-    public static final int SEGMENTATION_THRESHOLD_FIELD_NUMBER = 6;
-    private float segmentationThreshold_;
+    public static final int DATA_FIELD_NUMBER = 3;
+    private com.google.protobuf.ByteString data_;
     /**
-     * <code>float segmentation_threshold = 6;</code>
-     * @return The segmentationThreshold.
+     * <code>bytes data = 3;</code>
+     * @return The data.
      */
     @java.lang.Override
-    public float getSegmentationThreshold() {
-      return segmentationThreshold_;
+    public com.google.protobuf.ByteString getData() {
+      return data_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -1151,32 +10804,23 @@ public final class LacssMsg {
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (minCellArea_ != 0F) {
-        output.writeFloat(1, minCellArea_);
-      }
-      if (removeOutOfBound_ != false) {
-        output.writeBool(2, removeOutOfBound_);
-      }
-      if (scaling_ != 0F) {
-        output.writeFloat(3, scaling_);
-      }
-      if (nmsIou_ != 0F) {
-        output.writeFloat(4, nmsIou_);
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (field_ != 0) {
+        output.writeUInt32(1, field_);
       }
-      if (detectionThreshold_ != 0F) {
-        output.writeFloat(5, detectionThreshold_);
+      if (offset_ != 0L) {
+        output.writeUInt64(2, offset_);
       }
-      if (segmentationThreshold_ != 0F) {
-        output.writeFloat(6, segmentationThreshold_);
+      if (!data_.isEmpty()) {
+        output.writeBytes(3, data_);
       }
       unknownFields.writeTo(output);
     }
@@ -1187,29 +10831,17 @@ public final class LacssMsg {
       if (size != -1) return size;
 
       size = 0;
-      if (minCellArea_ != 0F) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeFloatSize(1, minCellArea_);
-      }
-      if (removeOutOfBound_ != false) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(2, removeOutOfBound_);
-      }
-      if (scaling_ != 0F) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeFloatSize(3, scaling_);
-      }
-      if (nmsIou_ != 0F) {
+      if (field_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeFloatSize(4, nmsIou_);
+          .computeUInt32Size(1, field_);
       }
-      if (detectionThreshold_ != 0F) {
+      if (offset_ != 0L) {
         size += com.google.protobuf.CodedOutputStream
-          .computeFloatSize(5, detectionThreshold_);
+          .computeUInt64Size(2, offset_);
       }
-      if (segmentationThreshold_ != 0F) {
+      if (!data_.isEmpty()) {
         size += com.google.protobuf.CodedOutputStream
-          .computeFloatSize(6, segmentationThreshold_);
+          .computeBytesSize(3, data_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -1221,28 +10853,17 @@ public final class LacssMsg {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof fiji.plugin.trackmate.lacss.LacssMsg.Settings)) {
+      if (!(obj instanceof fiji.plugin.trackmate.lacss.LacssMsg.Chunk)) {
         return super.equals(obj);
       }
-      fiji.plugin.trackmate.lacss.LacssMsg.Settings other = (fiji.plugin.trackmate.lacss.LacssMsg.Settings) obj;
+      fiji.plugin.trackmate.lacss.LacssMsg.Chunk other = (fiji.plugin.trackmate.lacss.LacssMsg.Chunk) obj;
 
-      if (java.lang.Float.floatToIntBits(getMinCellArea())
-          != java.lang.Float.floatToIntBits(
-              other.getMinCellArea())) return false;
-      if (getRemoveOutOfBound()
-          != other.getRemoveOutOfBound()) return false;
-      if (java.lang.Float.floatToIntBits(getScaling())
-          != java.lang.Float.floatToIntBits(
-              other.getScaling())) return false;
-      if (java.lang.Float.floatToIntBits(getNmsIou())
-          != java.lang.Float.floatToIntBits(
-              other.getNmsIou())) return false;
-      if (java.lang.Float.floatToIntBits(getDetectionThreshold())
-          != java.lang.Float.floatToIntBits(
-              other.getDetectionThreshold())) return false;
-      if (java.lang.Float.floatToIntBits(getSegmentationThreshold())
-          != java.lang.Float.floatToIntBits(
-              other.getSegmentationThreshold())) return false;
+      if (getField()
+          != other.getField()) return false;
+      if (getOffset()
+          != other.getOffset()) return false;
+      if (!getData()
+          .equals(other.getData())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -1254,92 +10875,81 @@ public final class LacssMsg {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + MIN_CELL_AREA_FIELD_NUMBER;
-      hash = (53 * hash) + java.lang.Float.floatToIntBits(
-          getMinCellArea());
-      hash = (37 * hash) + REMOVE_OUT_OF_BOUND_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
-          getRemoveOutOfBound());
-      hash = (37 * hash) + SCALING_FIELD_NUMBER;
-      hash = (53 * hash) + java.lang.Float.floatToIntBits(
-          getScaling());
-      hash = (37 * hash) + NMS_IOU_FIELD_NUMBER;
-      hash = (53 * hash) + java.lang.Float.floatToIntBits(
-          getNmsIou());
-      hash = (37 * hash) + DETECTION_THRESHOLD_FIELD_NUMBER;
-      hash = (53 * hash) + java.lang.Float.floatToIntBits(
-          getDetectionThreshold());
-      hash = (37 * hash) + SEGMENTATION_THRESHOLD_FIELD_NUMBER;
-      hash = (53 * hash) + java.lang.Float.floatToIntBits(
-          getSegmentationThreshold());
+      hash = (37 * hash) + FIELD_FIELD_NUMBER;
+      hash = (53 * hash) + getField();
+      hash = (37 * hash) + OFFSET_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getOffset());
+      hash = (37 * hash) + DATA_FIELD_NUMBER;
+      hash = (53 * hash) + getData().hashCode();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Settings parseFrom(
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Chunk parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Settings parseFrom(
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Chunk parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Settings parseFrom(
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Chunk parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Settings parseFrom(
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Chunk parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Settings parseFrom(byte[] data)
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Chunk parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Settings parseFrom(
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Chunk parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Settings parseFrom(java.io.InputStream input)
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Chunk parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Settings parseFrom(
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Chunk parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Settings parseDelimitedFrom(java.io.InputStream input)
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Chunk parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Settings parseDelimitedFrom(
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Chunk parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Settings parseFrom(
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Chunk parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Settings parseFrom(
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Chunk parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -1352,7 +10962,7 @@ public final class LacssMsg {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(fiji.plugin.trackmate.lacss.LacssMsg.Settings prototype) {
+    public static Builder newBuilder(fiji.plugin.trackmate.lacss.LacssMsg.Chunk prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -1368,26 +10978,33 @@ public final class LacssMsg {
       return builder;
     }
     /**
-     * Protobuf type {@code trackmate.lacss.Settings}
+     * <pre>
+     * Part of the data of an Image or Label too large for a single message.
+     * Chunks are sent right after the message holding the image header, in
+     * order, each in its own Input or Result that only carries it and the
+     * request id.
+     * </pre>
+     *
+     * Protobuf type {@code trackmate.lacss.Chunk}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:trackmate.lacss.Settings)
-        fiji.plugin.trackmate.lacss.LacssMsg.SettingsOrBuilder {
+        // @@protoc_insertion_point(builder_implements:trackmate.lacss.Chunk)
+        fiji.plugin.trackmate.lacss.LacssMsg.ChunkOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Settings_descriptor;
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Chunk_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Settings_fieldAccessorTable
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Chunk_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                fiji.plugin.trackmate.lacss.LacssMsg.Settings.class, fiji.plugin.trackmate.lacss.LacssMsg.Settings.Builder.class);
+                fiji.plugin.trackmate.lacss.LacssMsg.Chunk.class, fiji.plugin.trackmate.lacss.LacssMsg.Chunk.Builder.class);
       }
 
-      // Construct using fiji.plugin.trackmate.lacss.LacssMsg.Settings.newBuilder()
+      // Construct using fiji.plugin.trackmate.lacss.LacssMsg.Chunk.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -1405,17 +11022,11 @@ public final class LacssMsg {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        minCellArea_ = 0F;
-
-        removeOutOfBound_ = false;
-
-        scaling_ = 0F;
-
-        nmsIou_ = 0F;
+        field_ = 0;
 
-        detectionThreshold_ = 0F;
+        offset_ = 0L;
 
-        segmentationThreshold_ = 0F;
+        data_ = com.google.protobuf.ByteString.EMPTY;
 
         return this;
       }
@@ -1423,17 +11034,17 @@ public final class LacssMsg {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Settings_descriptor;
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Chunk_descriptor;
       }
 
       @java.lang.Override
-      public fiji.plugin.trackmate.lacss.LacssMsg.Settings getDefaultInstanceForType() {
-        return fiji.plugin.trackmate.lacss.LacssMsg.Settings.getDefaultInstance();
+      public fiji.plugin.trackmate.lacss.LacssMsg.Chunk getDefaultInstanceForType() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.Chunk.getDefaultInstance();
       }
 
       @java.lang.Override
-      public fiji.plugin.trackmate.lacss.LacssMsg.Settings build() {
-        fiji.plugin.trackmate.lacss.LacssMsg.Settings result = buildPartial();
+      public fiji.plugin.trackmate.lacss.LacssMsg.Chunk build() {
+        fiji.plugin.trackmate.lacss.LacssMsg.Chunk result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -1441,14 +11052,11 @@ public final class LacssMsg {
       }
 
       @java.lang.Override
-      public fiji.plugin.trackmate.lacss.LacssMsg.Settings buildPartial() {
-        fiji.plugin.trackmate.lacss.LacssMsg.Settings result = new fiji.plugin.trackmate.lacss.LacssMsg.Settings(this);
-        result.minCellArea_ = minCellArea_;
-        result.removeOutOfBound_ = removeOutOfBound_;
-        result.scaling_ = scaling_;
-        result.nmsIou_ = nmsIou_;
-        result.detectionThreshold_ = detectionThreshold_;
-        result.segmentationThreshold_ = segmentationThreshold_;
+      public fiji.plugin.trackmate.lacss.LacssMsg.Chunk buildPartial() {
+        fiji.plugin.trackmate.lacss.LacssMsg.Chunk result = new fiji.plugin.trackmate.lacss.LacssMsg.Chunk(this);
+        result.field_ = field_;
+        result.offset_ = offset_;
+        result.data_ = data_;
         onBuilt();
         return result;
       }
@@ -1487,33 +11095,24 @@ public final class LacssMsg {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof fiji.plugin.trackmate.lacss.LacssMsg.Settings) {
-          return mergeFrom((fiji.plugin.trackmate.lacss.LacssMsg.Settings)other);
+        if (other instanceof fiji.plugin.trackmate.lacss.LacssMsg.Chunk) {
+          return mergeFrom((fiji.plugin.trackmate.lacss.LacssMsg.Chunk)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(fiji.plugin.trackmate.lacss.LacssMsg.Settings other) {
-        if (other == fiji.plugin.trackmate.lacss.LacssMsg.Settings.getDefaultInstance()) return this;
-        if (other.getMinCellArea() != 0F) {
-          setMinCellArea(other.getMinCellArea());
+      public Builder mergeFrom(fiji.plugin.trackmate.lacss.LacssMsg.Chunk other) {
+        if (other == fiji.plugin.trackmate.lacss.LacssMsg.Chunk.getDefaultInstance()) return this;
+        if (other.getField() != 0) {
+          setField(other.getField());
         }
-        if (other.getRemoveOutOfBound() != false) {
-          setRemoveOutOfBound(other.getRemoveOutOfBound());
-        }
-        if (other.getScaling() != 0F) {
-          setScaling(other.getScaling());
-        }
-        if (other.getNmsIou() != 0F) {
-          setNmsIou(other.getNmsIou());
+        if (other.getOffset() != 0L) {
+          setOffset(other.getOffset());
         }
-        if (other.getDetectionThreshold() != 0F) {
-          setDetectionThreshold(other.getDetectionThreshold());
-        }
-        if (other.getSegmentationThreshold() != 0F) {
-          setSegmentationThreshold(other.getSegmentationThreshold());
+        if (other.getData() != com.google.protobuf.ByteString.EMPTY) {
+          setData(other.getData());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -1521,211 +11120,145 @@ public final class LacssMsg {
       }
 
       @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        fiji.plugin.trackmate.lacss.LacssMsg.Settings parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (fiji.plugin.trackmate.lacss.LacssMsg.Settings) e.getUnfinishedMessage();
-          throw e.unwrapIOException();
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
-      }
-
-      private float minCellArea_ ;
-      /**
-       * <code>float min_cell_area = 1;</code>
-       * @return The minCellArea.
-       */
-      @java.lang.Override
-      public float getMinCellArea() {
-        return minCellArea_;
-      }
-      /**
-       * <code>float min_cell_area = 1;</code>
-       * @param value The minCellArea to set.
-       * @return This builder for chaining.
-       */
-      public Builder setMinCellArea(float value) {
-        
-        minCellArea_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>float min_cell_area = 1;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearMinCellArea() {
-        
-        minCellArea_ = 0F;
-        onChanged();
-        return this;
-      }
-
-      private boolean removeOutOfBound_ ;
-      /**
-       * <code>bool remove_out_of_bound = 2;</code>
-       * @return The removeOutOfBound.
-       */
-      @java.lang.Override
-      public boolean getRemoveOutOfBound() {
-        return removeOutOfBound_;
-      }
-      /**
-       * <code>bool remove_out_of_bound = 2;</code>
-       * @param value The removeOutOfBound to set.
-       * @return This builder for chaining.
-       */
-      public Builder setRemoveOutOfBound(boolean value) {
-        
-        removeOutOfBound_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>bool remove_out_of_bound = 2;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearRemoveOutOfBound() {
-        
-        removeOutOfBound_ = false;
-        onChanged();
-        return this;
-      }
-
-      private float scaling_ ;
-      /**
-       * <code>float scaling = 3;</code>
-       * @return The scaling.
-       */
-      @java.lang.Override
-      public float getScaling() {
-        return scaling_;
-      }
-      /**
-       * <code>float scaling = 3;</code>
-       * @param value The scaling to set.
-       * @return This builder for chaining.
-       */
-      public Builder setScaling(float value) {
-        
-        scaling_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>float scaling = 3;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearScaling() {
-        
-        scaling_ = 0F;
-        onChanged();
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fiji.plugin.trackmate.lacss.LacssMsg.Chunk parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fiji.plugin.trackmate.lacss.LacssMsg.Chunk) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
         return this;
       }
 
-      private float nmsIou_ ;
+      private int field_ ;
       /**
-       * <code>float nms_iou = 4;</code>
-       * @return The nmsIou.
+       * <pre>
+       * for Results, the Result field the data belongs to
+       * </pre>
+       *
+       * <code>uint32 field = 1;</code>
+       * @return The field.
        */
       @java.lang.Override
-      public float getNmsIou() {
-        return nmsIou_;
+      public int getField() {
+        return field_;
       }
       /**
-       * <code>float nms_iou = 4;</code>
-       * @param value The nmsIou to set.
+       * <pre>
+       * for Results, the Result field the data belongs to
+       * </pre>
+       *
+       * <code>uint32 field = 1;</code>
+       * @param value The field to set.
        * @return This builder for chaining.
        */
-      public Builder setNmsIou(float value) {
+      public Builder setField(int value) {
         
-        nmsIou_ = value;
+        field_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>float nms_iou = 4;</code>
+       * <pre>
+       * for Results, the Result field the data belongs to
+       * </pre>
+       *
+       * <code>uint32 field = 1;</code>
        * @return This builder for chaining.
        */
-      public Builder clearNmsIou() {
+      public Builder clearField() {
         
-        nmsIou_ = 0F;
+        field_ = 0;
         onChanged();
         return this;
       }
 
-      private float detectionThreshold_ ;
+      private long offset_ ;
       /**
-       * <code>float detection_threshold = 5;</code>
-       * @return The detectionThreshold.
+       * <pre>
+       * byte offset of data in the whole image
+       * </pre>
+       *
+       * <code>uint64 offset = 2;</code>
+       * @return The offset.
        */
       @java.lang.Override
-      public float getDetectionThreshold() {
-        return detectionThreshold_;
+      public long getOffset() {
+        return offset_;
       }
       /**
-       * <code>float detection_threshold = 5;</code>
-       * @param value The detectionThreshold to set.
+       * <pre>
+       * byte offset of data in the whole image
+       * </pre>
+       *
+       * <code>uint64 offset = 2;</code>
+       * @param value The offset to set.
        * @return This builder for chaining.
        */
-      public Builder setDetectionThreshold(float value) {
+      public Builder setOffset(long value) {
         
-        detectionThreshold_ = value;
+        offset_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>float detection_threshold = 5;</code>
+       * <pre>
+       * byte offset of data in the whole image
+       * </pre>
+       *
+       * <code>uint64 offset = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder clearDetectionThreshold() {
+      public Builder clearOffset() {
         
-        detectionThreshold_ = 0F;
+        offset_ = 0L;
         onChanged();
         return this;
       }
 
-      private float segmentationThreshold_ ;
+      private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>float segmentation_threshold = 6;</code>
-       * @return The segmentationThreshold.
+       * <code>bytes data = 3;</code>
+       * @return The data.
        */
       @java.lang.Override
-      public float getSegmentationThreshold() {
-        return segmentationThreshold_;
+      public com.google.protobuf.ByteString getData() {
+        return data_;
       }
       /**
-       * <code>float segmentation_threshold = 6;</code>
-       * @param value The segmentationThreshold to set.
+       * <code>bytes data = 3;</code>
+       * @param value The data to set.
        * @return This builder for chaining.
        */
-      public Builder setSegmentationThreshold(float value) {
-        
-        segmentationThreshold_ = value;
+      public Builder setData(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        data_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>float segmentation_threshold = 6;</code>
+       * <code>bytes data = 3;</code>
        * @return This builder for chaining.
        */
-      public Builder clearSegmentationThreshold() {
+      public Builder clearData() {
         
-        segmentationThreshold_ = 0F;
+        data_ = getDefaultInstance().getData();
         onChanged();
         return this;
       }
@@ -1742,100 +11275,181 @@ public final class LacssMsg {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:trackmate.lacss.Settings)
+      // @@protoc_insertion_point(builder_scope:trackmate.lacss.Chunk)
     }
 
-    // @@protoc_insertion_point(class_scope:trackmate.lacss.Settings)
-    private static final fiji.plugin.trackmate.lacss.LacssMsg.Settings DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:trackmate.lacss.Chunk)
+    private static final fiji.plugin.trackmate.lacss.LacssMsg.Chunk DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new fiji.plugin.trackmate.lacss.LacssMsg.Settings();
+      DEFAULT_INSTANCE = new fiji.plugin.trackmate.lacss.LacssMsg.Chunk();
     }
 
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Settings getDefaultInstance() {
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Chunk getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<Settings>
-        PARSER = new com.google.protobuf.AbstractParser<Settings>() {
+    private static final com.google.protobuf.Parser<Chunk>
+        PARSER = new com.google.protobuf.AbstractParser<Chunk>() {
       @java.lang.Override
-      public Settings parsePartialFrom(
+      public Chunk parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Settings(input, extensionRegistry);
+        return new Chunk(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<Settings> parser() {
+    public static com.google.protobuf.Parser<Chunk> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Settings> getParserForType() {
+    public com.google.protobuf.Parser<Chunk> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public fiji.plugin.trackmate.lacss.LacssMsg.Settings getDefaultInstanceForType() {
+    public fiji.plugin.trackmate.lacss.LacssMsg.Chunk getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface InputOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:trackmate.lacss.Input)
+  public interface InstanceOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:trackmate.lacss.Instance)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>.trackmate.lacss.Settings settings = 1;</code>
-     * @return Whether the settings field is set.
+     * <code>uint32 label = 1;</code>
+     * @return The label.
      */
-    boolean hasSettings();
+    int getLabel();
+
     /**
-     * <code>.trackmate.lacss.Settings settings = 1;</code>
-     * @return The settings.
+     * <pre>
+     * bounding box, min inclusive, max exclusive
+     * </pre>
+     *
+     * <code>uint32 x0 = 2;</code>
+     * @return The x0.
      */
-    fiji.plugin.trackmate.lacss.LacssMsg.Settings getSettings();
+    int getX0();
+
     /**
-     * <code>.trackmate.lacss.Settings settings = 1;</code>
+     * <code>uint32 y0 = 3;</code>
+     * @return The y0.
      */
-    fiji.plugin.trackmate.lacss.LacssMsg.SettingsOrBuilder getSettingsOrBuilder();
+    int getY0();
 
     /**
-     * <code>.trackmate.lacss.Image image = 2;</code>
-     * @return Whether the image field is set.
+     * <code>uint32 x1 = 4;</code>
+     * @return The x1.
      */
-    boolean hasImage();
+    int getX1();
+
     /**
-     * <code>.trackmate.lacss.Image image = 2;</code>
-     * @return The image.
+     * <code>uint32 y1 = 5;</code>
+     * @return The y1.
      */
-    fiji.plugin.trackmate.lacss.LacssMsg.Image getImage();
+    int getY1();
+
     /**
-     * <code>.trackmate.lacss.Image image = 2;</code>
+     * <pre>
+     * mask within the bounding box, row by row, as alternating run lengths
+     * of background and foreground pixels, starting with background
+     * </pre>
+     *
+     * <code>repeated uint32 mask_rle = 6;</code>
+     * @return A list containing the maskRle.
      */
-    fiji.plugin.trackmate.lacss.LacssMsg.ImageOrBuilder getImageOrBuilder();
+    java.util.List<java.lang.Integer> getMaskRleList();
+    /**
+     * <pre>
+     * mask within the bounding box, row by row, as alternating run lengths
+     * of background and foreground pixels, starting with background
+     * </pre>
+     *
+     * <code>repeated uint32 mask_rle = 6;</code>
+     * @return The count of maskRle.
+     */
+    int getMaskRleCount();
+    /**
+     * <pre>
+     * mask within the bounding box, row by row, as alternating run lengths
+     * of background and foreground pixels, starting with background
+     * </pre>
+     *
+     * <code>repeated uint32 mask_rle = 6;</code>
+     * @param index The index of the element to return.
+     * @return The maskRle at the given index.
+     */
+    int getMaskRle(int index);
+
+    /**
+     * <code>float score = 7;</code>
+     * @return The score.
+     */
+    float getScore();
+
+    /**
+     * <pre>
+     * POLYGON results only, instead of mask_rle: the contour as packed
+     * x, y pairs on pixel boundaries, pixel (x, y) spanning [x, x + 1)
+     * </pre>
+     *
+     * <code>repeated float polygon = 8;</code>
+     * @return A list containing the polygon.
+     */
+    java.util.List<java.lang.Float> getPolygonList();
+    /**
+     * <pre>
+     * POLYGON results only, instead of mask_rle: the contour as packed
+     * x, y pairs on pixel boundaries, pixel (x, y) spanning [x, x + 1)
+     * </pre>
+     *
+     * <code>repeated float polygon = 8;</code>
+     * @return The count of polygon.
+     */
+    int getPolygonCount();
+    /**
+     * <pre>
+     * POLYGON results only, instead of mask_rle: the contour as packed
+     * x, y pairs on pixel boundaries, pixel (x, y) spanning [x, x + 1)
+     * </pre>
+     *
+     * <code>repeated float polygon = 8;</code>
+     * @param index The index of the element to return.
+     * @return The polygon at the given index.
+     */
+    float getPolygon(int index);
   }
   /**
-   * Protobuf type {@code trackmate.lacss.Input}
+   * <pre>
+   * One detected cell of a SPARSE or POLYGON result. Coordinates are pixels of
+   * the input image, x along its width and y along its height.
+   * </pre>
+   *
+   * Protobuf type {@code trackmate.lacss.Instance}
    */
-  public static final class Input extends
+  public static final class Instance extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:trackmate.lacss.Input)
-      InputOrBuilder {
+      // @@protoc_insertion_point(message_implements:trackmate.lacss.Instance)
+      InstanceOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use Input.newBuilder() to construct.
-    private Input(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use Instance.newBuilder() to construct.
+    private Instance(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private Input() {
+    private Instance() {
+      maskRle_ = emptyIntList();
+      polygon_ = emptyFloatList();
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new Input();
+      return new Instance();
     }
 
     @java.lang.Override
@@ -1843,7 +11457,7 @@ public final class LacssMsg {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private Input(
+    private Instance(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -1851,6 +11465,7 @@ public final class LacssMsg {
       if (extensionRegistry == null) {
         throw new java.lang.NullPointerException();
       }
+      int mutable_bitField0_ = 0;
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
           com.google.protobuf.UnknownFieldSet.newBuilder();
       try {
@@ -1861,30 +11476,76 @@ public final class LacssMsg {
             case 0:
               done = true;
               break;
-            case 10: {
-              fiji.plugin.trackmate.lacss.LacssMsg.Settings.Builder subBuilder = null;
-              if (settings_ != null) {
-                subBuilder = settings_.toBuilder();
+            case 8: {
+
+              label_ = input.readUInt32();
+              break;
+            }
+            case 16: {
+
+              x0_ = input.readUInt32();
+              break;
+            }
+            case 24: {
+
+              y0_ = input.readUInt32();
+              break;
+            }
+            case 32: {
+
+              x1_ = input.readUInt32();
+              break;
+            }
+            case 40: {
+
+              y1_ = input.readUInt32();
+              break;
+            }
+            case 48: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                maskRle_ = newIntList();
+                mutable_bitField0_ |= 0x00000001;
               }
-              settings_ = input.readMessage(fiji.plugin.trackmate.lacss.LacssMsg.Settings.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(settings_);
-                settings_ = subBuilder.buildPartial();
+              maskRle_.addInt(input.readUInt32());
+              break;
+            }
+            case 50: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+                maskRle_ = newIntList();
+                mutable_bitField0_ |= 0x00000001;
               }
+              while (input.getBytesUntilLimit() > 0) {
+                maskRle_.addInt(input.readUInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 61: {
 
+              score_ = input.readFloat();
               break;
             }
-            case 18: {
-              fiji.plugin.trackmate.lacss.LacssMsg.Image.Builder subBuilder = null;
-              if (image_ != null) {
-                subBuilder = image_.toBuilder();
+            case 69: {
+              if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+                polygon_ = newFloatList();
+                mutable_bitField0_ |= 0x00000002;
               }
-              image_ = input.readMessage(fiji.plugin.trackmate.lacss.LacssMsg.Image.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(image_);
-                image_ = subBuilder.buildPartial();
+              polygon_.addFloat(input.readFloat());
+              break;
+            }
+            case 66: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000002) != 0) && input.getBytesUntilLimit() > 0) {
+                polygon_ = newFloatList();
+                mutable_bitField0_ |= 0x00000002;
               }
-
+              while (input.getBytesUntilLimit() > 0) {
+                polygon_.addFloat(input.readFloat());
+              }
+              input.popLimit(limit);
               break;
             }
             default: {
@@ -1902,74 +11563,184 @@ public final class LacssMsg {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          maskRle_.makeImmutable(); // C
+        }
+        if (((mutable_bitField0_ & 0x00000002) != 0)) {
+          polygon_.makeImmutable(); // C
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Input_descriptor;
+      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Instance_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Input_fieldAccessorTable
+      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Instance_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              fiji.plugin.trackmate.lacss.LacssMsg.Input.class, fiji.plugin.trackmate.lacss.LacssMsg.Input.Builder.class);
+              fiji.plugin.trackmate.lacss.LacssMsg.Instance.class, fiji.plugin.trackmate.lacss.LacssMsg.Instance.Builder.class);
     }
 
-    public static final int SETTINGS_FIELD_NUMBER = 1;
-    private fiji.plugin.trackmate.lacss.LacssMsg.Settings settings_;
+    public static final int LABEL_FIELD_NUMBER = 1;
+    private int label_;
     /**
-     * <code>.trackmate.lacss.Settings settings = 1;</code>
-     * @return Whether the settings field is set.
+     * <code>uint32 label = 1;</code>
+     * @return The label.
      */
     @java.lang.Override
-    public boolean hasSettings() {
-      return settings_ != null;
+    public int getLabel() {
+      return label_;
     }
+
+    public static final int X0_FIELD_NUMBER = 2;
+    private int x0_;
     /**
-     * <code>.trackmate.lacss.Settings settings = 1;</code>
-     * @return The settings.
+     * <pre>
+     * bounding box, min inclusive, max exclusive
+     * </pre>
+     *
+     * <code>uint32 x0 = 2;</code>
+     * @return The x0.
      */
     @java.lang.Override
-    public fiji.plugin.trackmate.lacss.LacssMsg.Settings getSettings() {
-      return settings_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.Settings.getDefaultInstance() : settings_;
+    public int getX0() {
+      return x0_;
     }
+
+    public static final int Y0_FIELD_NUMBER = 3;
+    private int y0_;
     /**
-     * <code>.trackmate.lacss.Settings settings = 1;</code>
+     * <code>uint32 y0 = 3;</code>
+     * @return The y0.
      */
     @java.lang.Override
-    public fiji.plugin.trackmate.lacss.LacssMsg.SettingsOrBuilder getSettingsOrBuilder() {
-      return getSettings();
+    public int getY0() {
+      return y0_;
     }
 
-    public static final int IMAGE_FIELD_NUMBER = 2;
-    private fiji.plugin.trackmate.lacss.LacssMsg.Image image_;
+    public static final int X1_FIELD_NUMBER = 4;
+    private int x1_;
     /**
-     * <code>.trackmate.lacss.Image image = 2;</code>
-     * @return Whether the image field is set.
+     * <code>uint32 x1 = 4;</code>
+     * @return The x1.
+     */
+    @java.lang.Override
+    public int getX1() {
+      return x1_;
+    }
+
+    public static final int Y1_FIELD_NUMBER = 5;
+    private int y1_;
+    /**
+     * <code>uint32 y1 = 5;</code>
+     * @return The y1.
+     */
+    @java.lang.Override
+    public int getY1() {
+      return y1_;
+    }
+
+    public static final int MASK_RLE_FIELD_NUMBER = 6;
+    private com.google.protobuf.Internal.IntList maskRle_;
+    /**
+     * <pre>
+     * mask within the bounding box, row by row, as alternating run lengths
+     * of background and foreground pixels, starting with background
+     * </pre>
+     *
+     * <code>repeated uint32 mask_rle = 6;</code>
+     * @return A list containing the maskRle.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getMaskRleList() {
+      return maskRle_;
+    }
+    /**
+     * <pre>
+     * mask within the bounding box, row by row, as alternating run lengths
+     * of background and foreground pixels, starting with background
+     * </pre>
+     *
+     * <code>repeated uint32 mask_rle = 6;</code>
+     * @return The count of maskRle.
+     */
+    public int getMaskRleCount() {
+      return maskRle_.size();
+    }
+    /**
+     * <pre>
+     * mask within the bounding box, row by row, as alternating run lengths
+     * of background and foreground pixels, starting with background
+     * </pre>
+     *
+     * <code>repeated uint32 mask_rle = 6;</code>
+     * @param index The index of the element to return.
+     * @return The maskRle at the given index.
+     */
+    public int getMaskRle(int index) {
+      return maskRle_.getInt(index);
+    }
+    private int maskRleMemoizedSerializedSize = -1;
+
+    public static final int SCORE_FIELD_NUMBER = 7;
+    private float score_;
+    /**
+     * <code>float score = 7;</code>
+     * @return The score.
+     */
+    @java.lang.Override
+    public float getScore() {
+      return score_;
+    }
+
+    public static final int POLYGON_FIELD_NUMBER = 8;
+    private com.google.protobuf.Internal.FloatList polygon_;
+    /**
+     * <pre>
+     * POLYGON results only, instead of mask_rle: the contour as packed
+     * x, y pairs on pixel boundaries, pixel (x, y) spanning [x, x + 1)
+     * </pre>
+     *
+     * <code>repeated float polygon = 8;</code>
+     * @return A list containing the polygon.
      */
     @java.lang.Override
-    public boolean hasImage() {
-      return image_ != null;
+    public java.util.List<java.lang.Float>
+        getPolygonList() {
+      return polygon_;
     }
     /**
-     * <code>.trackmate.lacss.Image image = 2;</code>
-     * @return The image.
+     * <pre>
+     * POLYGON results only, instead of mask_rle: the contour as packed
+     * x, y pairs on pixel boundaries, pixel (x, y) spanning [x, x + 1)
+     * </pre>
+     *
+     * <code>repeated float polygon = 8;</code>
+     * @return The count of polygon.
      */
-    @java.lang.Override
-    public fiji.plugin.trackmate.lacss.LacssMsg.Image getImage() {
-      return image_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.Image.getDefaultInstance() : image_;
+    public int getPolygonCount() {
+      return polygon_.size();
     }
     /**
-     * <code>.trackmate.lacss.Image image = 2;</code>
+     * <pre>
+     * POLYGON results only, instead of mask_rle: the contour as packed
+     * x, y pairs on pixel boundaries, pixel (x, y) spanning [x, x + 1)
+     * </pre>
+     *
+     * <code>repeated float polygon = 8;</code>
+     * @param index The index of the element to return.
+     * @return The polygon at the given index.
      */
-    @java.lang.Override
-    public fiji.plugin.trackmate.lacss.LacssMsg.ImageOrBuilder getImageOrBuilder() {
-      return getImage();
+    public float getPolygon(int index) {
+      return polygon_.getFloat(index);
     }
+    private int polygonMemoizedSerializedSize = -1;
 
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
@@ -1985,11 +11756,38 @@ public final class LacssMsg {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (settings_ != null) {
-        output.writeMessage(1, getSettings());
+      getSerializedSize();
+      if (label_ != 0) {
+        output.writeUInt32(1, label_);
       }
-      if (image_ != null) {
-        output.writeMessage(2, getImage());
+      if (x0_ != 0) {
+        output.writeUInt32(2, x0_);
+      }
+      if (y0_ != 0) {
+        output.writeUInt32(3, y0_);
+      }
+      if (x1_ != 0) {
+        output.writeUInt32(4, x1_);
+      }
+      if (y1_ != 0) {
+        output.writeUInt32(5, y1_);
+      }
+      if (getMaskRleList().size() > 0) {
+        output.writeUInt32NoTag(50);
+        output.writeUInt32NoTag(maskRleMemoizedSerializedSize);
+      }
+      for (int i = 0; i < maskRle_.size(); i++) {
+        output.writeUInt32NoTag(maskRle_.getInt(i));
+      }
+      if (score_ != 0F) {
+        output.writeFloat(7, score_);
+      }
+      if (getPolygonList().size() > 0) {
+        output.writeUInt32NoTag(66);
+        output.writeUInt32NoTag(polygonMemoizedSerializedSize);
+      }
+      for (int i = 0; i < polygon_.size(); i++) {
+        output.writeFloatNoTag(polygon_.getFloat(i));
       }
       unknownFields.writeTo(output);
     }
@@ -2000,13 +11798,54 @@ public final class LacssMsg {
       if (size != -1) return size;
 
       size = 0;
-      if (settings_ != null) {
+      if (label_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, getSettings());
+          .computeUInt32Size(1, label_);
       }
-      if (image_ != null) {
+      if (x0_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, getImage());
+          .computeUInt32Size(2, x0_);
+      }
+      if (y0_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(3, y0_);
+      }
+      if (x1_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(4, x1_);
+      }
+      if (y1_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(5, y1_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < maskRle_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(maskRle_.getInt(i));
+        }
+        size += dataSize;
+        if (!getMaskRleList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        maskRleMemoizedSerializedSize = dataSize;
+      }
+      if (score_ != 0F) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFloatSize(7, score_);
+      }
+      {
+        int dataSize = 0;
+        dataSize = 4 * getPolygonList().size();
+        size += dataSize;
+        if (!getPolygonList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        polygonMemoizedSerializedSize = dataSize;
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -2018,21 +11857,28 @@ public final class LacssMsg {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof fiji.plugin.trackmate.lacss.LacssMsg.Input)) {
+      if (!(obj instanceof fiji.plugin.trackmate.lacss.LacssMsg.Instance)) {
         return super.equals(obj);
       }
-      fiji.plugin.trackmate.lacss.LacssMsg.Input other = (fiji.plugin.trackmate.lacss.LacssMsg.Input) obj;
-
-      if (hasSettings() != other.hasSettings()) return false;
-      if (hasSettings()) {
-        if (!getSettings()
-            .equals(other.getSettings())) return false;
-      }
-      if (hasImage() != other.hasImage()) return false;
-      if (hasImage()) {
-        if (!getImage()
-            .equals(other.getImage())) return false;
-      }
+      fiji.plugin.trackmate.lacss.LacssMsg.Instance other = (fiji.plugin.trackmate.lacss.LacssMsg.Instance) obj;
+
+      if (getLabel()
+          != other.getLabel()) return false;
+      if (getX0()
+          != other.getX0()) return false;
+      if (getY0()
+          != other.getY0()) return false;
+      if (getX1()
+          != other.getX1()) return false;
+      if (getY1()
+          != other.getY1()) return false;
+      if (!getMaskRleList()
+          .equals(other.getMaskRleList())) return false;
+      if (java.lang.Float.floatToIntBits(getScore())
+          != java.lang.Float.floatToIntBits(
+              other.getScore())) return false;
+      if (!getPolygonList()
+          .equals(other.getPolygonList())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -2044,82 +11890,95 @@ public final class LacssMsg {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      if (hasSettings()) {
-        hash = (37 * hash) + SETTINGS_FIELD_NUMBER;
-        hash = (53 * hash) + getSettings().hashCode();
-      }
-      if (hasImage()) {
-        hash = (37 * hash) + IMAGE_FIELD_NUMBER;
-        hash = (53 * hash) + getImage().hashCode();
+      hash = (37 * hash) + LABEL_FIELD_NUMBER;
+      hash = (53 * hash) + getLabel();
+      hash = (37 * hash) + X0_FIELD_NUMBER;
+      hash = (53 * hash) + getX0();
+      hash = (37 * hash) + Y0_FIELD_NUMBER;
+      hash = (53 * hash) + getY0();
+      hash = (37 * hash) + X1_FIELD_NUMBER;
+      hash = (53 * hash) + getX1();
+      hash = (37 * hash) + Y1_FIELD_NUMBER;
+      hash = (53 * hash) + getY1();
+      if (getMaskRleCount() > 0) {
+        hash = (37 * hash) + MASK_RLE_FIELD_NUMBER;
+        hash = (53 * hash) + getMaskRleList().hashCode();
+      }
+      hash = (37 * hash) + SCORE_FIELD_NUMBER;
+      hash = (53 * hash) + java.lang.Float.floatToIntBits(
+          getScore());
+      if (getPolygonCount() > 0) {
+        hash = (37 * hash) + POLYGON_FIELD_NUMBER;
+        hash = (53 * hash) + getPolygonList().hashCode();
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Input parseFrom(
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Instance parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Input parseFrom(
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Instance parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Input parseFrom(
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Instance parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Input parseFrom(
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Instance parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Input parseFrom(byte[] data)
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Instance parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Input parseFrom(
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Instance parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Input parseFrom(java.io.InputStream input)
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Instance parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Input parseFrom(
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Instance parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Input parseDelimitedFrom(java.io.InputStream input)
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Instance parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Input parseDelimitedFrom(
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Instance parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Input parseFrom(
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Instance parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Input parseFrom(
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Instance parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -2132,7 +11991,7 @@ public final class LacssMsg {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(fiji.plugin.trackmate.lacss.LacssMsg.Input prototype) {
+    public static Builder newBuilder(fiji.plugin.trackmate.lacss.LacssMsg.Instance prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -2148,26 +12007,31 @@ public final class LacssMsg {
       return builder;
     }
     /**
-     * Protobuf type {@code trackmate.lacss.Input}
+     * <pre>
+     * One detected cell of a SPARSE or POLYGON result. Coordinates are pixels of
+     * the input image, x along its width and y along its height.
+     * </pre>
+     *
+     * Protobuf type {@code trackmate.lacss.Instance}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:trackmate.lacss.Input)
-        fiji.plugin.trackmate.lacss.LacssMsg.InputOrBuilder {
+        // @@protoc_insertion_point(builder_implements:trackmate.lacss.Instance)
+        fiji.plugin.trackmate.lacss.LacssMsg.InstanceOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Input_descriptor;
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Instance_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Input_fieldAccessorTable
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Instance_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                fiji.plugin.trackmate.lacss.LacssMsg.Input.class, fiji.plugin.trackmate.lacss.LacssMsg.Input.Builder.class);
+                fiji.plugin.trackmate.lacss.LacssMsg.Instance.class, fiji.plugin.trackmate.lacss.LacssMsg.Instance.Builder.class);
       }
 
-      // Construct using fiji.plugin.trackmate.lacss.LacssMsg.Input.newBuilder()
+      // Construct using fiji.plugin.trackmate.lacss.LacssMsg.Instance.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -2185,35 +12049,39 @@ public final class LacssMsg {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        if (settingsBuilder_ == null) {
-          settings_ = null;
-        } else {
-          settings_ = null;
-          settingsBuilder_ = null;
-        }
-        if (imageBuilder_ == null) {
-          image_ = null;
-        } else {
-          image_ = null;
-          imageBuilder_ = null;
-        }
+        label_ = 0;
+
+        x0_ = 0;
+
+        y0_ = 0;
+
+        x1_ = 0;
+
+        y1_ = 0;
+
+        maskRle_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        score_ = 0F;
+
+        polygon_ = emptyFloatList();
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Input_descriptor;
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Instance_descriptor;
       }
 
       @java.lang.Override
-      public fiji.plugin.trackmate.lacss.LacssMsg.Input getDefaultInstanceForType() {
-        return fiji.plugin.trackmate.lacss.LacssMsg.Input.getDefaultInstance();
+      public fiji.plugin.trackmate.lacss.LacssMsg.Instance getDefaultInstanceForType() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.Instance.getDefaultInstance();
       }
 
       @java.lang.Override
-      public fiji.plugin.trackmate.lacss.LacssMsg.Input build() {
-        fiji.plugin.trackmate.lacss.LacssMsg.Input result = buildPartial();
+      public fiji.plugin.trackmate.lacss.LacssMsg.Instance build() {
+        fiji.plugin.trackmate.lacss.LacssMsg.Instance result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -2221,18 +12089,25 @@ public final class LacssMsg {
       }
 
       @java.lang.Override
-      public fiji.plugin.trackmate.lacss.LacssMsg.Input buildPartial() {
-        fiji.plugin.trackmate.lacss.LacssMsg.Input result = new fiji.plugin.trackmate.lacss.LacssMsg.Input(this);
-        if (settingsBuilder_ == null) {
-          result.settings_ = settings_;
-        } else {
-          result.settings_ = settingsBuilder_.build();
+      public fiji.plugin.trackmate.lacss.LacssMsg.Instance buildPartial() {
+        fiji.plugin.trackmate.lacss.LacssMsg.Instance result = new fiji.plugin.trackmate.lacss.LacssMsg.Instance(this);
+        int from_bitField0_ = bitField0_;
+        result.label_ = label_;
+        result.x0_ = x0_;
+        result.y0_ = y0_;
+        result.x1_ = x1_;
+        result.y1_ = y1_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          maskRle_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000001);
         }
-        if (imageBuilder_ == null) {
-          result.image_ = image_;
-        } else {
-          result.image_ = imageBuilder_.build();
+        result.maskRle_ = maskRle_;
+        result.score_ = score_;
+        if (((bitField0_ & 0x00000002) != 0)) {
+          polygon_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000002);
         }
+        result.polygon_ = polygon_;
         onBuilt();
         return result;
       }
@@ -2271,21 +12146,53 @@ public final class LacssMsg {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof fiji.plugin.trackmate.lacss.LacssMsg.Input) {
-          return mergeFrom((fiji.plugin.trackmate.lacss.LacssMsg.Input)other);
+        if (other instanceof fiji.plugin.trackmate.lacss.LacssMsg.Instance) {
+          return mergeFrom((fiji.plugin.trackmate.lacss.LacssMsg.Instance)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(fiji.plugin.trackmate.lacss.LacssMsg.Input other) {
-        if (other == fiji.plugin.trackmate.lacss.LacssMsg.Input.getDefaultInstance()) return this;
-        if (other.hasSettings()) {
-          mergeSettings(other.getSettings());
+      public Builder mergeFrom(fiji.plugin.trackmate.lacss.LacssMsg.Instance other) {
+        if (other == fiji.plugin.trackmate.lacss.LacssMsg.Instance.getDefaultInstance()) return this;
+        if (other.getLabel() != 0) {
+          setLabel(other.getLabel());
         }
-        if (other.hasImage()) {
-          mergeImage(other.getImage());
+        if (other.getX0() != 0) {
+          setX0(other.getX0());
+        }
+        if (other.getY0() != 0) {
+          setY0(other.getY0());
+        }
+        if (other.getX1() != 0) {
+          setX1(other.getX1());
+        }
+        if (other.getY1() != 0) {
+          setY1(other.getY1());
+        }
+        if (!other.maskRle_.isEmpty()) {
+          if (maskRle_.isEmpty()) {
+            maskRle_ = other.maskRle_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureMaskRleIsMutable();
+            maskRle_.addAll(other.maskRle_);
+          }
+          onChanged();
+        }
+        if (other.getScore() != 0F) {
+          setScore(other.getScore());
+        }
+        if (!other.polygon_.isEmpty()) {
+          if (polygon_.isEmpty()) {
+            polygon_ = other.polygon_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensurePolygonIsMutable();
+            polygon_.addAll(other.polygon_);
+          }
+          onChanged();
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -2302,11 +12209,11 @@ public final class LacssMsg {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        fiji.plugin.trackmate.lacss.LacssMsg.Input parsedMessage = null;
+        fiji.plugin.trackmate.lacss.LacssMsg.Instance parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (fiji.plugin.trackmate.lacss.LacssMsg.Input) e.getUnfinishedMessage();
+          parsedMessage = (fiji.plugin.trackmate.lacss.LacssMsg.Instance) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -2315,243 +12222,432 @@ public final class LacssMsg {
         }
         return this;
       }
+      private int bitField0_;
 
-      private fiji.plugin.trackmate.lacss.LacssMsg.Settings settings_;
-      private com.google.protobuf.SingleFieldBuilderV3<
-          fiji.plugin.trackmate.lacss.LacssMsg.Settings, fiji.plugin.trackmate.lacss.LacssMsg.Settings.Builder, fiji.plugin.trackmate.lacss.LacssMsg.SettingsOrBuilder> settingsBuilder_;
+      private int label_ ;
       /**
-       * <code>.trackmate.lacss.Settings settings = 1;</code>
-       * @return Whether the settings field is set.
+       * <code>uint32 label = 1;</code>
+       * @return The label.
        */
-      public boolean hasSettings() {
-        return settingsBuilder_ != null || settings_ != null;
+      @java.lang.Override
+      public int getLabel() {
+        return label_;
       }
       /**
-       * <code>.trackmate.lacss.Settings settings = 1;</code>
-       * @return The settings.
+       * <code>uint32 label = 1;</code>
+       * @param value The label to set.
+       * @return This builder for chaining.
        */
-      public fiji.plugin.trackmate.lacss.LacssMsg.Settings getSettings() {
-        if (settingsBuilder_ == null) {
-          return settings_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.Settings.getDefaultInstance() : settings_;
-        } else {
-          return settingsBuilder_.getMessage();
-        }
+      public Builder setLabel(int value) {
+        
+        label_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>.trackmate.lacss.Settings settings = 1;</code>
+       * <code>uint32 label = 1;</code>
+       * @return This builder for chaining.
        */
-      public Builder setSettings(fiji.plugin.trackmate.lacss.LacssMsg.Settings value) {
-        if (settingsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          settings_ = value;
-          onChanged();
-        } else {
-          settingsBuilder_.setMessage(value);
-        }
+      public Builder clearLabel() {
+        
+        label_ = 0;
+        onChanged();
+        return this;
+      }
 
+      private int x0_ ;
+      /**
+       * <pre>
+       * bounding box, min inclusive, max exclusive
+       * </pre>
+       *
+       * <code>uint32 x0 = 2;</code>
+       * @return The x0.
+       */
+      @java.lang.Override
+      public int getX0() {
+        return x0_;
+      }
+      /**
+       * <pre>
+       * bounding box, min inclusive, max exclusive
+       * </pre>
+       *
+       * <code>uint32 x0 = 2;</code>
+       * @param value The x0 to set.
+       * @return This builder for chaining.
+       */
+      public Builder setX0(int value) {
+        
+        x0_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>.trackmate.lacss.Settings settings = 1;</code>
+       * <pre>
+       * bounding box, min inclusive, max exclusive
+       * </pre>
+       *
+       * <code>uint32 x0 = 2;</code>
+       * @return This builder for chaining.
        */
-      public Builder setSettings(
-          fiji.plugin.trackmate.lacss.LacssMsg.Settings.Builder builderForValue) {
-        if (settingsBuilder_ == null) {
-          settings_ = builderForValue.build();
-          onChanged();
-        } else {
-          settingsBuilder_.setMessage(builderForValue.build());
-        }
+      public Builder clearX0() {
+        
+        x0_ = 0;
+        onChanged();
+        return this;
+      }
 
+      private int y0_ ;
+      /**
+       * <code>uint32 y0 = 3;</code>
+       * @return The y0.
+       */
+      @java.lang.Override
+      public int getY0() {
+        return y0_;
+      }
+      /**
+       * <code>uint32 y0 = 3;</code>
+       * @param value The y0 to set.
+       * @return This builder for chaining.
+       */
+      public Builder setY0(int value) {
+        
+        y0_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>.trackmate.lacss.Settings settings = 1;</code>
+       * <code>uint32 y0 = 3;</code>
+       * @return This builder for chaining.
        */
-      public Builder mergeSettings(fiji.plugin.trackmate.lacss.LacssMsg.Settings value) {
-        if (settingsBuilder_ == null) {
-          if (settings_ != null) {
-            settings_ =
-              fiji.plugin.trackmate.lacss.LacssMsg.Settings.newBuilder(settings_).mergeFrom(value).buildPartial();
-          } else {
-            settings_ = value;
-          }
-          onChanged();
-        } else {
-          settingsBuilder_.mergeFrom(value);
-        }
+      public Builder clearY0() {
+        
+        y0_ = 0;
+        onChanged();
+        return this;
+      }
 
+      private int x1_ ;
+      /**
+       * <code>uint32 x1 = 4;</code>
+       * @return The x1.
+       */
+      @java.lang.Override
+      public int getX1() {
+        return x1_;
+      }
+      /**
+       * <code>uint32 x1 = 4;</code>
+       * @param value The x1 to set.
+       * @return This builder for chaining.
+       */
+      public Builder setX1(int value) {
+        
+        x1_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 x1 = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearX1() {
+        
+        x1_ = 0;
+        onChanged();
         return this;
       }
+
+      private int y1_ ;
+      /**
+       * <code>uint32 y1 = 5;</code>
+       * @return The y1.
+       */
+      @java.lang.Override
+      public int getY1() {
+        return y1_;
+      }
       /**
-       * <code>.trackmate.lacss.Settings settings = 1;</code>
+       * <code>uint32 y1 = 5;</code>
+       * @param value The y1 to set.
+       * @return This builder for chaining.
        */
-      public Builder clearSettings() {
-        if (settingsBuilder_ == null) {
-          settings_ = null;
-          onChanged();
-        } else {
-          settings_ = null;
-          settingsBuilder_ = null;
-        }
-
+      public Builder setY1(int value) {
+        
+        y1_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>.trackmate.lacss.Settings settings = 1;</code>
+       * <code>uint32 y1 = 5;</code>
+       * @return This builder for chaining.
        */
-      public fiji.plugin.trackmate.lacss.LacssMsg.Settings.Builder getSettingsBuilder() {
+      public Builder clearY1() {
         
+        y1_ = 0;
         onChanged();
-        return getSettingsFieldBuilder().getBuilder();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList maskRle_ = emptyIntList();
+      private void ensureMaskRleIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          maskRle_ = mutableCopy(maskRle_);
+          bitField0_ |= 0x00000001;
+         }
       }
       /**
-       * <code>.trackmate.lacss.Settings settings = 1;</code>
+       * <pre>
+       * mask within the bounding box, row by row, as alternating run lengths
+       * of background and foreground pixels, starting with background
+       * </pre>
+       *
+       * <code>repeated uint32 mask_rle = 6;</code>
+       * @return A list containing the maskRle.
        */
-      public fiji.plugin.trackmate.lacss.LacssMsg.SettingsOrBuilder getSettingsOrBuilder() {
-        if (settingsBuilder_ != null) {
-          return settingsBuilder_.getMessageOrBuilder();
-        } else {
-          return settings_ == null ?
-              fiji.plugin.trackmate.lacss.LacssMsg.Settings.getDefaultInstance() : settings_;
-        }
+      public java.util.List<java.lang.Integer>
+          getMaskRleList() {
+        return ((bitField0_ & 0x00000001) != 0) ?
+                 java.util.Collections.unmodifiableList(maskRle_) : maskRle_;
       }
       /**
-       * <code>.trackmate.lacss.Settings settings = 1;</code>
+       * <pre>
+       * mask within the bounding box, row by row, as alternating run lengths
+       * of background and foreground pixels, starting with background
+       * </pre>
+       *
+       * <code>repeated uint32 mask_rle = 6;</code>
+       * @return The count of maskRle.
        */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          fiji.plugin.trackmate.lacss.LacssMsg.Settings, fiji.plugin.trackmate.lacss.LacssMsg.Settings.Builder, fiji.plugin.trackmate.lacss.LacssMsg.SettingsOrBuilder> 
-          getSettingsFieldBuilder() {
-        if (settingsBuilder_ == null) {
-          settingsBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              fiji.plugin.trackmate.lacss.LacssMsg.Settings, fiji.plugin.trackmate.lacss.LacssMsg.Settings.Builder, fiji.plugin.trackmate.lacss.LacssMsg.SettingsOrBuilder>(
-                  getSettings(),
-                  getParentForChildren(),
-                  isClean());
-          settings_ = null;
-        }
-        return settingsBuilder_;
+      public int getMaskRleCount() {
+        return maskRle_.size();
       }
-
-      private fiji.plugin.trackmate.lacss.LacssMsg.Image image_;
-      private com.google.protobuf.SingleFieldBuilderV3<
-          fiji.plugin.trackmate.lacss.LacssMsg.Image, fiji.plugin.trackmate.lacss.LacssMsg.Image.Builder, fiji.plugin.trackmate.lacss.LacssMsg.ImageOrBuilder> imageBuilder_;
       /**
-       * <code>.trackmate.lacss.Image image = 2;</code>
-       * @return Whether the image field is set.
+       * <pre>
+       * mask within the bounding box, row by row, as alternating run lengths
+       * of background and foreground pixels, starting with background
+       * </pre>
+       *
+       * <code>repeated uint32 mask_rle = 6;</code>
+       * @param index The index of the element to return.
+       * @return The maskRle at the given index.
        */
-      public boolean hasImage() {
-        return imageBuilder_ != null || image_ != null;
+      public int getMaskRle(int index) {
+        return maskRle_.getInt(index);
       }
       /**
-       * <code>.trackmate.lacss.Image image = 2;</code>
-       * @return The image.
+       * <pre>
+       * mask within the bounding box, row by row, as alternating run lengths
+       * of background and foreground pixels, starting with background
+       * </pre>
+       *
+       * <code>repeated uint32 mask_rle = 6;</code>
+       * @param index The index to set the value at.
+       * @param value The maskRle to set.
+       * @return This builder for chaining.
        */
-      public fiji.plugin.trackmate.lacss.LacssMsg.Image getImage() {
-        if (imageBuilder_ == null) {
-          return image_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.Image.getDefaultInstance() : image_;
-        } else {
-          return imageBuilder_.getMessage();
-        }
+      public Builder setMaskRle(
+          int index, int value) {
+        ensureMaskRleIsMutable();
+        maskRle_.setInt(index, value);
+        onChanged();
+        return this;
       }
       /**
-       * <code>.trackmate.lacss.Image image = 2;</code>
+       * <pre>
+       * mask within the bounding box, row by row, as alternating run lengths
+       * of background and foreground pixels, starting with background
+       * </pre>
+       *
+       * <code>repeated uint32 mask_rle = 6;</code>
+       * @param value The maskRle to add.
+       * @return This builder for chaining.
        */
-      public Builder setImage(fiji.plugin.trackmate.lacss.LacssMsg.Image value) {
-        if (imageBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          image_ = value;
-          onChanged();
-        } else {
-          imageBuilder_.setMessage(value);
-        }
-
+      public Builder addMaskRle(int value) {
+        ensureMaskRleIsMutable();
+        maskRle_.addInt(value);
+        onChanged();
         return this;
       }
       /**
-       * <code>.trackmate.lacss.Image image = 2;</code>
+       * <pre>
+       * mask within the bounding box, row by row, as alternating run lengths
+       * of background and foreground pixels, starting with background
+       * </pre>
+       *
+       * <code>repeated uint32 mask_rle = 6;</code>
+       * @param values The maskRle to add.
+       * @return This builder for chaining.
        */
-      public Builder setImage(
-          fiji.plugin.trackmate.lacss.LacssMsg.Image.Builder builderForValue) {
-        if (imageBuilder_ == null) {
-          image_ = builderForValue.build();
-          onChanged();
-        } else {
-          imageBuilder_.setMessage(builderForValue.build());
-        }
-
+      public Builder addAllMaskRle(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureMaskRleIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, maskRle_);
+        onChanged();
         return this;
       }
       /**
-       * <code>.trackmate.lacss.Image image = 2;</code>
+       * <pre>
+       * mask within the bounding box, row by row, as alternating run lengths
+       * of background and foreground pixels, starting with background
+       * </pre>
+       *
+       * <code>repeated uint32 mask_rle = 6;</code>
+       * @return This builder for chaining.
        */
-      public Builder mergeImage(fiji.plugin.trackmate.lacss.LacssMsg.Image value) {
-        if (imageBuilder_ == null) {
-          if (image_ != null) {
-            image_ =
-              fiji.plugin.trackmate.lacss.LacssMsg.Image.newBuilder(image_).mergeFrom(value).buildPartial();
-          } else {
-            image_ = value;
-          }
-          onChanged();
-        } else {
-          imageBuilder_.mergeFrom(value);
-        }
+      public Builder clearMaskRle() {
+        maskRle_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
 
+      private float score_ ;
+      /**
+       * <code>float score = 7;</code>
+       * @return The score.
+       */
+      @java.lang.Override
+      public float getScore() {
+        return score_;
+      }
+      /**
+       * <code>float score = 7;</code>
+       * @param value The score to set.
+       * @return This builder for chaining.
+       */
+      public Builder setScore(float value) {
+        
+        score_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>.trackmate.lacss.Image image = 2;</code>
+       * <code>float score = 7;</code>
+       * @return This builder for chaining.
        */
-      public Builder clearImage() {
-        if (imageBuilder_ == null) {
-          image_ = null;
-          onChanged();
-        } else {
-          image_ = null;
-          imageBuilder_ = null;
-        }
+      public Builder clearScore() {
+        
+        score_ = 0F;
+        onChanged();
+        return this;
+      }
 
+      private com.google.protobuf.Internal.FloatList polygon_ = emptyFloatList();
+      private void ensurePolygonIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          polygon_ = mutableCopy(polygon_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <pre>
+       * POLYGON results only, instead of mask_rle: the contour as packed
+       * x, y pairs on pixel boundaries, pixel (x, y) spanning [x, x + 1)
+       * </pre>
+       *
+       * <code>repeated float polygon = 8;</code>
+       * @return A list containing the polygon.
+       */
+      public java.util.List<java.lang.Float>
+          getPolygonList() {
+        return ((bitField0_ & 0x00000002) != 0) ?
+                 java.util.Collections.unmodifiableList(polygon_) : polygon_;
+      }
+      /**
+       * <pre>
+       * POLYGON results only, instead of mask_rle: the contour as packed
+       * x, y pairs on pixel boundaries, pixel (x, y) spanning [x, x + 1)
+       * </pre>
+       *
+       * <code>repeated float polygon = 8;</code>
+       * @return The count of polygon.
+       */
+      public int getPolygonCount() {
+        return polygon_.size();
+      }
+      /**
+       * <pre>
+       * POLYGON results only, instead of mask_rle: the contour as packed
+       * x, y pairs on pixel boundaries, pixel (x, y) spanning [x, x + 1)
+       * </pre>
+       *
+       * <code>repeated float polygon = 8;</code>
+       * @param index The index of the element to return.
+       * @return The polygon at the given index.
+       */
+      public float getPolygon(int index) {
+        return polygon_.getFloat(index);
+      }
+      /**
+       * <pre>
+       * POLYGON results only, instead of mask_rle: the contour as packed
+       * x, y pairs on pixel boundaries, pixel (x, y) spanning [x, x + 1)
+       * </pre>
+       *
+       * <code>repeated float polygon = 8;</code>
+       * @param index The index to set the value at.
+       * @param value The polygon to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPolygon(
+          int index, float value) {
+        ensurePolygonIsMutable();
+        polygon_.setFloat(index, value);
+        onChanged();
         return this;
       }
       /**
-       * <code>.trackmate.lacss.Image image = 2;</code>
+       * <pre>
+       * POLYGON results only, instead of mask_rle: the contour as packed
+       * x, y pairs on pixel boundaries, pixel (x, y) spanning [x, x + 1)
+       * </pre>
+       *
+       * <code>repeated float polygon = 8;</code>
+       * @param value The polygon to add.
+       * @return This builder for chaining.
        */
-      public fiji.plugin.trackmate.lacss.LacssMsg.Image.Builder getImageBuilder() {
-        
+      public Builder addPolygon(float value) {
+        ensurePolygonIsMutable();
+        polygon_.addFloat(value);
         onChanged();
-        return getImageFieldBuilder().getBuilder();
+        return this;
       }
       /**
-       * <code>.trackmate.lacss.Image image = 2;</code>
+       * <pre>
+       * POLYGON results only, instead of mask_rle: the contour as packed
+       * x, y pairs on pixel boundaries, pixel (x, y) spanning [x, x + 1)
+       * </pre>
+       *
+       * <code>repeated float polygon = 8;</code>
+       * @param values The polygon to add.
+       * @return This builder for chaining.
        */
-      public fiji.plugin.trackmate.lacss.LacssMsg.ImageOrBuilder getImageOrBuilder() {
-        if (imageBuilder_ != null) {
-          return imageBuilder_.getMessageOrBuilder();
-        } else {
-          return image_ == null ?
-              fiji.plugin.trackmate.lacss.LacssMsg.Image.getDefaultInstance() : image_;
-        }
+      public Builder addAllPolygon(
+          java.lang.Iterable<? extends java.lang.Float> values) {
+        ensurePolygonIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, polygon_);
+        onChanged();
+        return this;
       }
       /**
-       * <code>.trackmate.lacss.Image image = 2;</code>
+       * <pre>
+       * POLYGON results only, instead of mask_rle: the contour as packed
+       * x, y pairs on pixel boundaries, pixel (x, y) spanning [x, x + 1)
+       * </pre>
+       *
+       * <code>repeated float polygon = 8;</code>
+       * @return This builder for chaining.
        */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          fiji.plugin.trackmate.lacss.LacssMsg.Image, fiji.plugin.trackmate.lacss.LacssMsg.Image.Builder, fiji.plugin.trackmate.lacss.LacssMsg.ImageOrBuilder> 
-          getImageFieldBuilder() {
-        if (imageBuilder_ == null) {
-          imageBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              fiji.plugin.trackmate.lacss.LacssMsg.Image, fiji.plugin.trackmate.lacss.LacssMsg.Image.Builder, fiji.plugin.trackmate.lacss.LacssMsg.ImageOrBuilder>(
-                  getImage(),
-                  getParentForChildren(),
-                  isClean());
-          image_ = null;
-        }
-        return imageBuilder_;
+      public Builder clearPolygon() {
+        polygon_ = emptyFloatList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -2566,89 +12662,237 @@ public final class LacssMsg {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:trackmate.lacss.Input)
+      // @@protoc_insertion_point(builder_scope:trackmate.lacss.Instance)
     }
 
-    // @@protoc_insertion_point(class_scope:trackmate.lacss.Input)
-    private static final fiji.plugin.trackmate.lacss.LacssMsg.Input DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:trackmate.lacss.Instance)
+    private static final fiji.plugin.trackmate.lacss.LacssMsg.Instance DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new fiji.plugin.trackmate.lacss.LacssMsg.Input();
+      DEFAULT_INSTANCE = new fiji.plugin.trackmate.lacss.LacssMsg.Instance();
     }
 
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Input getDefaultInstance() {
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Instance getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<Input>
-        PARSER = new com.google.protobuf.AbstractParser<Input>() {
+    private static final com.google.protobuf.Parser<Instance>
+        PARSER = new com.google.protobuf.AbstractParser<Instance>() {
       @java.lang.Override
-      public Input parsePartialFrom(
+      public Instance parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Input(input, extensionRegistry);
+        return new Instance(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<Input> parser() {
+    public static com.google.protobuf.Parser<Instance> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Input> getParserForType() {
+    public com.google.protobuf.Parser<Instance> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public fiji.plugin.trackmate.lacss.LacssMsg.Input getDefaultInstanceForType() {
+    public fiji.plugin.trackmate.lacss.LacssMsg.Instance getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface LabelOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:trackmate.lacss.Label)
-      com.google.protobuf.MessageOrBuilder {
+  public interface ResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:trackmate.lacss.Result)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.trackmate.lacss.Label score = 1;</code>
+     * @return Whether the score field is set.
+     */
+    boolean hasScore();
+    /**
+     * <code>.trackmate.lacss.Label score = 1;</code>
+     * @return The score.
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.Label getScore();
+    /**
+     * <code>.trackmate.lacss.Label score = 1;</code>
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.LabelOrBuilder getScoreOrBuilder();
+
+    /**
+     * <code>.trackmate.lacss.Label label = 2;</code>
+     * @return Whether the label field is set.
+     */
+    boolean hasLabel();
+    /**
+     * <code>.trackmate.lacss.Label label = 2;</code>
+     * @return The label.
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.Label getLabel();
+    /**
+     * <code>.trackmate.lacss.Label label = 2;</code>
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.LabelOrBuilder getLabelOrBuilder();
+
+    /**
+     * <pre>
+     * of the Input this result answers
+     * </pre>
+     *
+     * <code>uint64 request_id = 3;</code>
+     * @return The requestId.
+     */
+    long getRequestId();
+
+    /**
+     * <code>.trackmate.lacss.ServerHello server_hello = 4;</code>
+     * @return Whether the serverHello field is set.
+     */
+    boolean hasServerHello();
+    /**
+     * <code>.trackmate.lacss.ServerHello server_hello = 4;</code>
+     * @return The serverHello.
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.ServerHello getServerHello();
+    /**
+     * <code>.trackmate.lacss.ServerHello server_hello = 4;</code>
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.ServerHelloOrBuilder getServerHelloOrBuilder();
+
+    /**
+     * <pre>
+     * set for SPARSE and POLYGON results, instead of score and label
+     * </pre>
+     *
+     * <code>repeated .trackmate.lacss.Instance instances = 5;</code>
+     */
+    java.util.List<fiji.plugin.trackmate.lacss.LacssMsg.Instance> 
+        getInstancesList();
+    /**
+     * <pre>
+     * set for SPARSE and POLYGON results, instead of score and label
+     * </pre>
+     *
+     * <code>repeated .trackmate.lacss.Instance instances = 5;</code>
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.Instance getInstances(int index);
+    /**
+     * <pre>
+     * set for SPARSE and POLYGON results, instead of score and label
+     * </pre>
+     *
+     * <code>repeated .trackmate.lacss.Instance instances = 5;</code>
+     */
+    int getInstancesCount();
+    /**
+     * <pre>
+     * set for SPARSE and POLYGON results, instead of score and label
+     * </pre>
+     *
+     * <code>repeated .trackmate.lacss.Instance instances = 5;</code>
+     */
+    java.util.List<? extends fiji.plugin.trackmate.lacss.LacssMsg.InstanceOrBuilder> 
+        getInstancesOrBuilderList();
+    /**
+     * <pre>
+     * set for SPARSE and POLYGON results, instead of score and label
+     * </pre>
+     *
+     * <code>repeated .trackmate.lacss.Instance instances = 5;</code>
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.InstanceOrBuilder getInstancesOrBuilder(
+        int index);
+
+    /**
+     * <code>.trackmate.lacss.ResultFormat format = 6;</code>
+     * @return The enum numeric value on the wire for format.
+     */
+    int getFormatValue();
+    /**
+     * <code>.trackmate.lacss.ResultFormat format = 6;</code>
+     * @return The format.
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.ResultFormat getFormat();
 
     /**
-     * <code>uint64 height = 1;</code>
-     * @return The height.
+     * <pre>
+     * SCORE_PER_LABEL only, instead of score: the score of label i + 1
+     * </pre>
+     *
+     * <code>repeated float label_scores = 7;</code>
+     * @return A list containing the labelScores.
      */
-    long getHeight();
+    java.util.List<java.lang.Float> getLabelScoresList();
+    /**
+     * <pre>
+     * SCORE_PER_LABEL only, instead of score: the score of label i + 1
+     * </pre>
+     *
+     * <code>repeated float label_scores = 7;</code>
+     * @return The count of labelScores.
+     */
+    int getLabelScoresCount();
+    /**
+     * <pre>
+     * SCORE_PER_LABEL only, instead of score: the score of label i + 1
+     * </pre>
+     *
+     * <code>repeated float label_scores = 7;</code>
+     * @param index The index of the element to return.
+     * @return The labelScores at the given index.
+     */
+    float getLabelScores(int index);
 
     /**
-     * <code>uint64 width = 2;</code>
-     * @return The width.
+     * <code>.trackmate.lacss.Chunk chunk = 8;</code>
+     * @return Whether the chunk field is set.
      */
-    long getWidth();
+    boolean hasChunk();
+    /**
+     * <code>.trackmate.lacss.Chunk chunk = 8;</code>
+     * @return The chunk.
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.Chunk getChunk();
+    /**
+     * <code>.trackmate.lacss.Chunk chunk = 8;</code>
+     */
+    fiji.plugin.trackmate.lacss.LacssMsg.ChunkOrBuilder getChunkOrBuilder();
 
     /**
-     * <code>bytes data = 6;</code>
-     * @return The data.
+     * <pre>
+     * acknowledges a Cancel, instead of the result of the frame
+     * </pre>
+     *
+     * <code>bool cancelled = 9;</code>
+     * @return The cancelled.
      */
-    com.google.protobuf.ByteString getData();
+    boolean getCancelled();
   }
   /**
-   * Protobuf type {@code trackmate.lacss.Label}
+   * Protobuf type {@code trackmate.lacss.Result}
    */
-  public static final class Label extends
+  public static final class Result extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:trackmate.lacss.Label)
-      LabelOrBuilder {
+      // @@protoc_insertion_point(message_implements:trackmate.lacss.Result)
+      ResultOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use Label.newBuilder() to construct.
-    private Label(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use Result.newBuilder() to construct.
+    private Result(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private Label() {
-      data_ = com.google.protobuf.ByteString.EMPTY;
+    private Result() {
+      instances_ = java.util.Collections.emptyList();
+      format_ = 0;
+      labelScores_ = emptyFloatList();
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new Label();
+      return new Result();
     }
 
     @java.lang.Override
@@ -2656,7 +12900,7 @@ public final class LacssMsg {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private Label(
+    private Result(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -2664,6 +12908,7 @@ public final class LacssMsg {
       if (extensionRegistry == null) {
         throw new java.lang.NullPointerException();
       }
+      int mutable_bitField0_ = 0;
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
           com.google.protobuf.UnknownFieldSet.newBuilder();
       try {
@@ -2674,19 +12919,102 @@ public final class LacssMsg {
             case 0:
               done = true;
               break;
-            case 8: {
+            case 10: {
+              fiji.plugin.trackmate.lacss.LacssMsg.Label.Builder subBuilder = null;
+              if (score_ != null) {
+                subBuilder = score_.toBuilder();
+              }
+              score_ = input.readMessage(fiji.plugin.trackmate.lacss.LacssMsg.Label.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(score_);
+                score_ = subBuilder.buildPartial();
+              }
 
-              height_ = input.readUInt64();
               break;
             }
-            case 16: {
+            case 18: {
+              fiji.plugin.trackmate.lacss.LacssMsg.Label.Builder subBuilder = null;
+              if (label_ != null) {
+                subBuilder = label_.toBuilder();
+              }
+              label_ = input.readMessage(fiji.plugin.trackmate.lacss.LacssMsg.Label.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(label_);
+                label_ = subBuilder.buildPartial();
+              }
 
-              width_ = input.readUInt64();
               break;
             }
-            case 50: {
+            case 24: {
 
-              data_ = input.readBytes();
+              requestId_ = input.readUInt64();
+              break;
+            }
+            case 34: {
+              fiji.plugin.trackmate.lacss.LacssMsg.ServerHello.Builder subBuilder = null;
+              if (serverHello_ != null) {
+                subBuilder = serverHello_.toBuilder();
+              }
+              serverHello_ = input.readMessage(fiji.plugin.trackmate.lacss.LacssMsg.ServerHello.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(serverHello_);
+                serverHello_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 42: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                instances_ = new java.util.ArrayList<fiji.plugin.trackmate.lacss.LacssMsg.Instance>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              instances_.add(
+                  input.readMessage(fiji.plugin.trackmate.lacss.LacssMsg.Instance.parser(), extensionRegistry));
+              break;
+            }
+            case 48: {
+              int rawValue = input.readEnum();
+
+              format_ = rawValue;
+              break;
+            }
+            case 61: {
+              if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+                labelScores_ = newFloatList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              labelScores_.addFloat(input.readFloat());
+              break;
+            }
+            case 58: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000002) != 0) && input.getBytesUntilLimit() > 0) {
+                labelScores_ = newFloatList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                labelScores_.addFloat(input.readFloat());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 66: {
+              fiji.plugin.trackmate.lacss.LacssMsg.Chunk.Builder subBuilder = null;
+              if (chunk_ != null) {
+                subBuilder = chunk_.toBuilder();
+              }
+              chunk_ = input.readMessage(fiji.plugin.trackmate.lacss.LacssMsg.Chunk.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(chunk_);
+                chunk_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 72: {
+
+              cancelled_ = input.readBool();
               break;
             }
             default: {
@@ -2704,1312 +13032,1871 @@ public final class LacssMsg {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          instances_ = java.util.Collections.unmodifiableList(instances_);
+        }
+        if (((mutable_bitField0_ & 0x00000002) != 0)) {
+          labelScores_.makeImmutable(); // C
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Label_descriptor;
+      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Result_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Label_fieldAccessorTable
+      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Result_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              fiji.plugin.trackmate.lacss.LacssMsg.Label.class, fiji.plugin.trackmate.lacss.LacssMsg.Label.Builder.class);
+              fiji.plugin.trackmate.lacss.LacssMsg.Result.class, fiji.plugin.trackmate.lacss.LacssMsg.Result.Builder.class);
     }
 
-    public static final int HEIGHT_FIELD_NUMBER = 1;
-    private long height_;
+    public static final int SCORE_FIELD_NUMBER = 1;
+    private fiji.plugin.trackmate.lacss.LacssMsg.Label score_;
     /**
-     * <code>uint64 height = 1;</code>
-     * @return The height.
+     * <code>.trackmate.lacss.Label score = 1;</code>
+     * @return Whether the score field is set.
      */
     @java.lang.Override
-    public long getHeight() {
-      return height_;
+    public boolean hasScore() {
+      return score_ != null;
     }
-
-    public static final int WIDTH_FIELD_NUMBER = 2;
-    private long width_;
     /**
-     * <code>uint64 width = 2;</code>
-     * @return The width.
+     * <code>.trackmate.lacss.Label score = 1;</code>
+     * @return The score.
      */
     @java.lang.Override
-    public long getWidth() {
-      return width_;
+    public fiji.plugin.trackmate.lacss.LacssMsg.Label getScore() {
+      return score_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.Label.getDefaultInstance() : score_;
     }
-
-    public static final int DATA_FIELD_NUMBER = 6;
-    private com.google.protobuf.ByteString data_;
     /**
-     * <code>bytes data = 6;</code>
-     * @return The data.
+     * <code>.trackmate.lacss.Label score = 1;</code>
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getData() {
-      return data_;
-    }
-
-    private byte memoizedIsInitialized = -1;
-    @java.lang.Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (height_ != 0L) {
-        output.writeUInt64(1, height_);
-      }
-      if (width_ != 0L) {
-        output.writeUInt64(2, width_);
-      }
-      if (!data_.isEmpty()) {
-        output.writeBytes(6, data_);
-      }
-      unknownFields.writeTo(output);
-    }
-
-    @java.lang.Override
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      if (height_ != 0L) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeUInt64Size(1, height_);
-      }
-      if (width_ != 0L) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeUInt64Size(2, width_);
-      }
-      if (!data_.isEmpty()) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(6, data_);
-      }
-      size += unknownFields.getSerializedSize();
-      memoizedSize = size;
-      return size;
+    public fiji.plugin.trackmate.lacss.LacssMsg.LabelOrBuilder getScoreOrBuilder() {
+      return getScore();
     }
 
+    public static final int LABEL_FIELD_NUMBER = 2;
+    private fiji.plugin.trackmate.lacss.LacssMsg.Label label_;
+    /**
+     * <code>.trackmate.lacss.Label label = 2;</code>
+     * @return Whether the label field is set.
+     */
     @java.lang.Override
-    public boolean equals(final java.lang.Object obj) {
-      if (obj == this) {
-       return true;
-      }
-      if (!(obj instanceof fiji.plugin.trackmate.lacss.LacssMsg.Label)) {
-        return super.equals(obj);
-      }
-      fiji.plugin.trackmate.lacss.LacssMsg.Label other = (fiji.plugin.trackmate.lacss.LacssMsg.Label) obj;
-
-      if (getHeight()
-          != other.getHeight()) return false;
-      if (getWidth()
-          != other.getWidth()) return false;
-      if (!getData()
-          .equals(other.getData())) return false;
-      if (!unknownFields.equals(other.unknownFields)) return false;
-      return true;
+    public boolean hasLabel() {
+      return label_ != null;
     }
-
+    /**
+     * <code>.trackmate.lacss.Label label = 2;</code>
+     * @return The label.
+     */
     @java.lang.Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
-      }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + HEIGHT_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          getHeight());
-      hash = (37 * hash) + WIDTH_FIELD_NUMBER;
-      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-          getWidth());
-      hash = (37 * hash) + DATA_FIELD_NUMBER;
-      hash = (53 * hash) + getData().hashCode();
-      hash = (29 * hash) + unknownFields.hashCode();
-      memoizedHashCode = hash;
-      return hash;
+    public fiji.plugin.trackmate.lacss.LacssMsg.Label getLabel() {
+      return label_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.Label.getDefaultInstance() : label_;
     }
-
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Label parseFrom(
-        java.nio.ByteBuffer data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
+    /**
+     * <code>.trackmate.lacss.Label label = 2;</code>
+     */
+    @java.lang.Override
+    public fiji.plugin.trackmate.lacss.LacssMsg.LabelOrBuilder getLabelOrBuilder() {
+      return getLabel();
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Label parseFrom(
-        java.nio.ByteBuffer data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
+
+    public static final int REQUEST_ID_FIELD_NUMBER = 3;
+    private long requestId_;
+    /**
+     * <pre>
+     * of the Input this result answers
+     * </pre>
+     *
+     * <code>uint64 request_id = 3;</code>
+     * @return The requestId.
+     */
+    @java.lang.Override
+    public long getRequestId() {
+      return requestId_;
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Label parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
+
+    public static final int SERVER_HELLO_FIELD_NUMBER = 4;
+    private fiji.plugin.trackmate.lacss.LacssMsg.ServerHello serverHello_;
+    /**
+     * <code>.trackmate.lacss.ServerHello server_hello = 4;</code>
+     * @return Whether the serverHello field is set.
+     */
+    @java.lang.Override
+    public boolean hasServerHello() {
+      return serverHello_ != null;
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Label parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
+    /**
+     * <code>.trackmate.lacss.ServerHello server_hello = 4;</code>
+     * @return The serverHello.
+     */
+    @java.lang.Override
+    public fiji.plugin.trackmate.lacss.LacssMsg.ServerHello getServerHello() {
+      return serverHello_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.ServerHello.getDefaultInstance() : serverHello_;
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Label parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
+    /**
+     * <code>.trackmate.lacss.ServerHello server_hello = 4;</code>
+     */
+    @java.lang.Override
+    public fiji.plugin.trackmate.lacss.LacssMsg.ServerHelloOrBuilder getServerHelloOrBuilder() {
+      return getServerHello();
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Label parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
+
+    public static final int INSTANCES_FIELD_NUMBER = 5;
+    private java.util.List<fiji.plugin.trackmate.lacss.LacssMsg.Instance> instances_;
+    /**
+     * <pre>
+     * set for SPARSE and POLYGON results, instead of score and label
+     * </pre>
+     *
+     * <code>repeated .trackmate.lacss.Instance instances = 5;</code>
+     */
+    @java.lang.Override
+    public java.util.List<fiji.plugin.trackmate.lacss.LacssMsg.Instance> getInstancesList() {
+      return instances_;
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Label parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
+    /**
+     * <pre>
+     * set for SPARSE and POLYGON results, instead of score and label
+     * </pre>
+     *
+     * <code>repeated .trackmate.lacss.Instance instances = 5;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends fiji.plugin.trackmate.lacss.LacssMsg.InstanceOrBuilder> 
+        getInstancesOrBuilderList() {
+      return instances_;
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Label parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
+    /**
+     * <pre>
+     * set for SPARSE and POLYGON results, instead of score and label
+     * </pre>
+     *
+     * <code>repeated .trackmate.lacss.Instance instances = 5;</code>
+     */
+    @java.lang.Override
+    public int getInstancesCount() {
+      return instances_.size();
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Label parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input);
+    /**
+     * <pre>
+     * set for SPARSE and POLYGON results, instead of score and label
+     * </pre>
+     *
+     * <code>repeated .trackmate.lacss.Instance instances = 5;</code>
+     */
+    @java.lang.Override
+    public fiji.plugin.trackmate.lacss.LacssMsg.Instance getInstances(int index) {
+      return instances_.get(index);
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Label parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    /**
+     * <pre>
+     * set for SPARSE and POLYGON results, instead of score and label
+     * </pre>
+     *
+     * <code>repeated .trackmate.lacss.Instance instances = 5;</code>
+     */
+    @java.lang.Override
+    public fiji.plugin.trackmate.lacss.LacssMsg.InstanceOrBuilder getInstancesOrBuilder(
+        int index) {
+      return instances_.get(index);
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Label parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
+
+    public static final int FORMAT_FIELD_NUMBER = 6;
+    private int format_;
+    /**
+     * <code>.trackmate.lacss.ResultFormat format = 6;</code>
+     * @return The enum numeric value on the wire for format.
+     */
+    @java.lang.Override public int getFormatValue() {
+      return format_;
     }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Label parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
+    /**
+     * <code>.trackmate.lacss.ResultFormat format = 6;</code>
+     * @return The format.
+     */
+    @java.lang.Override public fiji.plugin.trackmate.lacss.LacssMsg.ResultFormat getFormat() {
+      @SuppressWarnings("deprecation")
+      fiji.plugin.trackmate.lacss.LacssMsg.ResultFormat result = fiji.plugin.trackmate.lacss.LacssMsg.ResultFormat.valueOf(format_);
+      return result == null ? fiji.plugin.trackmate.lacss.LacssMsg.ResultFormat.UNRECOGNIZED : result;
     }
 
+    public static final int LABEL_SCORES_FIELD_NUMBER = 7;
+    private com.google.protobuf.Internal.FloatList labelScores_;
+    /**
+     * <pre>
+     * SCORE_PER_LABEL only, instead of score: the score of label i + 1
+     * </pre>
+     *
+     * <code>repeated float label_scores = 7;</code>
+     * @return A list containing the labelScores.
+     */
     @java.lang.Override
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
+    public java.util.List<java.lang.Float>
+        getLabelScoresList() {
+      return labelScores_;
     }
-    public static Builder newBuilder(fiji.plugin.trackmate.lacss.LacssMsg.Label prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    /**
+     * <pre>
+     * SCORE_PER_LABEL only, instead of score: the score of label i + 1
+     * </pre>
+     *
+     * <code>repeated float label_scores = 7;</code>
+     * @return The count of labelScores.
+     */
+    public int getLabelScoresCount() {
+      return labelScores_.size();
     }
-    @java.lang.Override
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
+    /**
+     * <pre>
+     * SCORE_PER_LABEL only, instead of score: the score of label i + 1
+     * </pre>
+     *
+     * <code>repeated float label_scores = 7;</code>
+     * @param index The index of the element to return.
+     * @return The labelScores at the given index.
+     */
+    public float getLabelScores(int index) {
+      return labelScores_.getFloat(index);
     }
+    private int labelScoresMemoizedSerializedSize = -1;
 
+    public static final int CHUNK_FIELD_NUMBER = 8;
+    private fiji.plugin.trackmate.lacss.LacssMsg.Chunk chunk_;
+    /**
+     * <code>.trackmate.lacss.Chunk chunk = 8;</code>
+     * @return Whether the chunk field is set.
+     */
     @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
+    public boolean hasChunk() {
+      return chunk_ != null;
     }
     /**
-     * Protobuf type {@code trackmate.lacss.Label}
+     * <code>.trackmate.lacss.Chunk chunk = 8;</code>
+     * @return The chunk.
      */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:trackmate.lacss.Label)
-        fiji.plugin.trackmate.lacss.LacssMsg.LabelOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Label_descriptor;
-      }
-
-      @java.lang.Override
-      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Label_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                fiji.plugin.trackmate.lacss.LacssMsg.Label.class, fiji.plugin.trackmate.lacss.LacssMsg.Label.Builder.class);
-      }
-
-      // Construct using fiji.plugin.trackmate.lacss.LacssMsg.Label.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
-      }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
-        }
-      }
-      @java.lang.Override
-      public Builder clear() {
-        super.clear();
-        height_ = 0L;
-
-        width_ = 0L;
-
-        data_ = com.google.protobuf.ByteString.EMPTY;
-
-        return this;
-      }
-
-      @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Label_descriptor;
-      }
+    @java.lang.Override
+    public fiji.plugin.trackmate.lacss.LacssMsg.Chunk getChunk() {
+      return chunk_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.Chunk.getDefaultInstance() : chunk_;
+    }
+    /**
+     * <code>.trackmate.lacss.Chunk chunk = 8;</code>
+     */
+    @java.lang.Override
+    public fiji.plugin.trackmate.lacss.LacssMsg.ChunkOrBuilder getChunkOrBuilder() {
+      return getChunk();
+    }
 
-      @java.lang.Override
-      public fiji.plugin.trackmate.lacss.LacssMsg.Label getDefaultInstanceForType() {
-        return fiji.plugin.trackmate.lacss.LacssMsg.Label.getDefaultInstance();
-      }
+    public static final int CANCELLED_FIELD_NUMBER = 9;
+    private boolean cancelled_;
+    /**
+     * <pre>
+     * acknowledges a Cancel, instead of the result of the frame
+     * </pre>
+     *
+     * <code>bool cancelled = 9;</code>
+     * @return The cancelled.
+     */
+    @java.lang.Override
+    public boolean getCancelled() {
+      return cancelled_;
+    }
 
-      @java.lang.Override
-      public fiji.plugin.trackmate.lacss.LacssMsg.Label build() {
-        fiji.plugin.trackmate.lacss.LacssMsg.Label result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
-      @java.lang.Override
-      public fiji.plugin.trackmate.lacss.LacssMsg.Label buildPartial() {
-        fiji.plugin.trackmate.lacss.LacssMsg.Label result = new fiji.plugin.trackmate.lacss.LacssMsg.Label(this);
-        result.height_ = height_;
-        result.width_ = width_;
-        result.data_ = data_;
-        onBuilt();
-        return result;
-      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
 
-      @java.lang.Override
-      public Builder clone() {
-        return super.clone();
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (score_ != null) {
+        output.writeMessage(1, getScore());
       }
-      @java.lang.Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return super.setField(field, value);
+      if (label_ != null) {
+        output.writeMessage(2, getLabel());
       }
-      @java.lang.Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return super.clearField(field);
+      if (requestId_ != 0L) {
+        output.writeUInt64(3, requestId_);
       }
-      @java.lang.Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return super.clearOneof(oneof);
+      if (serverHello_ != null) {
+        output.writeMessage(4, getServerHello());
       }
-      @java.lang.Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return super.setRepeatedField(field, index, value);
+      for (int i = 0; i < instances_.size(); i++) {
+        output.writeMessage(5, instances_.get(i));
       }
-      @java.lang.Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return super.addRepeatedField(field, value);
+      if (format_ != fiji.plugin.trackmate.lacss.LacssMsg.ResultFormat.DENSE.getNumber()) {
+        output.writeEnum(6, format_);
       }
-      @java.lang.Override
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof fiji.plugin.trackmate.lacss.LacssMsg.Label) {
-          return mergeFrom((fiji.plugin.trackmate.lacss.LacssMsg.Label)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
+      if (getLabelScoresList().size() > 0) {
+        output.writeUInt32NoTag(58);
+        output.writeUInt32NoTag(labelScoresMemoizedSerializedSize);
       }
-
-      public Builder mergeFrom(fiji.plugin.trackmate.lacss.LacssMsg.Label other) {
-        if (other == fiji.plugin.trackmate.lacss.LacssMsg.Label.getDefaultInstance()) return this;
-        if (other.getHeight() != 0L) {
-          setHeight(other.getHeight());
-        }
-        if (other.getWidth() != 0L) {
-          setWidth(other.getWidth());
-        }
-        if (other.getData() != com.google.protobuf.ByteString.EMPTY) {
-          setData(other.getData());
-        }
-        this.mergeUnknownFields(other.unknownFields);
-        onChanged();
-        return this;
+      for (int i = 0; i < labelScores_.size(); i++) {
+        output.writeFloatNoTag(labelScores_.getFloat(i));
       }
-
-      @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
+      if (chunk_ != null) {
+        output.writeMessage(8, getChunk());
       }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        fiji.plugin.trackmate.lacss.LacssMsg.Label parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (fiji.plugin.trackmate.lacss.LacssMsg.Label) e.getUnfinishedMessage();
-          throw e.unwrapIOException();
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
+      if (cancelled_ != false) {
+        output.writeBool(9, cancelled_);
       }
+      unknownFields.writeTo(output);
+    }
 
-      private long height_ ;
-      /**
-       * <code>uint64 height = 1;</code>
-       * @return The height.
-       */
-      @java.lang.Override
-      public long getHeight() {
-        return height_;
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (score_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getScore());
       }
-      /**
-       * <code>uint64 height = 1;</code>
-       * @param value The height to set.
-       * @return This builder for chaining.
-       */
-      public Builder setHeight(long value) {
-        
-        height_ = value;
-        onChanged();
-        return this;
+      if (label_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getLabel());
       }
-      /**
-       * <code>uint64 height = 1;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearHeight() {
-        
-        height_ = 0L;
-        onChanged();
-        return this;
+      if (requestId_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(3, requestId_);
       }
-
-      private long width_ ;
-      /**
-       * <code>uint64 width = 2;</code>
-       * @return The width.
-       */
-      @java.lang.Override
-      public long getWidth() {
-        return width_;
+      if (serverHello_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, getServerHello());
       }
-      /**
-       * <code>uint64 width = 2;</code>
-       * @param value The width to set.
-       * @return This builder for chaining.
-       */
-      public Builder setWidth(long value) {
-        
-        width_ = value;
-        onChanged();
-        return this;
+      for (int i = 0; i < instances_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, instances_.get(i));
       }
-      /**
-       * <code>uint64 width = 2;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearWidth() {
-        
-        width_ = 0L;
-        onChanged();
-        return this;
+      if (format_ != fiji.plugin.trackmate.lacss.LacssMsg.ResultFormat.DENSE.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(6, format_);
+      }
+      {
+        int dataSize = 0;
+        dataSize = 4 * getLabelScoresList().size();
+        size += dataSize;
+        if (!getLabelScoresList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        labelScoresMemoizedSerializedSize = dataSize;
       }
-
-      private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
-      /**
-       * <code>bytes data = 6;</code>
-       * @return The data.
-       */
-      @java.lang.Override
-      public com.google.protobuf.ByteString getData() {
-        return data_;
+      if (chunk_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, getChunk());
       }
-      /**
-       * <code>bytes data = 6;</code>
-       * @param value The data to set.
-       * @return This builder for chaining.
-       */
-      public Builder setData(com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        data_ = value;
-        onChanged();
-        return this;
+      if (cancelled_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(9, cancelled_);
       }
-      /**
-       * <code>bytes data = 6;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearData() {
-        
-        data_ = getDefaultInstance().getData();
-        onChanged();
-        return this;
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
       }
-      @java.lang.Override
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFields(unknownFields);
+      if (!(obj instanceof fiji.plugin.trackmate.lacss.LacssMsg.Result)) {
+        return super.equals(obj);
       }
+      fiji.plugin.trackmate.lacss.LacssMsg.Result other = (fiji.plugin.trackmate.lacss.LacssMsg.Result) obj;
 
-      @java.lang.Override
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
+      if (hasScore() != other.hasScore()) return false;
+      if (hasScore()) {
+        if (!getScore()
+            .equals(other.getScore())) return false;
+      }
+      if (hasLabel() != other.hasLabel()) return false;
+      if (hasLabel()) {
+        if (!getLabel()
+            .equals(other.getLabel())) return false;
       }
+      if (getRequestId()
+          != other.getRequestId()) return false;
+      if (hasServerHello() != other.hasServerHello()) return false;
+      if (hasServerHello()) {
+        if (!getServerHello()
+            .equals(other.getServerHello())) return false;
+      }
+      if (!getInstancesList()
+          .equals(other.getInstancesList())) return false;
+      if (format_ != other.format_) return false;
+      if (!getLabelScoresList()
+          .equals(other.getLabelScoresList())) return false;
+      if (hasChunk() != other.hasChunk()) return false;
+      if (hasChunk()) {
+        if (!getChunk()
+            .equals(other.getChunk())) return false;
+      }
+      if (getCancelled()
+          != other.getCancelled()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
 
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasScore()) {
+        hash = (37 * hash) + SCORE_FIELD_NUMBER;
+        hash = (53 * hash) + getScore().hashCode();
+      }
+      if (hasLabel()) {
+        hash = (37 * hash) + LABEL_FIELD_NUMBER;
+        hash = (53 * hash) + getLabel().hashCode();
+      }
+      hash = (37 * hash) + REQUEST_ID_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRequestId());
+      if (hasServerHello()) {
+        hash = (37 * hash) + SERVER_HELLO_FIELD_NUMBER;
+        hash = (53 * hash) + getServerHello().hashCode();
+      }
+      if (getInstancesCount() > 0) {
+        hash = (37 * hash) + INSTANCES_FIELD_NUMBER;
+        hash = (53 * hash) + getInstancesList().hashCode();
+      }
+      hash = (37 * hash) + FORMAT_FIELD_NUMBER;
+      hash = (53 * hash) + format_;
+      if (getLabelScoresCount() > 0) {
+        hash = (37 * hash) + LABEL_SCORES_FIELD_NUMBER;
+        hash = (53 * hash) + getLabelScoresList().hashCode();
+      }
+      if (hasChunk()) {
+        hash = (37 * hash) + CHUNK_FIELD_NUMBER;
+        hash = (53 * hash) + getChunk().hashCode();
+      }
+      hash = (37 * hash) + CANCELLED_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getCancelled());
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
 
-      // @@protoc_insertion_point(builder_scope:trackmate.lacss.Label)
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Result parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Result parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Result parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Result parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Result parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Result parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    // @@protoc_insertion_point(class_scope:trackmate.lacss.Label)
-    private static final fiji.plugin.trackmate.lacss.LacssMsg.Label DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new fiji.plugin.trackmate.lacss.LacssMsg.Label();
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Result parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
     }
-
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Label getDefaultInstance() {
-      return DEFAULT_INSTANCE;
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Result parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
-
-    private static final com.google.protobuf.Parser<Label>
-        PARSER = new com.google.protobuf.AbstractParser<Label>() {
-      @java.lang.Override
-      public Label parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Label(input, extensionRegistry);
-      }
-    };
-
-    public static com.google.protobuf.Parser<Label> parser() {
-      return PARSER;
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Result parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Result parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Result parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fiji.plugin.trackmate.lacss.LacssMsg.Result parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Label> getParserForType() {
-      return PARSER;
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fiji.plugin.trackmate.lacss.LacssMsg.Result prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
     }
 
     @java.lang.Override
-    public fiji.plugin.trackmate.lacss.LacssMsg.Label getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
     }
+    /**
+     * Protobuf type {@code trackmate.lacss.Result}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:trackmate.lacss.Result)
+        fiji.plugin.trackmate.lacss.LacssMsg.ResultOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Result_descriptor;
+      }
 
-  }
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Result_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fiji.plugin.trackmate.lacss.LacssMsg.Result.class, fiji.plugin.trackmate.lacss.LacssMsg.Result.Builder.class);
+      }
 
-  public interface ResultOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:trackmate.lacss.Result)
-      com.google.protobuf.MessageOrBuilder {
+      // Construct using fiji.plugin.trackmate.lacss.LacssMsg.Result.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
 
-    /**
-     * <code>.trackmate.lacss.Label score = 1;</code>
-     * @return Whether the score field is set.
-     */
-    boolean hasScore();
-    /**
-     * <code>.trackmate.lacss.Label score = 1;</code>
-     * @return The score.
-     */
-    fiji.plugin.trackmate.lacss.LacssMsg.Label getScore();
-    /**
-     * <code>.trackmate.lacss.Label score = 1;</code>
-     */
-    fiji.plugin.trackmate.lacss.LacssMsg.LabelOrBuilder getScoreOrBuilder();
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getInstancesFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (scoreBuilder_ == null) {
+          score_ = null;
+        } else {
+          score_ = null;
+          scoreBuilder_ = null;
+        }
+        if (labelBuilder_ == null) {
+          label_ = null;
+        } else {
+          label_ = null;
+          labelBuilder_ = null;
+        }
+        requestId_ = 0L;
 
-    /**
-     * <code>.trackmate.lacss.Label label = 2;</code>
-     * @return Whether the label field is set.
-     */
-    boolean hasLabel();
-    /**
-     * <code>.trackmate.lacss.Label label = 2;</code>
-     * @return The label.
-     */
-    fiji.plugin.trackmate.lacss.LacssMsg.Label getLabel();
-    /**
-     * <code>.trackmate.lacss.Label label = 2;</code>
-     */
-    fiji.plugin.trackmate.lacss.LacssMsg.LabelOrBuilder getLabelOrBuilder();
-  }
-  /**
-   * Protobuf type {@code trackmate.lacss.Result}
-   */
-  public static final class Result extends
-      com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:trackmate.lacss.Result)
-      ResultOrBuilder {
-  private static final long serialVersionUID = 0L;
-    // Use Result.newBuilder() to construct.
-    private Result(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
-      super(builder);
-    }
-    private Result() {
-    }
+        if (serverHelloBuilder_ == null) {
+          serverHello_ = null;
+        } else {
+          serverHello_ = null;
+          serverHelloBuilder_ = null;
+        }
+        if (instancesBuilder_ == null) {
+          instances_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          instancesBuilder_.clear();
+        }
+        format_ = 0;
 
-    @java.lang.Override
-    @SuppressWarnings({"unused"})
-    protected java.lang.Object newInstance(
-        UnusedPrivateParameter unused) {
-      return new Result();
-    }
+        labelScores_ = emptyFloatList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (chunkBuilder_ == null) {
+          chunk_ = null;
+        } else {
+          chunk_ = null;
+          chunkBuilder_ = null;
+        }
+        cancelled_ = false;
 
-    @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return this.unknownFields;
-    }
-    private Result(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      this();
-      if (extensionRegistry == null) {
-        throw new java.lang.NullPointerException();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Result_descriptor;
+      }
+
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.Result getDefaultInstanceForType() {
+        return fiji.plugin.trackmate.lacss.LacssMsg.Result.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.Result build() {
+        fiji.plugin.trackmate.lacss.LacssMsg.Result result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.Result buildPartial() {
+        fiji.plugin.trackmate.lacss.LacssMsg.Result result = new fiji.plugin.trackmate.lacss.LacssMsg.Result(this);
+        int from_bitField0_ = bitField0_;
+        if (scoreBuilder_ == null) {
+          result.score_ = score_;
+        } else {
+          result.score_ = scoreBuilder_.build();
+        }
+        if (labelBuilder_ == null) {
+          result.label_ = label_;
+        } else {
+          result.label_ = labelBuilder_.build();
+        }
+        result.requestId_ = requestId_;
+        if (serverHelloBuilder_ == null) {
+          result.serverHello_ = serverHello_;
+        } else {
+          result.serverHello_ = serverHelloBuilder_.build();
+        }
+        if (instancesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            instances_ = java.util.Collections.unmodifiableList(instances_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.instances_ = instances_;
+        } else {
+          result.instances_ = instancesBuilder_.build();
+        }
+        result.format_ = format_;
+        if (((bitField0_ & 0x00000002) != 0)) {
+          labelScores_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.labelScores_ = labelScores_;
+        if (chunkBuilder_ == null) {
+          result.chunk_ = chunk_;
+        } else {
+          result.chunk_ = chunkBuilder_.build();
+        }
+        result.cancelled_ = cancelled_;
+        onBuilt();
+        return result;
       }
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            case 10: {
-              fiji.plugin.trackmate.lacss.LacssMsg.Label.Builder subBuilder = null;
-              if (score_ != null) {
-                subBuilder = score_.toBuilder();
-              }
-              score_ = input.readMessage(fiji.plugin.trackmate.lacss.LacssMsg.Label.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(score_);
-                score_ = subBuilder.buildPartial();
-              }
 
-              break;
-            }
-            case 18: {
-              fiji.plugin.trackmate.lacss.LacssMsg.Label.Builder subBuilder = null;
-              if (label_ != null) {
-                subBuilder = label_.toBuilder();
-              }
-              label_ = input.readMessage(fiji.plugin.trackmate.lacss.LacssMsg.Label.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(label_);
-                label_ = subBuilder.buildPartial();
-              }
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof fiji.plugin.trackmate.lacss.LacssMsg.Result) {
+          return mergeFrom((fiji.plugin.trackmate.lacss.LacssMsg.Result)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
 
-              break;
+      public Builder mergeFrom(fiji.plugin.trackmate.lacss.LacssMsg.Result other) {
+        if (other == fiji.plugin.trackmate.lacss.LacssMsg.Result.getDefaultInstance()) return this;
+        if (other.hasScore()) {
+          mergeScore(other.getScore());
+        }
+        if (other.hasLabel()) {
+          mergeLabel(other.getLabel());
+        }
+        if (other.getRequestId() != 0L) {
+          setRequestId(other.getRequestId());
+        }
+        if (other.hasServerHello()) {
+          mergeServerHello(other.getServerHello());
+        }
+        if (instancesBuilder_ == null) {
+          if (!other.instances_.isEmpty()) {
+            if (instances_.isEmpty()) {
+              instances_ = other.instances_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureInstancesIsMutable();
+              instances_.addAll(other.instances_);
             }
-            default: {
-              if (!parseUnknownField(
-                  input, unknownFields, extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
+            onChanged();
+          }
+        } else {
+          if (!other.instances_.isEmpty()) {
+            if (instancesBuilder_.isEmpty()) {
+              instancesBuilder_.dispose();
+              instancesBuilder_ = null;
+              instances_ = other.instances_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              instancesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getInstancesFieldBuilder() : null;
+            } else {
+              instancesBuilder_.addAllMessages(other.instances_);
             }
           }
         }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
+        if (other.format_ != 0) {
+          setFormatValue(other.getFormatValue());
+        }
+        if (!other.labelScores_.isEmpty()) {
+          if (labelScores_.isEmpty()) {
+            labelScores_ = other.labelScores_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureLabelScoresIsMutable();
+            labelScores_.addAll(other.labelScores_);
+          }
+          onChanged();
+        }
+        if (other.hasChunk()) {
+          mergeChunk(other.getChunk());
+        }
+        if (other.getCancelled() != false) {
+          setCancelled(other.getCancelled());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
       }
-    }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Result_descriptor;
-    }
-
-    @java.lang.Override
-    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Result_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              fiji.plugin.trackmate.lacss.LacssMsg.Result.class, fiji.plugin.trackmate.lacss.LacssMsg.Result.Builder.class);
-    }
-
-    public static final int SCORE_FIELD_NUMBER = 1;
-    private fiji.plugin.trackmate.lacss.LacssMsg.Label score_;
-    /**
-     * <code>.trackmate.lacss.Label score = 1;</code>
-     * @return Whether the score field is set.
-     */
-    @java.lang.Override
-    public boolean hasScore() {
-      return score_ != null;
-    }
-    /**
-     * <code>.trackmate.lacss.Label score = 1;</code>
-     * @return The score.
-     */
-    @java.lang.Override
-    public fiji.plugin.trackmate.lacss.LacssMsg.Label getScore() {
-      return score_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.Label.getDefaultInstance() : score_;
-    }
-    /**
-     * <code>.trackmate.lacss.Label score = 1;</code>
-     */
-    @java.lang.Override
-    public fiji.plugin.trackmate.lacss.LacssMsg.LabelOrBuilder getScoreOrBuilder() {
-      return getScore();
-    }
-
-    public static final int LABEL_FIELD_NUMBER = 2;
-    private fiji.plugin.trackmate.lacss.LacssMsg.Label label_;
-    /**
-     * <code>.trackmate.lacss.Label label = 2;</code>
-     * @return Whether the label field is set.
-     */
-    @java.lang.Override
-    public boolean hasLabel() {
-      return label_ != null;
-    }
-    /**
-     * <code>.trackmate.lacss.Label label = 2;</code>
-     * @return The label.
-     */
-    @java.lang.Override
-    public fiji.plugin.trackmate.lacss.LacssMsg.Label getLabel() {
-      return label_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.Label.getDefaultInstance() : label_;
-    }
-    /**
-     * <code>.trackmate.lacss.Label label = 2;</code>
-     */
-    @java.lang.Override
-    public fiji.plugin.trackmate.lacss.LacssMsg.LabelOrBuilder getLabelOrBuilder() {
-      return getLabel();
-    }
 
-    private byte memoizedIsInitialized = -1;
-    @java.lang.Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
 
-      memoizedIsInitialized = 1;
-      return true;
-    }
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fiji.plugin.trackmate.lacss.LacssMsg.Result parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fiji.plugin.trackmate.lacss.LacssMsg.Result) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
 
-    @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (score_ != null) {
-        output.writeMessage(1, getScore());
+      private fiji.plugin.trackmate.lacss.LacssMsg.Label score_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          fiji.plugin.trackmate.lacss.LacssMsg.Label, fiji.plugin.trackmate.lacss.LacssMsg.Label.Builder, fiji.plugin.trackmate.lacss.LacssMsg.LabelOrBuilder> scoreBuilder_;
+      /**
+       * <code>.trackmate.lacss.Label score = 1;</code>
+       * @return Whether the score field is set.
+       */
+      public boolean hasScore() {
+        return scoreBuilder_ != null || score_ != null;
       }
-      if (label_ != null) {
-        output.writeMessage(2, getLabel());
+      /**
+       * <code>.trackmate.lacss.Label score = 1;</code>
+       * @return The score.
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.Label getScore() {
+        if (scoreBuilder_ == null) {
+          return score_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.Label.getDefaultInstance() : score_;
+        } else {
+          return scoreBuilder_.getMessage();
+        }
       }
-      unknownFields.writeTo(output);
-    }
-
-    @java.lang.Override
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
+      /**
+       * <code>.trackmate.lacss.Label score = 1;</code>
+       */
+      public Builder setScore(fiji.plugin.trackmate.lacss.LacssMsg.Label value) {
+        if (scoreBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          score_ = value;
+          onChanged();
+        } else {
+          scoreBuilder_.setMessage(value);
+        }
 
-      size = 0;
-      if (score_ != null) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, getScore());
-      }
-      if (label_ != null) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, getLabel());
+        return this;
       }
-      size += unknownFields.getSerializedSize();
-      memoizedSize = size;
-      return size;
-    }
+      /**
+       * <code>.trackmate.lacss.Label score = 1;</code>
+       */
+      public Builder setScore(
+          fiji.plugin.trackmate.lacss.LacssMsg.Label.Builder builderForValue) {
+        if (scoreBuilder_ == null) {
+          score_ = builderForValue.build();
+          onChanged();
+        } else {
+          scoreBuilder_.setMessage(builderForValue.build());
+        }
 
-    @java.lang.Override
-    public boolean equals(final java.lang.Object obj) {
-      if (obj == this) {
-       return true;
-      }
-      if (!(obj instanceof fiji.plugin.trackmate.lacss.LacssMsg.Result)) {
-        return super.equals(obj);
+        return this;
       }
-      fiji.plugin.trackmate.lacss.LacssMsg.Result other = (fiji.plugin.trackmate.lacss.LacssMsg.Result) obj;
+      /**
+       * <code>.trackmate.lacss.Label score = 1;</code>
+       */
+      public Builder mergeScore(fiji.plugin.trackmate.lacss.LacssMsg.Label value) {
+        if (scoreBuilder_ == null) {
+          if (score_ != null) {
+            score_ =
+              fiji.plugin.trackmate.lacss.LacssMsg.Label.newBuilder(score_).mergeFrom(value).buildPartial();
+          } else {
+            score_ = value;
+          }
+          onChanged();
+        } else {
+          scoreBuilder_.mergeFrom(value);
+        }
 
-      if (hasScore() != other.hasScore()) return false;
-      if (hasScore()) {
-        if (!getScore()
-            .equals(other.getScore())) return false;
-      }
-      if (hasLabel() != other.hasLabel()) return false;
-      if (hasLabel()) {
-        if (!getLabel()
-            .equals(other.getLabel())) return false;
+        return this;
       }
-      if (!unknownFields.equals(other.unknownFields)) return false;
-      return true;
-    }
+      /**
+       * <code>.trackmate.lacss.Label score = 1;</code>
+       */
+      public Builder clearScore() {
+        if (scoreBuilder_ == null) {
+          score_ = null;
+          onChanged();
+        } else {
+          score_ = null;
+          scoreBuilder_ = null;
+        }
 
-    @java.lang.Override
-    public int hashCode() {
-      if (memoizedHashCode != 0) {
-        return memoizedHashCode;
+        return this;
       }
-      int hash = 41;
-      hash = (19 * hash) + getDescriptor().hashCode();
-      if (hasScore()) {
-        hash = (37 * hash) + SCORE_FIELD_NUMBER;
-        hash = (53 * hash) + getScore().hashCode();
+      /**
+       * <code>.trackmate.lacss.Label score = 1;</code>
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.Label.Builder getScoreBuilder() {
+        
+        onChanged();
+        return getScoreFieldBuilder().getBuilder();
       }
-      if (hasLabel()) {
-        hash = (37 * hash) + LABEL_FIELD_NUMBER;
-        hash = (53 * hash) + getLabel().hashCode();
+      /**
+       * <code>.trackmate.lacss.Label score = 1;</code>
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.LabelOrBuilder getScoreOrBuilder() {
+        if (scoreBuilder_ != null) {
+          return scoreBuilder_.getMessageOrBuilder();
+        } else {
+          return score_ == null ?
+              fiji.plugin.trackmate.lacss.LacssMsg.Label.getDefaultInstance() : score_;
+        }
       }
-      hash = (29 * hash) + unknownFields.hashCode();
-      memoizedHashCode = hash;
-      return hash;
-    }
-
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Result parseFrom(
-        java.nio.ByteBuffer data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Result parseFrom(
-        java.nio.ByteBuffer data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Result parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Result parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Result parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Result parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Result parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Result parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Result parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input);
-    }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Result parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
-    }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Result parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input);
-    }
-    public static fiji.plugin.trackmate.lacss.LacssMsg.Result parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessageV3
-          .parseWithIOException(PARSER, input, extensionRegistry);
-    }
-
-    @java.lang.Override
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
-    }
-    public static Builder newBuilder(fiji.plugin.trackmate.lacss.LacssMsg.Result prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
-    }
-    @java.lang.Override
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
-    }
-
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * Protobuf type {@code trackmate.lacss.Result}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:trackmate.lacss.Result)
-        fiji.plugin.trackmate.lacss.LacssMsg.ResultOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Result_descriptor;
+      /**
+       * <code>.trackmate.lacss.Label score = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          fiji.plugin.trackmate.lacss.LacssMsg.Label, fiji.plugin.trackmate.lacss.LacssMsg.Label.Builder, fiji.plugin.trackmate.lacss.LacssMsg.LabelOrBuilder> 
+          getScoreFieldBuilder() {
+        if (scoreBuilder_ == null) {
+          scoreBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              fiji.plugin.trackmate.lacss.LacssMsg.Label, fiji.plugin.trackmate.lacss.LacssMsg.Label.Builder, fiji.plugin.trackmate.lacss.LacssMsg.LabelOrBuilder>(
+                  getScore(),
+                  getParentForChildren(),
+                  isClean());
+          score_ = null;
+        }
+        return scoreBuilder_;
       }
 
-      @java.lang.Override
-      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Result_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                fiji.plugin.trackmate.lacss.LacssMsg.Result.class, fiji.plugin.trackmate.lacss.LacssMsg.Result.Builder.class);
+      private fiji.plugin.trackmate.lacss.LacssMsg.Label label_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          fiji.plugin.trackmate.lacss.LacssMsg.Label, fiji.plugin.trackmate.lacss.LacssMsg.Label.Builder, fiji.plugin.trackmate.lacss.LacssMsg.LabelOrBuilder> labelBuilder_;
+      /**
+       * <code>.trackmate.lacss.Label label = 2;</code>
+       * @return Whether the label field is set.
+       */
+      public boolean hasLabel() {
+        return labelBuilder_ != null || label_ != null;
       }
-
-      // Construct using fiji.plugin.trackmate.lacss.LacssMsg.Result.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
+      /**
+       * <code>.trackmate.lacss.Label label = 2;</code>
+       * @return The label.
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.Label getLabel() {
+        if (labelBuilder_ == null) {
+          return label_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.Label.getDefaultInstance() : label_;
+        } else {
+          return labelBuilder_.getMessage();
+        }
       }
+      /**
+       * <code>.trackmate.lacss.Label label = 2;</code>
+       */
+      public Builder setLabel(fiji.plugin.trackmate.lacss.LacssMsg.Label value) {
+        if (labelBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          label_ = value;
+          onChanged();
+        } else {
+          labelBuilder_.setMessage(value);
+        }
 
-      private Builder(
-          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
+        return this;
       }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessageV3
-                .alwaysUseFieldBuilders) {
+      /**
+       * <code>.trackmate.lacss.Label label = 2;</code>
+       */
+      public Builder setLabel(
+          fiji.plugin.trackmate.lacss.LacssMsg.Label.Builder builderForValue) {
+        if (labelBuilder_ == null) {
+          label_ = builderForValue.build();
+          onChanged();
+        } else {
+          labelBuilder_.setMessage(builderForValue.build());
         }
+
+        return this;
       }
-      @java.lang.Override
-      public Builder clear() {
-        super.clear();
-        if (scoreBuilder_ == null) {
-          score_ = null;
+      /**
+       * <code>.trackmate.lacss.Label label = 2;</code>
+       */
+      public Builder mergeLabel(fiji.plugin.trackmate.lacss.LacssMsg.Label value) {
+        if (labelBuilder_ == null) {
+          if (label_ != null) {
+            label_ =
+              fiji.plugin.trackmate.lacss.LacssMsg.Label.newBuilder(label_).mergeFrom(value).buildPartial();
+          } else {
+            label_ = value;
+          }
+          onChanged();
         } else {
-          score_ = null;
-          scoreBuilder_ = null;
+          labelBuilder_.mergeFrom(value);
         }
+
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.Label label = 2;</code>
+       */
+      public Builder clearLabel() {
         if (labelBuilder_ == null) {
           label_ = null;
+          onChanged();
         } else {
           label_ = null;
           labelBuilder_ = null;
         }
+
         return this;
       }
-
-      @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return fiji.plugin.trackmate.lacss.LacssMsg.internal_static_trackmate_lacss_Result_descriptor;
+      /**
+       * <code>.trackmate.lacss.Label label = 2;</code>
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.Label.Builder getLabelBuilder() {
+        
+        onChanged();
+        return getLabelFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.trackmate.lacss.Label label = 2;</code>
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.LabelOrBuilder getLabelOrBuilder() {
+        if (labelBuilder_ != null) {
+          return labelBuilder_.getMessageOrBuilder();
+        } else {
+          return label_ == null ?
+              fiji.plugin.trackmate.lacss.LacssMsg.Label.getDefaultInstance() : label_;
+        }
+      }
+      /**
+       * <code>.trackmate.lacss.Label label = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          fiji.plugin.trackmate.lacss.LacssMsg.Label, fiji.plugin.trackmate.lacss.LacssMsg.Label.Builder, fiji.plugin.trackmate.lacss.LacssMsg.LabelOrBuilder> 
+          getLabelFieldBuilder() {
+        if (labelBuilder_ == null) {
+          labelBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              fiji.plugin.trackmate.lacss.LacssMsg.Label, fiji.plugin.trackmate.lacss.LacssMsg.Label.Builder, fiji.plugin.trackmate.lacss.LacssMsg.LabelOrBuilder>(
+                  getLabel(),
+                  getParentForChildren(),
+                  isClean());
+          label_ = null;
+        }
+        return labelBuilder_;
       }
 
+      private long requestId_ ;
+      /**
+       * <pre>
+       * of the Input this result answers
+       * </pre>
+       *
+       * <code>uint64 request_id = 3;</code>
+       * @return The requestId.
+       */
       @java.lang.Override
-      public fiji.plugin.trackmate.lacss.LacssMsg.Result getDefaultInstanceForType() {
-        return fiji.plugin.trackmate.lacss.LacssMsg.Result.getDefaultInstance();
+      public long getRequestId() {
+        return requestId_;
+      }
+      /**
+       * <pre>
+       * of the Input this result answers
+       * </pre>
+       *
+       * <code>uint64 request_id = 3;</code>
+       * @param value The requestId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRequestId(long value) {
+        
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * of the Input this result answers
+       * </pre>
+       *
+       * <code>uint64 request_id = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRequestId() {
+        
+        requestId_ = 0L;
+        onChanged();
+        return this;
       }
 
-      @java.lang.Override
-      public fiji.plugin.trackmate.lacss.LacssMsg.Result build() {
-        fiji.plugin.trackmate.lacss.LacssMsg.Result result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
+      private fiji.plugin.trackmate.lacss.LacssMsg.ServerHello serverHello_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          fiji.plugin.trackmate.lacss.LacssMsg.ServerHello, fiji.plugin.trackmate.lacss.LacssMsg.ServerHello.Builder, fiji.plugin.trackmate.lacss.LacssMsg.ServerHelloOrBuilder> serverHelloBuilder_;
+      /**
+       * <code>.trackmate.lacss.ServerHello server_hello = 4;</code>
+       * @return Whether the serverHello field is set.
+       */
+      public boolean hasServerHello() {
+        return serverHelloBuilder_ != null || serverHello_ != null;
+      }
+      /**
+       * <code>.trackmate.lacss.ServerHello server_hello = 4;</code>
+       * @return The serverHello.
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.ServerHello getServerHello() {
+        if (serverHelloBuilder_ == null) {
+          return serverHello_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.ServerHello.getDefaultInstance() : serverHello_;
+        } else {
+          return serverHelloBuilder_.getMessage();
         }
-        return result;
       }
+      /**
+       * <code>.trackmate.lacss.ServerHello server_hello = 4;</code>
+       */
+      public Builder setServerHello(fiji.plugin.trackmate.lacss.LacssMsg.ServerHello value) {
+        if (serverHelloBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          serverHello_ = value;
+          onChanged();
+        } else {
+          serverHelloBuilder_.setMessage(value);
+        }
 
-      @java.lang.Override
-      public fiji.plugin.trackmate.lacss.LacssMsg.Result buildPartial() {
-        fiji.plugin.trackmate.lacss.LacssMsg.Result result = new fiji.plugin.trackmate.lacss.LacssMsg.Result(this);
-        if (scoreBuilder_ == null) {
-          result.score_ = score_;
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.ServerHello server_hello = 4;</code>
+       */
+      public Builder setServerHello(
+          fiji.plugin.trackmate.lacss.LacssMsg.ServerHello.Builder builderForValue) {
+        if (serverHelloBuilder_ == null) {
+          serverHello_ = builderForValue.build();
+          onChanged();
         } else {
-          result.score_ = scoreBuilder_.build();
+          serverHelloBuilder_.setMessage(builderForValue.build());
         }
-        if (labelBuilder_ == null) {
-          result.label_ = label_;
+
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.ServerHello server_hello = 4;</code>
+       */
+      public Builder mergeServerHello(fiji.plugin.trackmate.lacss.LacssMsg.ServerHello value) {
+        if (serverHelloBuilder_ == null) {
+          if (serverHello_ != null) {
+            serverHello_ =
+              fiji.plugin.trackmate.lacss.LacssMsg.ServerHello.newBuilder(serverHello_).mergeFrom(value).buildPartial();
+          } else {
+            serverHello_ = value;
+          }
+          onChanged();
         } else {
-          result.label_ = labelBuilder_.build();
+          serverHelloBuilder_.mergeFrom(value);
         }
-        onBuilt();
-        return result;
+
+        return this;
       }
+      /**
+       * <code>.trackmate.lacss.ServerHello server_hello = 4;</code>
+       */
+      public Builder clearServerHello() {
+        if (serverHelloBuilder_ == null) {
+          serverHello_ = null;
+          onChanged();
+        } else {
+          serverHello_ = null;
+          serverHelloBuilder_ = null;
+        }
 
-      @java.lang.Override
-      public Builder clone() {
-        return super.clone();
+        return this;
       }
-      @java.lang.Override
-      public Builder setField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return super.setField(field, value);
+      /**
+       * <code>.trackmate.lacss.ServerHello server_hello = 4;</code>
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.ServerHello.Builder getServerHelloBuilder() {
+        
+        onChanged();
+        return getServerHelloFieldBuilder().getBuilder();
       }
-      @java.lang.Override
-      public Builder clearField(
-          com.google.protobuf.Descriptors.FieldDescriptor field) {
-        return super.clearField(field);
+      /**
+       * <code>.trackmate.lacss.ServerHello server_hello = 4;</code>
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.ServerHelloOrBuilder getServerHelloOrBuilder() {
+        if (serverHelloBuilder_ != null) {
+          return serverHelloBuilder_.getMessageOrBuilder();
+        } else {
+          return serverHello_ == null ?
+              fiji.plugin.trackmate.lacss.LacssMsg.ServerHello.getDefaultInstance() : serverHello_;
+        }
       }
-      @java.lang.Override
-      public Builder clearOneof(
-          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
-        return super.clearOneof(oneof);
+      /**
+       * <code>.trackmate.lacss.ServerHello server_hello = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          fiji.plugin.trackmate.lacss.LacssMsg.ServerHello, fiji.plugin.trackmate.lacss.LacssMsg.ServerHello.Builder, fiji.plugin.trackmate.lacss.LacssMsg.ServerHelloOrBuilder> 
+          getServerHelloFieldBuilder() {
+        if (serverHelloBuilder_ == null) {
+          serverHelloBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              fiji.plugin.trackmate.lacss.LacssMsg.ServerHello, fiji.plugin.trackmate.lacss.LacssMsg.ServerHello.Builder, fiji.plugin.trackmate.lacss.LacssMsg.ServerHelloOrBuilder>(
+                  getServerHello(),
+                  getParentForChildren(),
+                  isClean());
+          serverHello_ = null;
+        }
+        return serverHelloBuilder_;
       }
-      @java.lang.Override
-      public Builder setRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          int index, java.lang.Object value) {
-        return super.setRepeatedField(field, index, value);
+
+      private java.util.List<fiji.plugin.trackmate.lacss.LacssMsg.Instance> instances_ =
+        java.util.Collections.emptyList();
+      private void ensureInstancesIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          instances_ = new java.util.ArrayList<fiji.plugin.trackmate.lacss.LacssMsg.Instance>(instances_);
+          bitField0_ |= 0x00000001;
+         }
       }
-      @java.lang.Override
-      public Builder addRepeatedField(
-          com.google.protobuf.Descriptors.FieldDescriptor field,
-          java.lang.Object value) {
-        return super.addRepeatedField(field, value);
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          fiji.plugin.trackmate.lacss.LacssMsg.Instance, fiji.plugin.trackmate.lacss.LacssMsg.Instance.Builder, fiji.plugin.trackmate.lacss.LacssMsg.InstanceOrBuilder> instancesBuilder_;
+
+      /**
+       * <pre>
+       * set for SPARSE and POLYGON results, instead of score and label
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.Instance instances = 5;</code>
+       */
+      public java.util.List<fiji.plugin.trackmate.lacss.LacssMsg.Instance> getInstancesList() {
+        if (instancesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(instances_);
+        } else {
+          return instancesBuilder_.getMessageList();
+        }
       }
-      @java.lang.Override
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof fiji.plugin.trackmate.lacss.LacssMsg.Result) {
-          return mergeFrom((fiji.plugin.trackmate.lacss.LacssMsg.Result)other);
+      /**
+       * <pre>
+       * set for SPARSE and POLYGON results, instead of score and label
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.Instance instances = 5;</code>
+       */
+      public int getInstancesCount() {
+        if (instancesBuilder_ == null) {
+          return instances_.size();
         } else {
-          super.mergeFrom(other);
-          return this;
+          return instancesBuilder_.getCount();
         }
       }
-
-      public Builder mergeFrom(fiji.plugin.trackmate.lacss.LacssMsg.Result other) {
-        if (other == fiji.plugin.trackmate.lacss.LacssMsg.Result.getDefaultInstance()) return this;
-        if (other.hasScore()) {
-          mergeScore(other.getScore());
+      /**
+       * <pre>
+       * set for SPARSE and POLYGON results, instead of score and label
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.Instance instances = 5;</code>
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.Instance getInstances(int index) {
+        if (instancesBuilder_ == null) {
+          return instances_.get(index);
+        } else {
+          return instancesBuilder_.getMessage(index);
         }
-        if (other.hasLabel()) {
-          mergeLabel(other.getLabel());
+      }
+      /**
+       * <pre>
+       * set for SPARSE and POLYGON results, instead of score and label
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.Instance instances = 5;</code>
+       */
+      public Builder setInstances(
+          int index, fiji.plugin.trackmate.lacss.LacssMsg.Instance value) {
+        if (instancesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInstancesIsMutable();
+          instances_.set(index, value);
+          onChanged();
+        } else {
+          instancesBuilder_.setMessage(index, value);
         }
-        this.mergeUnknownFields(other.unknownFields);
-        onChanged();
         return this;
       }
-
-      @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
+      /**
+       * <pre>
+       * set for SPARSE and POLYGON results, instead of score and label
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.Instance instances = 5;</code>
+       */
+      public Builder setInstances(
+          int index, fiji.plugin.trackmate.lacss.LacssMsg.Instance.Builder builderForValue) {
+        if (instancesBuilder_ == null) {
+          ensureInstancesIsMutable();
+          instances_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          instancesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
       }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        fiji.plugin.trackmate.lacss.LacssMsg.Result parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (fiji.plugin.trackmate.lacss.LacssMsg.Result) e.getUnfinishedMessage();
-          throw e.unwrapIOException();
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
+      /**
+       * <pre>
+       * set for SPARSE and POLYGON results, instead of score and label
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.Instance instances = 5;</code>
+       */
+      public Builder addInstances(fiji.plugin.trackmate.lacss.LacssMsg.Instance value) {
+        if (instancesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
+          ensureInstancesIsMutable();
+          instances_.add(value);
+          onChanged();
+        } else {
+          instancesBuilder_.addMessage(value);
         }
         return this;
       }
-
-      private fiji.plugin.trackmate.lacss.LacssMsg.Label score_;
-      private com.google.protobuf.SingleFieldBuilderV3<
-          fiji.plugin.trackmate.lacss.LacssMsg.Label, fiji.plugin.trackmate.lacss.LacssMsg.Label.Builder, fiji.plugin.trackmate.lacss.LacssMsg.LabelOrBuilder> scoreBuilder_;
       /**
-       * <code>.trackmate.lacss.Label score = 1;</code>
-       * @return Whether the score field is set.
+       * <pre>
+       * set for SPARSE and POLYGON results, instead of score and label
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.Instance instances = 5;</code>
        */
-      public boolean hasScore() {
-        return scoreBuilder_ != null || score_ != null;
+      public Builder addInstances(
+          int index, fiji.plugin.trackmate.lacss.LacssMsg.Instance value) {
+        if (instancesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInstancesIsMutable();
+          instances_.add(index, value);
+          onChanged();
+        } else {
+          instancesBuilder_.addMessage(index, value);
+        }
+        return this;
       }
       /**
-       * <code>.trackmate.lacss.Label score = 1;</code>
-       * @return The score.
+       * <pre>
+       * set for SPARSE and POLYGON results, instead of score and label
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.Instance instances = 5;</code>
        */
-      public fiji.plugin.trackmate.lacss.LacssMsg.Label getScore() {
-        if (scoreBuilder_ == null) {
-          return score_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.Label.getDefaultInstance() : score_;
+      public Builder addInstances(
+          fiji.plugin.trackmate.lacss.LacssMsg.Instance.Builder builderForValue) {
+        if (instancesBuilder_ == null) {
+          ensureInstancesIsMutable();
+          instances_.add(builderForValue.build());
+          onChanged();
         } else {
-          return scoreBuilder_.getMessage();
+          instancesBuilder_.addMessage(builderForValue.build());
         }
+        return this;
       }
       /**
-       * <code>.trackmate.lacss.Label score = 1;</code>
+       * <pre>
+       * set for SPARSE and POLYGON results, instead of score and label
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.Instance instances = 5;</code>
        */
-      public Builder setScore(fiji.plugin.trackmate.lacss.LacssMsg.Label value) {
-        if (scoreBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          score_ = value;
+      public Builder addInstances(
+          int index, fiji.plugin.trackmate.lacss.LacssMsg.Instance.Builder builderForValue) {
+        if (instancesBuilder_ == null) {
+          ensureInstancesIsMutable();
+          instances_.add(index, builderForValue.build());
           onChanged();
         } else {
-          scoreBuilder_.setMessage(value);
+          instancesBuilder_.addMessage(index, builderForValue.build());
         }
-
         return this;
       }
       /**
-       * <code>.trackmate.lacss.Label score = 1;</code>
+       * <pre>
+       * set for SPARSE and POLYGON results, instead of score and label
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.Instance instances = 5;</code>
        */
-      public Builder setScore(
-          fiji.plugin.trackmate.lacss.LacssMsg.Label.Builder builderForValue) {
-        if (scoreBuilder_ == null) {
-          score_ = builderForValue.build();
+      public Builder addAllInstances(
+          java.lang.Iterable<? extends fiji.plugin.trackmate.lacss.LacssMsg.Instance> values) {
+        if (instancesBuilder_ == null) {
+          ensureInstancesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, instances_);
           onChanged();
         } else {
-          scoreBuilder_.setMessage(builderForValue.build());
+          instancesBuilder_.addAllMessages(values);
         }
-
         return this;
       }
       /**
-       * <code>.trackmate.lacss.Label score = 1;</code>
+       * <pre>
+       * set for SPARSE and POLYGON results, instead of score and label
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.Instance instances = 5;</code>
        */
-      public Builder mergeScore(fiji.plugin.trackmate.lacss.LacssMsg.Label value) {
-        if (scoreBuilder_ == null) {
-          if (score_ != null) {
-            score_ =
-              fiji.plugin.trackmate.lacss.LacssMsg.Label.newBuilder(score_).mergeFrom(value).buildPartial();
-          } else {
-            score_ = value;
-          }
+      public Builder clearInstances() {
+        if (instancesBuilder_ == null) {
+          instances_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
           onChanged();
         } else {
-          scoreBuilder_.mergeFrom(value);
+          instancesBuilder_.clear();
         }
-
         return this;
       }
       /**
-       * <code>.trackmate.lacss.Label score = 1;</code>
+       * <pre>
+       * set for SPARSE and POLYGON results, instead of score and label
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.Instance instances = 5;</code>
        */
-      public Builder clearScore() {
-        if (scoreBuilder_ == null) {
-          score_ = null;
+      public Builder removeInstances(int index) {
+        if (instancesBuilder_ == null) {
+          ensureInstancesIsMutable();
+          instances_.remove(index);
           onChanged();
         } else {
-          score_ = null;
-          scoreBuilder_ = null;
+          instancesBuilder_.remove(index);
         }
-
         return this;
       }
       /**
-       * <code>.trackmate.lacss.Label score = 1;</code>
+       * <pre>
+       * set for SPARSE and POLYGON results, instead of score and label
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.Instance instances = 5;</code>
        */
-      public fiji.plugin.trackmate.lacss.LacssMsg.Label.Builder getScoreBuilder() {
-        
-        onChanged();
-        return getScoreFieldBuilder().getBuilder();
+      public fiji.plugin.trackmate.lacss.LacssMsg.Instance.Builder getInstancesBuilder(
+          int index) {
+        return getInstancesFieldBuilder().getBuilder(index);
       }
       /**
-       * <code>.trackmate.lacss.Label score = 1;</code>
+       * <pre>
+       * set for SPARSE and POLYGON results, instead of score and label
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.Instance instances = 5;</code>
        */
-      public fiji.plugin.trackmate.lacss.LacssMsg.LabelOrBuilder getScoreOrBuilder() {
-        if (scoreBuilder_ != null) {
-          return scoreBuilder_.getMessageOrBuilder();
+      public fiji.plugin.trackmate.lacss.LacssMsg.InstanceOrBuilder getInstancesOrBuilder(
+          int index) {
+        if (instancesBuilder_ == null) {
+          return instances_.get(index);  } else {
+          return instancesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * set for SPARSE and POLYGON results, instead of score and label
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.Instance instances = 5;</code>
+       */
+      public java.util.List<? extends fiji.plugin.trackmate.lacss.LacssMsg.InstanceOrBuilder> 
+           getInstancesOrBuilderList() {
+        if (instancesBuilder_ != null) {
+          return instancesBuilder_.getMessageOrBuilderList();
         } else {
-          return score_ == null ?
-              fiji.plugin.trackmate.lacss.LacssMsg.Label.getDefaultInstance() : score_;
+          return java.util.Collections.unmodifiableList(instances_);
         }
       }
       /**
-       * <code>.trackmate.lacss.Label score = 1;</code>
+       * <pre>
+       * set for SPARSE and POLYGON results, instead of score and label
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.Instance instances = 5;</code>
        */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          fiji.plugin.trackmate.lacss.LacssMsg.Label, fiji.plugin.trackmate.lacss.LacssMsg.Label.Builder, fiji.plugin.trackmate.lacss.LacssMsg.LabelOrBuilder> 
-          getScoreFieldBuilder() {
-        if (scoreBuilder_ == null) {
-          scoreBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              fiji.plugin.trackmate.lacss.LacssMsg.Label, fiji.plugin.trackmate.lacss.LacssMsg.Label.Builder, fiji.plugin.trackmate.lacss.LacssMsg.LabelOrBuilder>(
-                  getScore(),
+      public fiji.plugin.trackmate.lacss.LacssMsg.Instance.Builder addInstancesBuilder() {
+        return getInstancesFieldBuilder().addBuilder(
+            fiji.plugin.trackmate.lacss.LacssMsg.Instance.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * set for SPARSE and POLYGON results, instead of score and label
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.Instance instances = 5;</code>
+       */
+      public fiji.plugin.trackmate.lacss.LacssMsg.Instance.Builder addInstancesBuilder(
+          int index) {
+        return getInstancesFieldBuilder().addBuilder(
+            index, fiji.plugin.trackmate.lacss.LacssMsg.Instance.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * set for SPARSE and POLYGON results, instead of score and label
+       * </pre>
+       *
+       * <code>repeated .trackmate.lacss.Instance instances = 5;</code>
+       */
+      public java.util.List<fiji.plugin.trackmate.lacss.LacssMsg.Instance.Builder> 
+           getInstancesBuilderList() {
+        return getInstancesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          fiji.plugin.trackmate.lacss.LacssMsg.Instance, fiji.plugin.trackmate.lacss.LacssMsg.Instance.Builder, fiji.plugin.trackmate.lacss.LacssMsg.InstanceOrBuilder> 
+          getInstancesFieldBuilder() {
+        if (instancesBuilder_ == null) {
+          instancesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              fiji.plugin.trackmate.lacss.LacssMsg.Instance, fiji.plugin.trackmate.lacss.LacssMsg.Instance.Builder, fiji.plugin.trackmate.lacss.LacssMsg.InstanceOrBuilder>(
+                  instances_,
+                  ((bitField0_ & 0x00000001) != 0),
                   getParentForChildren(),
                   isClean());
-          score_ = null;
+          instances_ = null;
         }
-        return scoreBuilder_;
+        return instancesBuilder_;
       }
 
-      private fiji.plugin.trackmate.lacss.LacssMsg.Label label_;
+      private int format_ = 0;
+      /**
+       * <code>.trackmate.lacss.ResultFormat format = 6;</code>
+       * @return The enum numeric value on the wire for format.
+       */
+      @java.lang.Override public int getFormatValue() {
+        return format_;
+      }
+      /**
+       * <code>.trackmate.lacss.ResultFormat format = 6;</code>
+       * @param value The enum numeric value on the wire for format to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFormatValue(int value) {
+        
+        format_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.ResultFormat format = 6;</code>
+       * @return The format.
+       */
+      @java.lang.Override
+      public fiji.plugin.trackmate.lacss.LacssMsg.ResultFormat getFormat() {
+        @SuppressWarnings("deprecation")
+        fiji.plugin.trackmate.lacss.LacssMsg.ResultFormat result = fiji.plugin.trackmate.lacss.LacssMsg.ResultFormat.valueOf(format_);
+        return result == null ? fiji.plugin.trackmate.lacss.LacssMsg.ResultFormat.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.trackmate.lacss.ResultFormat format = 6;</code>
+       * @param value The format to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFormat(fiji.plugin.trackmate.lacss.LacssMsg.ResultFormat value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        format_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.trackmate.lacss.ResultFormat format = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFormat() {
+        
+        format_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.FloatList labelScores_ = emptyFloatList();
+      private void ensureLabelScoresIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          labelScores_ = mutableCopy(labelScores_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <pre>
+       * SCORE_PER_LABEL only, instead of score: the score of label i + 1
+       * </pre>
+       *
+       * <code>repeated float label_scores = 7;</code>
+       * @return A list containing the labelScores.
+       */
+      public java.util.List<java.lang.Float>
+          getLabelScoresList() {
+        return ((bitField0_ & 0x00000002) != 0) ?
+                 java.util.Collections.unmodifiableList(labelScores_) : labelScores_;
+      }
+      /**
+       * <pre>
+       * SCORE_PER_LABEL only, instead of score: the score of label i + 1
+       * </pre>
+       *
+       * <code>repeated float label_scores = 7;</code>
+       * @return The count of labelScores.
+       */
+      public int getLabelScoresCount() {
+        return labelScores_.size();
+      }
+      /**
+       * <pre>
+       * SCORE_PER_LABEL only, instead of score: the score of label i + 1
+       * </pre>
+       *
+       * <code>repeated float label_scores = 7;</code>
+       * @param index The index of the element to return.
+       * @return The labelScores at the given index.
+       */
+      public float getLabelScores(int index) {
+        return labelScores_.getFloat(index);
+      }
+      /**
+       * <pre>
+       * SCORE_PER_LABEL only, instead of score: the score of label i + 1
+       * </pre>
+       *
+       * <code>repeated float label_scores = 7;</code>
+       * @param index The index to set the value at.
+       * @param value The labelScores to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLabelScores(
+          int index, float value) {
+        ensureLabelScoresIsMutable();
+        labelScores_.setFloat(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * SCORE_PER_LABEL only, instead of score: the score of label i + 1
+       * </pre>
+       *
+       * <code>repeated float label_scores = 7;</code>
+       * @param value The labelScores to add.
+       * @return This builder for chaining.
+       */
+      public Builder addLabelScores(float value) {
+        ensureLabelScoresIsMutable();
+        labelScores_.addFloat(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * SCORE_PER_LABEL only, instead of score: the score of label i + 1
+       * </pre>
+       *
+       * <code>repeated float label_scores = 7;</code>
+       * @param values The labelScores to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllLabelScores(
+          java.lang.Iterable<? extends java.lang.Float> values) {
+        ensureLabelScoresIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, labelScores_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * SCORE_PER_LABEL only, instead of score: the score of label i + 1
+       * </pre>
+       *
+       * <code>repeated float label_scores = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLabelScores() {
+        labelScores_ = emptyFloatList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+
+      private fiji.plugin.trackmate.lacss.LacssMsg.Chunk chunk_;
       private com.google.protobuf.SingleFieldBuilderV3<
-          fiji.plugin.trackmate.lacss.LacssMsg.Label, fiji.plugin.trackmate.lacss.LacssMsg.Label.Builder, fiji.plugin.trackmate.lacss.LacssMsg.LabelOrBuilder> labelBuilder_;
+          fiji.plugin.trackmate.lacss.LacssMsg.Chunk, fiji.plugin.trackmate.lacss.LacssMsg.Chunk.Builder, fiji.plugin.trackmate.lacss.LacssMsg.ChunkOrBuilder> chunkBuilder_;
       /**
-       * <code>.trackmate.lacss.Label label = 2;</code>
-       * @return Whether the label field is set.
+       * <code>.trackmate.lacss.Chunk chunk = 8;</code>
+       * @return Whether the chunk field is set.
        */
-      public boolean hasLabel() {
-        return labelBuilder_ != null || label_ != null;
+      public boolean hasChunk() {
+        return chunkBuilder_ != null || chunk_ != null;
       }
       /**
-       * <code>.trackmate.lacss.Label label = 2;</code>
-       * @return The label.
+       * <code>.trackmate.lacss.Chunk chunk = 8;</code>
+       * @return The chunk.
        */
-      public fiji.plugin.trackmate.lacss.LacssMsg.Label getLabel() {
-        if (labelBuilder_ == null) {
-          return label_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.Label.getDefaultInstance() : label_;
+      public fiji.plugin.trackmate.lacss.LacssMsg.Chunk getChunk() {
+        if (chunkBuilder_ == null) {
+          return chunk_ == null ? fiji.plugin.trackmate.lacss.LacssMsg.Chunk.getDefaultInstance() : chunk_;
         } else {
-          return labelBuilder_.getMessage();
+          return chunkBuilder_.getMessage();
         }
       }
       /**
-       * <code>.trackmate.lacss.Label label = 2;</code>
+       * <code>.trackmate.lacss.Chunk chunk = 8;</code>
        */
-      public Builder setLabel(fiji.plugin.trackmate.lacss.LacssMsg.Label value) {
-        if (labelBuilder_ == null) {
+      public Builder setChunk(fiji.plugin.trackmate.lacss.LacssMsg.Chunk value) {
+        if (chunkBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          label_ = value;
+          chunk_ = value;
           onChanged();
         } else {
-          labelBuilder_.setMessage(value);
+          chunkBuilder_.setMessage(value);
         }
 
         return this;
       }
       /**
-       * <code>.trackmate.lacss.Label label = 2;</code>
+       * <code>.trackmate.lacss.Chunk chunk = 8;</code>
        */
-      public Builder setLabel(
-          fiji.plugin.trackmate.lacss.LacssMsg.Label.Builder builderForValue) {
-        if (labelBuilder_ == null) {
-          label_ = builderForValue.build();
+      public Builder setChunk(
+          fiji.plugin.trackmate.lacss.LacssMsg.Chunk.Builder builderForValue) {
+        if (chunkBuilder_ == null) {
+          chunk_ = builderForValue.build();
           onChanged();
         } else {
-          labelBuilder_.setMessage(builderForValue.build());
+          chunkBuilder_.setMessage(builderForValue.build());
         }
 
         return this;
       }
       /**
-       * <code>.trackmate.lacss.Label label = 2;</code>
+       * <code>.trackmate.lacss.Chunk chunk = 8;</code>
        */
-      public Builder mergeLabel(fiji.plugin.trackmate.lacss.LacssMsg.Label value) {
-        if (labelBuilder_ == null) {
-          if (label_ != null) {
-            label_ =
-              fiji.plugin.trackmate.lacss.LacssMsg.Label.newBuilder(label_).mergeFrom(value).buildPartial();
+      public Builder mergeChunk(fiji.plugin.trackmate.lacss.LacssMsg.Chunk value) {
+        if (chunkBuilder_ == null) {
+          if (chunk_ != null) {
+            chunk_ =
+              fiji.plugin.trackmate.lacss.LacssMsg.Chunk.newBuilder(chunk_).mergeFrom(value).buildPartial();
           } else {
-            label_ = value;
+            chunk_ = value;
           }
           onChanged();
         } else {
-          labelBuilder_.mergeFrom(value);
+          chunkBuilder_.mergeFrom(value);
         }
 
         return this;
       }
       /**
-       * <code>.trackmate.lacss.Label label = 2;</code>
+       * <code>.trackmate.lacss.Chunk chunk = 8;</code>
        */
-      public Builder clearLabel() {
-        if (labelBuilder_ == null) {
-          label_ = null;
+      public Builder clearChunk() {
+        if (chunkBuilder_ == null) {
+          chunk_ = null;
           onChanged();
         } else {
-          label_ = null;
-          labelBuilder_ = null;
+          chunk_ = null;
+          chunkBuilder_ = null;
         }
 
         return this;
       }
       /**
-       * <code>.trackmate.lacss.Label label = 2;</code>
+       * <code>.trackmate.lacss.Chunk chunk = 8;</code>
        */
-      public fiji.plugin.trackmate.lacss.LacssMsg.Label.Builder getLabelBuilder() {
+      public fiji.plugin.trackmate.lacss.LacssMsg.Chunk.Builder getChunkBuilder() {
         
         onChanged();
-        return getLabelFieldBuilder().getBuilder();
+        return getChunkFieldBuilder().getBuilder();
       }
       /**
-       * <code>.trackmate.lacss.Label label = 2;</code>
+       * <code>.trackmate.lacss.Chunk chunk = 8;</code>
        */
-      public fiji.plugin.trackmate.lacss.LacssMsg.LabelOrBuilder getLabelOrBuilder() {
-        if (labelBuilder_ != null) {
-          return labelBuilder_.getMessageOrBuilder();
+      public fiji.plugin.trackmate.lacss.LacssMsg.ChunkOrBuilder getChunkOrBuilder() {
+        if (chunkBuilder_ != null) {
+          return chunkBuilder_.getMessageOrBuilder();
         } else {
-          return label_ == null ?
-              fiji.plugin.trackmate.lacss.LacssMsg.Label.getDefaultInstance() : label_;
+          return chunk_ == null ?
+              fiji.plugin.trackmate.lacss.LacssMsg.Chunk.getDefaultInstance() : chunk_;
         }
       }
       /**
-       * <code>.trackmate.lacss.Label label = 2;</code>
+       * <code>.trackmate.lacss.Chunk chunk = 8;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
-          fiji.plugin.trackmate.lacss.LacssMsg.Label, fiji.plugin.trackmate.lacss.LacssMsg.Label.Builder, fiji.plugin.trackmate.lacss.LacssMsg.LabelOrBuilder> 
-          getLabelFieldBuilder() {
-        if (labelBuilder_ == null) {
-          labelBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              fiji.plugin.trackmate.lacss.LacssMsg.Label, fiji.plugin.trackmate.lacss.LacssMsg.Label.Builder, fiji.plugin.trackmate.lacss.LacssMsg.LabelOrBuilder>(
-                  getLabel(),
+          fiji.plugin.trackmate.lacss.LacssMsg.Chunk, fiji.plugin.trackmate.lacss.LacssMsg.Chunk.Builder, fiji.plugin.trackmate.lacss.LacssMsg.ChunkOrBuilder> 
+          getChunkFieldBuilder() {
+        if (chunkBuilder_ == null) {
+          chunkBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              fiji.plugin.trackmate.lacss.LacssMsg.Chunk, fiji.plugin.trackmate.lacss.LacssMsg.Chunk.Builder, fiji.plugin.trackmate.lacss.LacssMsg.ChunkOrBuilder>(
+                  getChunk(),
                   getParentForChildren(),
                   isClean());
-          label_ = null;
+          chunk_ = null;
         }
-        return labelBuilder_;
+        return chunkBuilder_;
+      }
+
+      private boolean cancelled_ ;
+      /**
+       * <pre>
+       * acknowledges a Cancel, instead of the result of the frame
+       * </pre>
+       *
+       * <code>bool cancelled = 9;</code>
+       * @return The cancelled.
+       */
+      @java.lang.Override
+      public boolean getCancelled() {
+        return cancelled_;
+      }
+      /**
+       * <pre>
+       * acknowledges a Cancel, instead of the result of the frame
+       * </pre>
+       *
+       * <code>bool cancelled = 9;</code>
+       * @param value The cancelled to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCancelled(boolean value) {
+        
+        cancelled_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * acknowledges a Cancel, instead of the result of the frame
+       * </pre>
+       *
+       * <code>bool cancelled = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCancelled() {
+        
+        cancelled_ = false;
+        onChanged();
+        return this;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -4074,16 +14961,46 @@ public final class LacssMsg {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_trackmate_lacss_Settings_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_trackmate_lacss_Hello_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_trackmate_lacss_Hello_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_trackmate_lacss_ServerHello_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_trackmate_lacss_ServerHello_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_trackmate_lacss_Configure_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_trackmate_lacss_Configure_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_trackmate_lacss_Input_descriptor;
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_trackmate_lacss_Input_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_trackmate_lacss_Cancel_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_trackmate_lacss_Cancel_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_trackmate_lacss_Label_descriptor;
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_trackmate_lacss_Label_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_trackmate_lacss_Chunk_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_trackmate_lacss_Chunk_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_trackmate_lacss_Instance_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_trackmate_lacss_Instance_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_trackmate_lacss_Result_descriptor;
   private static final 
@@ -4098,22 +15015,68 @@ public final class LacssMsg {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\013lacss.proto\022\017trackmate.lacss\"l\n\005Image\022" +
-      "\016\n\006height\030\001 \001(\004\022\r\n\005width\030\002 \001(\004\022\017\n\007channe" +
-      "l\030\003 \001(\004\022%\n\005dtype\030\004 \001(\0162\026.trackmate.lacss" +
-      ".DType\022\014\n\004data\030\005 \001(\014\"\235\001\n\010Settings\022\025\n\rmin" +
-      "_cell_area\030\001 \001(\002\022\033\n\023remove_out_of_bound\030" +
-      "\002 \001(\010\022\017\n\007scaling\030\003 \001(\002\022\017\n\007nms_iou\030\004 \001(\002\022" +
-      "\033\n\023detection_threshold\030\005 \001(\002\022\036\n\026segmenta" +
-      "tion_threshold\030\006 \001(\002\"[\n\005Input\022+\n\010setting" +
-      "s\030\001 \001(\0132\031.trackmate.lacss.Settings\022%\n\005im" +
-      "age\030\002 \001(\0132\026.trackmate.lacss.Image\"4\n\005Lab" +
-      "el\022\016\n\006height\030\001 \001(\004\022\r\n\005width\030\002 \001(\004\022\014\n\004dat" +
-      "a\030\006 \001(\014\"V\n\006Result\022%\n\005score\030\001 \001(\0132\026.track" +
-      "mate.lacss.Label\022%\n\005label\030\002 \001(\0132\026.trackm" +
-      "ate.lacss.Label*\024\n\005DType\022\013\n\007FLOAT32\020\000B\'\n" +
-      "\033fiji.plugin.trackmate.lacssB\010LacssMsgb\006" +
-      "proto3"
+      "\n\013lacss.proto\022\017trackmate.lacss\"\355\001\n\005Image" +
+      "\022\016\n\006height\030\001 \001(\004\022\r\n\005width\030\002 \001(\004\022\017\n\007chann" +
+      "el\030\003 \001(\004\022%\n\005dtype\030\004 \001(\0162\026.trackmate.lacs" +
+      "s.DType\022\014\n\004data\030\005 \001(\014\022\025\n\rlittle_endian\030\006" +
+      " \001(\010\022\020\n\010shm_path\030\007 \001(\t\022\022\n\nshm_offset\030\010 \001" +
+      "(\004\022\017\n\007chunked\030\t \001(\010\0221\n\013compression\030\n \001(\016" +
+      "2\034.trackmate.lacss.Compression\"\235\001\n\010Setti" +
+      "ngs\022\025\n\rmin_cell_area\030\001 \001(\002\022\033\n\023remove_out" +
+      "_of_bound\030\002 \001(\010\022\017\n\007scaling\030\003 \001(\002\022\017\n\007nms_" +
+      "iou\030\004 \001(\002\022\033\n\023detection_threshold\030\005 \001(\002\022\036" +
+      "\n\026segmentation_threshold\030\006 \001(\002\"\204\001\n\005Hello" +
+      "\022\030\n\020protocol_version\030\001 \001(\r\022\025\n\ruint32_lab" +
+      "els\030\002 \001(\010\022\027\n\017chunked_results\030\003 \001(\010\022\022\n\nrl" +
+      "e_labels\030\004 \001(\010\022\016\n\006daemon\030\005 \001(\010\022\r\n\005token\030" +
+      "\006 \001(\t\"\251\002\n\013ServerHello\022\030\n\020protocol_versio" +
+      "n\030\001 \001(\r\022&\n\006dtypes\030\002 \003(\0162\026.trackmate.lacs" +
+      "s.DType\022\025\n\rlittle_endian\030\003 \001(\010\022\025\n\rshared" +
+      "_memory\030\004 \001(\010\022\023\n\013request_ids\030\005 \001(\010\022\026\n\016ma" +
+      "x_batch_size\030\006 \001(\r\022\026\n\016sparse_results\030\007 \001" +
+      "(\010\022\027\n\017polygon_results\030\010 \001(\010\022\026\n\016chunked_f" +
+      "rames\030\t \001(\010\022\014\n\004port\030\n \001(\r\022\026\n\016deflate_ima" +
+      "ges\030\013 \001(\010\022\016\n\006cancel\030\014 \001(\010\"M\n\tConfigure\022\023" +
+      "\n\013settings_id\030\001 \001(\r\022+\n\010settings\030\002 \001(\0132\031." +
+      "trackmate.lacss.Settings\"\251\003\n\005Input\022+\n\010se" +
+      "ttings\030\001 \001(\0132\031.trackmate.lacss.Settings\022" +
+      "%\n\005image\030\002 \001(\0132\026.trackmate.lacss.Image\022\027" +
+      "\n\017result_shm_path\030\003 \001(\t\022\022\n\nrequest_id\030\004 " +
+      "\001(\004\022\023\n\013settings_id\030\005 \001(\r\022%\n\005hello\030\006 \001(\0132" +
+      "\026.trackmate.lacss.Hello\022-\n\tconfigure\030\007 \001" +
+      "(\0132\032.trackmate.lacss.Configure\0224\n\rresult" +
+      "_format\030\010 \001(\0162\035.trackmate.lacss.ResultFo" +
+      "rmat\022.\n\nscore_mode\030\t \001(\0162\032.trackmate.lac" +
+      "ss.ScoreMode\022%\n\005chunk\030\n \001(\0132\026.trackmate." +
+      "lacss.Chunk\022\'\n\006cancel\030\013 \001(\0132\027.trackmate." +
+      "lacss.Cancel\"\034\n\006Cancel\022\022\n\nrequest_id\030\001 \001" +
+      "(\004\"\337\001\n\005Label\022\016\n\006height\030\001 \001(\004\022\r\n\005width\030\002 " +
+      "\001(\004\022\025\n\rlittle_endian\030\003 \001(\010\022(\n\004type\030\004 \001(\016" +
+      "2\032.trackmate.lacss.LabelType\022\014\n\004data\030\006 \001" +
+      "(\014\022\020\n\010shm_path\030\007 \001(\t\022\022\n\nshm_offset\030\010 \001(\004" +
+      "\022\017\n\007chunked\030\t \001(\010\0221\n\013compression\030\n \001(\0162\034" +
+      ".trackmate.lacss.Compression\"4\n\005Chunk\022\r\n" +
+      "\005field\030\001 \001(\r\022\016\n\006offset\030\002 \001(\004\022\014\n\004data\030\003 \001" +
+      "(\014\"{\n\010Instance\022\r\n\005label\030\001 \001(\r\022\n\n\002x0\030\002 \001(" +
+      "\r\022\n\n\002y0\030\003 \001(\r\022\n\n\002x1\030\004 \001(\r\022\n\n\002y1\030\005 \001(\r\022\020\n" +
+      "\010mask_rle\030\006 \003(\r\022\r\n\005score\030\007 \001(\002\022\017\n\007polygo" +
+      "n\030\010 \003(\002\"\313\002\n\006Result\022%\n\005score\030\001 \001(\0132\026.trac" +
+      "kmate.lacss.Label\022%\n\005label\030\002 \001(\0132\026.track" +
+      "mate.lacss.Label\022\022\n\nrequest_id\030\003 \001(\004\0222\n\014" +
+      "server_hello\030\004 \001(\0132\034.trackmate.lacss.Ser" +
+      "verHello\022,\n\tinstances\030\005 \003(\0132\031.trackmate." +
+      "lacss.Instance\022-\n\006format\030\006 \001(\0162\035.trackma" +
+      "te.lacss.ResultFormat\022\024\n\014label_scores\030\007 " +
+      "\003(\002\022%\n\005chunk\030\010 \001(\0132\026.trackmate.lacss.Chu" +
+      "nk\022\021\n\tcancelled\030\t \001(\010*8\n\005DType\022\013\n\007FLOAT3" +
+      "2\020\000\022\t\n\005UINT8\020\001\022\n\n\006UINT16\020\002\022\013\n\007FLOAT16\020\003*" +
+      "2\n\014ResultFormat\022\t\n\005DENSE\020\000\022\n\n\006SPARSE\020\001\022\013" +
+      "\n\007POLYGON\020\002*\"\n\tLabelType\022\t\n\005INT16\020\000\022\n\n\006U" +
+      "INT32\020\001*-\n\013Compression\022\010\n\004NONE\020\000\022\013\n\007DEFL" +
+      "ATE\020\001\022\007\n\003RLE\020\002*A\n\tScoreMode\022\017\n\013SCORE_IMA" +
+      "GE\020\000\022\023\n\017SCORE_PER_LABEL\020\001\022\016\n\nSCORE_NONE\020" +
+      "\002B\'\n\033fiji.plugin.trackmate.lacssB\010LacssM" +
+      "sgb\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -4124,31 +15087,67 @@ public final class LacssMsg {
     internal_static_trackmate_lacss_Image_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_trackmate_lacss_Image_descriptor,
-        new java.lang.String[] { "Height", "Width", "Channel", "Dtype", "Data", });
+        new java.lang.String[] { "Height", "Width", "Channel", "Dtype", "Data", "LittleEndian", "ShmPath", "ShmOffset", "Chunked", "Compression", });
     internal_static_trackmate_lacss_Settings_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_trackmate_lacss_Settings_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_trackmate_lacss_Settings_descriptor,
         new java.lang.String[] { "MinCellArea", "RemoveOutOfBound", "Scaling", "NmsIou", "DetectionThreshold", "SegmentationThreshold", });
-    internal_static_trackmate_lacss_Input_descriptor =
+    internal_static_trackmate_lacss_Hello_descriptor =
       getDescriptor().getMessageTypes().get(2);
+    internal_static_trackmate_lacss_Hello_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_trackmate_lacss_Hello_descriptor,
+        new java.lang.String[] { "ProtocolVersion", "Uint32Labels", "ChunkedResults", "RleLabels", "Daemon", "Token", });
+    internal_static_trackmate_lacss_ServerHello_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_trackmate_lacss_ServerHello_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_trackmate_lacss_ServerHello_descriptor,
+        new java.lang.String[] { "ProtocolVersion", "Dtypes", "LittleEndian", "SharedMemory", "RequestIds", "MaxBatchSize", "SparseResults", "PolygonResults", "ChunkedFrames", "Port", "DeflateImages", "Cancel", });
+    internal_static_trackmate_lacss_Configure_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_trackmate_lacss_Configure_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_trackmate_lacss_Configure_descriptor,
+        new java.lang.String[] { "SettingsId", "Settings", });
+    internal_static_trackmate_lacss_Input_descriptor =
+      getDescriptor().getMessageTypes().get(5);
     internal_static_trackmate_lacss_Input_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_trackmate_lacss_Input_descriptor,
-        new java.lang.String[] { "Settings", "Image", });
+        new java.lang.String[] { "Settings", "Image", "ResultShmPath", "RequestId", "SettingsId", "Hello", "Configure", "ResultFormat", "ScoreMode", "Chunk", "Cancel", });
+    internal_static_trackmate_lacss_Cancel_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_trackmate_lacss_Cancel_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_trackmate_lacss_Cancel_descriptor,
+        new java.lang.String[] { "RequestId", });
     internal_static_trackmate_lacss_Label_descriptor =
-      getDescriptor().getMessageTypes().get(3);
+      getDescriptor().getMessageTypes().get(7);
     internal_static_trackmate_lacss_Label_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_trackmate_lacss_Label_descriptor,
-        new java.lang.String[] { "Height", "Width", "Data", });
+        new java.lang.String[] { "Height", "Width", "LittleEndian", "Type", "Data", "ShmPath", "ShmOffset", "Chunked", "Compression", });
+    internal_static_trackmate_lacss_Chunk_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_trackmate_lacss_Chunk_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_trackmate_lacss_Chunk_descriptor,
+        new java.lang.String[] { "Field", "Offset", "Data", });
+    internal_static_trackmate_lacss_Instance_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_trackmate_lacss_Instance_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_trackmate_lacss_Instance_descriptor,
+        new java.lang.String[] { "Label", "X0", "Y0", "X1", "Y1", "MaskRle", "Score", "Polygon", });
     internal_static_trackmate_lacss_Result_descriptor =
-      getDescriptor().getMessageTypes().get(4);
+      getDescriptor().getMessageTypes().get(10);
     internal_static_trackmate_lacss_Result_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_trackmate_lacss_Result_descriptor,
-        new java.lang.String[] { "Score", "Label", });
+        new java.lang.String[] { "Score", "Label", "RequestId", "ServerHello", "Instances", "Format", "LabelScores", "Chunk", "Cancelled", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -0,0 +1,94 @@
+package fiji.plugin.trackmate.lacss;
+
+import java.security.SecureRandom;
+
+import fiji.plugin.trackmate.lacss.LacssMsg.DType;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
+import net.imglib2.type.numeric.integer.UnsignedShortType;
+
+/**
+ * Protocol versions, and what the hand-written stream codecs
+ * ({@link LacssInputWriter} and friends) need to know about the pixels they
+ * send.
+ * <p>
+ * Field numbers and enum values are those of the generated {@link LacssMsg}
+ * classes. Regenerate it after changing <code>lacss.proto</code>:
+ *
+ * <pre>
+ * protoc --java_out=src/main/java lacss.proto
+ * </pre>
+ */
+public final class LacssProtocol
+{
+
+	/**
+	 * The protocol version this plugin speaks. Servers that do not answer the
+	 * <code>Hello</code> handshake are assumed to speak version 1.
+	 */
+	public static final int PROTOCOL_VERSION = 2;
+
+	public static final int LEGACY_PROTOCOL_VERSION = 1;
+
+	/**
+	 * The environment variable that gives a server the token its socket
+	 * sessions must present in their <code>Hello</code>.
+	 */
+	public static final String TOKEN_ENV = "LACSS_TOKEN";
+
+	private static final SecureRandom random = new SecureRandom();
+
+	/**
+	 * Returns a new random session token, as 32 hex digits.
+	 */
+	public static String newToken()
+	{
+		final byte[] bytes = new byte[ 16 ];
+		random.nextBytes( bytes );
+		final StringBuilder token = new StringBuilder();
+		for ( final byte b : bytes )
+			token.append( String.format( "%02x", b & 0xff ) );
+		return token.toString();
+	}
+
+	/**
+	 * Returns the number of bytes of one sample of the specified dtype.
+	 *
+	 * @throws IllegalArgumentException
+	 *             for {@link DType#FLOAT16}, which this plugin never sends.
+	 */
+	public static int getBytes( final DType dtype )
+	{
+		switch ( dtype )
+		{
+		case UINT8:
+			return 1;
+		case UINT16:
+			return 2;
+		case FLOAT32:
+			return 4;
+		default:
+			throw new IllegalArgumentException( "Unsupported dtype: " + dtype );
+		}
+	}
+
+	/**
+	 * Returns the dtype a pixel type can be sent as without conversion. Types
+	 * that have no exact counterpart are widened to {@link DType#FLOAT32}.
+	 *
+	 * @param type
+	 *            an instance of the pixel type.
+	 * @return the dtype to send.
+	 */
+	public static DType nativeDType( final RealType< ? > type )
+	{
+		if ( type instanceof UnsignedByteType )
+			return DType.UINT8;
+		if ( type instanceof UnsignedShortType )
+			return DType.UINT16;
+		return DType.FLOAT32;
+	}
+
+	private LacssProtocol()
+	{}
+}
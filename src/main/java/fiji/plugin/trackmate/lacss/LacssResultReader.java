@@ -0,0 +1,787 @@
+package fiji.plugin.trackmate.lacss;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+
+import fiji.plugin.trackmate.lacss.LacssMsg.DType;
+import net.imglib2.Cursor;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.img.basictypeaccess.IntAccess;
+import net.imglib2.img.basictypeaccess.ShortAccess;
+import net.imglib2.img.cell.CellImg;
+import net.imglib2.img.cell.CellImgFactory;
+import net.imglib2.type.numeric.IntegerType;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.type.numeric.integer.ShortType;
+import net.imglib2.type.numeric.integer.UnsignedIntType;
+
+/**
+ * Reads {@link LacssMsg.Result} messages sent by the Lacss server.
+ * <p>
+ * The message is decoded field by field so that label images the server
+ * returned through shared memory (see {@link LacssSharedMemory}) can be
+ * wrapped as imglib2 images directly over the mapped file, without copying.
+ * Label images sent in the message are likewise wrapped over the message
+ * buffer, which is taken from a pool and only returned to it when the result
+ * is released (see {@link Result#release()}). Run-length encoded label
+ * images are decoded straight into the array of the label image.
+ * Label images are 16-bit signed, or 32-bit unsigned for frames with more
+ * labels than that. Label images too large for one message arrive as a
+ * sequence of <code>Chunk</code> messages and are assembled into a
+ * {@link CellImg} with cells of full rows, so that no contiguous buffer of the
+ * whole image is ever needed.
+ * Sparse and polygon results are decoded into {@link LacssInstance} records.
+ */
+public class LacssResultReader
+{
+
+	/** Target size of the cells of chunked label images. */
+	private static final long CELL_BYTES = 1L << 24;
+
+	/** How many released message buffers are kept for reuse. */
+	private static final int MAX_POOLED_BUFFERS = 4;
+
+	private final Queue< byte[] > freeBuffers = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * The decoded content of a result message.
+	 */
+	public static class Result
+	{
+
+		/** The id of the request this result answers, 0 if unknown. */
+		public final long requestId;
+
+		/** The label image, 16-bit signed or 32-bit unsigned. */
+		public final Img< ? extends IntegerType< ? > > label;
+
+		public final Img< ? extends RealType< ? > > score;
+
+		/**
+		 * The score of each label, <code>labelScores[i]</code> being that of
+		 * label <code>i + 1</code>, if the server returned per-label scores
+		 * instead of a score image; <code>null</code> otherwise.
+		 */
+		public final float[] labelScores;
+
+		/** The detected cells, for sparse results; <code>null</code> otherwise. */
+		public final List< LacssInstance > instances;
+
+		/** The server capabilities, if this answers a handshake. */
+		public final LacssServerInfo serverInfo;
+
+		/**
+		 * Whether this only acknowledges the cancellation of the request, and
+		 * carries no result.
+		 */
+		public final boolean cancelled;
+
+		public Result( final long requestId, final Img< ? extends IntegerType< ? > > label, final Img< ? extends RealType< ? > > score, final float[] labelScores, final List< LacssInstance > instances, final LacssServerInfo serverInfo, final boolean cancelled )
+		{
+			this.requestId = requestId;
+			this.label = label;
+			this.score = score;
+			this.labelScores = labelScores;
+			this.instances = instances;
+			this.serverInfo = serverInfo;
+			this.cancelled = cancelled;
+		}
+
+		/** The message buffer the images are wrapped over, if any. */
+		private byte[] buffer;
+
+		private LacssResultReader reader;
+
+		public boolean isSparse()
+		{
+			return instances != null;
+		}
+
+		/**
+		 * Hands the buffer the label and score images are wrapped over back
+		 * to the reader, for the next messages. The images must not be
+		 * accessed afterwards.
+		 */
+		public synchronized void release()
+		{
+			if ( buffer != null )
+				reader.recycle( buffer );
+			buffer = null;
+			reader = null;
+		}
+	}
+
+	/**
+	 * Reads one length-prefixed {@link LacssMsg.Result} message. Blocks until
+	 * the message is available.
+	 *
+	 * @param in
+	 *            the server output stream.
+	 * @return the decoded result.
+	 * @throws IOException
+	 *             if the message cannot be read or decoded.
+	 */
+	public Result read( final DataInputStream in ) throws IOException
+	{
+		final Message message = readMessage( in );
+		final CodedInputStream cis = message.newCodedInput();
+		final List< ChunkedLabel > chunked = new ArrayList<>();
+		long requestId = 0;
+		Img< ? extends IntegerType< ? > > label = null;
+		Img< ? extends RealType< ? > > score = null;
+		LacssServerInfo serverInfo = null;
+		final List< LacssInstance > instances = new ArrayList<>();
+		int format = LacssMsg.ResultFormat.DENSE_VALUE;
+		float[] labelScores = null;
+		int nScores = 0;
+		boolean cancelled = false;
+		while ( true )
+		{
+			final int tag = cis.readTag();
+			if ( tag == 0 )
+				break;
+
+			switch ( WireFormat.getTagFieldNumber( tag ) )
+			{
+			case LacssMsg.Result.LABEL_FIELD_NUMBER:
+				label = readLabel( cis, message, LacssMsg.Result.LABEL_FIELD_NUMBER, chunked );
+				break;
+			case LacssMsg.Result.SCORE_FIELD_NUMBER:
+				score = readLabel( cis, message, LacssMsg.Result.SCORE_FIELD_NUMBER, chunked );
+				break;
+			case LacssMsg.Result.REQUEST_ID_FIELD_NUMBER:
+				requestId = cis.readUInt64();
+				break;
+			case LacssMsg.Result.SERVER_HELLO_FIELD_NUMBER:
+				serverInfo = readServerHello( cis );
+				break;
+			case LacssMsg.Result.INSTANCES_FIELD_NUMBER:
+				instances.add( readInstance( cis ) );
+				break;
+			case LacssMsg.Result.FORMAT_FIELD_NUMBER:
+				format = cis.readEnum();
+				break;
+			case LacssMsg.Result.CANCELLED_FIELD_NUMBER:
+				cancelled = cis.readBool();
+				break;
+			case LacssMsg.Result.LABEL_SCORES_FIELD_NUMBER:
+				if ( WireFormat.getTagWireType( tag ) == WireFormat.WIRETYPE_LENGTH_DELIMITED )
+				{
+					// Packed repeated float, sized up front.
+					final int packedLength = cis.readRawVarint32();
+					final int packedLimit = cis.pushLimit( packedLength );
+					labelScores = ( labelScores == null )
+							? new float[ packedLength / Float.BYTES ]
+							: Arrays.copyOf( labelScores, nScores + packedLength / Float.BYTES );
+					while ( cis.getBytesUntilLimit() > 0 )
+						labelScores[ nScores++ ] = cis.readFloat();
+					cis.popLimit( packedLimit );
+				}
+				else
+				{
+					if ( labelScores == null )
+						labelScores = new float[ 16 ];
+					else if ( nScores == labelScores.length )
+						labelScores = Arrays.copyOf( labelScores, 2 * nScores );
+					labelScores[ nScores++ ] = cis.readFloat();
+				}
+				break;
+			default:
+				cis.skipField( tag );
+				break;
+			}
+		}
+
+		for ( final ChunkedLabel target : chunked )
+			readChunks( in, target );
+
+		if ( cancelled || format == LacssMsg.ResultFormat.SPARSE_VALUE || format == LacssMsg.ResultFormat.POLYGON_VALUE )
+		{
+			recycle( message.buffer );
+			return new Result( requestId, null, null, null, cancelled ? null : instances, serverInfo, cancelled );
+		}
+
+		if ( label == null && serverInfo == null )
+			throw new IOException( "The Lacss server returned a result without label image." );
+		if ( labelScores != null )
+			labelScores = Arrays.copyOf( labelScores, nScores );
+		final Result result = new Result( requestId, label, score, labelScores, null, serverInfo, false );
+		if ( message.aliased )
+		{
+			result.buffer = message.buffer;
+			result.reader = this;
+		}
+		else
+		{
+			recycle( message.buffer );
+		}
+		return result;
+	}
+
+	/**
+	 * Reads one length-prefixed message into a pooled buffer.
+	 */
+	private Message readMessage( final DataInputStream in ) throws IOException
+	{
+		final int size = in.readInt();
+		final byte[] buffer = acquire( size );
+		in.readFully( buffer, 0, size );
+		return new Message( buffer, size );
+	}
+
+	private byte[] acquire( final int size )
+	{
+		byte[] buffer;
+		while ( ( buffer = freeBuffers.poll() ) != null )
+			if ( buffer.length >= size )
+				return buffer;
+		// Too small buffers are dropped, results of a session have similar sizes.
+		return new byte[ size ];
+	}
+
+	private void recycle( final byte[] buffer )
+	{
+		if ( freeBuffers.size() < MAX_POOLED_BUFFERS )
+			freeBuffers.add( buffer );
+	}
+
+	/**
+	 * Reads the <code>Chunk</code> messages of one chunked label image, which
+	 * the server sends right after the result that holds its header.
+	 */
+	private void readChunks( final DataInputStream in, final ChunkedLabel target ) throws IOException
+	{
+		while ( target.remaining() > 0 )
+		{
+			final Message message = readMessage( in );
+			final CodedInputStream cis = message.newCodedInput();
+			boolean found = false;
+			while ( true )
+			{
+				final int tag = cis.readTag();
+				if ( tag == 0 )
+					break;
+
+				if ( WireFormat.getTagFieldNumber( tag ) == LacssMsg.Result.CHUNK_FIELD_NUMBER )
+				{
+					readChunk( cis, message.buffer, target );
+					found = true;
+				}
+				else
+				{
+					cis.skipField( tag );
+				}
+			}
+			if ( !found )
+				throw new IOException( "Expected a chunk of label image, " + target.remaining() + " bytes still missing." );
+			recycle( message.buffer );
+		}
+	}
+
+	private static void readChunk( final CodedInputStream cis, final byte[] buffer, final ChunkedLabel target ) throws IOException
+	{
+		final int length = cis.readRawVarint32();
+		final int oldLimit = cis.pushLimit( length );
+
+		int field = 0;
+		long offset = 0;
+		int dataOffset = 0;
+		int dataLength = 0;
+		while ( true )
+		{
+			final int tag = cis.readTag();
+			if ( tag == 0 )
+				break;
+
+			switch ( WireFormat.getTagFieldNumber( tag ) )
+			{
+			case LacssMsg.Chunk.FIELD_FIELD_NUMBER:
+				field = cis.readUInt32();
+				break;
+			case LacssMsg.Chunk.OFFSET_FIELD_NUMBER:
+				offset = cis.readUInt64();
+				break;
+			case LacssMsg.Chunk.DATA_FIELD_NUMBER:
+				dataLength = cis.readRawVarint32();
+				dataOffset = cis.getTotalBytesRead();
+				cis.skipRawBytes( dataLength );
+				break;
+			default:
+				cis.skipField( tag );
+				break;
+			}
+		}
+		cis.popLimit( oldLimit );
+
+		if ( field != target.field || offset != target.received )
+			throw new IOException( "Unexpected chunk of field " + field + " at offset " + offset + ", expected field "
+					+ target.field + " at offset " + target.received + "." );
+		target.put( ByteBuffer.wrap( buffer, dataOffset, dataLength ) );
+	}
+
+	private static LacssInstance readInstance( final CodedInputStream cis ) throws IOException
+	{
+		final int length = cis.readRawVarint32();
+		final int oldLimit = cis.pushLimit( length );
+
+		int label = 0;
+		int x0 = 0;
+		int y0 = 0;
+		int x1 = 0;
+		int y1 = 0;
+		int[] rle = new int[ 16 ];
+		int nRuns = 0;
+		float score = 0f;
+		float[] polygon = null;
+		int nCoords = 0;
+		while ( true )
+		{
+			final int tag = cis.readTag();
+			if ( tag == 0 )
+				break;
+
+			switch ( WireFormat.getTagFieldNumber( tag ) )
+			{
+			case LacssMsg.Instance.LABEL_FIELD_NUMBER:
+				label = cis.readUInt32();
+				break;
+			case LacssMsg.Instance.X0_FIELD_NUMBER:
+				x0 = cis.readUInt32();
+				break;
+			case LacssMsg.Instance.Y0_FIELD_NUMBER:
+				y0 = cis.readUInt32();
+				break;
+			case LacssMsg.Instance.X1_FIELD_NUMBER:
+				x1 = cis.readUInt32();
+				break;
+			case LacssMsg.Instance.Y1_FIELD_NUMBER:
+				y1 = cis.readUInt32();
+				break;
+			case LacssMsg.Instance.MASK_RLE_FIELD_NUMBER:
+				if ( WireFormat.getTagWireType( tag ) == WireFormat.WIRETYPE_LENGTH_DELIMITED )
+				{
+					// Packed repeated uint32.
+					final int packedLimit = cis.pushLimit( cis.readRawVarint32() );
+					while ( cis.getBytesUntilLimit() > 0 )
+					{
+						if ( nRuns == rle.length )
+							rle = Arrays.copyOf( rle, 2 * nRuns );
+						rle[ nRuns++ ] = cis.readUInt32();
+					}
+					cis.popLimit( packedLimit );
+				}
+				else
+				{
+					if ( nRuns == rle.length )
+						rle = Arrays.copyOf( rle, 2 * nRuns );
+					rle[ nRuns++ ] = cis.readUInt32();
+				}
+				break;
+			case LacssMsg.Instance.SCORE_FIELD_NUMBER:
+				score = cis.readFloat();
+				break;
+			case LacssMsg.Instance.POLYGON_FIELD_NUMBER:
+				if ( WireFormat.getTagWireType( tag ) == WireFormat.WIRETYPE_LENGTH_DELIMITED )
+				{
+					// Packed repeated float, sized up front.
+					final int packedLength = cis.readRawVarint32();
+					final int packedLimit = cis.pushLimit( packedLength );
+					polygon = ( polygon == null )
+							? new float[ packedLength / Float.BYTES ]
+							: Arrays.copyOf( polygon, nCoords + packedLength / Float.BYTES );
+					while ( cis.getBytesUntilLimit() > 0 )
+						polygon[ nCoords++ ] = cis.readFloat();
+					cis.popLimit( packedLimit );
+				}
+				else
+				{
+					if ( polygon == null )
+						polygon = new float[ 16 ];
+					else if ( nCoords == polygon.length )
+						polygon = Arrays.copyOf( polygon, 2 * nCoords );
+					polygon[ nCoords++ ] = cis.readFloat();
+				}
+				break;
+			default:
+				cis.skipField( tag );
+				break;
+			}
+		}
+		cis.popLimit( oldLimit );
+
+		final float[] vertices = ( polygon == null ) ? null : Arrays.copyOf( polygon, nCoords );
+		return new LacssInstance( label, x0, y0, x1, y1, Arrays.copyOf( rle, nRuns ), vertices, score );
+	}
+
+	private static LacssServerInfo readServerHello( final CodedInputStream cis ) throws IOException
+	{
+		final int length = cis.readRawVarint32();
+		final int oldLimit = cis.pushLimit( length );
+
+		int protocolVersion = LacssProtocol.LEGACY_PROTOCOL_VERSION;
+		final EnumSet< DType > dtypes = EnumSet.of( DType.FLOAT32 );
+		boolean littleEndian = false;
+		boolean sharedMemory = false;
+		boolean requestIds = false;
+		int maxBatchSize = 0;
+		boolean sparseResults = false;
+		boolean polygonResults = false;
+		boolean chunkedFrames = false;
+		int port = 0;
+		boolean deflateImages = false;
+		boolean cancel = false;
+		while ( true )
+		{
+			final int tag = cis.readTag();
+			if ( tag == 0 )
+				break;
+
+			switch ( WireFormat.getTagFieldNumber( tag ) )
+			{
+			case LacssMsg.ServerHello.PROTOCOL_VERSION_FIELD_NUMBER:
+				protocolVersion = cis.readUInt32();
+				break;
+			case LacssMsg.ServerHello.DTYPES_FIELD_NUMBER:
+				if ( WireFormat.getTagWireType( tag ) == WireFormat.WIRETYPE_LENGTH_DELIMITED )
+				{
+					// Packed repeated enum.
+					final int packedLimit = cis.pushLimit( cis.readRawVarint32() );
+					while ( cis.getBytesUntilLimit() > 0 )
+						addDType( dtypes, cis.readEnum() );
+					cis.popLimit( packedLimit );
+				}
+				else
+				{
+					addDType( dtypes, cis.readEnum() );
+				}
+				break;
+			case LacssMsg.ServerHello.LITTLE_ENDIAN_FIELD_NUMBER:
+				littleEndian = cis.readBool();
+				break;
+			case LacssMsg.ServerHello.SHARED_MEMORY_FIELD_NUMBER:
+				sharedMemory = cis.readBool();
+				break;
+			case LacssMsg.ServerHello.REQUEST_IDS_FIELD_NUMBER:
+				requestIds = cis.readBool();
+				break;
+			case LacssMsg.ServerHello.MAX_BATCH_SIZE_FIELD_NUMBER:
+				maxBatchSize = cis.readUInt32();
+				break;
+			case LacssMsg.ServerHello.SPARSE_RESULTS_FIELD_NUMBER:
+				sparseResults = cis.readBool();
+				break;
+			case LacssMsg.ServerHello.POLYGON_RESULTS_FIELD_NUMBER:
+				polygonResults = cis.readBool();
+				break;
+			case LacssMsg.ServerHello.CHUNKED_FRAMES_FIELD_NUMBER:
+				chunkedFrames = cis.readBool();
+				break;
+			case LacssMsg.ServerHello.PORT_FIELD_NUMBER:
+				port = cis.readUInt32();
+				break;
+			case LacssMsg.ServerHello.DEFLATE_IMAGES_FIELD_NUMBER:
+				deflateImages = cis.readBool();
+				break;
+			case LacssMsg.ServerHello.CANCEL_FIELD_NUMBER:
+				cancel = cis.readBool();
+				break;
+			default:
+				cis.skipField( tag );
+				break;
+			}
+		}
+		cis.popLimit( oldLimit );
+
+		return new LacssServerInfo( protocolVersion, dtypes, littleEndian, sharedMemory, requestIds, maxBatchSize, sparseResults, polygonResults, chunkedFrames, port, deflateImages, cancel );
+	}
+
+	private static void addDType( final EnumSet< DType > dtypes, final int number )
+	{
+		final DType dtype = DType.forNumber( number );
+		if ( dtype != null )
+			dtypes.add( dtype );
+	}
+
+	private static Img< ? extends IntegerType< ? > > readLabel( final CodedInputStream cis, final Message message, final int resultField, final List< ChunkedLabel > chunked ) throws IOException
+	{
+		final int length = cis.readRawVarint32();
+		final int oldLimit = cis.pushLimit( length );
+
+		long height = 0;
+		long width = 0;
+		boolean littleEndian = false;
+		int type = LacssMsg.LabelType.INT16_VALUE;
+		int dataOffset = 0;
+		int dataLength = 0;
+		String shmPath = "";
+		long shmOffset = 0;
+		boolean isChunked = false;
+		int compression = LacssMsg.Compression.NONE_VALUE;
+		while ( true )
+		{
+			final int tag = cis.readTag();
+			if ( tag == 0 )
+				break;
+
+			switch ( WireFormat.getTagFieldNumber( tag ) )
+			{
+			case LacssMsg.Label.HEIGHT_FIELD_NUMBER:
+				height = cis.readUInt64();
+				break;
+			case LacssMsg.Label.WIDTH_FIELD_NUMBER:
+				width = cis.readUInt64();
+				break;
+			case LacssMsg.Label.LITTLE_ENDIAN_FIELD_NUMBER:
+				littleEndian = cis.readBool();
+				break;
+			case LacssMsg.Label.TYPE_FIELD_NUMBER:
+				type = cis.readEnum();
+				break;
+			case LacssMsg.Label.DATA_FIELD_NUMBER:
+				dataLength = cis.readRawVarint32();
+				dataOffset = cis.getTotalBytesRead();
+				cis.skipRawBytes( dataLength );
+				break;
+			case LacssMsg.Label.SHM_PATH_FIELD_NUMBER:
+				shmPath = cis.readString();
+				break;
+			case LacssMsg.Label.SHM_OFFSET_FIELD_NUMBER:
+				shmOffset = cis.readUInt64();
+				break;
+			case LacssMsg.Label.CHUNKED_FIELD_NUMBER:
+				isChunked = cis.readBool();
+				break;
+			case LacssMsg.Label.COMPRESSION_FIELD_NUMBER:
+				compression = cis.readEnum();
+				break;
+			default:
+				cis.skipField( tag );
+				break;
+			}
+		}
+		cis.popLimit( oldLimit );
+
+		final ByteOrder order = littleEndian ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+		// X first, like the frames sent and the labelings built from them.
+		final long[] dims = new long[] { width, height };
+		final long nPixels = height * width;
+		final boolean uint32 = type == LacssMsg.LabelType.UINT32_VALUE;
+		final int bytes = uint32 ? Integer.BYTES : Short.BYTES;
+		if ( compression != LacssMsg.Compression.NONE_VALUE
+				&& ( compression != LacssMsg.Compression.RLE_VALUE || isChunked || !shmPath.isEmpty() ) )
+			throw new IOException( "Unsupported label image compression: " + compression + "." );
+
+		if ( isChunked )
+		{
+			// Cells of full rows, so that cell order is the flat order of the data.
+			final int rowsPerCell = ( int ) Math.max( 1, Math.min( dims[ 1 ], CELL_BYTES / ( dims[ 0 ] * bytes ) ) );
+			final int[] cellDims = new int[] { ( int ) dims[ 0 ], rowsPerCell };
+			final CellImg< ? extends IntegerType< ? >, ? > img;
+			if ( uint32 )
+				img = new CellImgFactory<>( new UnsignedIntType(), cellDims ).create( dims );
+			else
+				img = new CellImgFactory<>( new ShortType(), cellDims ).create( dims );
+			chunked.add( new ChunkedLabel( resultField, img.cursor(), nPixels * bytes, order, uint32 ) );
+			return img;
+		}
+
+		if ( !shmPath.isEmpty() )
+		{
+			final ByteBuffer mapped = LacssSharedMemory.mapResult( shmPath, shmOffset, nPixels * bytes, order );
+			return uint32
+					? ArrayImgs.unsignedInts( new IntBufferAccess( mapped ), dims )
+					: ArrayImgs.shorts( new ShortBufferAccess( mapped ), dims );
+		}
+
+		if ( compression == LacssMsg.Compression.RLE_VALUE )
+			return decodeRle( message.buffer, dataOffset, dataLength, dims, uint32 );
+
+		if ( dataLength != nPixels * bytes )
+			throw new IOException( "Label image has " + dataLength + " bytes, expected " + ( nPixels * bytes ) + "." );
+
+		// Wrapped over the message buffer, no copy.
+		final ByteBuffer data = ByteBuffer.wrap( message.buffer, dataOffset, dataLength ).slice().order( order );
+		message.aliased = true;
+		return uint32
+				? ArrayImgs.unsignedInts( new IntBufferAccess( data ), dims )
+				: ArrayImgs.shorts( new ShortBufferAccess( data ), dims );
+	}
+
+	/**
+	 * Decodes varint (run length, value) pairs into a new label image.
+	 */
+	private static Img< ? extends IntegerType< ? > > decodeRle( final byte[] buffer, final int offset, final int length, final long[] dims, final boolean uint32 ) throws IOException
+	{
+		final int nPixels = ( int ) ( dims[ 0 ] * dims[ 1 ] );
+		final short[] shorts = uint32 ? null : new short[ nPixels ];
+		final int[] ints = uint32 ? new int[ nPixels ] : null;
+
+		final CodedInputStream rle = CodedInputStream.newInstance( buffer, offset, length );
+		int pos = 0;
+		while ( !rle.isAtEnd() )
+		{
+			final int run = rle.readUInt32();
+			final int value = rle.readUInt32();
+			if ( run < 0 || run > nPixels - pos )
+				throw new IOException( "RLE label image overflows the image at pixel " + pos + "." );
+			// Runs of background are already zero.
+			if ( value != 0 )
+			{
+				if ( uint32 )
+					Arrays.fill( ints, pos, pos + run, value );
+				else
+					Arrays.fill( shorts, pos, pos + run, ( short ) value );
+			}
+			pos += run;
+		}
+		if ( pos != nPixels )
+			throw new IOException( "RLE label image has " + pos + " pixels, expected " + nPixels + "." );
+
+		return uint32 ? ArrayImgs.unsignedInts( ints, dims ) : ArrayImgs.shorts( shorts, dims );
+	}
+
+	/**
+	 * A chunked label image being filled, pixel by pixel, in flat order.
+	 */
+	private static class ChunkedLabel
+	{
+
+		private final int field;
+
+		private final Cursor< ? extends IntegerType< ? > > cursor;
+
+		private final long size;
+
+		private final ByteOrder order;
+
+		private final boolean uint32;
+
+		private long received;
+
+		private ChunkedLabel( final int field, final Cursor< ? extends IntegerType< ? > > cursor, final long size, final ByteOrder order, final boolean uint32 )
+		{
+			this.field = field;
+			this.cursor = cursor;
+			this.size = size;
+			this.order = order;
+			this.uint32 = uint32;
+		}
+
+		private long remaining()
+		{
+			return size - received;
+		}
+
+		private void put( final ByteBuffer data ) throws IOException
+		{
+			if ( data.remaining() > remaining() )
+				throw new IOException( "Label image chunk overflows the image by " + ( data.remaining() - remaining() ) + " bytes." );
+			if ( data.remaining() % ( uint32 ? Integer.BYTES : Short.BYTES ) != 0 )
+				throw new IOException( "Label image chunk splits a pixel." );
+
+			received += data.remaining();
+			data.order( order );
+			if ( uint32 )
+			{
+				while ( data.hasRemaining() )
+					cursor.next().setInteger( data.getInt() & 0xffffffffL );
+			}
+			else
+			{
+				while ( data.hasRemaining() )
+					cursor.next().setInteger( data.getShort() );
+			}
+		}
+	}
+
+	/**
+	 * A message read into a pooled buffer.
+	 */
+	private static class Message
+	{
+
+		private final byte[] buffer;
+
+		private final int size;
+
+		/** Whether an image was wrapped over the buffer. */
+		private boolean aliased;
+
+		private Message( final byte[] buffer, final int size )
+		{
+			this.buffer = buffer;
+			this.size = size;
+		}
+
+		private CodedInputStream newCodedInput()
+		{
+			return CodedInputStream.newInstance( buffer, 0, size );
+		}
+	}
+
+	/**
+	 * 16-bit labels read in place from a buffer, in the byte order of the
+	 * buffer.
+	 */
+	private static final class ShortBufferAccess implements ShortAccess
+	{
+
+		private final ByteBuffer buffer;
+
+		private ShortBufferAccess( final ByteBuffer buffer )
+		{
+			this.buffer = buffer;
+		}
+
+		@Override
+		public short getValue( final int index )
+		{
+			return buffer.getShort( index * Short.BYTES );
+		}
+
+		@Override
+		public void setValue( final int index, final short value )
+		{
+			buffer.putShort( index * Short.BYTES, value );
+		}
+	}
+
+	/**
+	 * 32-bit labels read in place from a buffer, in the byte order of the
+	 * buffer.
+	 */
+	private static final class IntBufferAccess implements IntAccess
+	{
+
+		private final ByteBuffer buffer;
+
+		private IntBufferAccess( final ByteBuffer buffer )
+		{
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int getValue( final int index )
+		{
+			return buffer.getInt( index * Integer.BYTES );
+		}
+
+		@Override
+		public void setValue( final int index, final int value )
+		{
+			buffer.putInt( index * Integer.BYTES, value );
+		}
+	}
+}
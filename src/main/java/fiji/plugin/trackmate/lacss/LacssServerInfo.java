@@ -0,0 +1,198 @@
+package fiji.plugin.trackmate.lacss;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import fiji.plugin.trackmate.lacss.LacssMsg.DType;
+
+/**
+ * What a Lacss server reported about itself in its <code>ServerHello</code>:
+ * protocol version and optional capabilities. Servers that predate the
+ * handshake are described by {@link #LEGACY}.
+ */
+public class LacssServerInfo
+{
+
+	/** A server that does not speak the handshake. */
+	public static final LacssServerInfo LEGACY = new LacssServerInfo(
+			LacssProtocol.LEGACY_PROTOCOL_VERSION,
+			EnumSet.of( DType.FLOAT32 ),
+			false,
+			false,
+			false,
+			0,
+			false,
+			false,
+			false,
+			0,
+			false,
+			false );
+
+	private final int protocolVersion;
+
+	private final Set< DType > dtypes;
+
+	private final boolean littleEndian;
+
+	private final boolean sharedMemory;
+
+	private final boolean requestIds;
+
+	private final int maxBatchSize;
+
+	private final boolean sparseResults;
+
+	private final boolean polygonResults;
+
+	private final boolean chunkedFrames;
+
+	private final int port;
+
+	private final boolean deflateImages;
+
+	private final boolean cancel;
+
+	public LacssServerInfo(
+			final int protocolVersion,
+			final Set< DType > dtypes,
+			final boolean littleEndian,
+			final boolean sharedMemory,
+			final boolean requestIds,
+			final int maxBatchSize,
+			final boolean sparseResults,
+			final boolean polygonResults,
+			final boolean chunkedFrames,
+			final int port,
+			final boolean deflateImages,
+			final boolean cancel )
+	{
+		this.protocolVersion = protocolVersion;
+		final EnumSet< DType > set = EnumSet.of( DType.FLOAT32 );
+		set.addAll( dtypes );
+		this.dtypes = Collections.unmodifiableSet( set );
+		this.littleEndian = littleEndian;
+		this.sharedMemory = sharedMemory;
+		this.requestIds = requestIds;
+		this.maxBatchSize = maxBatchSize;
+		this.sparseResults = sparseResults;
+		this.polygonResults = polygonResults;
+		this.chunkedFrames = chunkedFrames;
+		this.port = port;
+		this.deflateImages = deflateImages;
+		this.cancel = cancel;
+	}
+
+	public int getProtocolVersion()
+	{
+		return protocolVersion;
+	}
+
+	/**
+	 * Returns <code>true</code> if the server answered the handshake, and
+	 * thus accepts <code>Configure</code> messages and settings ids.
+	 */
+	public boolean hasSessions()
+	{
+		return protocolVersion >= LacssProtocol.PROTOCOL_VERSION;
+	}
+
+	/**
+	 * Returns the image dtypes the server accepts. Always contains
+	 * {@link DType#FLOAT32}.
+	 */
+	public Set< DType > getDTypes()
+	{
+		return dtypes;
+	}
+
+	public boolean supportsLittleEndian()
+	{
+		return littleEndian;
+	}
+
+	public boolean supportsSharedMemory()
+	{
+		return sharedMemory;
+	}
+
+	public boolean supportsRequestIds()
+	{
+		return requestIds;
+	}
+
+	public int getMaxBatchSize()
+	{
+		return maxBatchSize;
+	}
+
+	public boolean supportsSparseResults()
+	{
+		return sparseResults;
+	}
+
+	public boolean supportsPolygonResults()
+	{
+		return polygonResults;
+	}
+
+	/**
+	 * Returns <code>true</code> if the server accepts frames sent as a
+	 * sequence of chunks, and can thus receive frames larger than one message.
+	 */
+	public boolean supportsChunkedFrames()
+	{
+		return chunkedFrames;
+	}
+
+	/**
+	 * Returns the loopback port on which the server accepts more sessions, or
+	 * 0 if it only talks through its process pipes.
+	 */
+	public int getPort()
+	{
+		return port;
+	}
+
+	public boolean supportsDeflateImages()
+	{
+		return deflateImages;
+	}
+
+	/**
+	 * Returns <code>true</code> if frames sent can be cancelled with a
+	 * <code>Cancel</code> message.
+	 */
+	public boolean supportsCancel()
+	{
+		return cancel;
+	}
+
+	/**
+	 * Returns the dtype to send a pixel type as: its native dtype if the
+	 * server accepts it, float32 otherwise.
+	 */
+	public DType dtypeFor( final DType nativeDType )
+	{
+		if ( dtypes.contains( nativeDType ) && ( LacssProtocol.getBytes( nativeDType ) == 1 || littleEndian ) )
+			return nativeDType;
+		return DType.FLOAT32;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "protocol " + protocolVersion
+				+ ", dtypes " + dtypes
+				+ ( littleEndian ? ", little-endian" : "" )
+				+ ( sharedMemory ? ", shared memory" : "" )
+				+ ( requestIds ? ", pipelining" : "" )
+				+ ( maxBatchSize > 1 ? ", batches of " + maxBatchSize : "" )
+				+ ( sparseResults ? ", sparse results" : "" )
+				+ ( polygonResults ? ", polygon results" : "" )
+				+ ( chunkedFrames ? ", chunked frames" : "" )
+				+ ( port > 0 ? ", port " + port : "" )
+				+ ( deflateImages ? ", deflate" : "" )
+				+ ( cancel ? ", cancel" : "" );
+	}
+}
@@ -0,0 +1,749 @@
+package fiji.plugin.trackmate.lacss;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import fiji.plugin.trackmate.Logger;
+import net.imagej.ImgPlus;
+import net.imagej.axis.Axes;
+import net.imagej.axis.AxisType;
+import net.imglib2.FinalInterval;
+import net.imglib2.img.ImgView;
+import net.imglib2.type.Type;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
+import net.imglib2.type.numeric.integer.UnsignedShortType;
+import net.imglib2.type.numeric.real.FloatType;
+import net.imglib2.util.ConstantUtils;
+
+/**
+ * A pool of Lacss server processes that all serve the same model.
+ * <p>
+ * Frames are spread over the servers by leasing a worker for each frame: the
+ * least loaded one is returned, and a new server is started when all running
+ * ones are busy and the pool is not full yet. Leases are not exclusive, so
+ * that several frames can be pipelined on the same server. On machines
+ * without GPU, several smaller processes usually give a better aggregate
+ * throughput than a single one.
+ * <p>
+ * New servers share the compilation cache of the {@link LacssCache}, and are
+ * warmed up in the background for the frame shapes the model was run on in
+ * earlier sessions.
+ * <p>
+ * Servers are supervised: when one dies or its stream breaks, it is replaced
+ * by a new one started in the background, and the frames that were in flight
+ * on it can be leased again and replayed.
+ * <p>
+ * Servers hold gigabytes, so they do not run forever: a server that has not
+ * been leased for the idle timeout is stopped, and one whose resident memory
+ * grew past a threshold is recycled between two frames. Stopped servers are
+ * started again on the next lease.
+ * <p>
+ * Private servers get a share of the {@link LacssThreadBudget} of the
+ * registry, shared by the servers of all the models, so
+ * that they do not compete with each other and with TrackMate for the cores.
+ */
+public class LacssServerPool
+{
+
+	/** How often idle and oversized servers are looked for, in seconds. */
+	private static final long REAP_PERIOD = 10;
+
+	private static final ScheduledExecutorService reaper = Executors.newSingleThreadScheduledExecutor( r -> {
+		final Thread t = new Thread( r, "Lacss server reaper" );
+		t.setDaemon( true );
+		return t;
+	} );
+
+	private final String modelPath;
+
+	private final String modelKey;
+
+	private final List< Worker > workers = new ArrayList<>();
+
+	private int size = 1;
+
+	/** Whether the servers predate the handshake. Found out with the first one. */
+	private volatile boolean legacy = false;
+
+	/** Number of servers being started in the background. */
+	private int starting = 0;
+
+	/** Number of background starts that failed so far. */
+	private int startFailures = 0;
+
+	/** Why the last background start failed. */
+	private RuntimeException startFailure;
+
+	/**
+	 * Whether to attach to the daemon shared by all JVMs, rather than start
+	 * private servers.
+	 */
+	private volatile boolean shared = false;
+
+	/** Where to report restarts: the logger of the last lease. */
+	private Logger logger = Logger.VOID_LOGGER;
+
+	private boolean closed = false;
+
+	/** Idle time after which a server is stopped, in ms, 0 for never. */
+	private volatile long idleTimeout = 0;
+
+	/** Resident memory past which a server is recycled, in bytes, 0 for no limit. */
+	private volatile long maxRss = 0;
+
+	/** Whether to split the cores between the servers and TrackMate. */
+	private volatile boolean threadBudget = true;
+
+	/** The cores of the machine, shared with the pools of the other models. */
+	private final LacssThreadBudget budget;
+
+	private final ScheduledFuture< ? > reaping;
+
+	/**
+	 * Creates an empty pool. Servers are started on demand.
+	 *
+	 * @param modelPath
+	 *            the path to the model file the servers load.
+	 * @param modelKey
+	 *            a key that identifies the model across sessions, usable in
+	 *            a file name.
+	 * @param budget
+	 *            the thread budget shared by the pools of all models.
+	 */
+	public LacssServerPool( final String modelPath, final String modelKey, final LacssThreadBudget budget )
+	{
+		this.modelPath = modelPath;
+		this.modelKey = modelKey;
+		this.budget = budget;
+		this.reaping = reaper.scheduleWithFixedDelay( this::reap, REAP_PERIOD, REAP_PERIOD, TimeUnit.SECONDS );
+	}
+
+	/**
+	 * Sets the maximal number of server processes. Surplus idle servers are
+	 * stopped now, busy ones when their last lease is released.
+	 *
+	 * @param size
+	 *            the pool size, at least 1.
+	 */
+	public synchronized void setSize( final int size )
+	{
+		this.size = Math.max( 1, size );
+		for ( final Worker worker : new ArrayList<>( workers ) )
+			if ( workers.size() > this.size && worker.load.get() == 0 )
+				retire( worker );
+		updateDemand();
+	}
+
+	public synchronized int getSize()
+	{
+		return size;
+	}
+
+	/**
+	 * Sets how long a server may stay without lease before it is stopped.
+	 *
+	 * @param idleTimeout
+	 *            the timeout in milliseconds, 0 to keep servers running.
+	 */
+	public void setIdleTimeout( final long idleTimeout )
+	{
+		this.idleTimeout = idleTimeout;
+	}
+
+	/**
+	 * Sets the resident memory past which a server is recycled once it has
+	 * no frame in flight. Only enforced where it can be read from
+	 * <code>/proc</code>.
+	 *
+	 * @param maxRss
+	 *            the limit in bytes, 0 for none.
+	 */
+	public void setMaxRss( final long maxRss )
+	{
+		this.maxRss = maxRss;
+	}
+
+	/**
+	 * Sets whether servers started from now on are sessions of the daemon
+	 * shared with the other JVMs of the machine, see {@link LacssDaemon},
+	 * rather than private processes.
+	 */
+	public void setShared( final boolean shared )
+	{
+		this.shared = shared;
+	}
+
+	/**
+	 * Sets whether servers started from now on get their share of the cores,
+	 * see {@link LacssThreadBudget}, rather than all of them.
+	 */
+	public void setThreadBudget( final boolean threadBudget )
+	{
+		this.threadBudget = threadBudget;
+	}
+
+	/**
+	 * Returns the number of servers running.
+	 */
+	public synchronized int getWorkerCount()
+	{
+		return workers.size();
+	}
+
+	/**
+	 * Returns the memory used by the servers running, in bytes: their
+	 * resident memory where it can be measured, an estimate otherwise.
+	 *
+	 * @param estimate
+	 *            the memory to count for a server that cannot be measured.
+	 */
+	public synchronized long getMemory( final long estimate )
+	{
+		long total = 0;
+		for ( final Worker worker : workers )
+		{
+			final long rss = worker.rss();
+			total += ( rss > 0 ) ? rss : estimate;
+		}
+		return total;
+	}
+
+	/**
+	 * Stops the servers that are not leased. The pool can still be used, and
+	 * starts servers again on demand.
+	 */
+	public synchronized void stopIdleServers()
+	{
+		for ( final Worker worker : new ArrayList<>( workers ) )
+			if ( worker.load.get() == 0 )
+				retire( worker );
+	}
+
+	public File getModelFile()
+	{
+		return new File( modelPath );
+	}
+
+	/**
+	 * Leases a server for one frame. The lease must be given back with
+	 * {@link Worker#release()} once the frame is processed or discarded.
+	 * <p>
+	 * Only servers that are up are leased. When they are all busy and the
+	 * pool is not full, another one is started in the background and the
+	 * least loaded running one is leased meanwhile. Only when no server is up
+	 * does the lease wait for one to start.
+	 *
+	 * @param logger
+	 *            where to report servers started for this lease.
+	 * @return a worker.
+	 * @throws RuntimeException
+	 *             if a server is needed and cannot be started.
+	 */
+	public synchronized Worker lease( final Logger logger )
+	{
+		if ( closed )
+			throw new RuntimeException( "The Lacss server pool is closed." );
+		this.logger = logger;
+
+		// Dead servers are left to the supervisor, see failed(), which
+		// retires and replaces them. They still count against the size.
+		final int failuresBefore = startFailures;
+		while ( true )
+		{
+			if ( closed )
+				throw new RuntimeException( "The Lacss server pool is closed." );
+
+			Worker best = null;
+			for ( final Worker worker : workers )
+				if ( worker.client.isAlive() && ( best == null || worker.load.get() < best.load.get() ) )
+					best = worker;
+
+			final boolean full = workers.size() + starting >= size;
+			if ( best != null && best.load.get() > 0 && !full )
+				startAsync();
+			if ( best != null )
+			{
+				best.load.incrementAndGet();
+				return best;
+			}
+
+			if ( startFailures != failuresBefore && starting == 0 )
+				throw startFailure;
+			if ( !full )
+				startAsync();
+			try
+			{
+				wait();
+			}
+			catch ( final InterruptedException e )
+			{
+				Thread.currentThread().interrupt();
+				throw new RuntimeException( "Interrupted while waiting for the Lacss server to start." );
+			}
+		}
+	}
+
+	/**
+	 * Starts the servers the pool will need, in the background, so that the
+	 * first frames do not wait for them. Does nothing if they are running or
+	 * starting already.
+	 *
+	 * @param logger
+	 *            where to report the servers started.
+	 */
+	public synchronized void prestart( final Logger logger )
+	{
+		if ( closed )
+			return;
+		this.logger = logger;
+		while ( workers.size() + starting < size )
+			startAsync();
+	}
+
+	/**
+	 * Starts a server in the background. The pool monitor is not held
+	 * meanwhile, so that running servers can be leased and returned, and
+	 * waiting leases are notified once it is up.
+	 */
+	private void startAsync()
+	{
+		starting++;
+		budget.setDemand( this, size );
+		final Thread thread = new Thread( () -> {
+			try
+			{
+				started( launch(), null );
+			}
+			catch ( final RuntimeException e )
+			{
+				started( null, e );
+			}
+		}, "Lacss server start" );
+		thread.setDaemon( true );
+		thread.start();
+	}
+
+	private synchronized void started( final Worker worker, final RuntimeException error )
+	{
+		starting--;
+		if ( worker == null )
+		{
+			updateDemand();
+			startFailures++;
+			startFailure = error;
+			logger.error( "Could not start the Lacss server: " + error.getMessage() + "\n" );
+		}
+		else if ( closed )
+		{
+			retire( worker );
+		}
+		else
+		{
+			add( worker );
+			logger.log( "Started Lacss server " + workers.size() + "/" + size + ": " + worker.client.getServerInfo() + ".\n" );
+		}
+		notifyAll();
+	}
+
+	/**
+	 * Adds a started server to the pool, and watches it.
+	 */
+	private void add( final Worker worker )
+	{
+		workers.add( worker );
+		worker.client.whenFailed().thenRun( () -> failed( worker ) );
+		warmUp( worker );
+	}
+
+	/**
+	 * Called when the session of a server breaks. Unless the server was
+	 * retired on purpose, replaces it with a new one, started in the
+	 * background.
+	 */
+	private synchronized void failed( final Worker worker )
+	{
+		if ( !workers.contains( worker ) )
+			return;
+		retire( worker );
+		notifyAll();
+		if ( closed )
+			return;
+
+		logger.log( "Lacss server died, restarting it.\n" );
+		startAsync();
+	}
+
+	/**
+	 * Starts the server process of a model.
+	 *
+	 * @param modelPath
+	 *            the path to the model file.
+	 * @param share
+	 *            the share of the cores of the server, <code>null</code> to
+	 *            let it use all of them.
+	 * @param token
+	 *            the token its socket sessions must present, see
+	 *            {@link LacssProtocol#newToken()}. <code>null</code> for
+	 *            none.
+	 */
+	static Process startServer( final String modelPath, final LacssThreadBudget.Share share, final String token ) throws IOException
+	{
+		final ProcessBuilder pb = new ProcessBuilder( "python", "-m", "lacss.deploy.server", modelPath );
+		pb.redirectError( ProcessBuilder.Redirect.INHERIT );
+		if ( token != null )
+			pb.environment().put( LacssProtocol.TOKEN_ENV, token );
+		LacssCache.configure( pb );
+		if ( share != null )
+			share.configure( pb );
+		return pb.start();
+	}
+
+	/**
+	 * Starts the server process of the model of this pool. Tests override it
+	 * to serve from the JVM.
+	 */
+	Process start( final LacssThreadBudget.Share share, final String token ) throws IOException
+	{
+		return startServer( modelPath, share, token );
+	}
+
+	/**
+	 * Starts a server process and opens a session with it, or attaches to the
+	 * shared daemon.
+	 */
+	private Worker launch()
+	{
+		if ( shared && !legacy )
+		{
+			try
+			{
+				// Not ours to stop: no process. The daemon serves other
+				// JVMs, it is not budgeted.
+				return new Worker( null, LacssDaemon.attach( modelPath, modelKey ), null );
+			}
+			catch ( final IOException e )
+			{
+				logger.log( "Could not attach to a shared Lacss server, starting a private one: " + e.getMessage() + "\n" );
+			}
+		}
+
+		final LacssThreadBudget.Share share = threadBudget ? budget.acquire() : null;
+		if ( share != null )
+			logger.log( "Lacss server gets " + share + ", thread budget: " + budget + ".\n" );
+		// Any local user can connect to the port of the server: only
+		// holders of the token get a session.
+		final String token = LacssProtocol.newToken();
+		while ( true )
+		{
+			final Process process;
+			try
+			{
+				process = start( share, token );
+			}
+			catch ( final IOException e )
+			{
+				budget.release( share );
+				throw new RuntimeException( "Failed to start the python engine.\n" + e.getLocalizedMessage() );
+			}
+
+			try
+			{
+				return new Worker( process, LacssClient.open( process, !legacy, token ), share );
+			}
+			catch ( final IOException e )
+			{
+				process.destroy();
+				if ( legacy )
+				{
+					budget.release( share );
+					throw new RuntimeException( "Failed to connect to the python engine.\n" + e.getLocalizedMessage() );
+				}
+
+				// The engine did not survive the handshake: it predates it.
+				legacy = true;
+			}
+		}
+	}
+
+	/**
+	 * Runs a blank frame of each shape of the manifest of the model through a
+	 * new server, in the background. Each frame holds a lease of the worker,
+	 * so that the worker is not retired meanwhile.
+	 */
+	@SuppressWarnings( { "rawtypes", "unchecked" } )
+	private void warmUp( final Worker worker )
+	{
+		final List< LacssCache.Shape > shapes = LacssCache.getShapes( modelKey );
+		if ( shapes.isEmpty() )
+			return;
+
+		final Map< String, Object > settings = new LacssDetectorFactory<>().getDefaultSettings();
+		settings.put( LacssDetectorFactory.KEY_LOGGER, Logger.VOID_LOGGER );
+		worker.load.addAndGet( shapes.size() );
+		final Thread thread = new Thread( () -> {
+			for ( final LacssCache.Shape shape : shapes )
+			{
+				final ImgPlus frame = blank( shape );
+				final LacssDetector detector = new LacssDetector( frame, frame, settings, Logger.VOID_LOGGER, worker );
+				try
+				{
+					detector.process();
+				}
+				catch ( final RuntimeException e )
+				{
+					// The first real frame will pay for the compilation.
+				}
+				finally
+				{
+					detector.discard();
+				}
+			}
+		}, "Lacss server warm-up" );
+		thread.setDaemon( true );
+		thread.start();
+	}
+
+	private static ImgPlus< ? > blank( final LacssCache.Shape shape )
+	{
+		final FinalInterval interval = ( shape.channels > 1 )
+				? new FinalInterval( shape.width, shape.height, shape.channels )
+				: new FinalInterval( shape.width, shape.height );
+		final AxisType[] axes = ( shape.channels > 1 )
+				? new AxisType[] { Axes.X, Axes.Y, Axes.CHANNEL }
+				: new AxisType[] { Axes.X, Axes.Y };
+		switch ( shape.dtype )
+		{
+		case UINT8:
+			return blank( new UnsignedByteType(), interval, axes );
+		case UINT16:
+			return blank( new UnsignedShortType(), interval, axes );
+		default:
+			return blank( new FloatType(), interval, axes );
+		}
+	}
+
+	/**
+	 * A constant image: no pixel is stored, whatever the shape.
+	 */
+	private static < T extends Type< T > > ImgPlus< T > blank( final T type, final FinalInterval interval, final AxisType[] axes )
+	{
+		return new ImgPlus<>( ImgView.wrap( ConstantUtils.constantRandomAccessibleInterval( type, interval ) ), "warm-up", axes );
+	}
+
+	private synchronized void returned( final Worker worker )
+	{
+		worker.lastUsed = System.currentTimeMillis();
+		if ( worker.load.decrementAndGet() > 0 )
+			return;
+		// Dead servers are retired and replaced by failed().
+		if ( closed || workers.size() > size )
+			retire( worker );
+		else if ( isOversized( worker ) )
+			recycle( worker );
+	}
+
+	/**
+	 * Stops the servers without lease that have been idle for too long or
+	 * grew too large.
+	 */
+	private synchronized void reap()
+	{
+		final long now = System.currentTimeMillis();
+		for ( final Worker worker : new ArrayList<>( workers ) )
+		{
+			if ( worker.load.get() > 0 )
+				continue;
+			if ( idleTimeout > 0 && now - worker.lastUsed > idleTimeout )
+			{
+				logger.log( "Stopping idle Lacss server.\n" );
+				retire( worker );
+			}
+			else if ( isOversized( worker ) )
+			{
+				recycle( worker );
+			}
+		}
+	}
+
+	private void recycle( final Worker worker )
+	{
+		logger.log( "Recycling Lacss server, its resident memory grew to " + ( worker.rss() >> 20 ) + " MB.\n" );
+		retire( worker );
+	}
+
+	private boolean isOversized( final Worker worker )
+	{
+		return maxRss > 0 && worker.rss() > maxRss;
+	}
+
+	/**
+	 * Tells the thread budget how many servers this pool may run, none once
+	 * it runs or starts none.
+	 */
+	private void updateDemand()
+	{
+		budget.setDemand( this, ( workers.isEmpty() && starting == 0 ) ? 0 : size );
+	}
+
+	/**
+	 * Returns the pid of a process, 0 if unknown. <code>Process.pid()</code>
+	 * only exists since Java 9, Java 8 keeps it in a private field of its
+	 * Unix implementation.
+	 */
+	private static long pid( final Process process )
+	{
+		if ( process == null )
+			return 0;
+		try
+		{
+			return ( Long ) Process.class.getMethod( "pid" ).invoke( process );
+		}
+		catch ( final ReflectiveOperationException e )
+		{
+			// Java 8.
+		}
+		try
+		{
+			final Field field = process.getClass().getDeclaredField( "pid" );
+			field.setAccessible( true );
+			return field.getLong( process );
+		}
+		catch ( final ReflectiveOperationException | RuntimeException e )
+		{
+			return 0;
+		}
+	}
+
+	private void retire( final Worker worker )
+	{
+		workers.remove( worker );
+		budget.release( worker.share );
+		updateDemand();
+		worker.client.close();
+		// Closing the session detaches from a shared daemon.
+		if ( worker.process != null )
+			worker.process.destroy();
+	}
+
+	/**
+	 * Stops all the servers.
+	 */
+	public synchronized void close()
+	{
+		closed = true;
+		reaping.cancel( false );
+		for ( final Worker worker : new ArrayList<>( workers ) )
+			retire( worker );
+		notifyAll();
+	}
+
+	/**
+	 * One server process of the pool, with its session.
+	 */
+	public final class Worker
+	{
+
+		/** <code>null</code> for a session of the shared daemon. */
+		private final Process process;
+
+		private final LacssClient client;
+
+		/** Number of leases not released yet. */
+		private final AtomicInteger load = new AtomicInteger();
+
+		/** When the last lease was released. */
+		private volatile long lastUsed = System.currentTimeMillis();
+
+		/** The pid of the process, 0 if unknown. */
+		private final long pid;
+
+		/** The cores of the server, <code>null</code> if it is not budgeted. */
+		private final LacssThreadBudget.Share share;
+
+		private Worker( final Process process, final LacssClient client, final LacssThreadBudget.Share share )
+		{
+			this.process = process;
+			this.client = client;
+			this.pid = pid( process );
+			this.share = share;
+		}
+
+		public LacssClient getClient()
+		{
+			return client;
+		}
+
+		/**
+		 * Returns the resident memory of the server process in bytes, as
+		 * reported by <code>/proc/&lt;pid&gt;/status</code>, or 0 if it cannot
+		 * be read.
+		 */
+		long rss()
+		{
+			if ( pid <= 0 )
+				return 0;
+			try
+			{
+				for ( final String line : Files.readAllLines( Paths.get( "/proc", Long.toString( pid ), "status" ), StandardCharsets.UTF_8 ) )
+					if ( line.startsWith( "VmRSS:" ) )
+						return 1024 * Long.parseLong( line.replaceAll( "[^0-9]", "" ) );
+			}
+			catch ( final IOException | NumberFormatException e )
+			{
+				// Not Linux, or the process is gone.
+			}
+			return 0;
+		}
+
+		/**
+		 * Kills the server, for instance because it hangs. Its session breaks,
+		 * and the server is replaced like one that died. A shared daemon is
+		 * only detached from.
+		 */
+		public void kill()
+		{
+			if ( process != null )
+				process.destroyForcibly();
+			else
+				client.close();
+		}
+
+		/**
+		 * Returns the pool this server belongs to, to lease another one if
+		 * this one dies.
+		 */
+		public LacssServerPool getPool()
+		{
+			return LacssServerPool.this;
+		}
+
+		/**
+		 * Adds the shape of a frame sent to this server to the manifest of
+		 * the model, so that later servers are warmed up for it.
+		 */
+		public void recordShape( final LacssCache.Shape shape )
+		{
+			LacssCache.recordShape( modelKey, shape );
+		}
+
+		/**
+		 * Gives back one lease of this worker.
+		 */
+		public void release()
+		{
+			returned( this );
+		}
+	}
+}
@@ -0,0 +1,132 @@
+package fiji.plugin.trackmate.lacss;
+
+import java.util.LinkedHashMap;
+
+/**
+ * The pools of Lacss servers, one per model, so that switching between models
+ * does not stop the servers of the others.
+ * <p>
+ * Servers keep their model resident, which is what makes switching back
+ * fast, but also what costs memory. When the servers of all the models need
+ * more than the memory budget, the idle servers of the models that have not
+ * been used for the longest time are stopped. Their pools stay registered,
+ * and start servers again when next used. The memory of a server is its
+ * resident size where it can be measured, and is estimated otherwise.
+ */
+public class LacssServerRegistry
+{
+
+	/**
+	 * Estimated footprint of a server before its model is loaded, for servers
+	 * whose memory cannot be measured or that are not started yet.
+	 */
+	private static final long SERVER_BASE_BYTES = 1L << 30;
+
+	/**
+	 * Estimated footprint of a model once loaded and compiled, relative to
+	 * the size of its file.
+	 */
+	private static final int MODEL_EXPANSION = 3;
+
+	/** Pools by model key, least recently used first. */
+	private final LinkedHashMap< String, LacssServerPool > pools = new LinkedHashMap<>( 16, 0.75f, true );
+
+	/** The cores of the machine, split between the servers of all pools. */
+	private final LacssThreadBudget threadBudget = new LacssThreadBudget();
+
+	private long memoryBudget;
+
+	private boolean closed = false;
+
+	/**
+	 * Creates an empty registry.
+	 *
+	 * @param memoryBudget
+	 *            the memory, in bytes, the servers of all models may use.
+	 */
+	public LacssServerRegistry( final long memoryBudget )
+	{
+		this.memoryBudget = memoryBudget;
+	}
+
+	public synchronized void setMemoryBudget( final long memoryBudget )
+	{
+		this.memoryBudget = memoryBudget;
+	}
+
+	/**
+	 * Returns the pool of servers of a model, creating it if needed, and
+	 * stops idle servers of other models if they do not fit in the budget
+	 * anymore.
+	 *
+	 * @param modelPath
+	 *            the path to the model file.
+	 * @param modelKey
+	 *            a key that identifies the model, usable in a file name.
+	 * @return the pool of this model.
+	 */
+	public synchronized LacssServerPool get( final String modelPath, final String modelKey )
+	{
+		if ( closed )
+			throw new RuntimeException( "The Lacss server registry is closed." );
+
+		LacssServerPool pool = pools.get( modelKey );
+		if ( pool == null )
+		{
+			pool = new LacssServerPool( modelPath, modelKey, threadBudget );
+			pools.put( modelKey, pool );
+		}
+		evict( pool );
+		return pool;
+	}
+
+	/**
+	 * Stops idle servers of the other models, least recently used first,
+	 * until their footprint fits in the budget.
+	 *
+	 * @param current
+	 *            the pool about to be used, counted at its full size.
+	 */
+	private void evict( final LacssServerPool current )
+	{
+		long total = 0;
+		for ( final LacssServerPool pool : pools.values() )
+			total += estimateMemory( pool, pool == current );
+
+		for ( final LacssServerPool pool : pools.values() )
+		{
+			if ( total <= memoryBudget )
+				break;
+			if ( pool == current )
+				continue;
+			total -= estimateMemory( pool, false );
+			pool.stopIdleServers();
+			total += estimateMemory( pool, false );
+		}
+	}
+
+	/**
+	 * Returns the memory used by the servers of a pool: the resident memory
+	 * of those that can be measured, an estimate for the others.
+	 *
+	 * @param full
+	 *            whether to count the servers the pool may start as well.
+	 */
+	private static long estimateMemory( final LacssServerPool pool, final boolean full )
+	{
+		final long perServer = SERVER_BASE_BYTES + MODEL_EXPANSION * pool.getModelFile().length();
+		final int nStarting = full ? Math.max( 0, pool.getSize() - pool.getWorkerCount() ) : 0;
+		return pool.getMemory( perServer ) + perServer * nStarting;
+	}
+
+	/**
+	 * Stops the servers of all models.
+	 */
+	public synchronized void close()
+	{
+		closed = true;
+		for ( final LacssServerPool pool : pools.values() )
+			pool.close();
+		pools.clear();
+	}
+}
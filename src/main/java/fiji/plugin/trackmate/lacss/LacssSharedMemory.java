@@ -0,0 +1,147 @@
+package fiji.plugin.trackmate.lacss;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+
+/**
+ * Memory-mapped files used to exchange frames with the Lacss server without
+ * pushing the pixels through the process pipes.
+ * <p>
+ * The input file is created in <code>/dev/shm</code>, mapped once and grown
+ * when a larger frame comes along. Its path is sent to the server in the
+ * <code>Image</code> message instead of the pixel data. The server writes its
+ * label and score images to the result file, whose path is sent along with
+ * each <code>Input</code>, and reports where they are in the
+ * <code>Label</code> messages of the <code>Result</code>.
+ * <p>
+ * Instances are not thread-safe; use one per server stream.
+ */
+public class LacssSharedMemory
+{
+
+	private static final File SHM_DIR = new File( "/dev/shm" );
+
+	private final File inputFile;
+
+	private final File resultFile;
+
+	private final RandomAccessFile inputRaf;
+
+	private MappedByteBuffer inputBuffer;
+
+	public LacssSharedMemory() throws IOException
+	{
+		this.inputFile = createFile( ".in" );
+		this.resultFile = createFile( ".out" );
+		inputFile.deleteOnExit();
+		resultFile.deleteOnExit();
+		this.inputRaf = new RandomAccessFile( inputFile, "rw" );
+	}
+
+	/**
+	 * Creates a file in <code>/dev/shm</code> that only the user can read:
+	 * frames may be private data.
+	 */
+	private static File createFile( final String suffix ) throws IOException
+	{
+		final Path dir = SHM_DIR.toPath();
+		final Path file = FileSystems.getDefault().supportedFileAttributeViews().contains( "posix" )
+				? Files.createTempFile( dir, "lacss_", suffix, PosixFilePermissions.asFileAttribute( PosixFilePermissions.fromString( "rw-------" ) ) )
+				: Files.createTempFile( dir, "lacss_", suffix );
+		return file.toFile();
+	}
+
+	/**
+	 * Returns <code>true</code> if shared memory can be used on this machine.
+	 */
+	public static boolean isAvailable()
+	{
+		return SHM_DIR.isDirectory() && SHM_DIR.canWrite();
+	}
+
+	public String getInputPath()
+	{
+		return inputFile.getAbsolutePath();
+	}
+
+	public String getResultPath()
+	{
+		return resultFile.getAbsolutePath();
+	}
+
+	/**
+	 * Returns the input mapping, grown to at least the specified size if
+	 * needed, rewound and in little-endian order.
+	 *
+	 * @param size
+	 *            the number of bytes the frame needs.
+	 * @return the input buffer.
+	 * @throws IOException
+	 *             if the file cannot be resized or mapped.
+	 */
+	public ByteBuffer mapInput( final long size ) throws IOException
+	{
+		if ( size > Integer.MAX_VALUE )
+			throw new IOException( "Frame is too large to be mapped: " + size + " bytes." );
+
+		if ( inputBuffer == null || inputBuffer.capacity() < size )
+		{
+			inputRaf.setLength( size );
+			inputBuffer = inputRaf.getChannel().map( MapMode.READ_WRITE, 0, size );
+		}
+		inputBuffer.clear();
+		inputBuffer.order( ByteOrder.LITTLE_ENDIAN );
+		return inputBuffer;
+	}
+
+	/**
+	 * Maps a read-only view over a region of a file written by the server.
+	 *
+	 * @param path
+	 *            the file path reported by the server.
+	 * @param offset
+	 *            the offset of the region in the file.
+	 * @param size
+	 *            the size of the region.
+	 * @param order
+	 *            the byte order of the data.
+	 * @return a buffer over the region.
+	 * @throws IOException
+	 *             if the file cannot be mapped.
+	 */
+	public static ByteBuffer mapResult( final String path, final long offset, final long size, final ByteOrder order ) throws IOException
+	{
+		try (RandomAccessFile raf = new RandomAccessFile( path, "r" ))
+		{
+			// The mapping stays valid after the channel is closed.
+			return raf.getChannel().map( FileChannel.MapMode.READ_ONLY, offset, size ).order( order );
+		}
+	}
+
+	/**
+	 * Releases the files. The mappings are released by the garbage collector.
+	 */
+	public void close()
+	{
+		try
+		{
+			inputRaf.close();
+		}
+		catch ( final IOException e )
+		{
+			// Nothing we can do.
+		}
+		inputFile.delete();
+		resultFile.delete();
+	}
+}
@@ -0,0 +1,272 @@
+package fiji.plugin.trackmate.lacss;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Splits the CPU cores of the machine between the Lacss servers of all the
+ * pools of a {@link LacssServerRegistry} and TrackMate.
+ * <p>
+ * Left alone, each python engine starts as many threads as there are cores,
+ * so that several engines and the post-processing threads of TrackMate
+ * compete for the same cores. The budget reserves a quarter of the cores to
+ * the JVM, and gives each server of each pool an equal share of the others.
+ * On Linux, each server is pinned with <code>taskset</code> to cores no
+ * other server has, which also sizes the thread pools of the engine, since
+ * XLA and Eigen count the cores they may run on. Elsewhere, the OpenMP and
+ * BLAS thread counts are set to the share, and the Eigen thread pool of XLA
+ * is turned off if the share is a single thread.
+ */
+public class LacssThreadBudget
+{
+
+	/** Share of the cores left to the JVM, 1 in this many. */
+	private static final int JAVA_SHARE = 4;
+
+	/** The cores this JVM may run on. */
+	private final List< Integer > cpus;
+
+	private final int reserved;
+
+	/** Indices in {@link #cpus} of the cores servers are pinned to. */
+	private final BitSet taken = new BitSet();
+
+	/** Number of servers each pool runs or may start, by pool. */
+	private final Map< Object, Integer > demands = new HashMap<>();
+
+	/**
+	 * Creates a budget over the cores available to this JVM.
+	 */
+	public LacssThreadBudget()
+	{
+		this( getAvailableCpus() );
+	}
+
+	LacssThreadBudget( final List< Integer > cpus )
+	{
+		this.cpus = cpus;
+		this.reserved = ( cpus.size() > 1 ) ? Math.max( 1, cpus.size() / JAVA_SHARE ) : 0;
+	}
+
+	/**
+	 * Sets how many servers a pool runs or may start, so that shares are
+	 * sized for the servers of all the pools.
+	 *
+	 * @param pool
+	 *            the pool.
+	 * @param nServers
+	 *            its number of servers, 0 if it runs none.
+	 */
+	public synchronized void setDemand( final Object pool, final int nServers )
+	{
+		if ( nServers > 0 )
+			demands.put( pool, nServers );
+		else
+			demands.remove( pool );
+	}
+
+	/**
+	 * Returns the number of threads each server may use.
+	 */
+	public synchronized int getThreadsPerServer()
+	{
+		return Math.max( 1, ( cpus.size() - reserved ) / getServers() );
+	}
+
+	/**
+	 * Returns the number of cores no server is pinned to.
+	 */
+	public synchronized int getJavaThreads()
+	{
+		return cpus.size() - taken.cardinality();
+	}
+
+	private int getServers()
+	{
+		int n = 0;
+		for ( final int demand : demands.values() )
+			n += demand;
+		return Math.max( 1, n );
+	}
+
+	/**
+	 * Hands out the share of a server to be started: its thread count, and
+	 * cores of its own if enough are free. Must be given back with
+	 * {@link #release(Share)} when the server stops.
+	 */
+	public synchronized Share acquire()
+	{
+		final int threads = getThreadsPerServer();
+		final List< Integer > pinned = new ArrayList<>();
+		if ( cpus.size() - reserved >= getServers() )
+		{
+			// Pinned to the free cores, possibly fewer than planned if servers
+			// started under an earlier plan kept more.
+			for ( int i = taken.nextClearBit( reserved ); i < cpus.size() && pinned.size() < threads; i = taken.nextClearBit( i + 1 ) )
+			{
+				taken.set( i );
+				pinned.add( cpus.get( i ) );
+			}
+		}
+		return new Share( pinned.isEmpty() ? threads : pinned.size(), pinned );
+	}
+
+	/**
+	 * Gives back the cores of a server that stopped.
+	 */
+	public synchronized void release( final Share share )
+	{
+		if ( share == null )
+			return;
+		for ( final Integer cpu : share.cpus )
+			taken.clear( cpus.indexOf( cpu ) );
+	}
+
+	@Override
+	public synchronized String toString()
+	{
+		return getServers() + " x " + getThreadsPerServer() + " threads for the servers, " + getJavaThreads() + " cores for TrackMate";
+	}
+
+	/**
+	 * The share of the cores of one server.
+	 */
+	public static final class Share
+	{
+
+		private final int threads;
+
+		private final List< Integer > cpus;
+
+		private Share( final int threads, final List< Integer > cpus )
+		{
+			this.threads = threads;
+			this.cpus = cpus;
+		}
+
+		public int getThreads()
+		{
+			return threads;
+		}
+
+		/**
+		 * Returns the cores the server is pinned to, empty if it is not.
+		 */
+		public List< Integer > getCpus()
+		{
+			return cpus;
+		}
+
+		/**
+		 * Sizes the thread pools of a server to be started, and pins it to
+		 * its cores if <code>taskset</code> is there. Thread counts set by the
+		 * user in the environment are kept.
+		 *
+		 * @param pb
+		 *            the process builder of the server.
+		 */
+		public void configure( final ProcessBuilder pb )
+		{
+			final Map< String, String > env = pb.environment();
+			final String n = Integer.toString( threads );
+			env.putIfAbsent( "OMP_NUM_THREADS", n );
+			env.putIfAbsent( "MKL_NUM_THREADS", n );
+			env.putIfAbsent( "OPENBLAS_NUM_THREADS", n );
+
+			final String taskset = findTaskset();
+			if ( cpus.isEmpty() || taskset == null )
+			{
+				// XLA has no thread count flag, only this switch.
+				final String flags = env.getOrDefault( "XLA_FLAGS", "" );
+				if ( threads == 1 && !flags.contains( "xla_cpu_multi_thread_eigen" ) )
+					env.put( "XLA_FLAGS", ( flags + " --xla_cpu_multi_thread_eigen=false" ).trim() );
+				return;
+			}
+			final StringBuilder list = new StringBuilder();
+			for ( final Integer cpu : cpus )
+				list.append( list.length() == 0 ? "" : "," ).append( cpu );
+			final List< String > command = new ArrayList<>();
+			command.add( taskset );
+			command.add( "-c" );
+			command.add( list.toString() );
+			command.addAll( pb.command() );
+			pb.command( command );
+		}
+
+		@Override
+		public String toString()
+		{
+			return threads + ( threads == 1 ? " thread" : " threads" ) + ( cpus.isEmpty() ? "" : " on cores " + cpus );
+		}
+	}
+
+	/**
+	 * Returns the cores this JVM may run on. On Linux, these are read from its
+	 * affinity mask, and truncated to the count the JVM reports, which
+	 * accounts for container quotas. Elsewhere they are numbered from 0.
+	 */
+	private static List< Integer > getAvailableCpus()
+	{
+		final int count = Math.max( 1, Runtime.getRuntime().availableProcessors() );
+		final List< Integer > cpus = new ArrayList<>();
+		try
+		{
+			for ( final String line : Files.readAllLines( Paths.get( "/proc/self/status" ), StandardCharsets.UTF_8 ) )
+				if ( line.startsWith( "Cpus_allowed_list:" ) )
+					cpus.addAll( parseCpuList( line.substring( line.indexOf( ':' ) + 1 ) ) );
+		}
+		catch ( final IOException | NumberFormatException e )
+		{
+			cpus.clear();
+		}
+		if ( cpus.isEmpty() )
+			for ( int i = 0; i < count; i++ )
+				cpus.add( i );
+		return cpus.subList( 0, Math.min( count, cpus.size() ) );
+	}
+
+	/**
+	 * Parses a list of cores such as <code>0-3,8,10-11</code>.
+	 */
+	static List< Integer > parseCpuList( final String str )
+	{
+		final List< Integer > cpus = new ArrayList<>();
+		for ( final String range : str.trim().split( "," ) )
+		{
+			if ( range.trim().isEmpty() )
+				continue;
+			final String[] bounds = range.trim().split( "-" );
+			final int from = Integer.parseInt( bounds[ 0 ] );
+			final int to = ( bounds.length > 1 ) ? Integer.parseInt( bounds[ 1 ] ) : from;
+			for ( int cpu = from; cpu <= to; cpu++ )
+				cpus.add( cpu );
+		}
+		return cpus;
+	}
+
+	/**
+	 * Returns the path to <code>taskset</code>, or <code>null</code> if it
+	 * is not on the path, for instance off Linux.
+	 */
+	private static String findTaskset()
+	{
+		final String path = System.getenv( "PATH" );
+		if ( path == null || !System.getProperty( "os.name", "" ).toLowerCase().startsWith( "linux" ) )
+			return null;
+		for ( final String dir : path.split( File.pathSeparator ) )
+		{
+			final File file = new File( dir, "taskset" );
+			if ( file.isFile() && file.canExecute() )
+				return file.getAbsolutePath();
+		}
+		return null;
+	}
+}
@@ -0,0 +1,237 @@
+package fiji.plugin.trackmate.lacss;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A Lacss server running in the test JVM, behind the pipes of a fake
+ * process. It answers the handshake with the capabilities it was given, and
+ * passes the frames and cancellations it receives to a handler.
+ */
+class FakeLacssServer extends Process
+{
+
+	interface Handler
+	{
+		void handle( LacssMsg.Input input, FakeLacssServer server ) throws IOException;
+	}
+
+	/** Answers each frame at once. */
+	static final Handler ANSWER = ( input, server ) -> {
+		if ( input.hasImage() )
+			server.answer( input.getRequestId() );
+	};
+
+	/** Dies on the first frame. */
+	static final Handler DIE = ( input, server ) -> {
+		if ( input.hasImage() )
+			server.destroy();
+	};
+
+	/** Never answers. */
+	static final Handler HANG = ( input, server ) -> {};
+
+	/** Everything a server of this version can do. */
+	static LacssMsg.ServerHello.Builder hello()
+	{
+		return LacssMsg.ServerHello.newBuilder()
+				.setProtocolVersion( LacssProtocol.PROTOCOL_VERSION )
+				.setRequestIds( true )
+				.setSparseResults( true )
+				.setCancel( true );
+	}
+
+	/**
+	 * Returns a pool whose servers run in the JVM: the n-th server started
+	 * gets the n-th handler, or the last one.
+	 *
+	 * @param modelKey
+	 *            a key no other test uses.
+	 * @param started
+	 *            the servers started, to fill in.
+	 */
+	static LacssServerPool pool( final String modelKey, final List< FakeLacssServer > started, final Handler... handlers )
+	{
+		final LacssServerPool pool = new LacssServerPool( modelKey + ".lacss", modelKey, new LacssThreadBudget() )
+		{
+			@Override
+			Process start( final LacssThreadBudget.Share share, final String token ) throws IOException
+			{
+				synchronized ( started )
+				{
+					final FakeLacssServer server = new FakeLacssServer( hello().build(), handlers[ Math.min( started.size(), handlers.length - 1 ) ] );
+					started.add( server );
+					return server;
+				}
+			}
+		};
+		pool.setThreadBudget( false );
+		return pool;
+	}
+
+	/**
+	 * Waits at most 5 s for a condition to hold.
+	 */
+	static void await( final BooleanSupplier condition ) throws InterruptedException
+	{
+		final long end = System.currentTimeMillis() + 5000;
+		while ( !condition.getAsBoolean() )
+		{
+			if ( System.currentTimeMillis() > end )
+				throw new AssertionError( "Timed out." );
+			Thread.sleep( 10 );
+		}
+	}
+
+	private final Pipe toServer;
+
+	private final Pipe fromServer;
+
+	private final OutputStream stdin;
+
+	private final InputStream stdout;
+
+	private final DataOutputStream out;
+
+	private final LacssMsg.ServerHello hello;
+
+	private final Handler handler;
+
+	/** The frames and cancellations received, in order. */
+	final BlockingQueue< LacssMsg.Input > received = new LinkedBlockingQueue<>();
+
+	private final CountDownLatch exited = new CountDownLatch( 1 );
+
+	FakeLacssServer( final LacssMsg.ServerHello hello, final Handler handler ) throws IOException
+	{
+		this.hello = hello;
+		this.handler = handler;
+		this.toServer = Pipe.open();
+		this.fromServer = Pipe.open();
+		this.stdin = Channels.newOutputStream( toServer.sink() );
+		this.stdout = Channels.newInputStream( fromServer.source() );
+		this.out = new DataOutputStream( Channels.newOutputStream( fromServer.sink() ) );
+		final Thread thread = new Thread( this::serve, "Fake Lacss server" );
+		thread.setDaemon( true );
+		thread.start();
+	}
+
+	private void serve()
+	{
+		final DataInputStream in = new DataInputStream( Channels.newInputStream( toServer.source() ) );
+		try
+		{
+			while ( true )
+			{
+				final byte[] bytes = new byte[ in.readInt() ];
+				in.readFully( bytes );
+				final LacssMsg.Input input = LacssMsg.Input.parseFrom( bytes );
+				if ( input.hasHello() )
+					reply( LacssMsg.Result.newBuilder().setServerHello( hello ).build() );
+				else if ( !input.hasConfigure() && !input.hasChunk() )
+				{
+					received.add( input );
+					handler.handle( input, this );
+				}
+			}
+		}
+		catch ( final IOException e )
+		{
+			destroy();
+		}
+	}
+
+	/**
+	 * Returns the next frame or cancellation received, waiting at most 5 s.
+	 */
+	LacssMsg.Input next() throws InterruptedException
+	{
+		final LacssMsg.Input input = received.poll( 5, TimeUnit.SECONDS );
+		if ( input == null )
+			throw new AssertionError( "The server received nothing." );
+		return input;
+	}
+
+	synchronized void reply( final LacssMsg.Result result ) throws IOException
+	{
+		out.writeInt( result.getSerializedSize() );
+		result.writeTo( out );
+		out.flush();
+	}
+
+	/**
+	 * Answers a frame with no cell.
+	 */
+	void answer( final long requestId ) throws IOException
+	{
+		reply( LacssMsg.Result.newBuilder()
+				.setRequestId( requestId )
+				.setFormat( LacssMsg.ResultFormat.SPARSE )
+				.build() );
+	}
+
+	@Override
+	public OutputStream getOutputStream()
+	{
+		return stdin;
+	}
+
+	@Override
+	public InputStream getInputStream()
+	{
+		return stdout;
+	}
+
+	@Override
+	public InputStream getErrorStream()
+	{
+		return new ByteArrayInputStream( new byte[ 0 ] );
+	}
+
+	@Override
+	public int waitFor() throws InterruptedException
+	{
+		exited.await();
+		return exitValue();
+	}
+
+	@Override
+	public int exitValue()
+	{
+		if ( exited.getCount() > 0 )
+			throw new IllegalThreadStateException( "The fake Lacss server is running." );
+		return 1;
+	}
+
+	@Override
+	public void destroy()
+	{
+		if ( exited.getCount() == 0 )
+			return;
+		exited.countDown();
+		for ( final Pipe pipe : new Pipe[] { toServer, fromServer } )
+		{
+			try
+			{
+				pipe.sink().close();
+				pipe.source().close();
+			}
+			catch ( final IOException e )
+			{
+				// Closing anyway.
+			}
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package fiji.plugin.trackmate.lacss;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import fiji.plugin.trackmate.lacss.LacssCache.Shape;
+import fiji.plugin.trackmate.lacss.LacssMsg.DType;
+
+public class LacssCacheTest
+{
+
+	@Test
+	public void testShapeRoundTrip()
+	{
+		final Shape shape = new Shape( 512, 384, 3, DType.UINT16 );
+		assertEquals( "512 384 3 UINT16", shape.toString() );
+		assertEquals( shape, Shape.parse( shape.toString() ) );
+		assertEquals( shape.hashCode(), Shape.parse( shape.toString() ).hashCode() );
+	}
+
+	@Test
+	public void testShapeParseToleratesWhitespace()
+	{
+		assertEquals( new Shape( 64, 32, 1, DType.FLOAT32 ), Shape.parse( "  64\t32 1   FLOAT32 \n" ) );
+	}
+
+	@Test
+	public void testShapeParseRejectsMalformedLines()
+	{
+		assertNull( Shape.parse( "" ) );
+		assertNull( Shape.parse( "64 32 1" ) );
+		assertNull( Shape.parse( "64 32 1 FLOAT32 extra" ) );
+		assertNull( Shape.parse( "64 x 1 FLOAT32" ) );
+		assertNull( Shape.parse( "64 32 1 FLOAT64" ) );
+	}
+}
@@ -0,0 +1,139 @@
+package fiji.plugin.trackmate.lacss;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.After;
+import org.junit.Test;
+
+import net.imglib2.img.array.ArrayImg;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.img.basictypeaccess.array.ByteArray;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
+
+public class LacssClientTest
+{
+
+	private static final int SIZE = 4;
+
+	private FakeLacssServer server;
+
+	private LacssClient client;
+
+	@After
+	public void tearDown()
+	{
+		if ( client != null )
+			client.close();
+		if ( server != null )
+			server.destroy();
+	}
+
+	private void open( final LacssMsg.ServerHello hello, final FakeLacssServer.Handler handler ) throws IOException
+	{
+		server = new FakeLacssServer( hello, handler );
+		client = new LacssClient( server, true );
+	}
+
+	private LacssClient.Request submit( final boolean useSharedMemory )
+	{
+		final ArrayImg< UnsignedByteType, ByteArray > frame = ArrayImgs.unsignedBytes( SIZE, SIZE );
+		return client.submit( frame, SIZE, SIZE, 1, LacssMsg.Settings.getDefaultInstance(), useSharedMemory, LacssMsg.ScoreMode.SCORE_IMAGE_VALUE, 0 );
+	}
+
+	private static LacssResultReader.Result get( final LacssClient.Request request ) throws IOException, InterruptedException, TimeoutException
+	{
+		return request.get( 5, TimeUnit.SECONDS );
+	}
+
+	/**
+	 * Returns a handler that answers nothing until it has received
+	 * <code>n</code> frames, and then answers them all, in reverse order if
+	 * specified.
+	 */
+	private static FakeLacssServer.Handler answerAllAt( final int n, final boolean reverse )
+	{
+		final List< Long > ids = new ArrayList<>();
+		return ( input, server ) -> {
+			ids.add( input.getRequestId() );
+			if ( ids.size() < n )
+				return;
+			if ( reverse )
+				Collections.reverse( ids );
+			for ( final long id : ids )
+				server.answer( id );
+		};
+	}
+
+	@Test
+	public void testFramesArePipelined() throws Exception
+	{
+		open( FakeLacssServer.hello().build(), answerAllAt( 3, false ) );
+		final List< LacssClient.Request > requests = new ArrayList<>();
+		for ( int i = 0; i < 3; i++ )
+			requests.add( submit( false ) );
+
+		// The server only answers once the three frames are in flight.
+		for ( final LacssClient.Request request : requests )
+			assertEquals( request.getId(), get( request ).requestId );
+	}
+
+	@Test
+	public void testResultsAreMatchedByRequestId() throws Exception
+	{
+		open( FakeLacssServer.hello().build(), answerAllAt( 3, true ) );
+		final List< LacssClient.Request > requests = new ArrayList<>();
+		for ( int i = 0; i < 3; i++ )
+			requests.add( submit( false ) );
+
+		for ( final LacssClient.Request request : requests )
+			assertEquals( request.getId(), get( request ).requestId );
+	}
+
+	@Test
+	public void testCancelledFrameKeepsItsSharedMemory() throws Exception
+	{
+		assumeTrue( LacssSharedMemory.isAvailable() );
+		open( FakeLacssServer.hello().setSharedMemory( true ).build(), FakeLacssServer.HANG );
+
+		final LacssClient.Request first = submit( true );
+		final String firstPath = server.next().getImage().getShmPath();
+		first.cancel();
+		first.release();
+		assertEquals( first.getId(), server.next().getCancel().getRequestId() );
+		try
+		{
+			get( first );
+			fail( "A cancelled request has no result." );
+		}
+		catch ( final CancellationException e )
+		{
+			// Expected.
+		}
+
+		// Not acknowledged yet: the server may still read the first frame.
+		final LacssClient.Request second = submit( true );
+		final LacssMsg.Input secondInput = server.next();
+		assertNotEquals( firstPath, secondInput.getImage().getShmPath() );
+
+		// Results are read in order: once the second is in, so is the
+		// acknowledgement, and the memory of the first frame is free again.
+		server.reply( LacssMsg.Result.newBuilder().setRequestId( first.getId() ).setCancelled( true ).build() );
+		server.answer( secondInput.getRequestId() );
+		get( second );
+
+		submit( true );
+		assertEquals( firstPath, server.next().getImage().getShmPath() );
+		second.release();
+	}
+}
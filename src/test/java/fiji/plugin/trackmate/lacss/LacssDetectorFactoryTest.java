@@ -0,0 +1,47 @@
+package fiji.plugin.trackmate.lacss;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jdom2.Element;
+import org.junit.Test;
+
+import fiji.plugin.trackmate.lacss.LacssDetectorConfigurationPanel.PretrainedModel;
+
+public class LacssDetectorFactoryTest
+{
+
+	@Test
+	public void testCustomModelSurvivesXml()
+	{
+		final LacssDetectorFactory< ? > factory = new LacssDetectorFactory<>();
+		final Map< String, Object > settings = factory.getDefaultSettings();
+		settings.put( LacssDetectorFactory.KEY_LACSS_MODEL, PretrainedModel.CUSTOM );
+		settings.put( LacssDetectorFactory.KEY_LACSS_CUSTOM_MODEL_FILEPATH, "/models/cells.lacss" );
+
+		final Element element = new Element( "Detector" );
+		assertTrue( factory.marshall( settings, element ) );
+		assertEquals( PretrainedModel.CUSTOM.name(), element.getAttributeValue( LacssDetectorFactory.KEY_LACSS_MODEL ) );
+
+		final Map< String, Object > read = new HashMap<>();
+		assertTrue( factory.getErrorMessage(), factory.unmarshall( element, read ) );
+		assertEquals( PretrainedModel.CUSTOM, read.get( LacssDetectorFactory.KEY_LACSS_MODEL ) );
+		assertEquals( "/models/cells.lacss", read.get( LacssDetectorFactory.KEY_LACSS_CUSTOM_MODEL_FILEPATH ) );
+	}
+
+	@Test
+	public void testUnknownModelIsRejected()
+	{
+		final LacssDetectorFactory< ? > factory = new LacssDetectorFactory<>();
+		final Element element = new Element( "Detector" );
+		assertTrue( factory.marshall( factory.getDefaultSettings(), element ) );
+		element.setAttribute( LacssDetectorFactory.KEY_LACSS_MODEL, "Custom" );
+
+		final Map< String, Object > read = new HashMap<>();
+		assertFalse( factory.unmarshall( element, read ) );
+	}
+}
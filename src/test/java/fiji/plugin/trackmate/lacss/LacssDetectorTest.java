@@ -0,0 +1,146 @@
+package fiji.plugin.trackmate.lacss;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.After;
+import org.junit.Test;
+
+import fiji.plugin.trackmate.Logger;
+import net.imagej.ImgPlus;
+import net.imagej.axis.Axes;
+import net.imagej.axis.AxisType;
+import net.imglib2.FinalInterval;
+import net.imglib2.Interval;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
+
+public class LacssDetectorTest
+{
+
+	private final String modelKey = "test-" + UUID.randomUUID();
+
+	private final List< FakeLacssServer > started = new CopyOnWriteArrayList<>();
+
+	private LacssServerPool pool;
+
+	@After
+	public void tearDown()
+	{
+		if ( pool != null )
+			pool.close();
+		new File( new File( LacssCache.getDirectory(), "shapes" ), modelKey + ".txt" ).delete();
+	}
+
+	private LacssDetector< UnsignedByteType > detector( final Map< String, Object > settings )
+	{
+		final ImgPlus< UnsignedByteType > img = image( Axes.X, Axes.Y );
+		return new LacssDetector<>( img, img, settings, Logger.VOID_LOGGER, pool.lease( Logger.VOID_LOGGER ) );
+	}
+
+	private static ImgPlus< UnsignedByteType > image( final AxisType... axes )
+	{
+		final long[] dims = new long[ axes.length ];
+		for ( int d = 0; d < dims.length; d++ )
+			dims[ d ] = 100 + d;
+		return new ImgPlus<>( ArrayImgs.unsignedBytes( dims ), "test", axes );
+	}
+
+	@Test
+	public void testBucketIntervalRoundsUpXAndY()
+	{
+		final ImgPlus< UnsignedByteType > img = image( Axes.X, Axes.Y, Axes.CHANNEL );
+		final Interval interval = new FinalInterval( new long[] { 10, 20, 0 }, new long[] { 42, 83, 2 } );
+
+		final Interval bucketed = LacssDetector.bucketInterval( interval, img, 32 );
+		assertArrayEquals( new long[] { 10, 20, 0 }, bucketed.minAsLongArray() );
+		// 33 x 64 x 3 -> 64 x 64 x 3, channels untouched.
+		assertArrayEquals( new long[] { 73, 83, 2 }, bucketed.maxAsLongArray() );
+	}
+
+	@Test
+	public void testBucketIntervalFollowsAxes()
+	{
+		final ImgPlus< UnsignedByteType > img = image( Axes.CHANNEL, Axes.Y, Axes.X );
+		final Interval interval = new FinalInterval( new long[] { 0, 0, 0 }, new long[] { 1, 9, 16 } );
+
+		final Interval bucketed = LacssDetector.bucketInterval( interval, img, 8 );
+		assertArrayEquals( new long[] { 1, 15, 23 }, bucketed.maxAsLongArray() );
+	}
+
+	@Test
+	public void testBucketIntervalWithoutBucket()
+	{
+		final ImgPlus< UnsignedByteType > img = image( Axes.X, Axes.Y );
+		final Interval interval = new FinalInterval( 17, 5 );
+		assertSame( interval, LacssDetector.bucketInterval( interval, img, 0 ) );
+		assertSame( interval, LacssDetector.bucketInterval( interval, img, 1 ) );
+	}
+
+	@Test
+	public void testClipPolygon()
+	{
+		// A square straddling x = 10.
+		final double[][] square = new double[][] { { 8, 12, 12, 8 }, { 0, 0, 4, 4 } };
+
+		final double[][] clipped = LacssDetector.clipPolygon( square, 0, 10, false );
+		assertArrayEquals( new double[] { 8, 10, 10, 8 }, clipped[ 0 ], 0 );
+		assertArrayEquals( new double[] { 0, 0, 4, 4 }, clipped[ 1 ], 0 );
+
+		final double[][] outside = LacssDetector.clipPolygon( square, 1, 5, true );
+		assertEquals( 0, outside[ 0 ].length );
+
+		final double[][] inside = LacssDetector.clipPolygon( square, 1, 4, false );
+		assertArrayEquals( square[ 0 ], inside[ 0 ], 0 );
+		assertArrayEquals( square[ 1 ], inside[ 1 ], 0 );
+	}
+
+	@Test( timeout = 10000 )
+	public void testFrameIsReplayedWhenTheServerDies() throws Exception
+	{
+		pool = FakeLacssServer.pool( modelKey, started, FakeLacssServer.DIE, FakeLacssServer.ANSWER );
+		final LacssDetector< UnsignedByteType > detector = detector( new LacssDetectorFactory<>().getDefaultSettings() );
+
+		assertTrue( detector.getErrorMessage(), detector.process() );
+		assertEquals( 0, detector.getResult().size() );
+		assertEquals( 2, started.size() );
+		assertTrue( started.get( 1 ).next().hasImage() );
+	}
+
+	@Test( timeout = 10000 )
+	public void testFrameThatKillsEveryServerIsGivenUp() throws Exception
+	{
+		pool = FakeLacssServer.pool( modelKey, started, FakeLacssServer.DIE );
+		final LacssDetector< UnsignedByteType > detector = detector( new LacssDetectorFactory<>().getDefaultSettings() );
+
+		assertFalse( detector.process() );
+		assertTrue( detector.getErrorMessage(), detector.getErrorMessage().contains( "died 3 times" ) );
+	}
+
+	@Test( timeout = 10000 )
+	public void testHungServerIsKilledAtTheDeadline() throws Exception
+	{
+		pool = FakeLacssServer.pool( modelKey, started, FakeLacssServer.HANG, FakeLacssServer.ANSWER );
+		final Map< String, Object > settings = new LacssDetectorFactory<>().getDefaultSettings();
+		settings.put( LacssDetectorFactory.KEY_FRAME_TIMEOUT, Double.valueOf( 0.2 ) );
+		final LacssDetector< UnsignedByteType > detector = detector( settings );
+
+		final long start = System.currentTimeMillis();
+		assertFalse( detector.process() );
+		assertTrue( System.currentTimeMillis() - start < 5000 );
+		assertTrue( detector.getErrorMessage(), detector.getErrorMessage().contains( "No result" ) );
+
+		// Killed, and replaced.
+		assertFalse( started.get( 0 ).isAlive() );
+		FakeLacssServer.await( () -> started.size() == 2 && pool.getWorkerCount() == 1 );
+	}
+}
@@ -0,0 +1,205 @@
+package fiji.plugin.trackmate.lacss;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.EnumSet;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import org.junit.Test;
+
+import fiji.plugin.trackmate.lacss.LacssMsg.DType;
+import net.imglib2.FinalInterval;
+import net.imglib2.img.array.ArrayImg;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.img.basictypeaccess.array.ShortArray;
+import net.imglib2.type.numeric.integer.UnsignedShortType;
+import net.imglib2.type.numeric.real.FloatType;
+import net.imglib2.util.ConstantUtils;
+
+/**
+ * Checks that the streamed messages parse as regular {@link LacssMsg.Input}.
+ */
+public class LacssInputWriterTest
+{
+
+	private static final short[] PIXELS = new short[] { 0, 1, 2, 300, 4000, ( short ) 65000 };
+
+	private static final int WIDTH = 3;
+
+	private static final int HEIGHT = 2;
+
+	private static LacssServerInfo negotiated( final boolean deflate )
+	{
+		return new LacssServerInfo( LacssProtocol.PROTOCOL_VERSION, EnumSet.of( DType.UINT8, DType.UINT16 ),
+				true, false, true, 1, false, false, false, 0, deflate, false );
+	}
+
+	private static ArrayImg< UnsignedShortType, ShortArray > image()
+	{
+		return ArrayImgs.unsignedShorts( PIXELS.clone(), WIDTH, HEIGHT );
+	}
+
+	private static LacssMsg.Input parse( final ByteArrayOutputStream bytes ) throws IOException
+	{
+		final ByteBuffer buffer = ByteBuffer.wrap( bytes.toByteArray() );
+		final int size = buffer.getInt();
+		assertEquals( "Length prefix", buffer.remaining(), size );
+		return LacssMsg.Input.parseFrom( buffer );
+	}
+
+	@Test
+	public void testLegacyServerGetsBigEndianFloats() throws IOException
+	{
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		new LacssInputWriter( LacssServerInfo.LEGACY ).write( new DataOutputStream( bytes ), image(),
+				HEIGHT, WIDTH, 1, LacssMsg.Settings.getDefaultInstance(), 0, null, 0, LacssMsg.ScoreMode.SCORE_IMAGE_VALUE, 0 );
+
+		final LacssMsg.Input input = parse( bytes );
+		final LacssMsg.Image image = input.getImage();
+		assertEquals( HEIGHT, image.getHeight() );
+		assertEquals( WIDTH, image.getWidth() );
+		assertEquals( 1, image.getChannel() );
+		assertEquals( DType.FLOAT32, image.getDtype() );
+		assertFalse( image.getLittleEndian() );
+		assertTrue( input.hasSettings() );
+
+		final ByteBuffer data = image.getData().asReadOnlyByteBuffer().order( ByteOrder.BIG_ENDIAN );
+		assertEquals( PIXELS.length * Float.BYTES, data.remaining() );
+		for ( final short p : PIXELS )
+			assertEquals( p & 0xffff, data.getFloat(), 0f );
+	}
+
+	@Test
+	public void testFrameAboveTheSizeLimitIsRejected()
+	{
+		// 4 GB of floats: the size wraps around to 0 as an int. Constant, so
+		// that nothing is allocated.
+		final long width = 1 << 16;
+		final long height = 1 << 14;
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try
+		{
+			new LacssInputWriter( LacssServerInfo.LEGACY ).write( new DataOutputStream( bytes ),
+					ConstantUtils.constantRandomAccessibleInterval( new FloatType(), new FinalInterval( width, height ) ),
+					height, width, 1, LacssMsg.Settings.getDefaultInstance(), 0, null, 0, LacssMsg.ScoreMode.SCORE_IMAGE_VALUE, 0 );
+			fail( "A 4 GB frame cannot be sent in one message." );
+		}
+		catch ( final IOException e )
+		{
+			assertEquals( 0, bytes.size() );
+		}
+	}
+
+	@Test
+	public void testNegotiatedServerGetsNativeLittleEndian() throws IOException
+	{
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		new LacssInputWriter( negotiated( false ) ).write( new DataOutputStream( bytes ), image(),
+				HEIGHT, WIDTH, 1, null, 3, null, 7, LacssMsg.ScoreMode.SCORE_PER_LABEL_VALUE, 0 );
+
+		final LacssMsg.Input input = parse( bytes );
+		assertFalse( input.hasSettings() );
+		assertEquals( 3, input.getSettingsId() );
+		assertEquals( 7, input.getRequestId() );
+		assertEquals( LacssMsg.ScoreMode.SCORE_PER_LABEL, input.getScoreMode() );
+
+		final LacssMsg.Image image = input.getImage();
+		assertEquals( DType.UINT16, image.getDtype() );
+		assertTrue( image.getLittleEndian() );
+		assertEquals( LacssMsg.Compression.NONE, image.getCompression() );
+		final ByteBuffer data = image.getData().asReadOnlyByteBuffer().order( ByteOrder.LITTLE_ENDIAN );
+		final short[] sent = new short[ PIXELS.length ];
+		data.asShortBuffer().get( sent );
+		assertArrayEquals( PIXELS, sent );
+	}
+
+	@Test
+	public void testOtherTypesAreSentAsFloats() throws IOException
+	{
+		final float[] pixels = new float[] { -1.5f, 0f, 2.25f, 1e6f, 7f, 0.5f };
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		new LacssInputWriter( negotiated( false ) ).write( new DataOutputStream( bytes ), ArrayImgs.floats( pixels.clone(), WIDTH, HEIGHT ),
+				HEIGHT, WIDTH, 1, null, 1, null, 1, LacssMsg.ScoreMode.SCORE_IMAGE_VALUE, 0 );
+
+		final LacssMsg.Image image = parse( bytes ).getImage();
+		assertEquals( DType.FLOAT32, image.getDtype() );
+		assertTrue( image.getLittleEndian() );
+		final ByteBuffer data = image.getData().asReadOnlyByteBuffer().order( ByteOrder.LITTLE_ENDIAN );
+		assertEquals( pixels.length * Float.BYTES, data.remaining() );
+		for ( final float p : pixels )
+			assertEquals( p, data.getFloat(), 0f );
+	}
+
+	@Test
+	public void testDeflatedFrame() throws IOException, DataFormatException
+	{
+		final int size = 64;
+		final short[] pixels = new short[ size * size ];
+		for ( int i = 0; i < pixels.length; i++ )
+			pixels[ i ] = ( short ) ( i % size < size / 2 ? 100 : 200 );
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		new LacssInputWriter( negotiated( true ) ).write( new DataOutputStream( bytes ), ArrayImgs.unsignedShorts( pixels.clone(), size, size ),
+				size, size, 1, null, 1, null, 1, LacssMsg.ScoreMode.SCORE_IMAGE_VALUE, 6 );
+
+		final LacssMsg.Image image = parse( bytes ).getImage();
+		assertEquals( LacssMsg.Compression.DEFLATE, image.getCompression() );
+		assertTrue( image.getData().size() < pixels.length * Short.BYTES );
+		final Inflater inflater = new Inflater();
+		inflater.setInput( image.getData().toByteArray() );
+		final byte[] raw = new byte[ pixels.length * Short.BYTES + 1 ];
+		final int n = inflater.inflate( raw );
+		assertTrue( inflater.finished() );
+		assertEquals( pixels.length * Short.BYTES, n );
+		final short[] sent = new short[ pixels.length ];
+		ByteBuffer.wrap( raw, 0, n ).order( ByteOrder.LITTLE_ENDIAN ).asShortBuffer().get( sent );
+		assertArrayEquals( pixels, sent );
+	}
+
+	@Test
+	public void testIncompressibleFrameIsSentAsIs() throws IOException
+	{
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		new LacssInputWriter( negotiated( true ) ).write( new DataOutputStream( bytes ), image(),
+				HEIGHT, WIDTH, 1, null, 1, null, 1, LacssMsg.ScoreMode.SCORE_IMAGE_VALUE, 6 );
+
+		final LacssMsg.Image image = parse( bytes ).getImage();
+		assertEquals( LacssMsg.Compression.NONE, image.getCompression() );
+		assertEquals( PIXELS.length * Short.BYTES, image.getData().size() );
+	}
+
+	@Test
+	public void testSessionMessages() throws IOException
+	{
+		final ByteArrayOutputStream hello = new ByteArrayOutputStream();
+		LacssInputWriter.writeHello( new DataOutputStream( hello ), true, "0123abcd" );
+		final LacssMsg.Hello h = parse( hello ).getHello();
+		assertEquals( LacssProtocol.PROTOCOL_VERSION, h.getProtocolVersion() );
+		assertTrue( h.getUint32Labels() );
+		assertTrue( h.getChunkedResults() );
+		assertTrue( h.getRleLabels() );
+		assertTrue( h.getDaemon() );
+		assertEquals( "0123abcd", h.getToken() );
+
+		final LacssInputWriter writer = new LacssInputWriter( negotiated( false ) );
+		final LacssMsg.Settings settings = LacssMsg.Settings.newBuilder().setMinCellArea( 12f ).build();
+		final ByteArrayOutputStream configure = new ByteArrayOutputStream();
+		writer.writeConfigure( new DataOutputStream( configure ), 5, settings );
+		final LacssMsg.Configure c = parse( configure ).getConfigure();
+		assertEquals( 5, c.getSettingsId() );
+		assertEquals( settings, c.getSettings() );
+
+		final ByteArrayOutputStream cancel = new ByteArrayOutputStream();
+		writer.writeCancel( new DataOutputStream( cancel ), 1L << 40 );
+		assertEquals( 1L << 40, parse( cancel ).getCancel().getRequestId() );
+	}
+}
@@ -0,0 +1,267 @@
+package fiji.plugin.trackmate.lacss;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+
+import fiji.plugin.trackmate.lacss.LacssMsg.Compression;
+import fiji.plugin.trackmate.lacss.LacssMsg.LabelType;
+import fiji.plugin.trackmate.lacss.LacssMsg.ResultFormat;
+import net.imglib2.RandomAccess;
+import net.imglib2.img.Img;
+import net.imglib2.type.numeric.IntegerType;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
+import net.imglib2.type.numeric.integer.UnsignedIntType;
+
+/**
+ * Checks that results built with the generated {@link LacssMsg} classes are
+ * decoded by the hand-written reader.
+ */
+public class LacssResultReaderTest
+{
+
+	private static final int WIDTH = 3;
+
+	private static final int HEIGHT = 2;
+
+	/** Row by row: pixel (x, y) is at y * WIDTH + x. */
+	private static final int[] LABELS = new int[] { 0, 1, 1, 2, 0, 70000 };
+
+	private static LacssResultReader.Result read( final LacssMsg.Result... messages ) throws IOException
+	{
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final DataOutputStream out = new DataOutputStream( bytes );
+		for ( final LacssMsg.Result message : messages )
+		{
+			out.writeInt( message.getSerializedSize() );
+			message.writeTo( out );
+		}
+		final DataInputStream in = new DataInputStream( new ByteArrayInputStream( bytes.toByteArray() ) );
+		final LacssResultReader.Result result = new LacssResultReader().read( in );
+		assertEquals( "Bytes left in the stream", 0, in.available() );
+		return result;
+	}
+
+	private static ByteString raw( final int[] labels, final boolean uint32, final ByteOrder order )
+	{
+		final ByteBuffer buffer = ByteBuffer.allocate( labels.length * ( uint32 ? 4 : 2 ) ).order( order );
+		for ( final int label : labels )
+		{
+			if ( uint32 )
+				buffer.putInt( label );
+			else
+				buffer.putShort( ( short ) label );
+		}
+		return ByteString.copyFrom( buffer.array() );
+	}
+
+	private static LacssMsg.Label.Builder label( final LabelType type )
+	{
+		return LacssMsg.Label.newBuilder().setWidth( WIDTH ).setHeight( HEIGHT ).setType( type );
+	}
+
+	private static void assertLabels( final int[] expected, final Img< ? extends IntegerType< ? > > label )
+	{
+		// X first: the frame is WIDTH wide, HEIGHT high.
+		assertArrayEquals( new long[] { WIDTH, HEIGHT }, label.dimensionsAsLongArray() );
+		final RandomAccess< ? extends IntegerType< ? > > ra = label.randomAccess();
+		for ( int y = 0; y < HEIGHT; y++ )
+			for ( int x = 0; x < WIDTH; x++ )
+			{
+				ra.setPosition( new int[] { x, y } );
+				assertEquals( "Pixel " + x + ", " + y, expected[ y * WIDTH + x ], ra.get().getIntegerLong() );
+			}
+	}
+
+	private static LacssMsg.Result chunk( final ByteString data, final int from, final int to )
+	{
+		return LacssMsg.Result.newBuilder()
+				.setChunk( LacssMsg.Chunk.newBuilder()
+						.setField( LacssMsg.Result.LABEL_FIELD_NUMBER )
+						.setOffset( from )
+						.setData( data.substring( from, to ) ) )
+				.build();
+	}
+
+	private static LacssMsg.Result chunkedHeader()
+	{
+		return LacssMsg.Result.newBuilder()
+				.setLabel( label( LabelType.UINT32 ).setLittleEndian( true ).setChunked( true ) )
+				.build();
+	}
+
+	@Test
+	public void testDenseInt16BigEndian() throws IOException
+	{
+		final int[] labels = new int[] { 0, 1, 1, 2, 0, 300 };
+		final LacssResultReader.Result result = read( LacssMsg.Result.newBuilder()
+				.setRequestId( 42 )
+				.setLabel( label( LabelType.INT16 ).setData( raw( labels, false, ByteOrder.BIG_ENDIAN ) ) )
+				.build() );
+		assertEquals( 42, result.requestId );
+		assertFalse( result.isSparse() );
+		assertFalse( result.cancelled );
+		assertLabels( labels, result.label );
+		result.release();
+	}
+
+	@Test
+	public void testDenseUint32LittleEndian() throws IOException
+	{
+		final LacssResultReader.Result result = read( LacssMsg.Result.newBuilder()
+				.setLabel( label( LabelType.UINT32 ).setLittleEndian( true ).setData( raw( LABELS, true, ByteOrder.LITTLE_ENDIAN ) ) )
+				.addAllLabelScores( Arrays.asList( 0.5f, 0.25f ) )
+				.build() );
+		assertTrue( result.label.firstElement() instanceof UnsignedIntType );
+		assertLabels( LABELS, result.label );
+		assertArrayEquals( new float[] { 0.5f, 0.25f }, result.labelScores, 0f );
+		result.release();
+	}
+
+	@Test( expected = IOException.class )
+	public void testTruncatedLabelIsRejected() throws IOException
+	{
+		read( LacssMsg.Result.newBuilder()
+				.setLabel( label( LabelType.INT16 ).setData( ByteString.copyFrom( new byte[ 5 ] ) ) )
+				.build() );
+	}
+
+	/**
+	 * Encodes labels as varint (run length, value) pairs, in flat order.
+	 */
+	private static ByteString rle( final int[] labels ) throws IOException
+	{
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final CodedOutputStream cos = CodedOutputStream.newInstance( bytes );
+		for ( int start = 0; start < labels.length; )
+		{
+			int end = start;
+			while ( end < labels.length && labels[ end ] == labels[ start ] )
+				end++;
+			cos.writeUInt32NoTag( end - start );
+			cos.writeUInt32NoTag( labels[ start ] );
+			start = end;
+		}
+		cos.flush();
+		return ByteString.copyFrom( bytes.toByteArray() );
+	}
+
+	@Test
+	public void testRleLabels() throws IOException
+	{
+		final LacssResultReader.Result int16 = read( LacssMsg.Result.newBuilder()
+				.setLabel( label( LabelType.INT16 ).setCompression( Compression.RLE ).setData( rle( new int[] { 0, 1, 1, 2, 0, 300 } ) ) )
+				.build() );
+		assertLabels( new int[] { 0, 1, 1, 2, 0, 300 }, int16.label );
+
+		final LacssResultReader.Result uint32 = read( LacssMsg.Result.newBuilder()
+				.setLabel( label( LabelType.UINT32 ).setCompression( Compression.RLE ).setData( rle( LABELS ) ) )
+				.build() );
+		assertLabels( LABELS, uint32.label );
+	}
+
+	@Test( expected = IOException.class )
+	public void testRleOverflowIsRejected() throws IOException
+	{
+		read( LacssMsg.Result.newBuilder()
+				.setLabel( label( LabelType.INT16 ).setCompression( Compression.RLE ).setData( rle( new int[ WIDTH * HEIGHT + 1 ] ) ) )
+				.build() );
+	}
+
+	@Test( expected = IOException.class )
+	public void testShortRleIsRejected() throws IOException
+	{
+		read( LacssMsg.Result.newBuilder()
+				.setLabel( label( LabelType.INT16 ).setCompression( Compression.RLE ).setData( rle( new int[] { 0, 1, 1 } ) ) )
+				.build() );
+	}
+
+	@Test
+	public void testSparseInstances() throws IOException
+	{
+		// A 3 x 2 box: background 1, foreground 3, background 2.
+		final LacssResultReader.Result result = read( LacssMsg.Result.newBuilder()
+				.setRequestId( 3 )
+				.setFormat( ResultFormat.SPARSE )
+				.addInstances( LacssMsg.Instance.newBuilder()
+						.setLabel( 1 ).setX0( 10 ).setY0( 20 ).setX1( 13 ).setY1( 22 )
+						.addAllMaskRle( Arrays.asList( 1, 3, 2 ) )
+						.setScore( 0.75f ) )
+				.build() );
+		assertTrue( result.isSparse() );
+		assertNull( result.label );
+		assertEquals( 1, result.instances.size() );
+		final LacssInstance instance = result.instances.get( 0 );
+		assertEquals( 10, instance.x0 );
+		assertEquals( 20, instance.y0 );
+		assertEquals( 3, instance.width() );
+		assertEquals( 2, instance.height() );
+		assertEquals( 0.75f, instance.score, 0f );
+
+		final RandomAccess< UnsignedByteType > mask = instance.getMask().randomAccess();
+		final int[] expected = new int[] { 0, 1, 1, 1, 0, 0 };
+		for ( int y = 0; y < 2; y++ )
+			for ( int x = 0; x < 3; x++ )
+			{
+				mask.setPosition( new int[] { x, y } );
+				assertEquals( "Mask pixel " + x + ", " + y, expected[ y * 3 + x ] != 0, mask.get().get() != 0 );
+			}
+	}
+
+	@Test
+	public void testChunkedLabelIsReassembled() throws IOException
+	{
+		final ByteString data = raw( LABELS, true, ByteOrder.LITTLE_ENDIAN );
+		final LacssResultReader.Result result = read( chunkedHeader(),
+				chunk( data, 0, 8 ),
+				chunk( data, 8, data.size() ) );
+		assertLabels( LABELS, result.label );
+	}
+
+	@Test( expected = IOException.class )
+	public void testChunkOutOfOrderIsRejected() throws IOException
+	{
+		final ByteString data = raw( LABELS, true, ByteOrder.LITTLE_ENDIAN );
+		read( chunkedHeader(),
+				chunk( data, 8, data.size() ),
+				chunk( data, 0, 8 ) );
+	}
+
+	@Test( expected = IOException.class )
+	public void testChunkSplittingAPixelIsRejected() throws IOException
+	{
+		final ByteString data = raw( LABELS, true, ByteOrder.LITTLE_ENDIAN );
+		read( chunkedHeader(),
+				chunk( data, 0, 6 ),
+				chunk( data, 6, data.size() ) );
+	}
+
+	@Test
+	public void testCancelAcknowledgement() throws IOException
+	{
+		final LacssResultReader.Result result = read( LacssMsg.Result.newBuilder()
+				.setRequestId( 7 )
+				.setCancelled( true )
+				.build() );
+		assertEquals( 7, result.requestId );
+		assertTrue( result.cancelled );
+		assertNull( result.label );
+		assertNull( result.instances );
+	}
+}
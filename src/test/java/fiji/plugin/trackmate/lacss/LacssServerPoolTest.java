@@ -0,0 +1,50 @@
+package fiji.plugin.trackmate.lacss;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.After;
+import org.junit.Test;
+
+import fiji.plugin.trackmate.Logger;
+
+public class LacssServerPoolTest
+{
+
+	private final String modelKey = "test-" + UUID.randomUUID();
+
+	private final List< FakeLacssServer > started = new CopyOnWriteArrayList<>();
+
+	private LacssServerPool pool;
+
+	@After
+	public void tearDown()
+	{
+		if ( pool != null )
+			pool.close();
+		new File( new File( LacssCache.getDirectory(), "shapes" ), modelKey + ".txt" ).delete();
+	}
+
+	@Test( timeout = 10000 )
+	public void testDeadServerIsReplaced() throws Exception
+	{
+		pool = FakeLacssServer.pool( modelKey, started, FakeLacssServer.ANSWER );
+		final LacssServerPool.Worker first = pool.lease( Logger.VOID_LOGGER );
+		first.release();
+		assertEquals( 1, started.size() );
+
+		started.get( 0 ).destroy();
+		FakeLacssServer.await( () -> started.size() == 2 && pool.getWorkerCount() == 1 );
+
+		final LacssServerPool.Worker second = pool.lease( Logger.VOID_LOGGER );
+		assertNotSame( first, second );
+		assertTrue( second.getClient().isAlive() );
+		second.release();
+	}
+}
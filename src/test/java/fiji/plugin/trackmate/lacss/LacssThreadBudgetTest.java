@@ -0,0 +1,89 @@
+package fiji.plugin.trackmate.lacss;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import fiji.plugin.trackmate.lacss.LacssThreadBudget.Share;
+
+public class LacssThreadBudgetTest
+{
+
+	private static List< Integer > range( final int from, final int to )
+	{
+		final List< Integer > cpus = new ArrayList<>();
+		for ( int cpu = from; cpu < to; cpu++ )
+			cpus.add( cpu );
+		return cpus;
+	}
+
+	@Test
+	public void testParseCpuList()
+	{
+		assertEquals( Arrays.asList( 0, 1, 2, 3, 8, 10, 11 ), LacssThreadBudget.parseCpuList( "0-3,8,10-11\n" ) );
+		assertEquals( Arrays.asList( 5 ), LacssThreadBudget.parseCpuList( " 5 " ) );
+		assertTrue( LacssThreadBudget.parseCpuList( "" ).isEmpty() );
+	}
+
+	@Test
+	public void testSharesAreDisjointAcrossPools()
+	{
+		// 2 of 8 cores left to the JVM, 6 for the 3 servers of 2 pools.
+		final LacssThreadBudget budget = new LacssThreadBudget( range( 0, 8 ) );
+		final Object poolA = new Object();
+		final Object poolB = new Object();
+		budget.setDemand( poolA, 2 );
+		budget.setDemand( poolB, 1 );
+		assertEquals( 2, budget.getThreadsPerServer() );
+
+		final Share a1 = budget.acquire();
+		final Share b1 = budget.acquire();
+		final Share a2 = budget.acquire();
+		assertEquals( Arrays.asList( 2, 3 ), a1.getCpus() );
+		assertEquals( Arrays.asList( 4, 5 ), b1.getCpus() );
+		assertEquals( Arrays.asList( 6, 7 ), a2.getCpus() );
+		assertEquals( 2, budget.getJavaThreads() );
+
+		// The replacement of a server gets its cores back.
+		budget.release( b1 );
+		assertEquals( 4, budget.getJavaThreads() );
+		assertEquals( Arrays.asList( 4, 5 ), budget.acquire().getCpus() );
+	}
+
+	@Test
+	public void testDemandOfIdlePoolIsDropped()
+	{
+		final LacssThreadBudget budget = new LacssThreadBudget( range( 0, 8 ) );
+		final Object poolA = new Object();
+		final Object poolB = new Object();
+		budget.setDemand( poolA, 3 );
+		budget.setDemand( poolB, 3 );
+		assertEquals( 1, budget.getThreadsPerServer() );
+		budget.setDemand( poolB, 0 );
+		assertEquals( 2, budget.getThreadsPerServer() );
+	}
+
+	@Test
+	public void testUnpinnedSingleThreadTurnsOffEigenPool()
+	{
+		// One core for 2 servers: none can be pinned.
+		final LacssThreadBudget budget = new LacssThreadBudget( range( 0, 2 ) );
+		budget.setDemand( new Object(), 2 );
+		final Share share = budget.acquire();
+		assertTrue( share.getCpus().isEmpty() );
+		assertEquals( 1, share.getThreads() );
+
+		final ProcessBuilder pb = new ProcessBuilder( "python" );
+		pb.environment().remove( "XLA_FLAGS" );
+		pb.environment().remove( "OMP_NUM_THREADS" );
+		share.configure( pb );
+		assertEquals( "--xla_cpu_multi_thread_eigen=false", pb.environment().get( "XLA_FLAGS" ) );
+		assertEquals( "1", pb.environment().get( "OMP_NUM_THREADS" ) );
+		assertEquals( Arrays.asList( "python" ), pb.command() );
+	}
+}